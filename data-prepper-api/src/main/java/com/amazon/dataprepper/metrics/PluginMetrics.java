@@ -63,6 +63,10 @@ public class PluginMetrics {
         return Metrics.summary(getMeterName(name));
     }
 
+    public DistributionSummary summaryWithTags(final String name, final String... tags) {
+        return Metrics.summary(getMeterName(name), tags);
+    }
+
     public <T extends Number> T gauge(final String name, T number) {
         return Metrics.gauge(getMeterName(name), number);
     }
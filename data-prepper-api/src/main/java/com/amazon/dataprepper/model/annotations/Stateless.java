@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotates a Processor plugin class which processes each record independently of the other records of a batch, and
+ * of which an instance can be executed on several threads at the same time. Pipelines may split a batch into chunks
+ * which are executed in parallel by such processors. Processors also annotated with {@link SingleThread} are never
+ * executed in parallel.
+ *
+ * @since 1.4
+ */
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+public @interface Stateless {
+}
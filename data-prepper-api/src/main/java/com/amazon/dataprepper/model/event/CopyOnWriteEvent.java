@@ -0,0 +1,224 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import com.amazon.dataprepper.model.log.JacksonLog;
+import com.amazon.dataprepper.model.log.Log;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An {@link Event} which shares the Json tree of a {@link JacksonEvent} with other events until it is modified.
+ * <p>
+ * Before {@link #put(String, Object)} or {@link #delete(String)} modifies the tree, the objects and arrays on the path
+ * to the modified key are shallowly copied, so the modification is only visible to this event. All other parts of
+ * the tree stay shared. This allows handing the same event to several pipelines at close to the memory cost of one
+ * event.
+ * <p>
+ * The event an instance is created from must not be modified afterwards, since its changes would be visible to the
+ * shared events. Like {@link JacksonEvent}, instances are not thread-safe.
+ *
+ * @since 1.4
+ */
+public class CopyOnWriteEvent implements Event {
+
+    private final EventMetadata eventMetadata;
+
+    private JacksonEvent delegate;
+
+    private Set<JsonNode> ownedNodes = newOwnedNodes();
+
+    CopyOnWriteEvent(final ObjectNode sharedRoot, final EventMetadata eventMetadata) {
+        this.eventMetadata = eventMetadata;
+        this.delegate = newDelegate(sharedRoot);
+    }
+
+    /**
+     * Checks if {@link #fromEvent(Event)} supports sharing the event.
+     * @param event the event to share
+     * @return true for {@link JacksonEvent} and {@link JacksonLog} events with an object at their root and for
+     * {@link CopyOnWriteEvent} events, otherwise false
+     * @since 1.4
+     */
+    public static boolean isSupported(final Event event) {
+        if (event instanceof CopyOnWriteEvent) {
+            return true;
+        }
+        return (event.getClass() == JacksonEvent.class || event.getClass() == JacksonLog.class) &&
+                ((JacksonEvent) event).getJsonNode() instanceof ObjectNode;
+    }
+
+    /**
+     * Creates an event which shares the Json tree of the given event until either of them is modified through a
+     * {@link CopyOnWriteEvent}. The returned event implements {@link Log} if the given event does.
+     * @param event the event to share
+     * @return a new event with the same metadata and data
+     * @throws IllegalArgumentException if the event is not supported, see {@link #isSupported(Event)}
+     * @since 1.4
+     */
+    public static CopyOnWriteEvent fromEvent(final Event event) {
+        if (!isSupported(event)) {
+            throw new IllegalArgumentException(String.format("Unable to share event of type %s", event.getClass()));
+        }
+        if (event instanceof CopyOnWriteEvent) {
+            return ((CopyOnWriteEvent) event).share();
+        }
+        final ObjectNode root = (ObjectNode) ((JacksonEvent) event).getJsonNode();
+        return event instanceof Log ?
+                new CopyOnWriteLog(root, event.getMetadata()) :
+                new CopyOnWriteEvent(root, event.getMetadata());
+    }
+
+    private CopyOnWriteEvent share() {
+        // The nodes this event copied so far are shared from now on, so both events copy them before modifying them.
+        ownedNodes = newOwnedNodes();
+        return newSharedEvent((ObjectNode) getJsonNode());
+    }
+
+    JsonNode getJsonNode() {
+        return delegate.getJsonNode();
+    }
+
+    CopyOnWriteEvent newSharedEvent(final ObjectNode sharedRoot) {
+        return new CopyOnWriteEvent(sharedRoot, eventMetadata);
+    }
+
+    @Override
+    public void put(final String key, final Object value) {
+        copyPathToLeaf(EventKey.of(key));
+        delegate.put(key, value);
+    }
+
+    @Override
+    public <T> T get(final String key, final Class<T> clazz) {
+        final T value = delegate.get(key, clazz);
+        if (value instanceof JsonNode && TreeNode.class.isAssignableFrom(clazz)) {
+            // Json nodes are returned without copying and may be shared with other events.
+            return clazz.cast(((JsonNode) value).deepCopy());
+        }
+        return value;
+    }
+
+    @Override
+    public <T> List<T> getList(final String key, final Class<T> clazz) {
+        return delegate.getList(key, clazz);
+    }
+
+    @Override
+    public void delete(final String key) {
+        if (delegate.containsKey(key)) {
+            copyPathToLeaf(EventKey.of(key));
+            delegate.delete(key);
+        }
+    }
+
+    @Override
+    public String toJsonString() {
+        return delegate.toJsonString();
+    }
+
+    @Override
+    public void writeJsonTo(final OutputStream outputStream) throws IOException {
+        delegate.writeJsonTo(outputStream);
+    }
+
+    @Override
+    public EventMetadata getMetadata() {
+        return eventMetadata;
+    }
+
+    @Override
+    public boolean containsKey(final String key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public boolean isValueAList(final String key) {
+        return delegate.isValueAList(key);
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        return delegate.toMap();
+    }
+
+    /**
+     * Copies the root and the existing objects and arrays which are parents of the leaf key, unless this event
+     * already owns them.
+     */
+    private void copyPathToLeaf(final EventKey eventKey) {
+        JsonNode parentNode = getJsonNode();
+        if (!ownedNodes.contains(parentNode)) {
+            parentNode = copy(parentNode);
+            delegate = newDelegate((ObjectNode) parentNode);
+        }
+
+        final String[] keys = eventKey.getKeys();
+        for (int i = 0; i < keys.length - 1; i++) {
+            if (keys[i].isEmpty()) {
+                continue;
+            }
+            final JsonNode childNode = parentNode.get(keys[i]);
+            if (childNode == null || !childNode.isContainerNode() || !parentNode.isObject()) {
+                return;
+            }
+            if (ownedNodes.contains(childNode)) {
+                parentNode = childNode;
+            } else {
+                final JsonNode childCopy = copy(childNode);
+                ((ObjectNode) parentNode).set(keys[i], childCopy);
+                parentNode = childCopy;
+            }
+        }
+    }
+
+    private JsonNode copy(final JsonNode node) {
+        final JsonNode copy;
+        if (node.isObject()) {
+            copy = new ObjectNode(JsonNodeFactory.instance).setAll((ObjectNode) node);
+        } else {
+            copy = new ArrayNode(JsonNodeFactory.instance).addAll((ArrayNode) node);
+        }
+        ownedNodes.add(copy);
+        return copy;
+    }
+
+    private JacksonEvent newDelegate(final ObjectNode root) {
+        return JacksonEvent.builder()
+                .withEventMetadata(eventMetadata)
+                .withData(root)
+                .build();
+    }
+
+    private static Set<JsonNode> newOwnedNodes() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A {@link CopyOnWriteEvent} of a {@link Log}.
+     */
+    static class CopyOnWriteLog extends CopyOnWriteEvent implements Log {
+        CopyOnWriteLog(final ObjectNode sharedRoot, final EventMetadata eventMetadata) {
+            super(sharedRoot, eventMetadata);
+        }
+
+        @Override
+        CopyOnWriteEvent newSharedEvent(final ObjectNode sharedRoot) {
+            return new CopyOnWriteLog(sharedRoot, getMetadata());
+        }
+    }
+}
@@ -5,6 +5,9 @@
 
 package com.amazon.dataprepper.model.event;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -64,6 +67,17 @@ public interface Event {
      */
     String toJsonString();
 
+    /**
+     * Writes the same serialized Json as {@link #toJsonString()} to the output stream as UTF-8 bytes, without
+     * closing it. Implementations should override this to avoid creating an intermediate String.
+     * @param outputStream the stream to write to
+     * @throws IOException if writing to the stream fails
+     * @since 1.4
+     */
+    default void writeJsonTo(final OutputStream outputStream) throws IOException {
+        outputStream.write(toJsonString().getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Retrieves the EventMetadata
      * @return EventMetadata for the event
@@ -0,0 +1,153 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.lang3.StringUtils;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A validated {@link JacksonEvent} key along with the {@link JsonPointer} and path segments used to access it.
+ * <p>
+ * Keys are parsed once and kept in a bounded cache shared by all events, since processors access the same few keys
+ * for every event. Invalid keys are not cached.
+ *
+ * @since 1.4
+ */
+final class EventKey {
+    static final int MAX_CACHED_KEYS = 10_000;
+
+    private static final String SEPARATOR = "/";
+
+    private static final Cache<String, EventKey> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_KEYS)
+            .build();
+
+    private final JsonPointer jsonPointer;
+    private final String[] keys;
+    private final boolean leafKeyIsIndex;
+    private final JsonPointer parentJsonPointer;
+    private final String leafKey;
+
+    private EventKey(final String trimmedKey) {
+        this.jsonPointer = toJsonPointer(trimmedKey);
+
+        this.keys = trimmedKey.split(SEPARATOR);
+        this.leafKeyIsIndex = keys.length > 0 && StringUtils.isNumeric(keys[keys.length - 1]);
+
+        final int index = trimmedKey.lastIndexOf(SEPARATOR);
+        this.parentJsonPointer = index == -1 ? null : toJsonPointer(trimmedKey.substring(0, index));
+        this.leafKey = trimmedKey.substring(index + 1);
+    }
+
+    /**
+     * Returns the parsed key, from the cache if it was parsed before.
+     *
+     * @param key the event key
+     * @return the parsed key
+     * @throws NullPointerException if the key is null
+     * @throws IllegalArgumentException if the key is not a valid event key
+     */
+    static EventKey of(final String key) {
+        checkNotNull(key, "key cannot be null");
+        EventKey eventKey = CACHE.getIfPresent(key);
+        if (eventKey == null) {
+            checkKey(key);
+            eventKey = new EventKey(trimKey(key));
+            CACHE.put(key, eventKey);
+        }
+        return eventKey;
+    }
+
+    /**
+     * @return the pointer to the value of the key
+     */
+    JsonPointer getJsonPointer() {
+        return jsonPointer;
+    }
+
+    /**
+     * @return the path segments of the key, which may contain empty segments. The array must not be modified.
+     */
+    String[] getKeys() {
+        return keys;
+    }
+
+    /**
+     * @return true if the last path segment is an array index
+     */
+    boolean isLeafKeyIndex() {
+        return leafKeyIsIndex;
+    }
+
+    /**
+     * @return the pointer to the parent of the value, or null if the key has a single path segment
+     */
+    JsonPointer getParentJsonPointer() {
+        return parentJsonPointer;
+    }
+
+    /**
+     * @return the key following the last separator
+     */
+    String getLeafKey() {
+        return leafKey;
+    }
+
+    private static JsonPointer toJsonPointer(final String key) {
+        return JsonPointer.compile(SEPARATOR + key);
+    }
+
+    private static void checkKey(final String key) {
+        checkArgument(!key.isEmpty(), "key cannot be an empty string");
+        if (key.length() > JacksonEvent.MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("key cannot be longer than " + JacksonEvent.MAX_KEY_LENGTH + " characters");
+        }
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("key " + key + " must contain only alphanumeric chars with .-_ and must follow JsonPointer (ie. 'field/to/key')");
+        }
+    }
+
+    private static String trimKey(final String key) {
+
+        final String trimmedLeadingSlash = key.startsWith(SEPARATOR) ? key.substring(1) : key;
+        return trimmedLeadingSlash.endsWith(SEPARATOR) ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 2) : trimmedLeadingSlash;
+    }
+
+    private static boolean isValidKey(final String key) {
+        char previous = ' ';
+        char next = ' ';
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+
+            if (i < key.length() - 1) {
+                next = key.charAt(i + 1);
+            }
+
+            if ((i == 0 || i == key.length() - 1 || previous == '/' || next == '/') && (c == '_' || c == '.' || c == '-')) {
+                return false;
+            }
+
+            if (!(c >= 48 && c <= 57
+                    || c >= 65 && c <= 90
+                    || c >= 97 && c <= 122
+                    || c == '.'
+                    || c == '-'
+                    || c == '_'
+                    || c == '@'
+                    || c == '/')) {
+
+                return false;
+            }
+            previous = c;
+        }
+        return true;
+    }
+}
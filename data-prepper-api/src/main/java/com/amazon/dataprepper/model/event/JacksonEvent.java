@@ -5,32 +5,29 @@
 
 package com.amazon.dataprepper.model.event;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
-import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Preconditions.checkNotNull;
-
 /**
  * A Jackson Implementation of {@link Event} interface. This implementation relies heavily on JsonNode to manage the keys of the event.
  * <p>
@@ -51,11 +48,11 @@ public class JacksonEvent implements Event {
 
     private static final Logger LOG = LoggerFactory.getLogger(JacksonEvent.class);
 
-    private static final String SEPARATOR = "/";
-
     private static final ObjectMapper mapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
 
+    private static final ObjectWriter JSON_WRITER = mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
 
     private final EventMetadata eventMetadata;
@@ -100,6 +97,8 @@ public class JacksonEvent implements Event {
             } catch (final JsonProcessingException e) {
                 throw new IllegalArgumentException("Unable to convert data into an event");
             }
+        } else if (data instanceof ObjectNode) {
+            return (ObjectNode) data;
         }
         return mapper.valueToTree(data);
     }
@@ -117,27 +116,23 @@ public class JacksonEvent implements Event {
     @Override
     public void put(final String key, final Object value) {
 
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final LinkedList<String> keys = new LinkedList<>(Arrays.asList(trimmedKey.split(SEPARATOR)));
+        final EventKey eventKey = EventKey.of(key);
+        final String[] keys = eventKey.getKeys();
 
         JsonNode parentNode = jsonNode;
 
-        while (!keys.isEmpty()) {
-            if (keys.size() == 1) {
-                setNode(parentNode, keys.removeFirst(), value);
-            } else {
-                final String childKey = keys.removeFirst();
-                if (!childKey.isEmpty()) {
-                    parentNode = getOrCreateNode(parentNode, childKey);
-                }
+        for (int i = 0; i < keys.length; i++) {
+            if (i == keys.length - 1) {
+                setNode(parentNode, keys[i], eventKey.isLeafKeyIndex(), value);
+            } else if (!keys[i].isEmpty()) {
+                parentNode = getOrCreateNode(parentNode, keys[i]);
             }
         }
     }
 
-    private void setNode(final JsonNode parentNode, final String leafKey, final Object value) {
+    private void setNode(final JsonNode parentNode, final String leafKey, final boolean leafKeyIsIndex, final Object value) {
         final JsonNode valueNode = mapper.valueToTree(value);
-        if (StringUtils.isNumeric(leafKey)) {
+        if (leafKeyIsIndex) {
             ((ArrayNode) parentNode).set(Integer.parseInt(leafKey), valueNode);
         } else {
             ((ObjectNode) parentNode).set(leafKey, valueNode);
@@ -164,9 +159,7 @@ public class JacksonEvent implements Event {
     @Override
     public <T> T get(final String key, final Class<T> clazz) {
 
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+        final JsonNode node = getNode(key);
         if (node.isMissingNode()) {
             return null;
         }
@@ -175,8 +168,7 @@ public class JacksonEvent implements Event {
     }
 
     private JsonNode getNode(final String key) {
-        final JsonPointer jsonPointer = toJsonPointer(key);
-        return jsonNode.at(jsonPointer);
+        return jsonNode.at(EventKey.of(key).getJsonPointer());
     }
 
     private <T> T mapNodeToObject(final String key, final JsonNode node, final Class<T> clazz) {
@@ -199,9 +191,7 @@ public class JacksonEvent implements Event {
     @Override
     public <T> List<T> getList(final String key, final Class<T> clazz) {
 
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+        final JsonNode node = getNode(key);
         if (node.isMissingNode()) {
             return null;
         }
@@ -219,11 +209,6 @@ public class JacksonEvent implements Event {
         }
     }
 
-    private JsonPointer toJsonPointer(final String key) {
-        String jsonPointerExpression = SEPARATOR + key;
-        return JsonPointer.compile(jsonPointerExpression);
-    }
-
     /**
      * Deletes the key from the event.
      *
@@ -232,20 +217,12 @@ public class JacksonEvent implements Event {
     @Override
     public void delete(final String key) {
 
-        final String trimmedKey = checkAndTrimKey(key);
-        final int index = trimmedKey.lastIndexOf(SEPARATOR);
-
-        JsonNode baseNode = jsonNode;
-        String leafKey = trimmedKey;
-
-        if (index != -1) {
-            final JsonPointer jsonPointer = toJsonPointer(trimmedKey.substring(0, index));
-            baseNode = jsonNode.at(jsonPointer);
-            leafKey = trimmedKey.substring(index + 1);
-        }
+        final EventKey eventKey = EventKey.of(key);
+        final JsonPointer parentJsonPointer = eventKey.getParentJsonPointer();
+        final JsonNode baseNode = parentJsonPointer == null ? jsonNode : jsonNode.at(parentJsonPointer);
 
         if (!baseNode.isMissingNode()) {
-            ((ObjectNode) baseNode).remove(leafKey);
+            ((ObjectNode) baseNode).remove(eventKey.getLeafKey());
         }
     }
 
@@ -254,6 +231,21 @@ public class JacksonEvent implements Event {
         return jsonNode.toString();
     }
 
+    @Override
+    public void writeJsonTo(final OutputStream outputStream) throws IOException {
+        writeJson(jsonNode, outputStream);
+    }
+
+    /**
+     * Writes the node to the output stream as UTF-8 Json without closing the stream.
+     * @param node the node to write
+     * @param outputStream the stream to write to
+     * @throws IOException if writing to the stream fails
+     */
+    protected static void writeJson(final JsonNode node, final OutputStream outputStream) throws IOException {
+        JSON_WRITER.writeValue(outputStream, node);
+    }
+
     @Override
     public EventMetadata getMetadata() {
         return eventMetadata;
@@ -262,18 +254,14 @@ public class JacksonEvent implements Event {
     @Override
     public boolean containsKey(final String key) {
 
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+        final JsonNode node = getNode(key);
 
         return !node.isMissingNode();
     }
 
     @Override
     public boolean isValueAList(final String key) {
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+        final JsonNode node = getNode(key);
 
         return node.isArray();
     }
@@ -283,58 +271,6 @@ public class JacksonEvent implements Event {
         return mapper.convertValue(jsonNode, MAP_TYPE_REFERENCE);
     }
 
-    private String checkAndTrimKey(final String key) {
-        checkKey(key);
-        return trimKey(key);
-    }
-
-    private void checkKey(final String key) {
-        checkNotNull(key, "key cannot be null");
-        checkArgument(!key.isEmpty(), "key cannot be an empty string");
-        if (key.length() > MAX_KEY_LENGTH) {
-            throw new IllegalArgumentException("key cannot be longer than " + MAX_KEY_LENGTH + " characters");
-        }
-        if (!isValidKey(key)) {
-            throw new IllegalArgumentException("key " + key + " must contain only alphanumeric chars with .-_ and must follow JsonPointer (ie. 'field/to/key')");
-        }
-    }
-
-    private String trimKey(final String key) {
-
-        final String trimmedLeadingSlash = key.startsWith(SEPARATOR) ? key.substring(1) : key;
-        return trimmedLeadingSlash.endsWith(SEPARATOR) ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 2) : trimmedLeadingSlash;
-    }
-
-    private boolean isValidKey(final String key) {
-        char previous = ' ';
-        char next = ' ';
-        for (int i = 0; i < key.length(); i++) {
-            char c = key.charAt(i);
-
-            if (i < key.length() - 1) {
-                next = key.charAt(i + 1);
-            }
-
-            if ((i == 0 || i == key.length() - 1 || previous == '/' || next == '/') && (c == '_' || c == '.' || c == '-')) {
-                return false;
-            }
-
-            if (!(c >= 48 && c <= 57
-                    || c >= 65 && c <= 90
-                    || c >= 97 && c <= 122
-                    || c == '.'
-                    || c == '-'
-                    || c == '_'
-                    || c == '@'
-                    || c == '/')) {
-
-                return false;
-            }
-            previous = c;
-        }
-        return true;
-    }
-
     /**
      * Constructs an empty builder.
      * @return a builder
@@ -403,7 +339,8 @@ public class JacksonEvent implements Event {
         }
 
         /**
-         * Sets the data of the event.
+         * Sets the data of the event. An {@link ObjectNode} is used as the event data without being copied, so it
+         * should not be modified by the caller afterwards.
          * @param data the data
          * @since 1.2
          */
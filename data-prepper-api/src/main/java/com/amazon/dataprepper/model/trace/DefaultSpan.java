@@ -0,0 +1,720 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.trace;
+
+import com.amazon.dataprepper.model.event.DefaultEventMetadata;
+import com.amazon.dataprepper.model.event.EventMetadata;
+import com.amazon.dataprepper.model.event.EventType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * A {@link Span} which keeps the span fields as plain Java fields rather than in a JSON tree. The span getters and
+ * {@link #get(String, Class)} and {@link #put(String, Object)} of a top-level span field with a matching type read and
+ * write the fields directly.
+ * <p>
+ * The JSON representation is only built, as a {@link JacksonSpan}, when another operation needs it, such as
+ * {@link #toJsonString()} or access to an attribute or nested key. From then on all operations use the JSON
+ * representation, so the result of each operation is the same as for a {@link JacksonSpan} with the same fields.
+ *
+ * @since 1.4
+ */
+public class DefaultSpan implements Span {
+
+    private static final String TRACE_ID_KEY = "traceId";
+    private static final String SPAN_ID_KEY = "spanId";
+    private static final String TRACE_STATE_KEY = "traceState";
+    private static final String PARENT_SPAN_ID_KEY = "parentSpanId";
+    private static final String NAME_KEY = "name";
+    private static final String KIND_KEY = "kind";
+    private static final String START_TIME_KEY = "startTime";
+    private static final String END_TIME_KEY = "endTime";
+    private static final String ATTRIBUTES_KEY = "attributes";
+    private static final String DROPPED_ATTRIBUTES_COUNT_KEY = "droppedAttributesCount";
+    private static final String EVENTS_KEY = "events";
+    private static final String DROPPED_EVENTS_COUNT_KEY = "droppedEventsCount";
+    private static final String LINKS_KEY = "links";
+    private static final String DROPPED_LINKS_COUNT_KEY = "droppedLinksCount";
+    private static final String SERVICE_NAME_KEY = "serviceName";
+    private static final String TRACE_GROUP_KEY = "traceGroup";
+    private static final String DURATION_IN_NANOS_KEY = "durationInNanos";
+    private static final String TRACE_GROUP_FIELDS_KEY = "traceGroupFields";
+    private static final String SEPARATOR = "/";
+
+    /* Returned by getField for keys which are not a top-level span field */
+    private static final Object NOT_A_FIELD = new Object();
+
+    private final EventMetadata eventMetadata;
+
+    private String traceId;
+    private String spanId;
+    private String traceState;
+    private String parentSpanId;
+    private String name;
+    private String kind;
+    private String startTime;
+    private String endTime;
+    private final Map<String, Object> attributes;
+    private Integer droppedAttributesCount;
+    private final List<? extends SpanEvent> events;
+    private Integer droppedEventsCount;
+    private final List<? extends Link> links;
+    private Integer droppedLinksCount;
+    private String serviceName;
+    private String traceGroup;
+    private Long durationInNanos;
+    private TraceGroupFields traceGroupFields;
+
+    /* The optional fields are left out of the JSON representation unless they were set, even to null */
+    private boolean hasTraceState;
+    private boolean hasParentSpanId;
+    private boolean hasServiceName;
+
+    private JacksonSpan jacksonSpan;
+
+    protected DefaultSpan(final Builder builder) {
+        this.eventMetadata = builder.eventMetadata != null ? builder.eventMetadata : DefaultEventMetadata.builder()
+                .withEventType(EventType.TRACE.toString())
+                .withTimeReceived(builder.timeReceived)
+                .withAttributes(builder.eventMetadataAttributes)
+                .build();
+        checkArgument(this.eventMetadata.getEventType().equals("TRACE"), "eventType must be of type Trace");
+
+        this.traceId = builder.traceId;
+        this.spanId = builder.spanId;
+        this.traceState = builder.traceState;
+        this.parentSpanId = builder.parentSpanId;
+        this.name = builder.name;
+        this.kind = builder.kind;
+        this.startTime = builder.startTime;
+        this.endTime = builder.endTime;
+        this.attributes = builder.attributes != null ? builder.attributes : new HashMap<>();
+        this.droppedAttributesCount = builder.droppedAttributesCount != null ? builder.droppedAttributesCount : 0;
+        this.events = builder.events != null ? builder.events : new LinkedList<>();
+        this.droppedEventsCount = builder.droppedEventsCount != null ? builder.droppedEventsCount : 0;
+        this.links = builder.links != null ? builder.links : new LinkedList<>();
+        this.droppedLinksCount = builder.droppedLinksCount != null ? builder.droppedLinksCount : 0;
+        this.serviceName = builder.serviceName;
+        this.traceGroup = builder.traceGroup;
+        this.durationInNanos = builder.durationInNanos;
+        this.traceGroupFields = builder.traceGroupFields;
+        this.hasTraceState = builder.hasTraceState;
+        this.hasParentSpanId = builder.hasParentSpanId;
+        this.hasServiceName = builder.hasServiceName;
+    }
+
+    @Override
+    public String getTraceId() {
+        return jacksonSpan == null ? traceId : jacksonSpan.getTraceId();
+    }
+
+    @Override
+    public String getSpanId() {
+        return jacksonSpan == null ? spanId : jacksonSpan.getSpanId();
+    }
+
+    @Override
+    public String getTraceState() {
+        return jacksonSpan == null ? traceState : jacksonSpan.getTraceState();
+    }
+
+    @Override
+    public String getParentSpanId() {
+        return jacksonSpan == null ? parentSpanId : jacksonSpan.getParentSpanId();
+    }
+
+    @Override
+    public String getName() {
+        return jacksonSpan == null ? name : jacksonSpan.getName();
+    }
+
+    @Override
+    public String getKind() {
+        return jacksonSpan == null ? kind : jacksonSpan.getKind();
+    }
+
+    @Override
+    public String getStartTime() {
+        return jacksonSpan == null ? startTime : jacksonSpan.getStartTime();
+    }
+
+    @Override
+    public String getEndTime() {
+        return jacksonSpan == null ? endTime : jacksonSpan.getEndTime();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return jacksonSpan == null ? attributes : jacksonSpan.getAttributes();
+    }
+
+    @Override
+    public Integer getDroppedAttributesCount() {
+        return jacksonSpan == null ? droppedAttributesCount : jacksonSpan.getDroppedAttributesCount();
+    }
+
+    @Override
+    public List<? extends SpanEvent> getEvents() {
+        return jacksonSpan == null ? events : jacksonSpan.getEvents();
+    }
+
+    @Override
+    public Integer getDroppedEventsCount() {
+        return jacksonSpan == null ? droppedEventsCount : jacksonSpan.getDroppedEventsCount();
+    }
+
+    @Override
+    public List<? extends Link> getLinks() {
+        return jacksonSpan == null ? links : jacksonSpan.getLinks();
+    }
+
+    @Override
+    public Integer getDroppedLinksCount() {
+        return jacksonSpan == null ? droppedLinksCount : jacksonSpan.getDroppedLinksCount();
+    }
+
+    @Override
+    public String getTraceGroup() {
+        return jacksonSpan == null ? traceGroup : jacksonSpan.getTraceGroup();
+    }
+
+    @Override
+    public Long getDurationInNanos() {
+        return jacksonSpan == null ? durationInNanos : jacksonSpan.getDurationInNanos();
+    }
+
+    @Override
+    public TraceGroupFields getTraceGroupFields() {
+        return jacksonSpan == null ? traceGroupFields : jacksonSpan.getTraceGroupFields();
+    }
+
+    @Override
+    public String getServiceName() {
+        return jacksonSpan == null ? serviceName : jacksonSpan.getServiceName();
+    }
+
+    @Override
+    public void setTraceGroup(final String traceGroup) {
+        if (jacksonSpan == null) {
+            this.traceGroup = traceGroup;
+        } else {
+            jacksonSpan.setTraceGroup(traceGroup);
+        }
+    }
+
+    @Override
+    public void setTraceGroupFields(final TraceGroupFields traceGroupFields) {
+        if (jacksonSpan == null) {
+            this.traceGroupFields = traceGroupFields;
+        } else {
+            jacksonSpan.setTraceGroupFields(traceGroupFields);
+        }
+    }
+
+    @Override
+    public void put(final String key, final Object value) {
+        if (jacksonSpan != null || !putField(key, value)) {
+            toJacksonSpan().put(key, value);
+        }
+    }
+
+    @Override
+    public <T> T get(final String key, final Class<T> clazz) {
+        final Object value = jacksonSpan == null ? getField(key) : NOT_A_FIELD;
+        if (value != NOT_A_FIELD) {
+            if (value == null) {
+                return null;
+            }
+            if (clazz != Object.class && clazz.isInstance(value)) {
+                return clazz.cast(value);
+            }
+        }
+        return toJacksonSpan().get(key, clazz);
+    }
+
+    @Override
+    public <T> List<T> getList(final String key, final Class<T> clazz) {
+        return toJacksonSpan().getList(key, clazz);
+    }
+
+    @Override
+    public void delete(final String key) {
+        toJacksonSpan().delete(key);
+    }
+
+    @Override
+    public String toJsonString() {
+        return toJacksonSpan().toJsonString();
+    }
+
+    @Override
+    public void writeJsonTo(final OutputStream outputStream) throws IOException {
+        toJacksonSpan().writeJsonTo(outputStream);
+    }
+
+    @Override
+    public EventMetadata getMetadata() {
+        return eventMetadata;
+    }
+
+    @Override
+    public boolean containsKey(final String key) {
+        return toJacksonSpan().containsKey(key);
+    }
+
+    @Override
+    public boolean isValueAList(final String key) {
+        return toJacksonSpan().isValueAList(key);
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        return toJacksonSpan().toMap();
+    }
+
+    /**
+     * Creates a copy of the span which can be modified independently of this span, for example when the span is
+     * handed to several pipelines. The attributes, events and links are copied shallowly and the metadata is shared.
+     * If the JSON representation was built, it is copied deeply instead.
+     *
+     * @return a new span with the same metadata and fields
+     * @since 1.4
+     */
+    public DefaultSpan copy() {
+        final Builder builder = new Builder();
+        builder.eventMetadata = eventMetadata;
+        builder.traceId = traceId;
+        builder.spanId = spanId;
+        builder.traceState = traceState;
+        builder.parentSpanId = parentSpanId;
+        builder.name = name;
+        builder.kind = kind;
+        builder.startTime = startTime;
+        builder.endTime = endTime;
+        builder.attributes = new HashMap<>(attributes);
+        builder.droppedAttributesCount = droppedAttributesCount;
+        builder.events = new LinkedList<>(events);
+        builder.droppedEventsCount = droppedEventsCount;
+        builder.links = new LinkedList<>(links);
+        builder.droppedLinksCount = droppedLinksCount;
+        builder.serviceName = serviceName;
+        builder.traceGroup = traceGroup;
+        builder.durationInNanos = durationInNanos;
+        builder.traceGroupFields = traceGroupFields;
+        builder.hasTraceState = hasTraceState;
+        builder.hasParentSpanId = hasParentSpanId;
+        builder.hasServiceName = hasServiceName;
+
+        final DefaultSpan copy = new DefaultSpan(builder);
+        if (jacksonSpan != null) {
+            copy.jacksonSpan = jacksonSpan.copy();
+        }
+        return copy;
+    }
+
+    /**
+     * @return the value of the top-level span field with the key, or {@link #NOT_A_FIELD} if the key is not one of
+     * those fields
+     */
+    private Object getField(final String key) {
+        switch (stripLeadingSeparator(key)) {
+            case TRACE_ID_KEY: return traceId;
+            case SPAN_ID_KEY: return spanId;
+            case TRACE_STATE_KEY: return traceState;
+            case PARENT_SPAN_ID_KEY: return parentSpanId;
+            case NAME_KEY: return name;
+            case KIND_KEY: return kind;
+            case START_TIME_KEY: return startTime;
+            case END_TIME_KEY: return endTime;
+            case DROPPED_ATTRIBUTES_COUNT_KEY: return droppedAttributesCount;
+            case DROPPED_EVENTS_COUNT_KEY: return droppedEventsCount;
+            case DROPPED_LINKS_COUNT_KEY: return droppedLinksCount;
+            case SERVICE_NAME_KEY: return serviceName;
+            case TRACE_GROUP_KEY: return traceGroup;
+            case DURATION_IN_NANOS_KEY: return durationInNanos;
+            case TRACE_GROUP_FIELDS_KEY: return traceGroupFields;
+            default: return NOT_A_FIELD;
+        }
+    }
+
+    /**
+     * Sets the top-level span field with the key if the value has the type of the field.
+     *
+     * @return false if the key is not a span field or the value does not have its type
+     */
+    private boolean putField(final String key, final Object value) {
+        final String fieldKey = stripLeadingSeparator(key);
+        if (value == null || value instanceof String) {
+            final String stringValue = (String) value;
+            switch (fieldKey) {
+                case TRACE_ID_KEY: traceId = stringValue; return value != null;
+                case SPAN_ID_KEY: spanId = stringValue; return value != null;
+                case TRACE_STATE_KEY: traceState = stringValue; hasTraceState = true; return true;
+                case PARENT_SPAN_ID_KEY: parentSpanId = stringValue; hasParentSpanId = true; return true;
+                case NAME_KEY: name = stringValue; return value != null;
+                case KIND_KEY: kind = stringValue; return value != null;
+                case START_TIME_KEY: startTime = stringValue; return value != null;
+                case END_TIME_KEY: endTime = stringValue; return value != null;
+                case SERVICE_NAME_KEY: serviceName = stringValue; hasServiceName = true; return true;
+                case TRACE_GROUP_KEY: traceGroup = stringValue; return true;
+                default: return false;
+            }
+        }
+        if (value instanceof Integer) {
+            switch (fieldKey) {
+                case DROPPED_ATTRIBUTES_COUNT_KEY: droppedAttributesCount = (Integer) value; return true;
+                case DROPPED_EVENTS_COUNT_KEY: droppedEventsCount = (Integer) value; return true;
+                case DROPPED_LINKS_COUNT_KEY: droppedLinksCount = (Integer) value; return true;
+                default: return false;
+            }
+        }
+        if (value instanceof Long && DURATION_IN_NANOS_KEY.equals(fieldKey)) {
+            durationInNanos = (Long) value;
+            return true;
+        }
+        if (value instanceof TraceGroupFields && TRACE_GROUP_FIELDS_KEY.equals(fieldKey)) {
+            traceGroupFields = (TraceGroupFields) value;
+            return true;
+        }
+        return false;
+    }
+
+    private static String stripLeadingSeparator(final String key) {
+        checkNotNull(key, "key cannot be null");
+        return key.startsWith(SEPARATOR) ? key.substring(1) : key;
+    }
+
+    /**
+     * Builds the JSON representation of the span, which is used for all operations from then on.
+     */
+    private JacksonSpan toJacksonSpan() {
+        if (jacksonSpan == null) {
+            final Map<String, Object> data = new HashMap<>();
+            data.put(TRACE_ID_KEY, traceId);
+            data.put(SPAN_ID_KEY, spanId);
+            if (hasTraceState) {
+                data.put(TRACE_STATE_KEY, traceState);
+            }
+            if (hasParentSpanId) {
+                data.put(PARENT_SPAN_ID_KEY, parentSpanId);
+            }
+            data.put(NAME_KEY, name);
+            data.put(KIND_KEY, kind);
+            data.put(START_TIME_KEY, startTime);
+            data.put(END_TIME_KEY, endTime);
+            data.put(ATTRIBUTES_KEY, attributes);
+            data.put(DROPPED_ATTRIBUTES_COUNT_KEY, droppedAttributesCount);
+            data.put(EVENTS_KEY, events);
+            data.put(DROPPED_EVENTS_COUNT_KEY, droppedEventsCount);
+            data.put(LINKS_KEY, links);
+            data.put(DROPPED_LINKS_COUNT_KEY, droppedLinksCount);
+            if (hasServiceName) {
+                data.put(SERVICE_NAME_KEY, serviceName);
+            }
+            data.put(TRACE_GROUP_KEY, traceGroup);
+            data.put(DURATION_IN_NANOS_KEY, durationInNanos);
+            data.put(TRACE_GROUP_FIELDS_KEY, traceGroupFields);
+
+            final JacksonSpan.Builder builder = JacksonSpan.builder();
+            builder.withData(data);
+            builder.withEventMetadata(eventMetadata);
+            jacksonSpan = new JacksonSpan(builder);
+        }
+        return jacksonSpan;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for creating {@link DefaultSpan}. It has the same required fields and defaults as
+     * {@link JacksonSpan.Builder}.
+     *
+     * @since 1.4
+     */
+    public static class Builder {
+        private EventMetadata eventMetadata;
+        private Instant timeReceived;
+        private Map<String, Object> eventMetadataAttributes;
+
+        private String traceId;
+        private String spanId;
+        private String traceState;
+        private String parentSpanId;
+        private String name;
+        private String kind;
+        private String startTime;
+        private String endTime;
+        private Map<String, Object> attributes;
+        private Integer droppedAttributesCount;
+        private List<? extends SpanEvent> events;
+        private Integer droppedEventsCount;
+        private List<? extends Link> links;
+        private Integer droppedLinksCount;
+        private String serviceName;
+        private String traceGroup;
+        private Long durationInNanos;
+        private TraceGroupFields traceGroupFields;
+        private boolean hasTraceState;
+        private boolean hasParentSpanId;
+        private boolean hasServiceName;
+        private boolean hasTraceGroup;
+
+        /**
+         * Sets the metadata. The event type of the metadata must be TRACE.
+         * @param eventMetadata the metadata
+         * @since 1.4
+         */
+        public Builder withEventMetadata(final EventMetadata eventMetadata) {
+            this.eventMetadata = eventMetadata;
+            return this;
+        }
+
+        /**
+         * Sets the time received for the metadata if a {@link #withEventMetadata} is not used.
+         * @param timeReceived the time the span was received
+         * @since 1.4
+         */
+        public Builder withTimeReceived(final Instant timeReceived) {
+            this.timeReceived = timeReceived;
+            return this;
+        }
+
+        /**
+         * Sets the attributes for the metadata if a {@link #withEventMetadata} is not used.
+         * @param eventMetadataAttributes the attributes
+         * @since 1.4
+         */
+        public Builder withEventMetadataAttributes(final Map<String, Object> eventMetadataAttributes) {
+            this.eventMetadataAttributes = eventMetadataAttributes;
+            return this;
+        }
+
+        /**
+         * Sets the span id.
+         * @param spanId
+         * @since 1.4
+         */
+        public Builder withSpanId(final String spanId) {
+            this.spanId = spanId;
+            return this;
+        }
+
+        /**
+         * Sets the trace id for the span.
+         * @param traceId
+         * @since 1.4
+         */
+        public Builder withTraceId(final String traceId) {
+            this.traceId = traceId;
+            return this;
+        }
+
+        /**
+         * Sets the trace state
+         * @param traceState
+         * @since 1.4
+         */
+        public Builder withTraceState(final String traceState) {
+            this.traceState = traceState;
+            this.hasTraceState = true;
+            return this;
+        }
+
+        /**
+         * Sets the parent span id.
+         * @param parentSpanId
+         * @since 1.4
+         */
+        public Builder withParentSpanId(final String parentSpanId) {
+            this.parentSpanId = parentSpanId;
+            this.hasParentSpanId = true;
+            return this;
+        }
+
+        /**
+         * Sets the span name
+         * @param name
+         * @since 1.4
+         */
+        public Builder withName(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the type of span
+         * @param kind
+         * @since 1.4
+         */
+        public Builder withKind(final String kind) {
+            this.kind = kind;
+            return this;
+        }
+
+        /**
+         * Sets the start time of the span
+         * @param startTime
+         * @since 1.4
+         */
+        public Builder withStartTime(final String startTime) {
+            this.startTime = startTime;
+            return this;
+        }
+
+        /**
+         * Sets the end time of the span
+         * @param endTime
+         * @since 1.4
+         */
+        public Builder withEndTime(final String endTime) {
+            this.endTime = endTime;
+            return this;
+        }
+
+        /**
+         * Optional - sets the attributes for {@link DefaultSpan}. Default is an empty map.
+         * @param attributes the attributes to associate with this event.
+         * @since 1.4
+         */
+        public Builder withAttributes(final Map<String, Object> attributes) {
+            this.attributes = attributes;
+            return this;
+        }
+
+        /**
+         * Optional - sets the dropped attribute count for {@link DefaultSpan}. Default is 0.
+         * @param droppedAttributesCount the total number of dropped attributes
+         * @since 1.4
+         */
+        public Builder withDroppedAttributesCount(final Integer droppedAttributesCount) {
+            this.droppedAttributesCount = droppedAttributesCount;
+            return this;
+        }
+
+        /**
+         * Optional - sets the events for {@link DefaultSpan}. Default is an empty list.
+         * @param events the events to associate.
+         * @since 1.4
+         */
+        public Builder withEvents(final List<? extends SpanEvent> events) {
+            this.events = events;
+            return this;
+        }
+
+        /**
+         * Optional - sets the dropped events count for {@link DefaultSpan}. Default is 0.
+         * @param droppedEventsCount the total number of dropped events
+         * @since 1.4
+         */
+        public Builder withDroppedEventsCount(final Integer droppedEventsCount) {
+            this.droppedEventsCount = droppedEventsCount;
+            return this;
+        }
+
+        /**
+         * Optional - sets the links for {@link DefaultSpan}. Default is an empty list.
+         * @param links the links to associate.
+         * @since 1.4
+         */
+        public Builder withLinks(final List<? extends Link> links) {
+            this.links = links;
+            return this;
+        }
+
+        /**
+         * Optional - sets the dropped links count for {@link DefaultSpan}. Default is 0.
+         * @param droppedLinksCount the total number of dropped links
+         * @since 1.4
+         */
+        public Builder withDroppedLinksCount(final Integer droppedLinksCount) {
+            this.droppedLinksCount = droppedLinksCount;
+            return this;
+        }
+
+        /**
+         * Sets the trace group name
+         * @param traceGroup
+         * @since 1.4
+         */
+        public Builder withTraceGroup(final String traceGroup) {
+            this.traceGroup = traceGroup;
+            this.hasTraceGroup = true;
+            return this;
+        }
+
+        /**
+         * Sets the duration of the span
+         * @param durationInNanos
+         * @since 1.4
+         */
+        public Builder withDurationInNanos(final Long durationInNanos) {
+            this.durationInNanos = durationInNanos;
+            return this;
+        }
+
+        /**
+         * Sets the trace group fields
+         * @param traceGroupFields
+         * @since 1.4
+         */
+        public Builder withTraceGroupFields(final TraceGroupFields traceGroupFields) {
+            this.traceGroupFields = traceGroupFields;
+            return this;
+        }
+
+        /**
+         * Sets the service name of the span
+         * @param serviceName
+         * @since 1.4
+         */
+        public Builder withServiceName(final String serviceName) {
+            this.serviceName = serviceName;
+            this.hasServiceName = true;
+            return this;
+        }
+
+        /**
+         * Returns a newly created {@link DefaultSpan}
+         * @return a DefaultSpan
+         * @since 1.4
+         */
+        public DefaultSpan build() {
+            validateParameters();
+            return new DefaultSpan(this);
+        }
+
+        private void validateParameters() {
+            checkState(hasTraceGroup, TRACE_GROUP_KEY + " need to be assigned");
+
+            checkNonEmpty(TRACE_ID_KEY, traceId);
+            checkNonEmpty(SPAN_ID_KEY, spanId);
+            checkNonEmpty(NAME_KEY, name);
+            checkNonEmpty(KIND_KEY, kind);
+            checkNonEmpty(START_TIME_KEY, startTime);
+            checkNonEmpty(END_TIME_KEY, endTime);
+
+            checkNotNull(durationInNanos, DURATION_IN_NANOS_KEY + " cannot be null");
+            checkNotNull(traceGroupFields, TRACE_GROUP_FIELDS_KEY + " cannot be null");
+        }
+
+        private static void checkNonEmpty(final String key, final String value) {
+            checkNotNull(value, key + " cannot be null");
+            checkArgument(!value.isEmpty(), key + " cannot be an empty string");
+        }
+    }
+}
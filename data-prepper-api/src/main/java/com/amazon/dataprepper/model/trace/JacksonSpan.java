@@ -10,6 +10,8 @@ import com.amazon.dataprepper.model.event.JacksonEvent;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -158,12 +160,34 @@ public class JacksonSpan extends JacksonEvent implements Span {
         this.put(TRACE_GROUP_FIELDS_KEY, traceGroupFields);
     }
 
+    /**
+     * Creates a copy of the span with a deep copy of its Json tree, so the copy and this span can be modified
+     * independently of each other. The metadata is shared.
+     * @return a new span with the same metadata and data
+     * @since 1.4
+     */
+    public JacksonSpan copy() {
+        final Builder builder = builder();
+        builder.withData(getJsonNode().deepCopy());
+        builder.withEventMetadata(getMetadata());
+        return new JacksonSpan(builder);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
 
     @Override
     public String toJsonString() {
+        return getFlattenedJsonNode().toString();
+    }
+
+    @Override
+    public void writeJsonTo(final OutputStream outputStream) throws IOException {
+        writeJson(getFlattenedJsonNode(), outputStream);
+    }
+
+    private JsonNode getFlattenedJsonNode() {
         final ObjectNode attributesNode = (ObjectNode) getJsonNode().get("attributes");
         final ObjectNode flattenedJsonNode = getJsonNode().deepCopy();
         if (attributesNode != null) {
@@ -176,7 +200,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
                 }
             }
         }
-        return flattenedJsonNode.toString();
+        return flattenedJsonNode;
     }
 
     /**
@@ -90,6 +90,18 @@ public class PluginMetricsTest {
                 summary.getId().getName());
     }
 
+    @Test
+    public void testSummaryWithTags() {
+        final DistributionSummary summary = PLUGIN_METRICS.summaryWithTags("summary", TAG_KEY, TAG_VALUE);
+        Assert.assertEquals(
+                new StringJoiner(MetricNames.DELIMITER)
+                        .add(PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add("summary").toString(),
+                summary.getId().getName());
+
+        Assert.assertEquals(TAG_VALUE, summary.getId().getTag(TAG_KEY));
+    }
+
     @Test
     public void testNumberGauge() {
         final AtomicInteger atomicInteger = new AtomicInteger(0);
@@ -0,0 +1,200 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import com.amazon.dataprepper.model.log.JacksonLog;
+import com.amazon.dataprepper.model.log.Log;
+import com.amazon.dataprepper.model.trace.JacksonSpan;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class CopyOnWriteEventTest {
+    private static final String SOURCE_JSON = "{\"message\":\"hello\",\"http\":{\"method\":\"GET\",\"status\":200}," +
+            "\"tags\":[\"a\",\"b\"],\"user\":{\"name\":\"alice\",\"address\":{\"city\":\"Seattle\"}}}";
+
+    private JacksonEvent sourceEvent;
+
+    @BeforeEach
+    void setUp() {
+        sourceEvent = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(SOURCE_JSON)
+                .build();
+    }
+
+    @Test
+    void fromEvent_shares_data_and_metadata_of_source_event() throws IOException {
+        final CopyOnWriteEvent event = CopyOnWriteEvent.fromEvent(sourceEvent);
+
+        assertThat(event.getJsonNode(), sameInstance(sourceEvent.getJsonNode()));
+        assertThat(event.getMetadata(), sameInstance(sourceEvent.getMetadata()));
+        assertThat(event.toJsonString(), equalTo(SOURCE_JSON));
+        assertThat(event.toMap(), equalTo(sourceEvent.toMap()));
+        assertThat(event.get("http/status", Integer.class), equalTo(200));
+        assertThat(event.getList("tags", String.class), equalTo(Arrays.asList("a", "b")));
+        assertThat(event.containsKey("user/address/city"), is(true));
+        assertThat(event.isValueAList("tags"), is(true));
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        event.writeJsonTo(outputStream);
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8), equalTo(SOURCE_JSON));
+    }
+
+    @Test
+    void put_does_not_modify_source_or_other_shared_events() {
+        final CopyOnWriteEvent event = CopyOnWriteEvent.fromEvent(sourceEvent);
+        final CopyOnWriteEvent otherEvent = CopyOnWriteEvent.fromEvent(sourceEvent);
+
+        event.put("user/address/city", "Portland");
+        event.put("message", "changed");
+        event.put("new/key", "value");
+
+        assertThat(event.get("user/address/city", String.class), equalTo("Portland"));
+        assertThat(event.get("message", String.class), equalTo("changed"));
+        assertThat(event.get("new/key", String.class), equalTo("value"));
+        assertThat(sourceEvent.toJsonString(), equalTo(SOURCE_JSON));
+        assertThat(otherEvent.toJsonString(), equalTo(SOURCE_JSON));
+    }
+
+    @Test
+    void put_copies_only_the_path_to_the_modified_key() {
+        final CopyOnWriteEvent event = CopyOnWriteEvent.fromEvent(sourceEvent);
+        final JsonNode sourceRoot = sourceEvent.getJsonNode();
+
+        event.put("user/address/city", "Portland");
+
+        final JsonNode root = event.getJsonNode();
+        assertThat(root, not(sameInstance(sourceRoot)));
+        assertThat(root.get("user"), not(sameInstance(sourceRoot.get("user"))));
+        assertThat(root.get("user").get("address"), not(sameInstance(sourceRoot.get("user").get("address"))));
+        assertThat(root.get("user").get("name"), sameInstance(sourceRoot.get("user").get("name")));
+        assertThat(root.get("http"), sameInstance(sourceRoot.get("http")));
+        assertThat(root.get("tags"), sameInstance(sourceRoot.get("tags")));
+    }
+
+    @Test
+    void put_does_not_copy_nodes_which_were_already_copied() {
+        final CopyOnWriteEvent event = CopyOnWriteEvent.fromEvent(sourceEvent);
+
+        event.put("user/name", "bob");
+        final JsonNode root = event.getJsonNode();
+        final JsonNode user = root.get("user");
+        event.put("user/age", 42);
+
+        assertThat(event.getJsonNode(), sameInstance(root));
+        assertThat(event.getJsonNode().get("user"), sameInstance(user));
+        assertThat(event.get("user/name", String.class), equalTo("bob"));
+        assertThat(event.get("user/age", Integer.class), equalTo(42));
+    }
+
+    @Test
+    void put_with_array_index_does_not_modify_source_event() {
+        final CopyOnWriteEvent event = CopyOnWriteEvent.fromEvent(sourceEvent);
+
+        event.put("tags/1", "c");
+
+        assertThat(event.getList("tags", String.class), equalTo(Arrays.asList("a", "c")));
+        assertThat(sourceEvent.getList("tags", String.class), equalTo(Arrays.asList("a", "b")));
+    }
+
+    @Test
+    void delete_does_not_modify_source_event() {
+        final CopyOnWriteEvent event = CopyOnWriteEvent.fromEvent(sourceEvent);
+
+        event.delete("http/method");
+        event.delete("message");
+
+        assertThat(event.containsKey("http/method"), is(false));
+        assertThat(event.containsKey("message"), is(false));
+        assertThat(event.get("http/status", Integer.class), equalTo(200));
+        assertThat(sourceEvent.toJsonString(), equalTo(SOURCE_JSON));
+    }
+
+    @Test
+    void delete_of_missing_key_does_not_copy() {
+        final CopyOnWriteEvent event = CopyOnWriteEvent.fromEvent(sourceEvent);
+
+        event.delete("missing/key");
+
+        assertThat(event.getJsonNode(), sameInstance(sourceEvent.getJsonNode()));
+    }
+
+    @Test
+    void fromEvent_of_copy_on_write_event_copies_again_before_either_is_modified() {
+        final CopyOnWriteEvent event = CopyOnWriteEvent.fromEvent(sourceEvent);
+        event.put("user/name", "bob");
+
+        final CopyOnWriteEvent sharedEvent = CopyOnWriteEvent.fromEvent(event);
+        assertThat(sharedEvent.getJsonNode(), sameInstance(event.getJsonNode()));
+        final String sharedJson = event.toJsonString();
+
+        event.put("user/name", "carol");
+        sharedEvent.put("user/name", "dave");
+
+        assertThat(event.get("user/name", String.class), equalTo("carol"));
+        assertThat(sharedEvent.get("user/name", String.class), equalTo("dave"));
+        assertThat(CopyOnWriteEvent.fromEvent(sharedEvent).toJsonString(), not(equalTo(sharedJson)));
+        assertThat(sourceEvent.toJsonString(), equalTo(SOURCE_JSON));
+    }
+
+    @Test
+    void get_of_json_node_returns_a_copy() {
+        final CopyOnWriteEvent event = CopyOnWriteEvent.fromEvent(sourceEvent);
+
+        final JsonNode user = event.get("user", JsonNode.class);
+
+        assertThat(user, equalTo(sourceEvent.getJsonNode().get("user")));
+        assertThat(user, not(sameInstance(sourceEvent.getJsonNode().get("user"))));
+        assertThat(event.get("missing", JsonNode.class), nullValue());
+    }
+
+    @Test
+    void fromEvent_of_log_returns_log() {
+        final Map<String, Object> data = new HashMap<>();
+        data.put("message", "hello");
+        final Event log = JacksonLog.builder().withData(data).build();
+
+        final CopyOnWriteEvent event = CopyOnWriteEvent.fromEvent(log);
+
+        assertThat(event, instanceOf(Log.class));
+        assertThat(CopyOnWriteEvent.fromEvent(event), instanceOf(Log.class));
+        assertThat(event.get("message", String.class), equalTo("hello"));
+    }
+
+    @Test
+    void isSupported_returns_true_for_jackson_events_logs_and_copy_on_write_events() {
+        assertThat(CopyOnWriteEvent.isSupported(sourceEvent), is(true));
+        assertThat(CopyOnWriteEvent.isSupported(JacksonLog.builder().build()), is(true));
+        assertThat(CopyOnWriteEvent.isSupported(CopyOnWriteEvent.fromEvent(sourceEvent)), is(true));
+    }
+
+    @Test
+    void isSupported_returns_false_for_other_events() {
+        final Event arrayEvent = JacksonEvent.builder().withEventType("event").withData("[1, 2]").build();
+
+        assertThat(CopyOnWriteEvent.isSupported(arrayEvent), is(false));
+        assertThat(CopyOnWriteEvent.isSupported(mock(JacksonSpan.class)), is(false));
+        assertThat(CopyOnWriteEvent.isSupported(mock(Event.class)), is(false));
+        assertThrows(IllegalArgumentException.class, () -> CopyOnWriteEvent.fromEvent(arrayEvent));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventKeyTest {
+
+    @Test
+    void of_returns_cached_key_for_same_key() {
+        final String key = "cached/" + UUID.randomUUID();
+
+        assertThat(EventKey.of(key), is(sameInstance(EventKey.of(key))));
+    }
+
+    @Test
+    void of_parses_nested_key() {
+        final EventKey eventKey = EventKey.of("/foo/bar/0");
+
+        assertThat(eventKey.getJsonPointer(), is(equalTo(JsonPointer.compile("/foo/bar/0"))));
+        assertThat(eventKey.getKeys(), is(equalTo(new String[] {"foo", "bar", "0"})));
+        assertThat(eventKey.isLeafKeyIndex(), is(true));
+        assertThat(eventKey.getParentJsonPointer(), is(equalTo(JsonPointer.compile("/foo/bar"))));
+        assertThat(eventKey.getLeafKey(), is(equalTo("0")));
+    }
+
+    @Test
+    void of_parses_top_level_key() {
+        final EventKey eventKey = EventKey.of("foo");
+
+        assertThat(eventKey.getJsonPointer(), is(equalTo(JsonPointer.compile("/foo"))));
+        assertThat(eventKey.getKeys(), is(equalTo(new String[] {"foo"})));
+        assertThat(eventKey.isLeafKeyIndex(), is(false));
+        assertThat(eventKey.getParentJsonPointer(), is(nullValue()));
+        assertThat(eventKey.getLeafKey(), is(equalTo("foo")));
+    }
+
+    @Test
+    void of_key_with_only_separators_has_no_keys() {
+        final EventKey eventKey = EventKey.of("//x/");
+
+        assertThat(eventKey.getKeys().length, is(equalTo(0)));
+        assertThat(eventKey.isLeafKeyIndex(), is(false));
+        assertThat(eventKey.getParentJsonPointer(), is(not(nullValue())));
+    }
+
+    @Test
+    void of_null_key_throws_NullPointerException() {
+        assertThrows(NullPointerException.class, () -> EventKey.of(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "_foo", "foo/-bar", "foo bar", "foo$"})
+    void of_invalid_key_throws_IllegalArgumentException_every_time(final String key) {
+        assertThrows(IllegalArgumentException.class, () -> EventKey.of(key));
+        assertThrows(IllegalArgumentException.class, () -> EventKey.of(key));
+    }
+}
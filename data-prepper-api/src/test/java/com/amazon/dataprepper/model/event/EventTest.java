@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventTest {
+
+    @Test
+    void writeJsonTo_writes_toJsonString_as_UTF8() throws IOException {
+        final String json = "{\"key\":\"" + UUID.randomUUID() + "é\"}";
+        final Event event = mock(Event.class, CALLS_REAL_METHODS);
+        when(event.toJsonString()).thenReturn(json);
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        event.writeJsonTo(outputStream);
+
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8), is(equalTo(json)));
+    }
+}
@@ -5,12 +5,17 @@
 
 package com.amazon.dataprepper.model.event;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -319,6 +324,21 @@ public class JacksonEventTest {
         assertThat(result, is(equalTo(String.format("{\"foo\":\"bar\",\"testObject\":{\"field1\":\"%s\"},\"list\":[1,4,5]}", value))));
     }
 
+    @Test
+    public void testWriteJsonTo_writesSameJsonAsToJsonString() throws IOException {
+        event.put("foo", "bar");
+        event.put("testObject", new TestObject(UUID.randomUUID().toString()));
+        event.put("list", Arrays.asList(1, 4, 5));
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write('[');
+
+        event.writeJsonTo(outputStream);
+        outputStream.write(']');
+
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8),
+                is(equalTo("[" + event.toJsonString() + "]")));
+    }
+
     @Test
     public void testGetAsMap_with_EmptyData() {
         final Map<String, Object> eventAsMap = event.toMap();
@@ -456,6 +476,24 @@ public class JacksonEventTest {
         assertThat(event.get("foo", String.class), is(equalTo("bar")));
     }
 
+    @Test
+    public void testBuild_withObjectNodeData() {
+
+        final ObjectNode objectNode = JsonNodeFactory.instance.objectNode();
+        objectNode.put("foo", "bar");
+        objectNode.putObject("nested").put("key", 1);
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(objectNode)
+                .getThis()
+                .build();
+
+        assertThat(event.get("foo", String.class), is(equalTo("bar")));
+        assertThat(event.get("nested/key", Integer.class), is(equalTo(1)));
+        assertThat(event.toJsonString(), is(equalTo(objectNode.toString())));
+    }
+
     @Test
     public void testBuild_withInvalidStringData() {
 
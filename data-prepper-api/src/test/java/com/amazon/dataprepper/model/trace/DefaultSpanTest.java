@@ -0,0 +1,514 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.trace;
+
+import com.amazon.dataprepper.model.event.DefaultEventMetadata;
+import com.amazon.dataprepper.model.event.EventMetadata;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DefaultSpanTest {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final String TEST_TRACE_ID = UUID.randomUUID().toString();
+    private static final String TEST_SPAN_ID = UUID.randomUUID().toString();
+    private static final String TEST_TRACE_STATE = UUID.randomUUID().toString();
+    private static final String TEST_PARENT_SPAN_ID = UUID.randomUUID().toString();
+    private static final String TEST_NAME = UUID.randomUUID().toString();
+    private static final String TEST_KIND = UUID.randomUUID().toString();
+    private static final String TEST_START_TIME = UUID.randomUUID().toString();
+    private static final String TEST_END_TIME = UUID.randomUUID().toString();
+    private static final Map<String, Object> TEST_ATTRIBUTES = ImmutableMap.of("key1", new Date().getTime(), "key2", UUID.randomUUID().toString());
+    private static final Integer TEST_DROPPED_ATTRIBUTES_COUNT = 8;
+    private static final Integer TEST_DROPPED_EVENTS_COUNT = 45;
+    private static final Integer TEST_DROPPED_LINKS_COUNT = 21;
+    private static final String TEST_TRACE_GROUP = UUID.randomUUID().toString();
+    private static final Long TEST_DURATION_IN_NANOS = 537L;
+    private static final String TEST_SERVICE_NAME = UUID.randomUUID().toString();
+
+    private DefaultSpan.Builder builder;
+
+    private JacksonSpan.Builder jacksonSpanBuilder;
+
+    private DefaultSpan defaultSpan;
+
+    private DefaultLink defaultLink;
+
+    private DefaultSpanEvent defaultSpanEvent;
+
+    private DefaultTraceGroupFields defaultTraceGroupFields;
+
+    private EventMetadata eventMetadata;
+
+    @BeforeEach
+    public void setup() {
+        defaultSpanEvent = DefaultSpanEvent.builder()
+                .withName(UUID.randomUUID().toString())
+                .withTime(UUID.randomUUID().toString())
+                .build();
+
+        defaultLink = DefaultLink.builder()
+                .withTraceId(UUID.randomUUID().toString())
+                .withSpanId(UUID.randomUUID().toString())
+                .withTraceState(UUID.randomUUID().toString())
+                .build();
+
+        defaultTraceGroupFields = DefaultTraceGroupFields.builder()
+                .withDurationInNanos(123L)
+                .withStatusCode(201)
+                .withEndTime("the End")
+                .build();
+
+        eventMetadata = DefaultEventMetadata.builder()
+                .withEventType("TRACE")
+                .withTimeReceived(Instant.now())
+                .build();
+
+        builder = DefaultSpan.builder()
+                .withEventMetadata(eventMetadata)
+                .withSpanId(TEST_SPAN_ID)
+                .withTraceId(TEST_TRACE_ID)
+                .withTraceState(TEST_TRACE_STATE)
+                .withParentSpanId(TEST_PARENT_SPAN_ID)
+                .withName(TEST_NAME)
+                .withServiceName(TEST_SERVICE_NAME)
+                .withKind(TEST_KIND)
+                .withStartTime(TEST_START_TIME)
+                .withEndTime(TEST_END_TIME)
+                .withAttributes(TEST_ATTRIBUTES)
+                .withDroppedAttributesCount(TEST_DROPPED_ATTRIBUTES_COUNT)
+                .withEvents(Arrays.asList(defaultSpanEvent))
+                .withDroppedEventsCount(TEST_DROPPED_EVENTS_COUNT)
+                .withLinks(Arrays.asList(defaultLink))
+                .withDroppedLinksCount(TEST_DROPPED_LINKS_COUNT)
+                .withTraceGroup(TEST_TRACE_GROUP)
+                .withDurationInNanos(TEST_DURATION_IN_NANOS)
+                .withTraceGroupFields(defaultTraceGroupFields);
+
+        jacksonSpanBuilder = JacksonSpan.builder()
+                .withSpanId(TEST_SPAN_ID)
+                .withTraceId(TEST_TRACE_ID)
+                .withTraceState(TEST_TRACE_STATE)
+                .withParentSpanId(TEST_PARENT_SPAN_ID)
+                .withName(TEST_NAME)
+                .withServiceName(TEST_SERVICE_NAME)
+                .withKind(TEST_KIND)
+                .withStartTime(TEST_START_TIME)
+                .withEndTime(TEST_END_TIME)
+                .withAttributes(TEST_ATTRIBUTES)
+                .withDroppedAttributesCount(TEST_DROPPED_ATTRIBUTES_COUNT)
+                .withEvents(Arrays.asList(defaultSpanEvent))
+                .withDroppedEventsCount(TEST_DROPPED_EVENTS_COUNT)
+                .withLinks(Arrays.asList(defaultLink))
+                .withDroppedLinksCount(TEST_DROPPED_LINKS_COUNT)
+                .withTraceGroup(TEST_TRACE_GROUP)
+                .withDurationInNanos(TEST_DURATION_IN_NANOS)
+                .withTraceGroupFields(defaultTraceGroupFields);
+
+        defaultSpan = builder.build();
+    }
+
+    private void assertSameJson(final Span span, final Span expectedSpan) throws JsonProcessingException {
+        final TypeReference<Map<String, Object>> mapType = new TypeReference<Map<String, Object>>() {};
+        assertThat(mapper.readValue(span.toJsonString(), mapType), is(equalTo(mapper.readValue(expectedSpan.toJsonString(), mapType))));
+    }
+
+    @Test
+    public void testGetters() {
+        assertThat(defaultSpan.getSpanId(), is(equalTo(TEST_SPAN_ID)));
+        assertThat(defaultSpan.getTraceId(), is(equalTo(TEST_TRACE_ID)));
+        assertThat(defaultSpan.getTraceState(), is(equalTo(TEST_TRACE_STATE)));
+        assertThat(defaultSpan.getParentSpanId(), is(equalTo(TEST_PARENT_SPAN_ID)));
+        assertThat(defaultSpan.getName(), is(equalTo(TEST_NAME)));
+        assertThat(defaultSpan.getServiceName(), is(equalTo(TEST_SERVICE_NAME)));
+        assertThat(defaultSpan.getKind(), is(equalTo(TEST_KIND)));
+        assertThat(defaultSpan.getStartTime(), is(equalTo(TEST_START_TIME)));
+        assertThat(defaultSpan.getEndTime(), is(equalTo(TEST_END_TIME)));
+        assertThat(defaultSpan.getAttributes(), is(equalTo(TEST_ATTRIBUTES)));
+        assertThat(defaultSpan.getDroppedAttributesCount(), is(equalTo(TEST_DROPPED_ATTRIBUTES_COUNT)));
+        assertThat(defaultSpan.getEvents(), is(equalTo(Arrays.asList(defaultSpanEvent))));
+        assertThat(defaultSpan.getDroppedEventsCount(), is(equalTo(TEST_DROPPED_EVENTS_COUNT)));
+        assertThat(defaultSpan.getLinks(), is(equalTo(Arrays.asList(defaultLink))));
+        assertThat(defaultSpan.getDroppedLinksCount(), is(equalTo(TEST_DROPPED_LINKS_COUNT)));
+        assertThat(defaultSpan.getTraceGroup(), is(equalTo(TEST_TRACE_GROUP)));
+        assertThat(defaultSpan.getDurationInNanos(), is(equalTo(TEST_DURATION_IN_NANOS)));
+        assertThat(defaultSpan.getTraceGroupFields(), is(equalTo(defaultTraceGroupFields)));
+        assertThat(defaultSpan.getMetadata(), is(sameInstance(eventMetadata)));
+    }
+
+    @Test
+    public void testGettersAfterJsonIsBuilt() {
+        defaultSpan.toJsonString();
+
+        assertThat(defaultSpan.getSpanId(), is(equalTo(TEST_SPAN_ID)));
+        assertThat(defaultSpan.getTraceState(), is(equalTo(TEST_TRACE_STATE)));
+        assertThat(defaultSpan.getServiceName(), is(equalTo(TEST_SERVICE_NAME)));
+        assertThat(defaultSpan.getAttributes(), is(equalTo(TEST_ATTRIBUTES)));
+        assertThat(defaultSpan.getEvents(), is(equalTo(Arrays.asList(defaultSpanEvent))));
+        assertThat(defaultSpan.getLinks(), is(equalTo(Arrays.asList(defaultLink))));
+        assertThat(defaultSpan.getDurationInNanos(), is(equalTo(TEST_DURATION_IN_NANOS)));
+        assertThat(defaultSpan.getTraceGroupFields(), is(equalTo(defaultTraceGroupFields)));
+        assertThat(defaultSpan.getMetadata(), is(sameInstance(eventMetadata)));
+    }
+
+    @Test
+    public void testToJsonStringIsSameAsJacksonSpan() throws JsonProcessingException {
+        assertSameJson(defaultSpan, jacksonSpanBuilder.build());
+    }
+
+    @Test
+    public void testToJsonStringWithoutOptionalFieldsIsSameAsJacksonSpan() throws JsonProcessingException {
+        final DefaultSpan span = DefaultSpan.builder()
+                .withSpanId(TEST_SPAN_ID)
+                .withTraceId(TEST_TRACE_ID)
+                .withName(TEST_NAME)
+                .withKind(TEST_KIND)
+                .withStartTime(TEST_START_TIME)
+                .withEndTime(TEST_END_TIME)
+                .withTraceGroup(null)
+                .withDurationInNanos(TEST_DURATION_IN_NANOS)
+                .withTraceGroupFields(defaultTraceGroupFields)
+                .build();
+        final JacksonSpan jacksonSpan = JacksonSpan.builder()
+                .withSpanId(TEST_SPAN_ID)
+                .withTraceId(TEST_TRACE_ID)
+                .withName(TEST_NAME)
+                .withKind(TEST_KIND)
+                .withStartTime(TEST_START_TIME)
+                .withEndTime(TEST_END_TIME)
+                .withTraceGroup(null)
+                .withDurationInNanos(TEST_DURATION_IN_NANOS)
+                .withTraceGroupFields(defaultTraceGroupFields)
+                .build();
+
+        assertSameJson(span, jacksonSpan);
+        final Map<String, Object> resultMap = mapper.readValue(span.toJsonString(), new TypeReference<Map<String, Object>>() {});
+        assertThat(resultMap.containsKey("traceState"), is(false));
+        assertThat(resultMap.containsKey("parentSpanId"), is(false));
+        assertThat(resultMap.containsKey("serviceName"), is(false));
+    }
+
+    @Test
+    public void testWriteJsonToWritesFlattenedJson() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        defaultSpan.writeJsonTo(outputStream);
+
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8), is(equalTo(defaultSpan.toJsonString())));
+    }
+
+    @Test
+    public void testToMapIsSameAsJacksonSpan() {
+        assertThat(defaultSpan.toMap(), is(equalTo(jacksonSpanBuilder.build().toMap())));
+    }
+
+    @Test
+    public void testSetTraceGroupBeforeAndAfterJsonIsBuilt() throws JsonProcessingException {
+        final TraceGroupFields testTraceGroupFields = DefaultTraceGroupFields.builder()
+                .withDurationInNanos(200L)
+                .withStatusCode(404)
+                .withEndTime("Different end time")
+                .build();
+        defaultSpan.setTraceGroup("testTraceGroup");
+        defaultSpan.setTraceGroupFields(testTraceGroupFields);
+
+        assertThat(defaultSpan.getTraceGroup(), is(equalTo("testTraceGroup")));
+        assertThat(defaultSpan.getTraceGroupFields(), is(equalTo(testTraceGroupFields)));
+        assertSameJson(defaultSpan, jacksonSpanBuilder
+                .withTraceGroup("testTraceGroup")
+                .withTraceGroupFields(testTraceGroupFields)
+                .build());
+
+        defaultSpan.setTraceGroup("otherTraceGroup");
+        assertThat(defaultSpan.getTraceGroup(), is(equalTo("otherTraceGroup")));
+        assertThat(defaultSpan.get("traceGroup", String.class), is(equalTo("otherTraceGroup")));
+    }
+
+    @Test
+    public void testGetAndPutFields() throws JsonProcessingException {
+        assertThat(defaultSpan.get("traceId", String.class), is(equalTo(TEST_TRACE_ID)));
+        assertThat(defaultSpan.get("/durationInNanos", Long.class), is(equalTo(TEST_DURATION_IN_NANOS)));
+        assertThat(defaultSpan.get("droppedLinksCount", Integer.class), is(equalTo(TEST_DROPPED_LINKS_COUNT)));
+        assertThat(defaultSpan.get("traceGroupFields", TraceGroupFields.class), is(sameInstance(defaultTraceGroupFields)));
+
+        defaultSpan.put("traceGroup", "putTraceGroup");
+        defaultSpan.put("/durationInNanos", 10L);
+        defaultSpan.put("traceState", null);
+
+        assertThat(defaultSpan.getTraceGroup(), is(equalTo("putTraceGroup")));
+        assertThat(defaultSpan.getDurationInNanos(), is(equalTo(10L)));
+        assertThat(defaultSpan.get("traceState", String.class), is(nullValue()));
+        assertSameJson(defaultSpan, jacksonSpanBuilder
+                .withTraceGroup("putTraceGroup")
+                .withDurationInNanos(10L)
+                .withTraceState(null)
+                .build());
+    }
+
+    @Test
+    public void testGetFieldAsOtherTypeIsSameAsJacksonSpan() {
+        final JacksonSpan jacksonSpan = jacksonSpanBuilder.build();
+
+        assertThat(defaultSpan.get("durationInNanos", String.class), is(equalTo(jacksonSpan.get("durationInNanos", String.class))));
+        assertThat(defaultSpan.get("traceGroupFields", Map.class), is(equalTo(jacksonSpan.get("traceGroupFields", Map.class))));
+    }
+
+    @Test
+    public void testGettersAndSettersAfterJsonIsBuilt() {
+        final JacksonSpan jacksonSpan = jacksonSpanBuilder.build();
+        final TraceGroupFields testTraceGroupFields = DefaultTraceGroupFields.builder()
+                .withDurationInNanos(200L)
+                .withStatusCode(404)
+                .withEndTime("Different end time")
+                .build();
+        defaultSpan.toJsonString();
+        defaultSpan.setTraceGroupFields(testTraceGroupFields);
+
+        assertThat(defaultSpan.getTraceId(), is(equalTo(jacksonSpan.getTraceId())));
+        assertThat(defaultSpan.getParentSpanId(), is(equalTo(jacksonSpan.getParentSpanId())));
+        assertThat(defaultSpan.getName(), is(equalTo(jacksonSpan.getName())));
+        assertThat(defaultSpan.getKind(), is(equalTo(jacksonSpan.getKind())));
+        assertThat(defaultSpan.getStartTime(), is(equalTo(jacksonSpan.getStartTime())));
+        assertThat(defaultSpan.getEndTime(), is(equalTo(jacksonSpan.getEndTime())));
+        assertThat(defaultSpan.getDroppedAttributesCount(), is(equalTo(jacksonSpan.getDroppedAttributesCount())));
+        assertThat(defaultSpan.getDroppedEventsCount(), is(equalTo(jacksonSpan.getDroppedEventsCount())));
+        assertThat(defaultSpan.getDroppedLinksCount(), is(equalTo(jacksonSpan.getDroppedLinksCount())));
+        assertThat(defaultSpan.getTraceGroupFields(), is(equalTo(testTraceGroupFields)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideFieldKeysAndTypes")
+    public void testGetFieldIsSameAsJacksonSpan(final String key, final Class<?> clazz) {
+        assertThat(defaultSpan.get(key, clazz), is(equalTo(jacksonSpanBuilder.build().get(key, clazz))));
+    }
+
+    private static Stream<Arguments> provideFieldKeysAndTypes() {
+        return Stream.of(
+                Arguments.of("traceId", String.class),
+                Arguments.of("spanId", String.class),
+                Arguments.of("/traceState", String.class),
+                Arguments.of("parentSpanId", String.class),
+                Arguments.of("name", String.class),
+                Arguments.of("kind", String.class),
+                Arguments.of("startTime", String.class),
+                Arguments.of("endTime", String.class),
+                Arguments.of("droppedAttributesCount", Integer.class),
+                Arguments.of("droppedEventsCount", Integer.class),
+                Arguments.of("droppedLinksCount", Integer.class),
+                Arguments.of("serviceName", String.class),
+                Arguments.of("traceGroup", String.class),
+                Arguments.of("durationInNanos", Long.class),
+                Arguments.of("traceGroupFields", DefaultTraceGroupFields.class),
+                Arguments.of("attributes/key2", String.class),
+                Arguments.of("name", Object.class)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideKeysAndValues")
+    public void testPutIsSameAsJacksonSpan(final String key, final Object value) throws JsonProcessingException {
+        final JacksonSpan jacksonSpan = jacksonSpanBuilder.build();
+
+        defaultSpan.put(key, value);
+        jacksonSpan.put(key, value);
+
+        assertSameJson(defaultSpan, jacksonSpan);
+    }
+
+    private static Stream<Arguments> provideKeysAndValues() {
+        final List<String> stringKeys = Arrays.asList("traceId", "spanId", "traceState", "parentSpanId", "name", "kind",
+                "startTime", "endTime", "serviceName", "traceGroup");
+        final Stream<Arguments> stringValues = stringKeys.stream()
+                .flatMap(key -> Stream.of(Arguments.of(key, "newValue"), Arguments.of("/" + key, null)));
+        return Stream.concat(stringValues, Stream.of(
+                Arguments.of("droppedAttributesCount", 1),
+                Arguments.of("droppedEventsCount", 2),
+                Arguments.of("droppedLinksCount", 3),
+                Arguments.of("durationInNanos", 4L),
+                Arguments.of("traceGroupFields", DefaultTraceGroupFields.builder().withStatusCode(2).build()),
+                Arguments.of("newKey", "newValue"),
+                Arguments.of("traceId", 5),
+                Arguments.of("traceId", 6L),
+                Arguments.of("traceId", DefaultTraceGroupFields.builder().build()),
+                Arguments.of("durationInNanos", "7")
+        ));
+    }
+
+    @Test
+    public void testGetListAndIsValueAList() {
+        assertThat(defaultSpan.isValueAList("events"), is(true));
+        assertThat(defaultSpan.isValueAList("name"), is(false));
+        assertThat(defaultSpan.getList("links", DefaultLink.class), is(equalTo(Arrays.asList(defaultLink))));
+    }
+
+    @Test
+    public void testGetAndPutAttributes() {
+        assertThat(defaultSpan.get("attributes/key2", String.class), is(equalTo(TEST_ATTRIBUTES.get("key2"))));
+        assertThat(defaultSpan.containsKey("attributes/key1"), is(true));
+
+        defaultSpan.put("newKey", "newValue");
+        defaultSpan.put("traceId", 12);
+        defaultSpan.delete("attributes/key2");
+
+        assertThat(defaultSpan.get("newKey", String.class), is(equalTo("newValue")));
+        assertThat(defaultSpan.get("traceId", Integer.class), is(equalTo(12)));
+        assertThat(defaultSpan.containsKey("attributes/key2"), is(false));
+        assertThat(defaultSpan.getSpanId(), is(equalTo(TEST_SPAN_ID)));
+    }
+
+    @Test
+    public void testCopyIsModifiedIndependently() throws JsonProcessingException {
+        final DefaultSpan copy = defaultSpan.copy();
+
+        assertThat(copy.getSpanId(), is(equalTo(TEST_SPAN_ID)));
+        assertThat(copy.getAttributes(), is(equalTo(TEST_ATTRIBUTES)));
+        assertThat(copy.getMetadata(), is(sameInstance(eventMetadata)));
+
+        copy.setTraceGroup("copiedTraceGroup");
+        copy.put("spanId", "copiedSpanId");
+        copy.getAttributes().put("key3", "copiedValue");
+
+        assertThat(defaultSpan.getTraceGroup(), is(equalTo(TEST_TRACE_GROUP)));
+        assertThat(defaultSpan.getSpanId(), is(equalTo(TEST_SPAN_ID)));
+        assertThat(defaultSpan.getAttributes(), is(equalTo(TEST_ATTRIBUTES)));
+        assertThat(copy.getTraceGroup(), is(equalTo("copiedTraceGroup")));
+        assertThat(copy.getSpanId(), is(equalTo("copiedSpanId")));
+        assertThat(copy.get("attributes/key3", String.class), is(equalTo("copiedValue")));
+        assertSameJson(defaultSpan, jacksonSpanBuilder.build());
+    }
+
+    @Test
+    public void testCopyAfterJsonIsBuiltIsModifiedIndependently() throws JsonProcessingException {
+        defaultSpan.put("attributes/key3", "value3");
+        final DefaultSpan copy = defaultSpan.copy();
+
+        assertSameJson(copy, defaultSpan);
+
+        copy.setTraceGroup("copiedTraceGroup");
+        copy.delete("attributes/key3");
+
+        assertThat(defaultSpan.getTraceGroup(), is(equalTo(TEST_TRACE_GROUP)));
+        assertThat(defaultSpan.get("attributes/key3", String.class), is(equalTo("value3")));
+        assertThat(copy.getTraceGroup(), is(equalTo("copiedTraceGroup")));
+        assertThat(copy.containsKey("attributes/key3"), is(false));
+    }
+
+    @Test
+    public void testBuilder_withoutEventMetadata_createsTraceMetadata() {
+        final Instant timeReceived = Instant.now();
+        final DefaultSpan span = builder.withEventMetadata(null)
+                .withTimeReceived(timeReceived)
+                .withEventMetadataAttributes(ImmutableMap.of("key", "value"))
+                .build();
+
+        assertThat(span.getMetadata().getEventType(), is(equalTo("TRACE")));
+        assertThat(span.getMetadata().getTimeReceived(), is(equalTo(timeReceived)));
+        assertThat(span.getMetadata().getAttributes(), is(equalTo(ImmutableMap.of("key", "value"))));
+    }
+
+    @Test
+    public void testBuilder_withNonTraceEventMetadata_throwsIllegalArgumentException() {
+        builder.withEventMetadata(DefaultEventMetadata.builder().withEventType("event").build());
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    public void testBuilder_missingNonNullParameters_throwsNullPointerException() {
+        final DefaultSpan.Builder builder = DefaultSpan.builder().withTraceGroup(null);
+        assertThrows(NullPointerException.class, builder::build);
+    }
+
+    @Test
+    public void testBuilder_withEmptyTraceId_throwsIllegalArgumentException() {
+        builder.withTraceId("");
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    public void testBuilder_withoutSpanId_throwsNullPointerException() {
+        builder.withSpanId(null);
+        assertThrows(NullPointerException.class, builder::build);
+    }
+
+    @Test
+    public void testBuilder_withEmptyEndTime_throwsIllegalArgumentException() {
+        builder.withEndTime("");
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    public void testBuilder_missingTraceGroupKey_throwsIllegalStateException() {
+        final DefaultSpan.Builder builder = DefaultSpan.builder()
+                .withSpanId(TEST_SPAN_ID)
+                .withTraceId(TEST_TRACE_ID)
+                .withName(TEST_NAME)
+                .withKind(TEST_KIND)
+                .withStartTime(TEST_START_TIME)
+                .withEndTime(TEST_END_TIME)
+                .withDurationInNanos(TEST_DURATION_IN_NANOS)
+                .withTraceGroupFields(defaultTraceGroupFields);
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    public void testBuilder_withoutDurationInNanos_throwsNullPointerException() {
+        builder.withDurationInNanos(null);
+        assertThrows(NullPointerException.class, builder::build);
+    }
+
+    @Test
+    public void testBuilder_withoutTraceGroupFields_throwsNullPointerException() {
+        builder.withTraceGroupFields(null);
+        assertThrows(NullPointerException.class, builder::build);
+    }
+
+    @Test
+    public void testBuilder_allRequiredParameters_createsSpanWithDefaultValues() {
+        final DefaultSpan span = builder
+                .withAttributes(null)
+                .withDroppedAttributesCount(null)
+                .withEvents(null)
+                .withDroppedEventsCount(null)
+                .withLinks(null)
+                .withDroppedLinksCount(null)
+                .build();
+
+        assertThat(span, is(notNullValue()));
+        assertThat(span.getAttributes(), is(equalTo(new HashMap<>())));
+        assertThat(span.getDroppedAttributesCount(), is(equalTo(0)));
+        assertThat(span.getEvents(), is(equalTo(new LinkedList<>())));
+        assertThat(span.getDroppedEventsCount(), is(equalTo(0)));
+        assertThat(span.getLinks(), is(equalTo(new LinkedList<>())));
+        assertThat(span.getDroppedLinksCount(), is(equalTo(0)));
+    }
+}
@@ -13,6 +13,9 @@ import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
@@ -26,6 +29,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class JacksonSpanTest {
@@ -247,6 +251,32 @@ public class JacksonSpanTest {
         assertThat(resultMap.containsKey("attributes"), is(false));
     }
 
+    @Test
+    public void testWriteJsonToWritesFlattenedJson() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        jacksonSpan.writeJsonTo(outputStream);
+
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8), is(equalTo(jacksonSpan.toJsonString())));
+    }
+
+    @Test
+    public void testCopyIsModifiedIndependently() {
+        final JacksonSpan copy = jacksonSpan.copy();
+
+        assertThat(copy.toJsonString(), is(equalTo(jacksonSpan.toJsonString())));
+        assertThat(copy.getMetadata(), is(sameInstance(jacksonSpan.getMetadata())));
+
+        copy.setTraceGroup("copiedTraceGroup");
+        copy.put("attributes/key3", "copiedValue");
+        jacksonSpan.delete("attributes/key1");
+
+        assertThat(jacksonSpan.getTraceGroup(), is(equalTo(TEST_TRACE_GROUP)));
+        assertThat(jacksonSpan.containsKey("attributes/key3"), is(false));
+        assertThat(copy.getTraceGroup(), is(equalTo("copiedTraceGroup")));
+        assertThat(copy.get("attributes/key3", String.class), is(equalTo("copiedValue")));
+        assertThat(copy.containsKey("attributes/key1"), is(true));
+    }
+
     @Test
     public void testToJsonStringWithoutAttributes() throws JsonProcessingException {
         builder.withAttributes(null);
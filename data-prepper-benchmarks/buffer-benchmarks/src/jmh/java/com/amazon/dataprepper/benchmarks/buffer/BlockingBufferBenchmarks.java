@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.buffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Measures the throughput of records through a saturated bounded blocking buffer, written in batches by a source
+ * thread and read by two worker threads. The workers spend a fixed amount of work on each batch, standing in for the
+ * per-batch overhead of processors and sinks, and a smaller amount on each record before they checkpoint the batch.
+ * The batchSizeMode parameter compares the default fixed batch size with the adaptive batch size, which grows while
+ * the buffer holds a backlog.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+public class BlockingBufferBenchmarks {
+    private static final String PIPELINE_NAME = "buffer-benchmarks";
+    private static final int BUFFER_SIZE = 512;
+    private static final int FIXED_BATCH_SIZE = 8;
+    private static final int WRITE_BATCH_SIZE = 16;
+    private static final int WRITE_TIMEOUT = 10;
+    private static final int READ_TIMEOUT = 10;
+    private static final int READ_THREADS = 2;
+    private static final long BATCH_WORK_TOKENS = 20_000;
+    private static final long RECORD_WORK_TOKENS = 200;
+
+    @Param(value = {"fixed", "adaptive"})
+    private String batchSizeMode;
+
+    private BlockingBuffer<Record<String>> blockingBuffer;
+    private List<Record<String>> writeBatch;
+
+    @Setup(Level.Iteration)
+    public void setupBuffer() {
+        if ("adaptive".equals(batchSizeMode)) {
+            blockingBuffer = new BlockingBuffer<>(BUFFER_SIZE, FIXED_BATCH_SIZE, 1, BUFFER_SIZE / READ_THREADS, 100,
+                    PIPELINE_NAME);
+        } else {
+            blockingBuffer = new BlockingBuffer<>(BUFFER_SIZE, FIXED_BATCH_SIZE, PIPELINE_NAME);
+        }
+        writeBatch = new ArrayList<>(WRITE_BATCH_SIZE);
+        for (int i = 0; i < WRITE_BATCH_SIZE; i++) {
+            writeBatch.add(new Record<>("record-" + i));
+        }
+    }
+
+    /**
+     * Counts the records read by each worker thread, which JMH reports as a throughput alongside the reads.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class ReadCounters {
+        public long recordsRead;
+    }
+
+    @Benchmark
+    @Group("pipeline")
+    @GroupThreads(1)
+    public void write() throws Exception {
+        try {
+            blockingBuffer.writeAll(writeBatch, WRITE_TIMEOUT);
+        } catch (final TimeoutException e) {
+            // the buffer is full until the workers catch up
+        }
+    }
+
+    @Benchmark
+    @Group("pipeline")
+    @GroupThreads(READ_THREADS)
+    public Collection<Record<String>> read(final ReadCounters readCounters) {
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(READ_TIMEOUT);
+        Blackhole.consumeCPU(BATCH_WORK_TOKENS + RECORD_WORK_TOKENS * readResult.getKey().size());
+        blockingBuffer.checkpoint(readResult.getValue());
+        readCounters.recordsRead += readResult.getKey().size();
+        return readResult.getKey();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Measures the throughput of {@link ExpressionEvaluator#evaluate(String, Event)} for each operator type. The
+ * evaluator is shared by all benchmark threads, the same way a processor shares it across pipeline workers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class ExpressionEvaluatorBenchmarks {
+
+    @Param(value = {
+            "/status_code == 200",
+            "/status_code != 200",
+            "/status_code >= 200",
+            "/latency < 1.5",
+            "/message =~ \"GET /[a-z]+/index.html .*\"",
+            "/message !~ \".*error.*\"",
+            "/status_code in {200, 201, 202, 204}",
+            "/status_code not in {500, 502, 503}",
+            "/success and /status_code == 200",
+            "not /success or /status_code >= 500",
+            "(/status_code >= 200 and /status_code < 300) and (/latency < 1.5 or /message =~ \".*cached.*\")"
+    })
+    private String statement;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private ExpressionEvaluator<Boolean> expressionEvaluator;
+    private Event event;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setupExpressionEvaluator() {
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.scan("org.opensearch.dataprepper.expression");
+        applicationContext.refresh();
+        expressionEvaluator = applicationContext.getBean(ExpressionEvaluator.class);
+
+        final Map<String, Object> data = new HashMap<>();
+        data.put("status_code", 200);
+        data.put("latency", 0.75);
+        data.put("success", true);
+        data.put("message", "GET /static/index.html HTTP/1.1 200 cached");
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeApplicationContext() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Boolean evaluate() {
+        return expressionEvaluator.evaluate(statement, event);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.grok;
+
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.plugins.prepper.grok.GrokPrepper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the throughput of the grok prepper on the batch of log lines sent by the VariousGrokPatternsSimulation
+ * performance test, four of which match the pattern and one of which does not. Grok preppers are single threaded, so
+ * each benchmark thread has its own prepper.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+public class GrokPrepperBenchmarks {
+    private static final String TIMESTAMP = "10/Oct/2000:13:55:36 -0700";
+    private static final List<String> LOGS = Arrays.asList(
+            "127.0.0.1 - Marita [" + TIMESTAMP + "] \"GET /apache_pb.gif HTTP/1.0\" 200 2326",
+            "127.0.0.1 - Rosaline [" + TIMESTAMP + "] \"PUT /apache_pb.gif HTTP/1.0\" 202 2326",
+            "127.0.0.1 - Talbot [" + TIMESTAMP + "] \"POST /apache_pb.gif HTTP/1.0\" 400 2326",
+            "127.0.0.1 - Adriene [" + TIMESTAMP + "] \"DELETE /apache_pb.gif HTTP/1.0\" 404 2326",
+            "I should fail the grok parser");
+
+    @Param(value = {"0", "30000"})
+    private int timeoutMillis;
+
+    private GrokPrepper grokPrepper;
+
+    @Setup(Level.Trial)
+    public void setupGrokPrepper() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put("match", Collections.singletonMap("log", Collections.singletonList("%{COMMONAPACHELOG}")));
+        settings.put("timeout_millis", timeoutMillis);
+        final PluginSetting pluginSetting = new PluginSetting("grok", settings);
+        pluginSetting.setPipelineName("grok-benchmarks");
+        grokPrepper = new GrokPrepper(pluginSetting);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownGrokPrepper() {
+        grokPrepper.prepareForShutdown();
+        grokPrepper.shutdown();
+    }
+
+    /**
+     * Grok adds its captures to the events, so new events are created for each invocation.
+     */
+    @Benchmark
+    public Collection<Record<Event>> execute() {
+        final List<Record<Event>> records = new ArrayList<>(LOGS.size());
+        for (final String log : LOGS) {
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Collections.singletonMap("log", log))
+                    .build()));
+        }
+        return grokPrepper.execute(records);
+    }
+}
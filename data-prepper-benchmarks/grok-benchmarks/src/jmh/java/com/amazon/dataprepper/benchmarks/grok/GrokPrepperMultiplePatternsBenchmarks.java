@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.grok;
+
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.plugins.prepper.grok.GrokPrepper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the throughput of the grok prepper when most patterns of a key fail to match, as with configurations which
+ * try many log formats in turn. The matching pattern is configured last, so every pattern before it is tried or skipped
+ * for each log line.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+public class GrokPrepperMultiplePatternsBenchmarks {
+    private static final String TIMESTAMP = "10/Oct/2000:13:55:36 -0700";
+    private static final List<String> LOGS = Arrays.asList(
+            "127.0.0.1 - Marita [" + TIMESTAMP + "] \"GET /apache_pb.gif HTTP/1.0\" 200 2326",
+            "127.0.0.1 - Rosaline [" + TIMESTAMP + "] \"PUT /apache_pb.gif HTTP/1.0\" 202 2326",
+            "127.0.0.1 - Talbot [" + TIMESTAMP + "] \"POST /apache_pb.gif HTTP/1.0\" 400 2326",
+            "127.0.0.1 - Adriene [" + TIMESTAMP + "] \"DELETE /apache_pb.gif HTTP/1.0\" 404 2326",
+            "I should fail the grok parser");
+    private static final List<String> PATTERNS = Arrays.asList(
+            "%{TIMESTAMP_ISO8601:timestamp} %{LOGLEVEL:level} \\[%{DATA:thread}\\] %{NOTSPACE:class} - %{GREEDYDATA:message}",
+            "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} sshd\\[%{POSINT:pid}\\]: Failed password for %{USERNAME:user}",
+            "%{IP:client} %{WORD:method} %{URIPATHPARAM:request} %{NUMBER:bytes} %{NUMBER:duration}ms",
+            "level=%{LOGLEVEL:level} msg=\"%{DATA:message}\" duration=%{NUMBER:duration}",
+            "%{TIMESTAMP_ISO8601:timestamp} ERROR %{GREEDYDATA:message}",
+            "<%{POSINT:priority}>%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGPROG}: %{GREEDYDATA:message}",
+            "%{HOSTNAME:host} kernel: \\[%{NUMBER:uptime}\\] %{GREEDYDATA:message}",
+            "user=%{USERNAME:user} action=%{WORD:action} status=%{NUMBER:status}",
+            "%{COMMONAPACHELOG}");
+
+    private GrokPrepper grokPrepper;
+
+    @Setup(Level.Trial)
+    public void setupGrokPrepper() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put("match", Collections.singletonMap("log", PATTERNS));
+        final PluginSetting pluginSetting = new PluginSetting("grok", settings);
+        pluginSetting.setPipelineName("grok-benchmarks");
+        grokPrepper = new GrokPrepper(pluginSetting);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownGrokPrepper() {
+        grokPrepper.prepareForShutdown();
+        grokPrepper.shutdown();
+    }
+
+    /**
+     * Grok adds its captures to the events, so new events are created for each invocation.
+     */
+    @Benchmark
+    public Collection<Record<Event>> execute() {
+        final List<Record<Event>> records = new ArrayList<>(LOGS.size());
+        for (final String log : LOGS) {
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Collections.singletonMap("log", log))
+                    .build()));
+        }
+        return grokPrepper.execute(records);
+    }
+}
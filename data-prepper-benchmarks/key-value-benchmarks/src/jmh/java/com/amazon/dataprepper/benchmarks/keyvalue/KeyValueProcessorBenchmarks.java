@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.keyvalue;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.plugins.processor.keyvalue.KeyValueProcessor;
+import com.amazon.dataprepper.plugins.processor.keyvalue.KeyValueProcessorConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the throughput of the key value processor on query strings and logfmt lines. The delimiters parameter
+ * compares split characters, which are parsed by the character tokenizer, with delimiter regexes matching the same
+ * characters, which are parsed with {@link java.util.regex.Pattern#split(CharSequence, int)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+public class KeyValueProcessorBenchmarks {
+    private static final List<String> QUERY_STRINGS = Arrays.asList(
+            "action=search&q=data+prepper&page=1&size=25&sort=desc&lang=en&session=8f14e45fceea167a",
+            "action=view&id=1234567&ref=search&utm_source=newsletter&utm_medium=email&utm_campaign=spring",
+            "action=checkout&cart=98765&items=3&total=149.97&currency=USD&coupon=&session=c9f0f895fb98ab91",
+            "action=login&user=alice&remember=true&redirect=%2Fdashboard&ts=1646370367089");
+    private static final List<String> LOGFMT_LINES = Arrays.asList(
+            "ts=2022-03-04T05:06:07.089Z level=info msg=request method=GET path=/api/v1/items status=200 duration=12ms",
+            "ts=2022-03-04T05:06:07.311Z level=warn msg=retry method=POST path=/api/v1/orders status=503 attempt=2",
+            "ts=2022-03-04T05:06:08.002Z level=info msg=request method=GET path=/health status=200 duration=1ms",
+            "ts=2022-03-04T05:06:08.415Z level=error msg=failed method=PUT path=/api/v1/items/42 status=500 error=timeout");
+
+    @Param(value = {"queryString", "logfmt"})
+    private String payload;
+
+    @Param(value = {"characters", "regex"})
+    private String delimiters;
+
+    private KeyValueProcessor keyValueProcessor;
+    private List<Record<Event>> records;
+
+    @Setup(Level.Trial)
+    public void setupKeyValueProcessor() {
+        final String fieldDelimiter = "logfmt".equals(payload) ? " " : "&";
+        final Map<String, Object> settings = new HashMap<>();
+        if ("regex".equals(delimiters)) {
+            settings.put("field_delimiter_regex", fieldDelimiter);
+            settings.put("field_split_characters", null);
+            settings.put("key_value_delimiter_regex", "=");
+            settings.put("value_split_characters", null);
+        } else {
+            settings.put("field_split_characters", fieldDelimiter);
+            settings.put("value_split_characters", "=");
+        }
+        final KeyValueProcessorConfig keyValueProcessorConfig = new ObjectMapper().convertValue(settings, KeyValueProcessorConfig.class);
+        keyValueProcessor = new KeyValueProcessor(PluginMetrics.fromNames("key_value", "key-value-benchmarks"), keyValueProcessorConfig);
+
+        final List<String> messages = "logfmt".equals(payload) ? LOGFMT_LINES : QUERY_STRINGS;
+        records = new ArrayList<>(messages.size());
+        for (final String message : messages) {
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Collections.singletonMap("message", message))
+                    .build()));
+        }
+    }
+
+    /**
+     * The processor replaces the parsed message of each event, so the same events are parsed in each invocation.
+     */
+    @Benchmark
+    public Collection<Record<Event>> execute() {
+        return keyValueProcessor.execute(records);
+    }
+}
@@ -5,6 +5,7 @@
 
 package com.amazon.dataprepper.parser;
 
+import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.SingleThread;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
@@ -43,6 +44,7 @@ public class PipelineParser {
             .enable(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY);
     private static final String PIPELINE_TYPE = "pipeline";
     private static final String ATTRIBUTE_NAME = "name";
+    private static final String ATTRIBUTE_WRITE_TIMEOUT = "write_timeout";
     private final String pipelineConfigurationFileLocation;
     private final Map<String, PipelineConnector> sourceConnectorMap = new HashMap<>(); //TODO Remove this and rely only on pipelineMap
     private final PluginFactory pluginFactory;
@@ -106,7 +108,8 @@ public class PipelineParser {
                     .map(this::buildSinkOrConnector)
                     .collect(Collectors.toList());
 
-            final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, processorSets, sinks, processorThreads, readBatchDelay);
+            final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, processorSets, sinks, processorThreads,
+                    readBatchDelay, pipelineConfiguration.getPipelineSettings());
             pipelineMap.put(pipelineName, pipeline);
         } catch (Exception ex) {
             //If pipeline construction errors out, we will skip that pipeline and proceed
@@ -173,7 +176,10 @@ public class PipelineParser {
         final Optional<String> pipelineNameOptional = getPipelineNameIfPipelineType(pluginSetting);
         if (pipelineNameOptional.isPresent()) { //update to ifPresentOrElse when using JDK9
             final String pipelineName = pipelineNameOptional.get();
-            final PipelineConnector pipelineConnector = new PipelineConnector(pipelineName);
+            final int writeTimeoutInMillis = pluginSetting.getIntegerOrDefault(ATTRIBUTE_WRITE_TIMEOUT,
+                    PipelineConnector.DEFAULT_WRITE_TIMEOUT);
+            final PipelineConnector pipelineConnector = new PipelineConnector(pipelineName, writeTimeoutInMillis,
+                    PluginMetrics.fromPluginSetting(pluginSetting));
             sourceConnectorMap.put(pipelineName, pipelineConnector); //TODO retrieve from parent Pipeline using name
             return pipelineConnector;
         } else {
@@ -7,10 +7,13 @@ package com.amazon.dataprepper.parser.config;
 
 import com.amazon.dataprepper.parser.model.DataPrepperConfiguration;
 import com.amazon.dataprepper.parser.model.MetricRegistryType;
+import com.amazon.dataprepper.pipeline.LatencyTracker;
+import com.amazon.dataprepper.pipeline.ProcessWorker;
 import com.amazon.dataprepper.pipeline.server.CloudWatchMeterRegistryProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.micrometer.cloudwatch2.CloudWatchMeterRegistry;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tag;
@@ -21,6 +24,8 @@ import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
 import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
 import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
 import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import org.slf4j.Logger;
@@ -35,6 +40,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static com.amazon.dataprepper.DataPrepper.getServiceNameForMetrics;
+import static com.amazon.dataprepper.metrics.MetricNames.DELIMITER;
 import static com.amazon.dataprepper.metrics.MetricNames.SERVICE_NAME;
 
 @Configuration
@@ -82,7 +88,53 @@ public class MetricsConfig {
                 .commonTags(Collections.singletonList(
                         Tag.of(SERVICE_NAME, getServiceNameForMetrics())
                 ));
+        meterRegistry.config()
+                .meterFilter(processWorkerHistogramFilter());
+        meterRegistry.config()
+                .meterFilter(latencyPercentilesFilter());
+    }
 
+    /**
+     * Publishes histograms of the {@link ProcessWorker} timers and batch sizes, so that their percentiles can be
+     * aggregated across workers and instances.
+     */
+    static MeterFilter processWorkerHistogramFilter() {
+        final String processWorkerNamePart = DELIMITER + ProcessWorker.PROCESS_WORKER + DELIMITER;
+        final String batchSizeNameSuffix = DELIMITER + ProcessWorker.BATCH_SIZE;
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(final Meter.Id id, final DistributionStatisticConfig config) {
+                final String name = id.getName();
+                if (name.contains(processWorkerNamePart) &&
+                        (id.getType() == Meter.Type.TIMER || name.endsWith(batchSizeNameSuffix))) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    /**
+     * Publishes the median, the 99th percentile and histograms of the latency tracked for the pipelines.
+     */
+    static MeterFilter latencyPercentilesFilter() {
+        final String latencyNamePart = DELIMITER + LatencyTracker.LATENCY + DELIMITER;
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(final Meter.Id id, final DistributionStatisticConfig config) {
+                if (id.getType() == Meter.Type.TIMER && id.getName().contains(latencyNamePart)) {
+                    return DistributionStatisticConfig.builder()
+                            .percentiles(0.5, 0.99)
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
     }
 
     @Bean
@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.parser.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import static java.lang.String.format;
+
+/**
+ * Class to hold the configuration of the latency tracking of records sampled as the source writes them to the buffer.
+ *
+ * @since 1.4
+ */
+public class LatencyTrackingConfiguration {
+    static final int DEFAULT_SAMPLE_INTERVAL = 1_000;
+
+    private static final String SAMPLE_INTERVAL_COMPONENT = "sample_interval";
+
+    private final int sampleInterval;
+
+    /**
+     * @param sampleInterval Deserialized average number of records written to the buffer for each sampled record,
+     *                       nullable
+     */
+    @JsonCreator
+    public LatencyTrackingConfiguration(@JsonProperty(SAMPLE_INTERVAL_COMPONENT) final Integer sampleInterval) {
+        if (sampleInterval != null && sampleInterval <= 0) {
+            throw new IllegalArgumentException(format("Invalid configuration, latency_tracking %s cannot be %s",
+                    SAMPLE_INTERVAL_COMPONENT, sampleInterval));
+        }
+        this.sampleInterval = sampleInterval == null ? DEFAULT_SAMPLE_INTERVAL : sampleInterval;
+    }
+
+    /**
+     * @return the average number of records written to the buffer for each record sampled for latency tracking
+     */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+}
@@ -53,8 +53,10 @@ public class PipelineConfiguration {
 
     private static final String WORKERS_COMPONENT = "workers";
     private static final String DELAY_COMPONENT = "delay";
+    private static final String PROCESSOR_CHUNK_SIZE_COMPONENT = "processor_chunk_size";
     private static final int DEFAULT_READ_BATCH_DELAY = 3_000;
     private static final int DEFAULT_WORKERS = 1;
+    private static final int DEFAULT_PROCESSOR_CHUNK_SIZE = 0;
 
     private final PluginSetting sourcePluginSetting;
     private final PluginSetting bufferPluginSetting;
@@ -62,6 +64,7 @@ public class PipelineConfiguration {
     private final List<PluginSetting> sinkPluginSettings;
     private final Integer workers;
     private final Integer readBatchDelay;
+    private final PipelineSettings pipelineSettings;
 
     public PipelineConfiguration(
             final Map.Entry<String, Map<String, Object>> source,
@@ -70,12 +73,29 @@ public class PipelineConfiguration {
             final List<Map.Entry<String, Map<String, Object>>> sinks,
             final Integer workers,
             final Integer delay) {
+        this(source, buffer, processors, sinks, workers, delay, PipelineSettings.builder().build());
+    }
+
+    /**
+     * @since 1.4
+     * @param pipelineSettings the optional settings of how the pipeline executes its processors and outputs to its
+     *                         sinks
+     */
+    public PipelineConfiguration(
+            final Map.Entry<String, Map<String, Object>> source,
+            final Map.Entry<String, Map<String, Object>> buffer,
+            final List<Map.Entry<String, Map<String, Object>>> processors,
+            final List<Map.Entry<String, Map<String, Object>>> sinks,
+            final Integer workers,
+            final Integer delay,
+            final PipelineSettings pipelineSettings) {
         this.sourcePluginSetting = getSourceFromConfiguration(source);
         this.bufferPluginSetting = getBufferFromConfigurationOrDefault(buffer);
         this.processorPluginSettings = getProcessorsFromConfiguration(processors);
         this.sinkPluginSettings = getSinksFromConfiguration(sinks);
         this.workers = getWorkersFromConfiguration(workers);
         this.readBatchDelay = getReadBatchDelayFromConfiguration(delay);
+        this.pipelineSettings = pipelineSettings;
     }
 
     /**
@@ -89,17 +109,54 @@ public class PipelineConfiguration {
      * @param workers Deserialized workers plugin configuration, nullable
      * @param delay Deserialized delay plugin configuration, nullable
      */
-    @JsonCreator
     @Deprecated
     public PipelineConfiguration(
+            final Map.Entry<String, Map<String, Object>> source,
+            final Map.Entry<String, Map<String, Object>> buffer,
+            @Deprecated final List<Map.Entry<String, Map<String, Object>>> preppers,
+            final List<Map.Entry<String, Map<String, Object>>> processors,
+            final List<Map.Entry<String, Map<String, Object>>> sinks,
+            final Integer workers,
+            final Integer delay) {
+        this(source, buffer, validateProcessor(preppers, processors), sinks, workers, delay);
+    }
+
+    /**
+     * @since 1.4
+     * Factory method for deserialized Json data.
+     * @param source Deserialized source plugin configuration
+     * @param buffer Deserialized buffer plugin configuration, nullable
+     * @param preppers Deserialized preppers plugin configuration, cannot be used in combination with the processors parameter, nullable
+     * @param processors Deserialized processors plugin configuration, cannot be used in combination with the preppers parameter, nullable
+     * @param sinks Deserialized sinks plugin configuration
+     * @param workers Deserialized workers plugin configuration, nullable
+     * @param delay Deserialized delay plugin configuration, nullable
+     * @param processorChunkSize Deserialized processor_chunk_size configuration, nullable
+     * @param sinkQueueConfiguration Deserialized sink_queue configuration, nullable
+     * @param virtualThreads Deserialized virtual_threads configuration, nullable
+     * @param latencyTrackingConfiguration Deserialized latency_tracking configuration, nullable
+     */
+    @JsonCreator
+    private static PipelineConfiguration fromJson(
             @JsonProperty("source") final Map.Entry<String, Map<String, Object>> source,
             @JsonProperty("buffer") final Map.Entry<String, Map<String, Object>> buffer,
-            @Deprecated @JsonProperty("prepper") final List<Map.Entry<String, Map<String, Object>>> preppers,
+            @JsonProperty("prepper") final List<Map.Entry<String, Map<String, Object>>> preppers,
             @JsonProperty("processor") final List<Map.Entry<String, Map<String, Object>>> processors,
             @JsonProperty("sink") final List<Map.Entry<String, Map<String, Object>>> sinks,
             @JsonProperty("workers") final Integer workers,
-            @JsonProperty("delay") final Integer delay) {
-        this(source, buffer, validateProcessor(preppers, processors), sinks, workers, delay);
+            @JsonProperty("delay") final Integer delay,
+            @JsonProperty("processor_chunk_size") final Integer processorChunkSize,
+            @JsonProperty("sink_queue") final SinkQueueConfiguration sinkQueueConfiguration,
+            @JsonProperty("virtual_threads") final Boolean virtualThreads,
+            @JsonProperty("latency_tracking") final LatencyTrackingConfiguration latencyTrackingConfiguration) {
+        final PipelineSettings pipelineSettings = PipelineSettings.builder()
+                .withProcessorChunkSize(getProcessorChunkSizeFromConfiguration(processorChunkSize))
+                .withSinkQueueConfiguration(sinkQueueConfiguration)
+                .withVirtualThreads(Boolean.TRUE.equals(virtualThreads))
+                .withLatencyTrackingConfiguration(latencyTrackingConfiguration)
+                .build();
+        return new PipelineConfiguration(source, buffer, validateProcessor(preppers, processors), sinks, workers,
+                delay, pipelineSettings);
     }
 
     public PluginSetting getSourcePluginSetting() {
@@ -126,6 +183,14 @@ public class PipelineConfiguration {
         return readBatchDelay;
     }
 
+    /**
+     * @since 1.4
+     * @return the optional settings of how the pipeline executes its processors and outputs to its sinks
+     */
+    public PipelineSettings getPipelineSettings() {
+        return pipelineSettings;
+    }
+
     public void updateCommonPipelineConfiguration(final String pipelineName) {
         updatePluginSetting(sourcePluginSetting, pipelineName);
         updatePluginSetting(bufferPluginSetting, pipelineName);
@@ -192,7 +257,12 @@ public class PipelineConfiguration {
         return configuredDelay == null ? DEFAULT_READ_BATCH_DELAY : configuredDelay;
     }
 
-    private Integer getValueFromConfiguration(final Integer configuration, final String component) {
+    private static Integer getProcessorChunkSizeFromConfiguration(final Integer processorChunkSizeConfiguration) {
+        final Integer configuredProcessorChunkSize = getValueFromConfiguration(processorChunkSizeConfiguration, PROCESSOR_CHUNK_SIZE_COMPONENT);
+        return configuredProcessorChunkSize == null ? DEFAULT_PROCESSOR_CHUNK_SIZE : configuredProcessorChunkSize;
+    }
+
+    private static Integer getValueFromConfiguration(final Integer configuration, final String component) {
         if (configuration != null && configuration <= 0) {
             throw new IllegalArgumentException(format("Invalid configuration, %s cannot be %s",
                     component, configuration));
@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.parser.model;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Class to hold the optional settings of how a pipeline executes its processors and outputs to its sinks. Instances
+ * are created with {@link #builder()}, and each setting which is not set keeps the behavior of a pipeline without it.
+ *
+ * @since 1.4
+ */
+public class PipelineSettings {
+    private final int processorChunkSize;
+    private final SinkQueueConfiguration sinkQueueConfiguration;
+    private final boolean virtualThreads;
+    private final LatencyTrackingConfiguration latencyTrackingConfiguration;
+
+    private PipelineSettings(final Builder builder) {
+        this.processorChunkSize = builder.processorChunkSize;
+        this.sinkQueueConfiguration = builder.sinkQueueConfiguration;
+        this.virtualThreads = builder.virtualThreads;
+        this.latencyTrackingConfiguration = builder.latencyTrackingConfiguration;
+    }
+
+    /**
+     * @return the maximum number of records in each chunk of a batch executed in parallel by stateless processors, or
+     * 0 if batches are only executed on the worker thread
+     */
+    public int getProcessorChunkSize() {
+        return processorChunkSize;
+    }
+
+    /**
+     * @return the configuration of the queue for each sink, or null if processed records are output to the sinks from
+     * the worker threads
+     */
+    public SinkQueueConfiguration getSinkQueueConfiguration() {
+        return sinkQueueConfiguration;
+    }
+
+    /**
+     * @return true if the sinks should be output on virtual threads when the JVM supports them
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * @return the configuration of the latency tracking of sampled records, or null if latency is not tracked
+     */
+    public LatencyTrackingConfiguration getLatencyTrackingConfiguration() {
+        return latencyTrackingConfiguration;
+    }
+
+    /**
+     * @return a new builder of {@link PipelineSettings}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A Builder for creating {@link PipelineSettings} instances.
+     */
+    public static class Builder {
+        private int processorChunkSize = 0;
+        private SinkQueueConfiguration sinkQueueConfiguration;
+        private boolean virtualThreads = false;
+        private LatencyTrackingConfiguration latencyTrackingConfiguration;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of records in each chunk of a batch executed in parallel by stateless processors.
+         * The default of 0 executes batches on the worker thread only.
+         * @param processorChunkSize the maximum number of records in each chunk, or 0
+         */
+        public Builder withProcessorChunkSize(final int processorChunkSize) {
+            checkArgument(processorChunkSize >= 0, "processor_chunk_size cannot be negative");
+            this.processorChunkSize = processorChunkSize;
+            return this;
+        }
+
+        /**
+         * Sets the configuration of the queue for each sink. The processed records are output to the sinks from the
+         * worker threads by default.
+         * @param sinkQueueConfiguration the configuration of the queue for each sink, nullable
+         */
+        public Builder withSinkQueueConfiguration(final SinkQueueConfiguration sinkQueueConfiguration) {
+            this.sinkQueueConfiguration = sinkQueueConfiguration;
+            return this;
+        }
+
+        /**
+         * Sets whether the sinks are output on virtual threads when the JVM supports them. Platform threads are used
+         * by default.
+         * @param virtualThreads true to output to the sinks on virtual threads
+         */
+        public Builder withVirtualThreads(final boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Sets the configuration of the latency tracking of sampled records. Latency is not tracked by default.
+         * @param latencyTrackingConfiguration the configuration of the latency tracking, nullable
+         */
+        public Builder withLatencyTrackingConfiguration(final LatencyTrackingConfiguration latencyTrackingConfiguration) {
+            this.latencyTrackingConfiguration = latencyTrackingConfiguration;
+            return this;
+        }
+
+        /**
+         * @return a new {@link PipelineSettings} with the settings of this builder
+         */
+        public PipelineSettings build() {
+            return new PipelineSettings(this);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.parser.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import static java.lang.String.format;
+
+/**
+ * Class to hold the configuration of the queues between the process workers of a pipeline and each of its sinks.
+ *
+ * @since 1.4
+ */
+public class SinkQueueConfiguration {
+    static final int DEFAULT_MAX_BATCHES = 16;
+    static final int DEFAULT_MAX_RECORDS = 1_000;
+    static final int DEFAULT_LINGER = 0;
+
+    private static final String MAX_BATCHES_COMPONENT = "max_batches";
+    private static final String MAX_RECORDS_COMPONENT = "max_records";
+    private static final String LINGER_COMPONENT = "linger";
+
+    private final int maxBatches;
+    private final int maxRecords;
+    private final int lingerInMillis;
+
+    /**
+     * @param maxBatches Deserialized maximum number of batches queued for each sink, nullable
+     * @param maxRecords Deserialized maximum number of records output to a sink at once, nullable
+     * @param linger Deserialized time in milliseconds to wait for more batches before output to a sink, nullable
+     */
+    @JsonCreator
+    public SinkQueueConfiguration(
+            @JsonProperty(MAX_BATCHES_COMPONENT) final Integer maxBatches,
+            @JsonProperty(MAX_RECORDS_COMPONENT) final Integer maxRecords,
+            @JsonProperty(LINGER_COMPONENT) final Integer linger) {
+        this.maxBatches = getPositiveValueOrDefault(maxBatches, MAX_BATCHES_COMPONENT, DEFAULT_MAX_BATCHES);
+        this.maxRecords = getPositiveValueOrDefault(maxRecords, MAX_RECORDS_COMPONENT, DEFAULT_MAX_RECORDS);
+        if (linger != null && linger < 0) {
+            throw new IllegalArgumentException(format("Invalid configuration, sink_queue %s cannot be %s",
+                    LINGER_COMPONENT, linger));
+        }
+        this.lingerInMillis = linger == null ? DEFAULT_LINGER : linger;
+    }
+
+    /**
+     * @return the maximum number of batches queued for each sink before process workers block
+     */
+    public int getMaxBatches() {
+        return maxBatches;
+    }
+
+    /**
+     * @return the maximum number of records from queued batches which are output to a sink at once
+     */
+    public int getMaxRecords() {
+        return maxRecords;
+    }
+
+    /**
+     * @return the time in milliseconds to wait for more batches to output to a sink along with the first queued batch
+     */
+    public int getLingerInMillis() {
+        return lingerInMillis;
+    }
+
+    private static int getPositiveValueOrDefault(final Integer value, final String component, final int defaultValue) {
+        if (value != null && value <= 0) {
+            throw new IllegalArgumentException(format("Invalid configuration, sink_queue %s cannot be %s",
+                    component, value));
+        }
+        return value == null ? defaultValue : value;
+    }
+}
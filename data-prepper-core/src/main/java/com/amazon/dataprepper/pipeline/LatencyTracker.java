@@ -0,0 +1,275 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.record.Record;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the latency of records sampled as the source writes them to the buffer of a pipeline, at each stage boundary:
+ * the buffer write, the buffer read, the completion of each processor and the acknowledgement by the sinks.
+ * <p>
+ * The time a sampled record is written to the buffer is kept until a {@link ProcessWorker} reads it. Samples are
+ * matched by record identity, so the records of a buffer which copies them, such as a persistent buffer, are never
+ * read back; such samples are evicted once they are older than the max sample age. The later stage
+ * boundaries are the same for all of the records in a batch, so they are timed per batch with a {@link Sample}. The
+ * time the source received a record, from the metadata of an {@link Event}, is the start of the source stage and of the
+ * end to end latency, so records of connected pipelines are measured from the source of the first pipeline.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class LatencyTracker {
+    public static final String LATENCY = "latency";
+    static final String SOURCE = "source";
+    static final String BUFFER = "buffer";
+    static final String PROCESSOR = "processor";
+    static final String SINK = "sink";
+    static final String END_TO_END = "endToEnd";
+    static final String PROCESSOR_NAME = "processor";
+    static final String PROCESSOR_INDEX = "processorIndex";
+    static final int MAX_PENDING_SAMPLES = 10_000;
+    static final long MAX_SAMPLE_AGE_IN_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final int sampleInterval;
+    private final long maxSampleAgeInNanos;
+    private final AtomicLong nextEvictionTime;
+    private final ConcurrentMap<Record, WriteTime> pendingSamples = new ConcurrentHashMap<>();
+    private final Timer sourceTimer;
+    private final Timer bufferTimer;
+    private final Timer[] processorTimers;
+    private final Timer sinkTimer;
+    private final Timer endToEndTimer;
+
+    /**
+     * @param pipelineName   name of the pipeline
+     * @param processorNames names of the processors of the pipeline, in order
+     * @param sampleInterval average number of records written to the buffer for each sampled record
+     */
+    LatencyTracker(final String pipelineName, final List<String> processorNames, final int sampleInterval) {
+        this(pipelineName, processorNames, sampleInterval, MAX_SAMPLE_AGE_IN_NANOS);
+    }
+
+    /**
+     * @param maxSampleAgeInNanos time after which a sampled record which was not read from the buffer is discarded
+     */
+    LatencyTracker(final String pipelineName, final List<String> processorNames, final int sampleInterval,
+                   final long maxSampleAgeInNanos) {
+        this.sampleInterval = sampleInterval;
+        this.maxSampleAgeInNanos = maxSampleAgeInNanos;
+        this.nextEvictionTime = new AtomicLong(System.nanoTime() + maxSampleAgeInNanos / 2);
+        final PluginMetrics pluginMetrics = PluginMetrics.fromNames(LATENCY, pipelineName);
+        this.sourceTimer = pluginMetrics.timer(SOURCE);
+        this.bufferTimer = pluginMetrics.timer(BUFFER);
+        this.sinkTimer = pluginMetrics.timer(SINK);
+        this.endToEndTimer = pluginMetrics.timer(END_TO_END);
+        this.processorTimers = new Timer[processorNames.size()];
+        for (int i = 0; i < processorNames.size(); i++) {
+            processorTimers[i] = pluginMetrics.timerWithTags(PROCESSOR,
+                    PROCESSOR_NAME, processorNames.get(i), PROCESSOR_INDEX, Integer.toString(i));
+        }
+    }
+
+    /**
+     * @param buffer the buffer of the pipeline
+     * @return a buffer for the source which samples the records written to the given buffer
+     */
+    <T extends Record<?>> Buffer<T> trackWrites(final Buffer<T> buffer) {
+        return new SamplingBuffer<>(buffer);
+    }
+
+    /**
+     * Starts timing the stages after the buffer for the sampled records in a batch read from the buffer.
+     *
+     * @param records the records read from the buffer
+     * @return the sample of the batch, or null if the batch has no sampled records
+     */
+    Sample onRead(final Collection records) {
+        if (pendingSamples.isEmpty() || records.isEmpty()) {
+            return null;
+        }
+        final long readTime = System.nanoTime();
+        List<WriteTime> writeTimes = null;
+        for (final Object record : records) {
+            final WriteTime writeTime = pendingSamples.remove(record);
+            if (writeTime != null) {
+                bufferTimer.record(readTime - writeTime.nanoTime, TimeUnit.NANOSECONDS);
+                if (writeTimes == null) {
+                    writeTimes = new ArrayList<>();
+                }
+                writeTimes.add(writeTime);
+            }
+        }
+        return writeTimes == null ? null : new Sample(writeTimes, readTime);
+    }
+
+    /**
+     * @return the number of sampled records written to the buffer which were not read yet
+     */
+    int getPendingSamples() {
+        return pendingSamples.size();
+    }
+
+    private void sample(final Record record) {
+        if (ThreadLocalRandom.current().nextInt(sampleInterval) != 0) {
+            return;
+        }
+        final long writeTime = System.nanoTime();
+        evictExpiredSamples(writeTime);
+        if (pendingSamples.size() >= MAX_PENDING_SAMPLES) {
+            return;
+        }
+        long timeReceivedInMillis = -1;
+        if (record.getData() instanceof Event) {
+            final Instant timeReceived = ((Event) record.getData()).getMetadata().getTimeReceived();
+            if (timeReceived != null) {
+                timeReceivedInMillis = timeReceived.toEpochMilli();
+                sourceTimer.record(Math.max(0, System.currentTimeMillis() - timeReceivedInMillis), TimeUnit.MILLISECONDS);
+            }
+        }
+        pendingSamples.put(record, new WriteTime(writeTime, timeReceivedInMillis));
+    }
+
+    private void unsample(final Record record) {
+        pendingSamples.remove(record);
+    }
+
+    /**
+     * Discards the samples older than the max sample age. The samples are scanned by one thread at a time, at most
+     * twice per max sample age.
+     */
+    private void evictExpiredSamples(final long now) {
+        final long evictionTime = nextEvictionTime.get();
+        if (now - evictionTime < 0 || !nextEvictionTime.compareAndSet(evictionTime, now + maxSampleAgeInNanos / 2)) {
+            return;
+        }
+        pendingSamples.values().removeIf(writeTime -> now - writeTime.nanoTime > maxSampleAgeInNanos);
+    }
+
+    /**
+     * The times a sampled record was written to the buffer and received by the source.
+     */
+    private static class WriteTime {
+        private final long nanoTime;
+        private final long timeReceivedInMillis;
+
+        private WriteTime(final long nanoTime, final long timeReceivedInMillis) {
+            this.nanoTime = nanoTime;
+            this.timeReceivedInMillis = timeReceivedInMillis;
+        }
+    }
+
+    /**
+     * Times the stages of the sampled records of a batch after the buffer. A sample is used by one thread at a time.
+     */
+    class Sample {
+        private final List<WriteTime> writeTimes;
+        private long stageStartTime;
+
+        private Sample(final List<WriteTime> writeTimes, final long readTime) {
+            this.writeTimes = writeTimes;
+            this.stageStartTime = readTime;
+        }
+
+        /**
+         * Records the time since the previous stage boundary as the latency of a processor.
+         *
+         * @param processorIndex the index of the processor which completed
+         */
+        void processorCompleted(final int processorIndex) {
+            final long now = System.nanoTime();
+            recordForEachSample(processorTimers[processorIndex], now - stageStartTime);
+            stageStartTime = now;
+        }
+
+        /**
+         * Records the time since the last processor as the latency of the sinks, and the end to end latency.
+         */
+        void sinksCompleted() {
+            final long now = System.nanoTime();
+            final long nowInMillis = System.currentTimeMillis();
+            recordForEachSample(sinkTimer, now - stageStartTime);
+            for (final WriteTime writeTime : writeTimes) {
+                if (writeTime.timeReceivedInMillis >= 0) {
+                    endToEndTimer.record(Math.max(0, nowInMillis - writeTime.timeReceivedInMillis), TimeUnit.MILLISECONDS);
+                } else {
+                    endToEndTimer.record(now - writeTime.nanoTime, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+        private void recordForEachSample(final Timer timer, final long nanos) {
+            for (int i = 0; i < writeTimes.size(); i++) {
+                timer.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Samples the records written to a buffer. A record is sampled before it is written, so that a worker reading it
+     * finds the sample, and the sample is discarded if the write fails.
+     */
+    private class SamplingBuffer<T extends Record<?>> implements Buffer<T> {
+        private final Buffer<T> buffer;
+
+        private SamplingBuffer(final Buffer<T> buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(final T record, final int timeoutInMillis) throws TimeoutException {
+            sample(record);
+            try {
+                buffer.write(record, timeoutInMillis);
+            } catch (final RuntimeException | TimeoutException e) {
+                unsample(record);
+                throw e;
+            }
+        }
+
+        @Override
+        public void writeAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+            for (final T record : records) {
+                sample(record);
+            }
+            try {
+                buffer.writeAll(records, timeoutInMillis);
+            } catch (final Exception e) {
+                records.forEach(LatencyTracker.this::unsample);
+                throw e;
+            }
+        }
+
+        @Override
+        public Map.Entry<Collection<T>, CheckpointState> read(final int timeoutInMillis) {
+            return buffer.read(timeoutInMillis);
+        }
+
+        @Override
+        public void checkpoint(final CheckpointState checkpointState) {
+            buffer.checkpoint(checkpointState);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return buffer.isEmpty();
+        }
+    }
+}
@@ -5,13 +5,18 @@
 
 package com.amazon.dataprepper.pipeline;
 
+import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.sink.Sink;
 import com.amazon.dataprepper.model.source.Source;
+import com.amazon.dataprepper.parser.model.LatencyTrackingConfiguration;
+import com.amazon.dataprepper.parser.model.PipelineSettings;
+import com.amazon.dataprepper.parser.model.SinkQueueConfiguration;
 import com.amazon.dataprepper.pipeline.common.PipelineThreadFactory;
 import com.amazon.dataprepper.pipeline.common.PipelineThreadPoolExecutor;
+import com.amazon.dataprepper.pipeline.common.VirtualThreads;
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,11 +24,16 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -36,6 +46,10 @@ import static java.lang.String.format;
 public class Pipeline {
     private static final Logger LOG = LoggerFactory.getLogger(Pipeline.class);
     private static final int PROCESSOR_DEFAULT_TERMINATION_IN_MILLISECONDS = 10_000;
+    static final String SINK_WORKERS = "sinkWorkers";
+    static final String ACTIVE_THREADS = "activeThreads";
+    static final String THREADS = "threads";
+    static final String PLATFORM_THREADS = "platformThreads";
     private volatile boolean stopRequested;
 
     private final String name;
@@ -45,8 +59,15 @@ public class Pipeline {
     private final List<Sink> sinks;
     private final int processorThreads;
     private final int readBatchTimeoutInMillis;
+    private final int processorChunkSize;
     private final ExecutorService processorExecutorService;
+    private final ForkJoinPool processorChunkPool;
     private final ExecutorService sinkExecutorService;
+    private final List<SinkQueue> sinkQueues;
+    private final ExecutorService sinkQueueExecutorService;
+    private final boolean virtualThreadsEnabled;
+    private final List<ThreadPoolExecutor> sinkExecutors;
+    private final LatencyTracker latencyTracker;
 
     /**
      * Constructs a {@link Pipeline} object with provided {@link Source}, {@link #name}, {@link Collection} of
@@ -72,6 +93,52 @@ public class Pipeline {
             @Nonnull final List<Sink> sinks,
             final int processorThreads,
             final int readBatchTimeoutInMillis) {
+        this(name, source, buffer, processorSets, sinks, processorThreads, readBatchTimeoutInMillis,
+                PipelineSettings.builder().build());
+    }
+
+    /**
+     * Constructs a {@link Pipeline} with the optional {@link PipelineSettings} of how it executes its processors and
+     * outputs to its sinks.
+     * <ul>
+     *     <li>A processor chunk size splits each larger batch into chunks. The chunks are executed in parallel by
+     *     consecutive {@link com.amazon.dataprepper.model.annotations.Stateless} processors on a {@link ForkJoinPool}
+     *     shared by the {@link ProcessWorker}s of the pipeline, and are reassembled in order before the next processor
+     *     or the sinks.</li>
+     *     <li>A sink queue configuration queues the processed records for each sink instead of waiting for all of the
+     *     sinks to output them. Each sink drains its own bounded queue on a dedicated thread, and the records read from
+     *     the {@link Buffer} are checkpointed once every sink has output them.</li>
+     *     <li>Virtual threads output to the sinks on a new virtual thread for each batch instead of on a fixed pool of
+     *     processorThreads threads, if the JVM supports them. The {@link ProcessWorker}s remain on platform threads
+     *     since processors are bound by CPU.</li>
+     *     <li>A latency tracking configuration samples the records the source writes to the {@link Buffer} and tracks
+     *     their latency through the buffer, each {@link Processor} and the {@link Sink}s.</li>
+     * </ul>
+     *
+     * @param name                     name of the pipeline
+     * @param source                   source from where the pipeline reads the records
+     * @param buffer                   buffer for the source to queue records
+     * @param processorSets            processor sets that will be applied to records
+     * @param sinks                    sink to which the transformed records are posted
+     * @param processorThreads         configured or default threads to parallelize processor work
+     * @param readBatchTimeoutInMillis configured or default timeout for reading batch of records from buffer
+     * @param pipelineSettings         optional settings of the pipeline
+     * @since 1.4
+     */
+    public Pipeline(
+            @Nonnull final String name,
+            @Nonnull final Source source,
+            @Nonnull final Buffer buffer,
+            @Nonnull final List<List<Processor>> processorSets,
+            @Nonnull final List<Sink> sinks,
+            final int processorThreads,
+            final int readBatchTimeoutInMillis,
+            @Nonnull final PipelineSettings pipelineSettings) {
+        final int processorChunkSize = pipelineSettings.getProcessorChunkSize();
+        final SinkQueueConfiguration sinkQueueConfiguration = pipelineSettings.getSinkQueueConfiguration();
+        final boolean virtualThreads = pipelineSettings.isVirtualThreads();
+        final LatencyTrackingConfiguration latencyTrackingConfiguration =
+                pipelineSettings.getLatencyTrackingConfiguration();
         Preconditions.checkArgument(processorSets.stream().allMatch(
                 processorSet -> Objects.nonNull(processorSet) && (processorSet.size() == 1 || processorSet.size() == processorThreads)));
         this.name = name;
@@ -81,16 +148,66 @@ public class Pipeline {
         this.sinks = sinks;
         this.processorThreads = processorThreads;
         this.readBatchTimeoutInMillis = readBatchTimeoutInMillis;
+        this.processorChunkSize = processorChunkSize;
         this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
                 new PipelineThreadFactory(format("%s-processor-worker", name)), this);
 
+        if (virtualThreads && !VirtualThreads.isSupported()) {
+            LOG.warn("Pipeline [{}] - Virtual threads are not supported by this JVM, using platform threads for sinks",
+                    name);
+        }
+        this.virtualThreadsEnabled = virtualThreads && VirtualThreads.isSupported();
+        this.sinkExecutors = new ArrayList<>();
+
         // TODO: allow this to be configurable as well?
-        this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
-                new PipelineThreadFactory(format("%s-sink-worker", name)), this);
+        this.sinkExecutorService = newSinkExecutor(format("%s-sink-worker", name), processorThreads);
+
+        this.processorChunkPool = processorChunkSize > 0 ?
+                new ForkJoinPool(Runtime.getRuntime().availableProcessors(), this::newProcessorChunkThread, null, false) :
+                null;
+
+        if (sinkQueueConfiguration != null) {
+            this.sinkQueues = sinks.stream()
+                    .map(sink -> new SinkQueue(name, sink, sinkQueueConfiguration.getMaxBatches(),
+                            sinkQueueConfiguration.getMaxRecords(), sinkQueueConfiguration.getLingerInMillis()))
+                    .collect(Collectors.toList());
+            this.sinkQueueExecutorService = newSinkExecutor(format("%s-sink-queue-worker", name), sinks.size());
+        } else {
+            this.sinkQueues = Collections.emptyList();
+            this.sinkQueueExecutorService = null;
+        }
+
+        this.latencyTracker = latencyTrackingConfiguration != null ?
+                new LatencyTracker(name, processorSets.stream()
+                        .map(processorSet -> processorSet.get(0).getClass().getSimpleName())
+                        .collect(Collectors.toList()), latencyTrackingConfiguration.getSampleInterval()) :
+                null;
+
+        final PluginMetrics sinkWorkerMetrics = PluginMetrics.fromNames(SINK_WORKERS, name);
+        sinkWorkerMetrics.gauge(ACTIVE_THREADS, sinkExecutors,
+                executors -> executors.stream().mapToInt(ThreadPoolExecutor::getActiveCount).sum());
+        sinkWorkerMetrics.gauge(THREADS, sinkExecutors,
+                executors -> executors.stream().mapToInt(ThreadPoolExecutor::getPoolSize).sum());
+        sinkWorkerMetrics.gauge(PLATFORM_THREADS, this, Pipeline::getSinkPlatformThreads);
 
         stopRequested = false;
     }
 
+    private ThreadPoolExecutor newSinkExecutor(final String threadNamePrefix, final int threads) {
+        final ThreadPoolExecutor executor = virtualThreadsEnabled ?
+                PipelineThreadPoolExecutor.newThreadPerTaskExecutor(VirtualThreads.newThreadFactory(threadNamePrefix), this) :
+                PipelineThreadPoolExecutor.newFixedThreadPool(threads, new PipelineThreadFactory(threadNamePrefix), this);
+        sinkExecutors.add(executor);
+        return executor;
+    }
+
+    /**
+     * @return the number of platform threads held by the sink executors, which is 0 if sinks run on virtual threads
+     */
+    private int getSinkPlatformThreads() {
+        return virtualThreadsEnabled ? 0 : sinkExecutors.stream().mapToInt(ThreadPoolExecutor::getPoolSize).sum();
+    }
+
     /**
      * @return Unique name of this pipeline.
      */
@@ -134,6 +251,42 @@ public class Pipeline {
         return readBatchTimeoutInMillis;
     }
 
+    /**
+     * @return the maximum number of records in each chunk executed in parallel by stateless processors, or 0 if
+     * batches are only executed on the {@link ProcessWorker} thread
+     */
+    int getProcessorChunkSize() {
+        return processorChunkSize;
+    }
+
+    /**
+     * @return the pool executing chunks of batches, or null if the processor chunk size is 0
+     */
+    ForkJoinPool getProcessorChunkPool() {
+        return processorChunkPool;
+    }
+
+    /**
+     * @return the tracker of the latency of records sampled from the source, or null if latency is not tracked
+     */
+    LatencyTracker getLatencyTracker() {
+        return latencyTracker;
+    }
+
+    /**
+     * @return true if the sinks are output on virtual threads
+     */
+    boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * @return true if processed records are queued for each sink with {@link #queueToSinks(Collection, Runnable)}
+     */
+    boolean isSinkQueueEnabled() {
+        return sinkQueueExecutorService != null;
+    }
+
     /**
      * Executes the current pipeline i.e. reads the data from {@link Source}, executes optional {@link Processor} on the
      * read data and outputs to {@link Sink}.
@@ -141,8 +294,9 @@ public class Pipeline {
     public void execute() {
         LOG.info("Pipeline [{}] - Initiating pipeline execution", name);
         try {
-            source.start(buffer);
+            source.start(latencyTracker != null ? latencyTracker.trackWrites(buffer) : buffer);
             LOG.info("Pipeline [{}] - Submitting request to initiate the pipeline processing", name);
+            sinkQueues.forEach(sinkQueueExecutorService::submit);
             for (int i = 0; i < processorThreads; i++) {
                 final int finalI = i;
                 final List<Processor> processors = processorSets.stream().map(
@@ -175,8 +329,9 @@ public class Pipeline {
      * 2. Notifying processors to prepare for shutdown (e.g. flushing batched items)
      * 3. Waiting for ProcessWorkers to exit their run loop (only after buffer/processors are empty)
      * 4. Stopping the ProcessWorkers if they are unable to exit gracefully
-     * 5. Shutting down processors and sinks
-     * 6. Stopping the sink ExecutorService
+     * 5. Waiting for the sink queues, if any, to output the records already queued
+     * 6. Shutting down processors and sinks
+     * 7. Stopping the sink ExecutorService
      *
      * @param processorTimeout the maximum time to wait after initiating shutdown to forcefully shutdown process worker
      */
@@ -193,6 +348,13 @@ public class Pipeline {
         }
 
         shutdownExecutorService(processorExecutorService, processorTimeout);
+        if (processorChunkPool != null) {
+            shutdownExecutorService(processorChunkPool, processorTimeout);
+        }
+        if (sinkQueueExecutorService != null) {
+            sinkQueues.forEach(SinkQueue::stop);
+            shutdownExecutorService(sinkQueueExecutorService, processorTimeout);
+        }
 
         processorSets.forEach(processorSet -> processorSet.forEach(Processor::shutdown));
         sinks.forEach(Sink::shutdown);
@@ -200,6 +362,12 @@ public class Pipeline {
         shutdownExecutorService(sinkExecutorService, processorTimeout);
     }
 
+    private ForkJoinWorkerThread newProcessorChunkThread(final ForkJoinPool pool) {
+        final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName(format("%s-processor-chunk-worker-%d", name, thread.getPoolIndex()));
+        return thread;
+    }
+
     private void shutdownExecutorService(final ExecutorService executorService, int timeoutForTerminationInMillis) {
         LOG.info("Pipeline [{}] - Shutting down process workers", name);
 
@@ -232,4 +400,40 @@ public class Pipeline {
         }
         return sinkFutures;
     }
+
+    /**
+     * Submits the provided collection of records to output to the sinks at the given indexes, such as the sinks which
+     * timed out outputting them before.
+     *
+     * @param records     records that needs to published to the sinks
+     * @param sinkIndexes indexes of the sinks in {@link #getSinks()}
+     * @return List of Future, each future for each of the given sinks
+     */
+    List<Future<Void>> publishToSinks(final Collection<Record> records, final List<Integer> sinkIndexes) {
+        final List<Future<Void>> sinkFutures = new ArrayList<>(sinkIndexes.size());
+        for (final int sinkIndex : sinkIndexes) {
+            final Sink sink = sinks.get(sinkIndex);
+            sinkFutures.add(sinkExecutorService.submit(() -> sink.output(records), null));
+        }
+        return sinkFutures;
+    }
+
+    /**
+     * Queues the provided collection of records to output to each sink, waiting while the queue of any sink is full.
+     *
+     * @param records         records that needs to published to each sink
+     * @param acknowledgement invoked once every sink has output the records
+     * @throws InterruptedException if interrupted while waiting for a sink queue
+     */
+    void queueToSinks(final Collection<Record> records, final Runnable acknowledgement) throws InterruptedException {
+        final AtomicInteger remainingSinks = new AtomicInteger(sinkQueues.size());
+        final Runnable sinkAcknowledgement = () -> {
+            if (remainingSinks.decrementAndGet() == 0) {
+                acknowledgement.run();
+            }
+        };
+        for (final SinkQueue sinkQueue : sinkQueues) {
+            sinkQueue.put(records, sinkAcknowledgement);
+        }
+    }
 }
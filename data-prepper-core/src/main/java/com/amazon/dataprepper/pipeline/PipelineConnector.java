@@ -5,14 +5,28 @@
 
 package com.amazon.dataprepper.pipeline;
 
+import com.amazon.dataprepper.metrics.MetricNames;
+import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.event.CopyOnWriteEvent;
+import com.amazon.dataprepper.model.event.Event;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.sink.Sink;
 import com.amazon.dataprepper.model.source.Source;
+import com.amazon.dataprepper.model.trace.DefaultSpan;
+import com.amazon.dataprepper.model.trace.JacksonSpan;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -20,28 +34,64 @@ import static java.lang.String.format;
 
 /**
  * PipelineConnector is a special type of Plugin which connects two pipelines acting both as Sink and Source.
+ * <p>
+ * Records are written to the connected buffer with {@link Buffer#writeAll(Collection, int)}. When the buffer rejects
+ * a chunk with {@link SizeOverflowException}, the chunk size is halved and kept for later writes, so chunks stay
+ * bounded by the capacity of the buffer. A write which times out is counted and fails {@link #output(Collection)} with
+ * a {@link TimeoutException} as the cause, see {@link #isWriteTimeout(Throwable)}, so the writing pipeline does not
+ * checkpoint records which did not reach the connected pipeline and can output them again. Chunks written before the
+ * timeout are written again along with the rest of the records.
+ * <p>
+ * Events supported by {@link CopyOnWriteEvent} are written as copy-on-write events, so the pipelines a batch is fanned
+ * out to share the event data until they modify it, rather than modifying the same event. {@link DefaultSpan} and
+ * {@link JacksonSpan} spans are copied for each connected pipeline instead, since they cannot be shared that way.
  *
  * @param <T>
  */
 public final class PipelineConnector<T extends Record<?>> implements Source<T>, Sink<T> {
     private static final Logger LOG = LoggerFactory.getLogger(PipelineConnector.class);
-    private static final int DEFAULT_WRITE_TIMEOUT = Integer.MAX_VALUE;
+    public static final int DEFAULT_WRITE_TIMEOUT = 1_000;
+    static final String PIPELINE_CONNECTOR_NAME = "pipeline";
+    static final String BLOCKED_TIME_ELAPSED = "blockedTimeElapsed";
+    static final String DOWNSTREAM_PIPELINE = "downstreamPipeline";
     private String sourcePipelineName; //name of the pipeline for which this connector acts as source
     private String sinkPipelineName; //name of the pipeline for which this connector acts as sink
     private Buffer<T> buffer;
     private AtomicBoolean isStopRequested;
+    private final int writeTimeoutInMillis;
+    private final PluginMetrics pluginMetrics;
+    private Timer blockedTimer;
+    private Counter writeTimeoutsCounter;
+    private volatile int maxChunkSize = Integer.MAX_VALUE;
 
     public PipelineConnector() {
-        isStopRequested = new AtomicBoolean(false);
+        this(null);
     }
 
     public PipelineConnector(final String sinkPipelineName) {
-        this();
+        this(sinkPipelineName, DEFAULT_WRITE_TIMEOUT,
+                PluginMetrics.fromNames(PIPELINE_CONNECTOR_NAME, String.valueOf(sinkPipelineName)));
+    }
+
+    /**
+     * @param sinkPipelineName     the name of the pipeline this connector writes to
+     * @param writeTimeoutInMillis how long a write waits for room in the connected buffer before it fails
+     * @param pluginMetrics        the metrics of the pipeline this connector is a sink of
+     */
+    public PipelineConnector(final String sinkPipelineName, final int writeTimeoutInMillis,
+                             final PluginMetrics pluginMetrics) {
+        Preconditions.checkArgument(writeTimeoutInMillis > 0, "The write timeout must be positive");
+        isStopRequested = new AtomicBoolean(false);
         this.sinkPipelineName = sinkPipelineName;
+        this.writeTimeoutInMillis = writeTimeoutInMillis;
+        this.pluginMetrics = pluginMetrics;
     }
 
     @Override
     public void start(final Buffer<T> buffer) {
+        final String downstreamPipeline = String.valueOf(sinkPipelineName);
+        blockedTimer = pluginMetrics.timerWithTags(BLOCKED_TIME_ELAPSED, DOWNSTREAM_PIPELINE, downstreamPipeline);
+        writeTimeoutsCounter = pluginMetrics.counterWithTags(MetricNames.WRITE_TIMEOUTS, DOWNSTREAM_PIPELINE, downstreamPipeline);
         this.buffer = buffer;
     }
 
@@ -53,17 +103,17 @@ public final class PipelineConnector<T extends Record<?>> implements Source<T>,
     @Override
     public void output(final Collection<T> records) {
         if (buffer != null && !isStopRequested.get()) {
-            for (T record : records) {
-                while (true) {
-                    try {
-                        buffer.write(record, DEFAULT_WRITE_TIMEOUT);
-                        break;
-                    } catch (TimeoutException ex) {
-                        LOG.error("PipelineConnector [{}-{}]: Timed out writing to pipeline [{}]",
-                                sinkPipelineName, sourcePipelineName, sourcePipelineName, ex);
-                    }
+            final List<T> recordList = shareEvents(records);
+            int offset = 0;
+            while (offset < recordList.size()) {
+                final int chunkSize = Math.min(maxChunkSize, recordList.size() - offset);
+                if (writeChunk(recordList.subList(offset, offset + chunkSize))) {
+                    offset += chunkSize;
+                } else {
+                    maxChunkSize = Math.max(1, chunkSize / 2);
+                    LOG.warn("PipelineConnector [{}-{}]: {} records exceed the capacity of pipeline [{}], writing at most {} records at a time",
+                            sinkPipelineName, sourcePipelineName, chunkSize, sinkPipelineName, maxChunkSize);
                 }
-
             }
         } else {
             LOG.error("PipelineConnector [{}-{}]: Pipeline [{}] is currently not initialized or has been halted",
@@ -73,6 +123,62 @@ public final class PipelineConnector<T extends Record<?>> implements Source<T>,
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private List<T> shareEvents(final Collection<T> records) {
+        final List<T> sharedRecords = new ArrayList<>(records.size());
+        for (final T record : records) {
+            final Object data = record.getData();
+            if (data instanceof Event && CopyOnWriteEvent.isSupported((Event) data)) {
+                sharedRecords.add((T) new Record<>(CopyOnWriteEvent.fromEvent((Event) data), record.getMetadata()));
+            } else if (data != null && data.getClass() == DefaultSpan.class) {
+                sharedRecords.add((T) new Record<>(((DefaultSpan) data).copy(), record.getMetadata()));
+            } else if (data != null && data.getClass() == JacksonSpan.class) {
+                sharedRecords.add((T) new Record<>(((JacksonSpan) data).copy(), record.getMetadata()));
+            } else {
+                sharedRecords.add(record);
+            }
+        }
+        return sharedRecords;
+    }
+
+    /**
+     * Writes the chunk to the buffer.
+     *
+     * @return false if the chunk exceeds the capacity of the buffer
+     */
+    private boolean writeChunk(final List<T> chunk) {
+        final long startNanos = System.nanoTime();
+        try {
+            if (chunk.size() == 1) {
+                buffer.write(chunk.get(0), writeTimeoutInMillis);
+            } else {
+                buffer.writeAll(chunk, writeTimeoutInMillis);
+            }
+            return true;
+        } catch (final SizeOverflowException ex) {
+            return false;
+        } catch (final TimeoutException ex) {
+            writeTimeoutsCounter.increment();
+            throw new RuntimeException(format("PipelineConnector [%s-%s]: Timed out writing %d records to pipeline [%s]",
+                    sinkPipelineName, sourcePipelineName, chunk.size(), sinkPipelineName), ex);
+        } catch (final RuntimeException ex) {
+            throw ex;
+        } catch (final Exception ex) {
+            throw new RuntimeException(format("PipelineConnector [%s-%s]: Failed writing %d records to pipeline [%s]",
+                    sinkPipelineName, sourcePipelineName, chunk.size(), sinkPipelineName), ex);
+        } finally {
+            blockedTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @return true if the failure was caused by a sink timing out, such as a connector timing out writing to its
+     * connected pipeline, in which case the records can be output again once the sink has room for them
+     */
+    static boolean isWriteTimeout(final Throwable throwable) {
+        return Throwables.getCausalChain(throwable).stream().anyMatch(TimeoutException.class::isInstance);
+    }
+
     @Override
     public void shutdown() {
         //TODO: Cleanup resources
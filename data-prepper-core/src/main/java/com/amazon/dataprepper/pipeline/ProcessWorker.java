@@ -5,29 +5,59 @@
 
 package com.amazon.dataprepper.pipeline;
 
+import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.annotations.SingleThread;
+import com.amazon.dataprepper.model.annotations.Stateless;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.sink.Sink;
-import com.amazon.dataprepper.pipeline.common.FutureHelper;
-import com.amazon.dataprepper.pipeline.common.FutureHelperResult;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.lang.String.format;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class ProcessWorker implements Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(ProcessWorker.class);
+    public static final String PROCESS_WORKER = "processWorker";
+    static final String BUFFER_READ_TIME = "bufferReadTime";
+    public static final String BATCH_SIZE = "batchSize";
+    static final String PROCESSOR_TIME = "processorTime";
+    static final String RECORDS_OUT_RATIO = "recordsOutRatio";
+    static final String SINK_AWAIT_TIME = "sinkAwaitTime";
+    static final String PROCESSOR = "processor";
+    static final String PROCESSOR_INDEX = "processorIndex";
 
     private final Buffer readBuffer;
     private final List<Processor> processors;
     private final Collection<Sink> sinks;
     private final Pipeline pipeline;
+    private final int processorChunkSize;
+    private final ForkJoinPool processorChunkPool;
+    private final boolean[] isProcessorParallelizable;
+    private final Timer bufferReadTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer[] processorTimers;
+    private final DistributionSummary[] recordsOutRatioSummaries;
+    private final Timer sinkAwaitTimer;
+    private final LatencyTracker latencyTracker;
     private boolean isEmptyRecordsLogged = false;
 
     public ProcessWorker(
@@ -39,13 +69,40 @@ public class ProcessWorker implements Runnable {
         this.processors = processors;
         this.sinks = sinks;
         this.pipeline = pipeline;
+        this.processorChunkSize = pipeline.getProcessorChunkSize();
+        this.processorChunkPool = pipeline.getProcessorChunkPool();
+        this.latencyTracker = pipeline.getLatencyTracker();
+        this.isProcessorParallelizable = new boolean[processors.size()];
+        for (int i = 0; i < processors.size(); i++) {
+            final Class<?> processorClass = processors.get(i).getClass();
+            isProcessorParallelizable[i] = processorChunkSize > 0 &&
+                    processorClass.isAnnotationPresent(Stateless.class) &&
+                    !processorClass.isAnnotationPresent(SingleThread.class);
+        }
+
+        final PluginMetrics pluginMetrics = PluginMetrics.fromNames(PROCESS_WORKER, pipeline.getName());
+        this.bufferReadTimer = pluginMetrics.timer(BUFFER_READ_TIME);
+        this.batchSizeSummary = pluginMetrics.summary(BATCH_SIZE);
+        this.sinkAwaitTimer = pluginMetrics.timer(SINK_AWAIT_TIME);
+        this.processorTimers = new Timer[processors.size()];
+        this.recordsOutRatioSummaries = new DistributionSummary[processors.size()];
+        for (int i = 0; i < processors.size(); i++) {
+            final String processorName = processors.get(i).getClass().getSimpleName();
+            final String processorIndex = Integer.toString(i);
+            processorTimers[i] = pluginMetrics.timerWithTags(PROCESSOR_TIME,
+                    PROCESSOR, processorName, PROCESSOR_INDEX, processorIndex);
+            recordsOutRatioSummaries[i] = pluginMetrics.summaryWithTags(RECORDS_OUT_RATIO,
+                    PROCESSOR, processorName, PROCESSOR_INDEX, processorIndex);
+        }
     }
 
     @Override
     public void run() {
         try {
             do {
+                final long readStartTime = System.nanoTime();
                 final Map.Entry<Collection, CheckpointState> readResult = readBuffer.read(pipeline.getReadBatchTimeoutInMillis());
+                bufferReadTimer.record(System.nanoTime() - readStartTime, TimeUnit.NANOSECONDS);
                 Collection records = readResult.getKey();
                 final CheckpointState checkpointState = readResult.getValue();
                 //TODO Hacky way to avoid logging continuously - Will be removed as part of metrics implementation
@@ -55,23 +112,106 @@ public class ProcessWorker implements Runnable {
                         isEmptyRecordsLogged = true;
                     }
                 } else {
-                    LOG.info(" {} Worker: Processing {} records from buffer", pipeline.getName(), records.size());
+                    batchSizeSummary.record(records.size());
+                    LOG.debug(" {} Worker: Processing {} records from buffer", pipeline.getName(), records.size());
                 }
+                final LatencyTracker.Sample latencySample = latencyTracker != null ? latencyTracker.onRead(records) : null;
                 //Should Empty list from buffer should be sent to the processors? For now sending as the Stateful processors expects it.
-                for (final Processor processor : processors) {
-                    records = processor.execute(records);
-                }
-                if (!records.isEmpty()) {
-                    postToSink(records);
+                records = executeProcessors(records, latencySample);
+                if (!records.isEmpty() && pipeline.isSinkQueueEnabled()) {
+                    // Checkpoint the current batch once every sink queue has output it, without waiting for the sinks.
+                    final long queueStartTime = System.nanoTime();
+                    pipeline.queueToSinks(records, () -> {
+                        readBuffer.checkpoint(checkpointState);
+                        if (latencySample != null) {
+                            latencySample.sinksCompleted();
+                        }
+                    });
+                    sinkAwaitTimer.record(System.nanoTime() - queueStartTime, TimeUnit.NANOSECONDS);
+                } else {
+                    if (!records.isEmpty()) {
+                        final long sinkStartTime = System.nanoTime();
+                        postToSink(records);
+                        sinkAwaitTimer.record(System.nanoTime() - sinkStartTime, TimeUnit.NANOSECONDS);
+                        if (latencySample != null) {
+                            latencySample.sinksCompleted();
+                        }
+                    }
+                    // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
+                    readBuffer.checkpoint(checkpointState);
                 }
-                // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
-                readBuffer.checkpoint(checkpointState);
             } while (!shouldStop());
         } catch (final Exception e) {
             LOG.error("Encountered exception during pipeline {} processing", pipeline.getName(), e);
         }
     }
 
+    /**
+     * Executes the processors in order. When a batch is larger than the processor chunk size, each run of consecutive
+     * stateless processors executes the batch in chunks, with all but the first chunk on the processor chunk pool. The
+     * latency of a run of processors executed in chunks is recorded for the last processor of the run.
+     */
+    private Collection executeProcessors(Collection records, final LatencyTracker.Sample latencySample) {
+        int processorIndex = 0;
+        while (processorIndex < processors.size()) {
+            if (isProcessorParallelizable[processorIndex] && records.size() > processorChunkSize) {
+                int endIndex = processorIndex + 1;
+                while (endIndex < processors.size() && isProcessorParallelizable[endIndex]) {
+                    endIndex++;
+                }
+                records = executeInChunks(processorIndex, endIndex, records);
+                processorIndex = endIndex;
+            } else {
+                records = executeProcessor(processorIndex, records);
+                processorIndex++;
+            }
+            if (latencySample != null) {
+                latencySample.processorCompleted(processorIndex - 1);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Executes the processors from startIndex, inclusive, to endIndex, exclusive, over chunks of the records. The
+     * processor metrics are recorded for each chunk.
+     */
+    private Collection executeInChunks(final int startIndex, final int endIndex, final Collection records) {
+        final List<List> chunks = Lists.partition(new ArrayList<>(records), processorChunkSize);
+        final List<ForkJoinTask<Collection>> tasks = new ArrayList<>(chunks.size() - 1);
+        for (final List chunk : chunks.subList(1, chunks.size())) {
+            tasks.add(processorChunkPool.submit(() -> executeChunk(startIndex, endIndex, new ArrayList<>(chunk))));
+        }
+
+        final List processedRecords = new ArrayList<>(records.size());
+        processedRecords.addAll(executeChunk(startIndex, endIndex, new ArrayList<>(chunks.get(0))));
+        for (final ForkJoinTask<Collection> task : tasks) {
+            processedRecords.addAll(task.join());
+        }
+        return processedRecords;
+    }
+
+    private Collection executeChunk(final int startIndex, final int endIndex, Collection chunk) {
+        for (int processorIndex = startIndex; processorIndex < endIndex; processorIndex++) {
+            chunk = executeProcessor(processorIndex, chunk);
+        }
+        return chunk;
+    }
+
+    /**
+     * Executes a processor, recording its execution time and the ratio of its output records to its input records.
+     */
+    private Collection executeProcessor(final int processorIndex, final Collection records) {
+        final int recordsIn = records.size();
+        final long startTime = System.nanoTime();
+        final Collection processedRecords = processors.get(processorIndex).execute(records);
+        processorTimers[processorIndex].record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        if (recordsIn > 0) {
+            recordsOutRatioSummaries[processorIndex].record((double) processedRecords.size() / recordsIn);
+        }
+        return processedRecords;
+    }
+
     /**
      * Shutdown should be handled end to end.
      *
@@ -90,12 +230,39 @@ public class ProcessWorker implements Runnable {
     /**
      * TODO Add isolator pattern - Fail if one of the Sink fails [isolator Pattern]
      * Uses the pipeline method to publish to sinks, waits for each of the sink result to be true before attempting to
-     * process more records from buffer.
+     * process more records from buffer. Sinks which time out writing to a connected pipeline are published to again
+     * until they output the records, so that the batch is only checkpointed once it reached the connected pipelines.
+     *
+     * @throws RuntimeException if a sink still times out once a stop was requested, leaving the batch not checkpointed
      */
-    private boolean postToSink(final Collection<Record> records) {
+    private void postToSink(final Collection<Record> records) throws InterruptedException {
         LOG.debug("Pipeline Worker: Submitting {} processed records to sinks", records.size());
-        final List<Future<Void>> sinkFutures = pipeline.publishToSinks(records);
-        final FutureHelperResult<Void> futureResults = FutureHelper.awaitFuturesIndefinitely(sinkFutures);
-        return futureResults.getFailedReasons().size() == 0;
+        List<Integer> sinkIndexes = IntStream.range(0, sinks.size()).boxed().collect(Collectors.toList());
+        List<Future<Void>> sinkFutures = pipeline.publishToSinks(records);
+        while (true) {
+            final List<Integer> timedOutSinkIndexes = new ArrayList<>();
+            for (int i = 0; i < sinkFutures.size(); i++) {
+                try {
+                    sinkFutures.get(i).get();
+                } catch (final ExecutionException e) {
+                    if (PipelineConnector.isWriteTimeout(e)) {
+                        timedOutSinkIndexes.add(sinkIndexes.get(i));
+                    } else {
+                        LOG.error("FutureTask failed due to: ", e);
+                    }
+                }
+            }
+            if (timedOutSinkIndexes.isEmpty()) {
+                return;
+            }
+            if (pipeline.isStopRequested()) {
+                throw new RuntimeException(format("Pipeline [%s] - %d sinks timed out writing %d records after a stop " +
+                        "was requested, the records are not checkpointed", pipeline.getName(), timedOutSinkIndexes.size(), records.size()));
+            }
+            LOG.warn("Pipeline [{}] - {} sinks timed out writing {} records, publishing to them again",
+                    pipeline.getName(), timedOutSinkIndexes.size(), records.size());
+            sinkIndexes = timedOutSinkIndexes;
+            sinkFutures = pipeline.publishToSinks(records, sinkIndexes);
+        }
     }
 }
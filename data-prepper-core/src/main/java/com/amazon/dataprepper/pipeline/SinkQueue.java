@@ -0,0 +1,153 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.sink.Sink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded queue of batches of records to output to a single {@link Sink}. The queue is drained by its own thread, so
+ * that a slow sink does not hold up the {@link ProcessWorker}s or the other sinks of the pipeline until the queue is
+ * full. Consecutive batches are merged into a single output of up to maxRecords records, waiting up to the linger time
+ * for more batches to arrive. Each batch is acknowledged once it has been output. An output which timed out writing to
+ * a connected pipeline is retried, so that the batches are only acknowledged once they reached the connected pipeline.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+class SinkQueue implements Runnable {
+    private static final Logger LOG = LoggerFactory.getLogger(SinkQueue.class);
+    private static final long POLL_TIMEOUT_IN_MILLIS = 100;
+
+    private final String pipelineName;
+    private final Sink sink;
+    private final BlockingQueue<QueuedBatch> queue;
+    private final int maxRecords;
+    private final long lingerInNanos;
+    private QueuedBatch nextBatch;
+    private volatile boolean stopRequested;
+
+    /**
+     * @param pipelineName   name of the pipeline of the sink
+     * @param sink           sink to output the queued records to
+     * @param maxBatches     maximum number of batches queued before {@link #put(Collection, Runnable)} blocks
+     * @param maxRecords     maximum number of records from multiple batches to output at once
+     * @param lingerInMillis time to wait for more batches to output along with the first queued batch
+     */
+    SinkQueue(final String pipelineName, final Sink sink, final int maxBatches, final int maxRecords, final long lingerInMillis) {
+        this.pipelineName = pipelineName;
+        this.sink = sink;
+        this.queue = new ArrayBlockingQueue<>(maxBatches);
+        this.maxRecords = maxRecords;
+        this.lingerInNanos = TimeUnit.MILLISECONDS.toNanos(lingerInMillis);
+    }
+
+    /**
+     * Queues a batch of records, waiting if the queue is full.
+     *
+     * @param records        records to output to the sink
+     * @param acknowledgement invoked once the records have been output to the sink, whether or not the output succeeded,
+     *                        unless it still timed out writing to a connected pipeline once a stop was requested
+     * @throws InterruptedException if interrupted while waiting for space in the queue
+     */
+    void put(final Collection<Record> records, final Runnable acknowledgement) throws InterruptedException {
+        queue.put(new QueuedBatch(records, acknowledgement));
+    }
+
+    /**
+     * Requests the queue to stop once the batches already queued have been output.
+     */
+    void stop() {
+        stopRequested = true;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!stopRequested || nextBatch != null || !queue.isEmpty()) {
+                final List<QueuedBatch> batches = takeBatches();
+                if (!batches.isEmpty()) {
+                    output(batches);
+                }
+            }
+        } catch (final InterruptedException e) {
+            LOG.error("Pipeline [{}] - Sink queue was interrupted with {} batches remaining", pipelineName, queue.size());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<QueuedBatch> takeBatches() throws InterruptedException {
+        final List<QueuedBatch> batches = new ArrayList<>();
+        final QueuedBatch firstBatch = nextBatch != null ? nextBatch : queue.poll(POLL_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+        nextBatch = null;
+        if (firstBatch == null) {
+            return batches;
+        }
+        batches.add(firstBatch);
+
+        int recordCount = firstBatch.records.size();
+        final long lingerDeadline = System.nanoTime() + lingerInNanos;
+        while (recordCount < maxRecords) {
+            final QueuedBatch batch = queue.poll(lingerDeadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (batch == null) {
+                break;
+            }
+            if (recordCount + batch.records.size() > maxRecords) {
+                nextBatch = batch;
+                break;
+            }
+            batches.add(batch);
+            recordCount += batch.records.size();
+        }
+        return batches;
+    }
+
+    private void output(final List<QueuedBatch> batches) {
+        final Collection<Record> records;
+        if (batches.size() == 1) {
+            records = batches.get(0).records;
+        } else {
+            records = new ArrayList<>();
+            batches.forEach(batch -> records.addAll(batch.records));
+        }
+
+        while (true) {
+            try {
+                sink.output(records);
+                break;
+            } catch (final Exception e) {
+                if (!PipelineConnector.isWriteTimeout(e)) {
+                    LOG.error("Pipeline [{}] - Sink failed to output {} records", pipelineName, records.size(), e);
+                    break;
+                }
+                if (stopRequested) {
+                    LOG.error("Pipeline [{}] - Sink timed out outputting {} records after a stop was requested, " +
+                            "the records are not acknowledged", pipelineName, records.size(), e);
+                    return;
+                }
+                LOG.warn("Pipeline [{}] - Sink timed out outputting {} records, retrying", pipelineName, records.size());
+            }
+        }
+        batches.forEach(batch -> batch.acknowledgement.run());
+    }
+
+    private static class QueuedBatch {
+        private final Collection<Record> records;
+        private final Runnable acknowledgement;
+
+        private QueuedBatch(final Collection<Record> records, final Runnable acknowledgement) {
+            this.records = records;
+            this.acknowledgement = acknowledgement;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -50,6 +51,22 @@ public class PipelineThreadPoolExecutor extends ThreadPoolExecutor {
                 new LinkedBlockingQueue<>(), threadFactory, pipeline);
     }
 
+    /**
+     * Creates an executor which starts a new thread for each task, for threads which are cheap to create such as
+     * virtual threads. Threads are not reused once their task completes.
+     *
+     * @param threadFactory the factory of the thread for each task
+     * @param pipeline      the pipeline to shut down if a task fails
+     * @return the executor
+     * @since 1.4
+     */
+    public static PipelineThreadPoolExecutor newThreadPerTaskExecutor(
+            final ThreadFactory threadFactory,
+            final Pipeline pipeline) {
+        return new PipelineThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), threadFactory, pipeline);
+    }
+
     /**
      * Overriding the {@link ThreadPoolExecutor#afterExecute(Runnable, Throwable)} to tune the behavior when process
      * worker encounters an exception in one of its worker execution. The below method will be invoked upon completion
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline.common;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates virtual threads on JVMs which support them. Data Prepper is compiled for Java 8, so the virtual thread API of
+ * Java 21 is looked up reflectively. {@link #isSupported()} is false on older JVMs and on JVMs where virtual threads
+ * are a preview feature that is not enabled.
+ *
+ * @since 1.4
+ */
+public final class VirtualThreads {
+    private static final Method OF_VIRTUAL_METHOD;
+    private static final Method NAME_METHOD;
+    private static final Method FACTORY_METHOD;
+    private static final boolean IS_SUPPORTED;
+
+    static {
+        Method ofVirtualMethod = null;
+        Method nameMethod = null;
+        Method factoryMethod = null;
+        boolean isSupported = false;
+        try {
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            nameMethod = builderClass.getMethod("name", String.class, long.class);
+            factoryMethod = builderClass.getMethod("factory");
+            // Throws if virtual threads are a preview feature which is not enabled.
+            ofVirtualMethod.invoke(null);
+            isSupported = true;
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            isSupported = false;
+        }
+        OF_VIRTUAL_METHOD = ofVirtualMethod;
+        NAME_METHOD = nameMethod;
+        FACTORY_METHOD = factoryMethod;
+        IS_SUPPORTED = isSupported;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return true if the JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return IS_SUPPORTED;
+    }
+
+    /**
+     * Creates a factory of virtual threads which are named with the prefix followed by an increasing number.
+     *
+     * @param namePrefix the prefix of the thread names
+     * @return the thread factory
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    public static ThreadFactory newThreadFactory(final String namePrefix) {
+        if (!IS_SUPPORTED) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM");
+        }
+        try {
+            final Object builder = NAME_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null), namePrefix + "-virtual-thread-", 1L);
+            return (ThreadFactory) FACTORY_METHOD.invoke(builder);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create a virtual thread factory", e);
+        }
+    }
+}
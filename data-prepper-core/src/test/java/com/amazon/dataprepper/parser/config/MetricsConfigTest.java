@@ -11,7 +11,9 @@ import com.amazon.dataprepper.pipeline.server.CloudWatchMeterRegistryProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.micrometer.cloudwatch2.CloudWatchMeterRegistry;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
 import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
@@ -27,6 +29,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -104,6 +107,44 @@ class MetricsConfigTest {
         assertThat(meterRegistry, isA(PrometheusMeterRegistry.class));
     }
 
+    @Test
+    public void testPrometheusMeterRegistryPublishesProcessWorkerHistograms() {
+        final DataPrepperConfiguration dataPrepperConfiguration = mock(DataPrepperConfiguration.class);
+
+        when(dataPrepperConfiguration.getMetricRegistryTypes())
+                .thenReturn(Collections.singletonList(MetricRegistryType.Prometheus));
+
+        final MeterRegistry meterRegistry = metricsConfig.prometheusMeterRegistry(dataPrepperConfiguration);
+        final Timer processorTimer = meterRegistry.timer("test-pipeline.processWorker.processorTime");
+        final DistributionSummary batchSizeSummary = meterRegistry.summary("test-pipeline.processWorker.batchSize");
+        final DistributionSummary recordsOutRatioSummary = meterRegistry.summary("test-pipeline.processWorker.recordsOutRatio");
+        final Timer otherTimer = meterRegistry.timer("test-pipeline.grok.timeElapsed");
+        processorTimer.record(5, TimeUnit.MILLISECONDS);
+        batchSizeSummary.record(100);
+        recordsOutRatioSummary.record(1);
+        otherTimer.record(5, TimeUnit.MILLISECONDS);
+
+        assertThat(processorTimer.takeSnapshot().histogramCounts().length > 0, is(true));
+        assertThat(batchSizeSummary.takeSnapshot().histogramCounts().length > 0, is(true));
+        assertThat(recordsOutRatioSummary.takeSnapshot().histogramCounts().length, is(0));
+        assertThat(otherTimer.takeSnapshot().histogramCounts().length, is(0));
+    }
+
+    @Test
+    public void testPrometheusMeterRegistryPublishesLatencyPercentiles() {
+        final DataPrepperConfiguration dataPrepperConfiguration = mock(DataPrepperConfiguration.class);
+
+        when(dataPrepperConfiguration.getMetricRegistryTypes())
+                .thenReturn(Collections.singletonList(MetricRegistryType.Prometheus));
+
+        final MeterRegistry meterRegistry = metricsConfig.prometheusMeterRegistry(dataPrepperConfiguration);
+        final Timer latencyTimer = meterRegistry.timer("test-pipeline.latency.endToEnd");
+        latencyTimer.record(5, TimeUnit.MILLISECONDS);
+
+        assertThat(latencyTimer.takeSnapshot().percentileValues().length, is(2));
+        assertThat(latencyTimer.takeSnapshot().histogramCounts().length > 0, is(true));
+    }
+
     @Test
     public void testGivenEmptyConfigThenMeterRegistryCreated() {
         final DataPrepperConfiguration dataPrepperConfiguration = mock(DataPrepperConfiguration.class);
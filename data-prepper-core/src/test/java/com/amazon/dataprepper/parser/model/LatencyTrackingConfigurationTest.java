@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.parser.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LatencyTrackingConfigurationTest {
+
+    @Test
+    void constructor_with_null_values_uses_defaults() {
+        final LatencyTrackingConfiguration objectUnderTest = new LatencyTrackingConfiguration(null);
+
+        assertThat(objectUnderTest.getSampleInterval(), equalTo(LatencyTrackingConfiguration.DEFAULT_SAMPLE_INTERVAL));
+    }
+
+    @Test
+    void deserialized_configuration_has_configured_values() throws IOException {
+        final LatencyTrackingConfiguration objectUnderTest = new ObjectMapper(new YAMLFactory())
+                .readValue("sample_interval: 100\n", LatencyTrackingConfiguration.class);
+
+        assertThat(objectUnderTest.getSampleInterval(), equalTo(100));
+    }
+
+    @Test
+    void constructor_with_invalid_sample_interval_throws() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new LatencyTrackingConfiguration(0));
+
+        assertThat(exception.getMessage(), equalTo("Invalid configuration, latency_tracking sample_interval cannot be 0"));
+    }
+}
@@ -7,6 +7,9 @@ package com.amazon.dataprepper.parser.model;
 
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -28,9 +31,11 @@ import static com.amazon.dataprepper.TestDataProvider.validMultipleConfiguration
 import static com.amazon.dataprepper.TestDataProvider.validMultipleConfigurationOfSizeOne;
 import static com.amazon.dataprepper.TestDataProvider.validSingleConfiguration;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -163,6 +168,76 @@ public class PipelineConfigurationTests {
         comparePluginSettings(actualSinkPluginSettings.get(0), VALID_PLUGIN_SETTING_1);
         assertThat(pipelineConfiguration.getWorkers(), is(DEFAULT_WORKERS));
         assertThat(pipelineConfiguration.getReadBatchDelay(), is(DEFAULT_READ_BATCH_DELAY));
+        final PipelineSettings pipelineSettings = pipelineConfiguration.getPipelineSettings();
+        assertThat(pipelineSettings.getProcessorChunkSize(), is(0));
+        assertThat(pipelineSettings.getSinkQueueConfiguration(), nullValue());
+        assertThat(pipelineSettings.isVirtualThreads(), is(false));
+        assertThat(pipelineSettings.getLatencyTrackingConfiguration(), nullValue());
+    }
+
+    @Test
+    public void testProcessorChunkSizeConfiguration() {
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(
+                validSingleConfiguration(),
+                null,
+                validMultipleConfigurationOfSizeOne(),
+                validMultipleConfiguration(),
+                TEST_WORKERS, TEST_DELAY, PipelineSettings.builder().withProcessorChunkSize(100).build());
+
+        assertThat(pipelineConfiguration.getPipelineSettings().getProcessorChunkSize(), is(100));
+    }
+
+    @Test
+    public void testInvalidProcessorChunkSizeConfiguration() {
+        final ObjectMapper objectMapper = new ObjectMapper(new YAMLFactory());
+        final String configuration = "source:\n  stdin:\nsink:\n  - stdout:\nprocessor_chunk_size: 0\n";
+
+        final JsonMappingException exception = assertThrows(JsonMappingException.class,
+                () -> objectMapper.readValue(configuration, PipelineConfiguration.class));
+
+        assertThat(exception.getCause(), instanceOf(IllegalArgumentException.class));
+        assertThat(exception.getCause().getMessage(), is("Invalid configuration, processor_chunk_size cannot be 0"));
+    }
+
+    @Test
+    public void testSinkQueueConfiguration() {
+        final SinkQueueConfiguration sinkQueueConfiguration = new SinkQueueConfiguration(null, null, null);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(
+                validSingleConfiguration(),
+                null,
+                validMultipleConfigurationOfSizeOne(),
+                validMultipleConfiguration(),
+                TEST_WORKERS, TEST_DELAY,
+                PipelineSettings.builder().withSinkQueueConfiguration(sinkQueueConfiguration).build());
+
+        assertThat(pipelineConfiguration.getPipelineSettings().getSinkQueueConfiguration(), is(sinkQueueConfiguration));
+    }
+
+    @Test
+    public void testVirtualThreadsConfiguration() {
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(
+                validSingleConfiguration(),
+                null,
+                validMultipleConfigurationOfSizeOne(),
+                validMultipleConfiguration(),
+                TEST_WORKERS, TEST_DELAY, PipelineSettings.builder().withVirtualThreads(true).build());
+
+        assertThat(pipelineConfiguration.getPipelineSettings().isVirtualThreads(), is(true));
+    }
+
+    @Test
+    public void testLatencyTrackingConfiguration() {
+        final LatencyTrackingConfiguration latencyTrackingConfiguration = new LatencyTrackingConfiguration(null);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(
+                validSingleConfiguration(),
+                null,
+                validMultipleConfigurationOfSizeOne(),
+                validMultipleConfiguration(),
+                TEST_WORKERS, TEST_DELAY,
+                PipelineSettings.builder().withLatencyTrackingConfiguration(latencyTrackingConfiguration).build());
+
+        assertThat(pipelineConfiguration.getPipelineSettings().getLatencyTrackingConfiguration(),
+                is(latencyTrackingConfiguration));
     }
 
     @Test //not using expected to assert the message
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.parser.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SinkQueueConfigurationTest {
+
+    @Test
+    void constructor_with_null_values_uses_defaults() {
+        final SinkQueueConfiguration objectUnderTest = new SinkQueueConfiguration(null, null, null);
+
+        assertThat(objectUnderTest.getMaxBatches(), equalTo(SinkQueueConfiguration.DEFAULT_MAX_BATCHES));
+        assertThat(objectUnderTest.getMaxRecords(), equalTo(SinkQueueConfiguration.DEFAULT_MAX_RECORDS));
+        assertThat(objectUnderTest.getLingerInMillis(), equalTo(SinkQueueConfiguration.DEFAULT_LINGER));
+    }
+
+    @Test
+    void deserialized_configuration_has_configured_values() throws IOException {
+        final SinkQueueConfiguration objectUnderTest = new ObjectMapper(new YAMLFactory())
+                .readValue("max_batches: 2\nmax_records: 500\nlinger: 20\n", SinkQueueConfiguration.class);
+
+        assertThat(objectUnderTest.getMaxBatches(), equalTo(2));
+        assertThat(objectUnderTest.getMaxRecords(), equalTo(500));
+        assertThat(objectUnderTest.getLingerInMillis(), equalTo(20));
+    }
+
+    @Test
+    void constructor_with_invalid_max_batches_throws() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new SinkQueueConfiguration(0, null, null));
+
+        assertThat(exception.getMessage(), equalTo("Invalid configuration, sink_queue max_batches cannot be 0"));
+    }
+
+    @Test
+    void constructor_with_invalid_max_records_throws() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new SinkQueueConfiguration(null, -1, null));
+
+        assertThat(exception.getMessage(), equalTo("Invalid configuration, sink_queue max_records cannot be -1"));
+    }
+
+    @Test
+    void constructor_with_negative_linger_throws() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new SinkQueueConfiguration(null, null, -1));
+
+        assertThat(exception.getMessage(), equalTo("Invalid configuration, sink_queue linger cannot be -1"));
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LatencyTrackerTest {
+    private static final int TIMEOUT_IN_MILLIS = 100;
+
+    @Mock
+    private Buffer<Record<?>> buffer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private String pipelineName;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        pipelineName = UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    private LatencyTracker createObjectUnderTest(final int sampleInterval) {
+        return new LatencyTracker(pipelineName, Arrays.asList("FirstProcessor", "SecondProcessor"), sampleInterval);
+    }
+
+    private Timer timer(final String name) {
+        return meterRegistry.get(pipelineName + "." + LatencyTracker.LATENCY + "." + name).timer();
+    }
+
+    private Timer processorTimer(final int processorIndex) {
+        return meterRegistry.get(pipelineName + "." + LatencyTracker.LATENCY + "." + LatencyTracker.PROCESSOR)
+                .tags(LatencyTracker.PROCESSOR_INDEX, Integer.toString(processorIndex))
+                .timer();
+    }
+
+    private static Record<Event> eventRecord(final Instant timeReceived) {
+        return new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withTimeReceived(timeReceived)
+                .build());
+    }
+
+    @Test
+    void sampled_records_record_latency_of_each_stage() throws Exception {
+        final LatencyTracker objectUnderTest = createObjectUnderTest(1);
+        final Record<Event> record = eventRecord(Instant.now().minusSeconds(2));
+
+        objectUnderTest.trackWrites(buffer).write(record, TIMEOUT_IN_MILLIS);
+
+        verify(buffer).write(record, TIMEOUT_IN_MILLIS);
+        assertThat(objectUnderTest.getPendingSamples(), equalTo(1));
+        assertThat(timer(LatencyTracker.SOURCE).count(), equalTo(1L));
+        assertThat(timer(LatencyTracker.SOURCE).totalTime(TimeUnit.SECONDS), greaterThanOrEqualTo(2.0));
+
+        final LatencyTracker.Sample sample = objectUnderTest.onRead(Arrays.asList(new Record<>("other"), record));
+        assertThat(sample, notNullValue());
+        assertThat(objectUnderTest.getPendingSamples(), equalTo(0));
+        assertThat(timer(LatencyTracker.BUFFER).count(), equalTo(1L));
+
+        sample.processorCompleted(0);
+        sample.processorCompleted(1);
+        sample.sinksCompleted();
+
+        assertThat(processorTimer(0).count(), equalTo(1L));
+        assertThat(processorTimer(1).count(), equalTo(1L));
+        assertThat(timer(LatencyTracker.SINK).count(), equalTo(1L));
+        assertThat(timer(LatencyTracker.END_TO_END).count(), equalTo(1L));
+        assertThat(timer(LatencyTracker.END_TO_END).totalTime(TimeUnit.SECONDS), greaterThanOrEqualTo(2.0));
+    }
+
+    @Test
+    void sampled_records_without_time_received_record_end_to_end_latency_from_buffer_write() throws Exception {
+        final LatencyTracker objectUnderTest = createObjectUnderTest(1);
+        final List<Record<?>> records = Arrays.asList(new Record<>("a"), new Record<>("b"));
+
+        objectUnderTest.trackWrites(buffer).writeAll(records, TIMEOUT_IN_MILLIS);
+
+        verify(buffer).writeAll(records, TIMEOUT_IN_MILLIS);
+        assertThat(timer(LatencyTracker.SOURCE).count(), equalTo(0L));
+        final LatencyTracker.Sample sample = objectUnderTest.onRead(records);
+        sample.sinksCompleted();
+
+        assertThat(timer(LatencyTracker.BUFFER).count(), equalTo(2L));
+        assertThat(timer(LatencyTracker.SINK).count(), equalTo(2L));
+        assertThat(timer(LatencyTracker.END_TO_END).count(), equalTo(2L));
+    }
+
+    @Test
+    void onRead_returns_null_without_sampled_records() throws Exception {
+        final LatencyTracker objectUnderTest = createObjectUnderTest(1);
+        objectUnderTest.trackWrites(buffer).write(new Record<>("sampled"), TIMEOUT_IN_MILLIS);
+
+        assertThat(objectUnderTest.onRead(Collections.singletonList(new Record<>("other"))), nullValue());
+        assertThat(objectUnderTest.onRead(Collections.emptyList()), nullValue());
+        assertThat(objectUnderTest.getPendingSamples(), equalTo(1));
+    }
+
+    @Test
+    void failed_writes_discard_samples() throws Exception {
+        final LatencyTracker objectUnderTest = createObjectUnderTest(1);
+        doThrow(TimeoutException.class).when(buffer).write(any(), anyInt());
+        doThrow(TimeoutException.class).when(buffer).writeAll(any(), anyInt());
+        final Buffer<Record<?>> trackingBuffer = objectUnderTest.trackWrites(buffer);
+
+        assertThrows(TimeoutException.class, () -> trackingBuffer.write(new Record<>("a"), TIMEOUT_IN_MILLIS));
+        assertThrows(TimeoutException.class,
+                () -> trackingBuffer.writeAll(Collections.singletonList(new Record<>("b")), TIMEOUT_IN_MILLIS));
+
+        assertThat(objectUnderTest.getPendingSamples(), equalTo(0));
+    }
+
+    @Test
+    void records_are_sampled_at_the_sample_interval() throws Exception {
+        final LatencyTracker objectUnderTest = createObjectUnderTest(Integer.MAX_VALUE);
+        final Buffer<Record<?>> trackingBuffer = objectUnderTest.trackWrites(buffer);
+
+        for (int i = 0; i < 100; i++) {
+            trackingBuffer.write(new Record<>("a"), TIMEOUT_IN_MILLIS);
+        }
+
+        assertThat(objectUnderTest.getPendingSamples(), equalTo(0));
+    }
+
+    @Test
+    void samples_of_records_copied_by_the_buffer_are_evicted_after_the_max_sample_age() throws Exception {
+        final LatencyTracker objectUnderTest = new LatencyTracker(pipelineName, Collections.singletonList("Processor"), 1,
+                TimeUnit.MILLISECONDS.toNanos(1));
+        final CopyingBuffer copyingBuffer = new CopyingBuffer();
+        final Buffer<Record<?>> trackingBuffer = objectUnderTest.trackWrites(copyingBuffer);
+
+        trackingBuffer.write(new Record<>("a"), TIMEOUT_IN_MILLIS);
+        assertThat(objectUnderTest.onRead(copyingBuffer.read(TIMEOUT_IN_MILLIS).getKey()), nullValue());
+        assertThat(objectUnderTest.getPendingSamples(), equalTo(1));
+
+        Thread.sleep(10);
+        trackingBuffer.write(new Record<>("b"), TIMEOUT_IN_MILLIS);
+
+        assertThat(objectUnderTest.getPendingSamples(), equalTo(1));
+        assertThat(objectUnderTest.onRead(copyingBuffer.read(TIMEOUT_IN_MILLIS).getKey()), nullValue());
+        Thread.sleep(10);
+        trackingBuffer.write(new Record<>("c"), TIMEOUT_IN_MILLIS);
+        assertThat(objectUnderTest.getPendingSamples(), equalTo(1));
+    }
+
+    /**
+     * A buffer which returns copies of the records written to it, like a persistent buffer.
+     */
+    private static class CopyingBuffer implements Buffer<Record<?>> {
+        private final List<Record<?>> records = new ArrayList<>();
+
+        @Override
+        public void write(final Record<?> record, final int timeoutInMillis) {
+            records.add(new Record<>(record.getData(), record.getMetadata()));
+        }
+
+        @Override
+        public void writeAll(final Collection<Record<?>> records, final int timeoutInMillis) {
+            records.forEach(record -> write(record, timeoutInMillis));
+        }
+
+        @Override
+        public Map.Entry<Collection<Record<?>>, CheckpointState> read(final int timeoutInMillis) {
+            final List<Record<?>> readRecords = new ArrayList<>(records);
+            records.clear();
+            return new AbstractMap.SimpleEntry<>(readRecords, new CheckpointState(readRecords.size()));
+        }
+
+        @Override
+        public void checkpoint(final CheckpointState checkpointState) {
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return records.isEmpty();
+        }
+    }
+}
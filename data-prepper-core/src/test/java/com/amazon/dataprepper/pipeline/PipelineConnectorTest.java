@@ -5,25 +5,50 @@
 
 package com.amazon.dataprepper.pipeline;
 
+import com.amazon.dataprepper.metrics.MetricNames;
+import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.event.CopyOnWriteEvent;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
 import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.trace.DefaultSpan;
+import com.amazon.dataprepper.model.trace.DefaultTraceGroupFields;
+import com.amazon.dataprepper.model.trace.Span;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PipelineConnectorTest {
@@ -34,6 +59,15 @@ public class PipelineConnectorTest {
     @Mock
     private Buffer<Record<String>> buffer;
 
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Timer blockedTimer;
+
+    @Mock
+    private Counter writeTimeoutsCounter;
+
     private List<Record<String>> recordList;
 
     private PipelineConnector<Record<String>> sut;
@@ -59,11 +93,18 @@ public class PipelineConnectorTest {
     }
 
     @Test
-    public void testOutputBufferTimesOutThenSucceeds() throws Exception {
+    public void testOutputBufferTimeoutFailsOutputWhichCanBeRetried() throws Exception {
         doThrow(new TimeoutException()).doNothing().when(buffer).write(any(), anyInt());
 
         sut.start(buffer);
 
+        try {
+            sut.output(recordList);
+            fail("Expected the write to time out");
+        } catch (final RuntimeException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+            assertTrue(PipelineConnector.isWriteTimeout(e));
+        }
         sut.output(recordList);
 
         verify(buffer, times(2)).write(eq(RECORD), anyInt());
@@ -88,4 +129,193 @@ public class PipelineConnectorTest {
             assertTrue(e.getMessage().contains(SINK_PIPELINE_NAME));
         }
     }
+
+    @Test
+    public void testOutputMultipleRecordsWritesAllRecords() throws Exception {
+        final List<Record<String>> records = createRecords(4);
+        sut.start(buffer);
+
+        sut.output(records);
+
+        verify(buffer).writeAll(eq(records), anyInt());
+        verify(buffer, never()).write(any(), anyInt());
+    }
+
+    @Test
+    public void testOutputRecordsExceedingBufferCapacityAreWrittenInChunks() throws Exception {
+        final List<Record<String>> records = createRecords(4);
+        doThrow(new SizeOverflowException("too large")).when(buffer).writeAll(eq(records), anyInt());
+        sut.start(buffer);
+
+        sut.output(records);
+        sut.output(records);
+
+        verify(buffer).writeAll(eq(records), anyInt());
+        verify(buffer, times(2)).writeAll(eq(records.subList(0, 2)), anyInt());
+        verify(buffer, times(2)).writeAll(eq(records.subList(2, 4)), anyInt());
+    }
+
+    @Test
+    public void testOutputBufferWriteAllTimeoutFailsOutputWhichCanBeRetried() throws Exception {
+        final List<Record<String>> records = createRecords(2);
+        doThrow(new TimeoutException()).doNothing().when(buffer).writeAll(any(), anyInt());
+        sut.start(buffer);
+
+        try {
+            sut.output(records);
+            fail("Expected the write to time out");
+        } catch (final RuntimeException e) {
+            assertTrue(PipelineConnector.isWriteTimeout(e));
+        }
+        sut.output(records);
+
+        verify(buffer, times(2)).writeAll(eq(records), anyInt());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testOutputBufferWriteAllFails() throws Exception {
+        doThrow(new Exception()).when(buffer).writeAll(any(), anyInt());
+        sut.start(buffer);
+
+        sut.output(createRecords(2));
+    }
+
+    @Test
+    public void testOutputWithWriteTimeoutFailsOnceTheWriteTimesOut() throws Exception {
+        final List<Record<String>> records = createRecords(2);
+        doThrow(new TimeoutException()).when(buffer).writeAll(any(), anyInt());
+        sut = createConnectorWithMetrics(100);
+        sut.start(buffer);
+
+        try {
+            sut.output(records);
+            fail("Expected the write to time out");
+        } catch (final RuntimeException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+            assertTrue(e.getMessage().contains(SINK_PIPELINE_NAME));
+        }
+
+        verify(buffer).writeAll(eq(records), eq(100));
+        verify(writeTimeoutsCounter).increment();
+        verify(blockedTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testIsWriteTimeoutOnlyForFailuresCausedByTimeouts() {
+        assertTrue(PipelineConnector.isWriteTimeout(new ExecutionException(new RuntimeException(new TimeoutException()))));
+        assertFalse(PipelineConnector.isWriteTimeout(new ExecutionException(new RuntimeException("not active"))));
+    }
+
+    @Test
+    public void testOutputUsesBoundedDefaultWriteTimeout() throws Exception {
+        sut.start(buffer);
+
+        sut.output(recordList);
+
+        verify(buffer).write(eq(RECORD), eq(PipelineConnector.DEFAULT_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testOutputRecordsTimeBlockedOnBuffer() throws Exception {
+        sut = createConnectorWithMetrics(Integer.MAX_VALUE);
+        sut.start(buffer);
+
+        sut.output(recordList);
+        sut.output(createRecords(2));
+
+        verify(buffer).write(eq(RECORD), eq(Integer.MAX_VALUE));
+        verify(buffer).writeAll(any(), eq(Integer.MAX_VALUE));
+        verify(blockedTimer, times(2)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(writeTimeoutsCounter, never()).increment();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOutputEventsAreWrittenAsCopyOnWriteEvents() throws Exception {
+        final Buffer<Record<Event>> eventBuffer = mock(Buffer.class);
+        final Event event = JacksonEvent.fromMessage(RECORD_DATA);
+        final Record<Event> eventRecord = new Record<>(event);
+        final PipelineConnector<Record<Event>> eventConnector = new PipelineConnector<>(SINK_PIPELINE_NAME);
+        eventConnector.start(eventBuffer);
+
+        eventConnector.output(Collections.singletonList(eventRecord));
+
+        final ArgumentCaptor<Record<Event>> recordCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(eventBuffer).write(recordCaptor.capture(), anyInt());
+        final Event writtenEvent = recordCaptor.getValue().getData();
+        assertTrue(writtenEvent instanceof CopyOnWriteEvent);
+        assertNotSame(event, writtenEvent);
+        assertEquals(event.toJsonString(), writtenEvent.toJsonString());
+        writtenEvent.put("message", "changed");
+        assertEquals(RECORD_DATA, event.get("message", String.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOutputSpansFannedOutToPipelinesAreModifiedIndependently() throws Exception {
+        final DefaultSpan span = DefaultSpan.builder()
+                .withTraceId("traceId")
+                .withSpanId("spanId")
+                .withName("name")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("startTime")
+                .withEndTime("endTime")
+                .withAttributes(new HashMap<>(Collections.singletonMap("key", "value")))
+                .withTraceGroup(null)
+                .withDurationInNanos(100L)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .build();
+        final Record<Span> spanRecord = new Record<>(span);
+        final Buffer<Record<Span>> rawBuffer = mock(Buffer.class);
+        final Buffer<Record<Span>> serviceMapBuffer = mock(Buffer.class);
+        final PipelineConnector<Record<Span>> rawConnector = new PipelineConnector<>("raw-pipeline");
+        final PipelineConnector<Record<Span>> serviceMapConnector = new PipelineConnector<>("service-map-pipeline");
+        rawConnector.start(rawBuffer);
+        serviceMapConnector.start(serviceMapBuffer);
+
+        rawConnector.output(Collections.singletonList(spanRecord));
+        serviceMapConnector.output(Collections.singletonList(spanRecord));
+
+        final ArgumentCaptor<Record<Span>> rawCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(rawBuffer).write(rawCaptor.capture(), anyInt());
+        final ArgumentCaptor<Record<Span>> serviceMapCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(serviceMapBuffer).write(serviceMapCaptor.capture(), anyInt());
+        final Span rawSpan = rawCaptor.getValue().getData();
+        final Span serviceMapSpan = serviceMapCaptor.getValue().getData();
+        assertNotSame(span, rawSpan);
+        assertNotSame(span, serviceMapSpan);
+        assertNotSame(rawSpan, serviceMapSpan);
+        assertEquals(span.toJsonString(), rawSpan.toJsonString());
+
+        rawSpan.setTraceGroup("traceGroup");
+        rawSpan.getAttributes().put("key", "changed");
+        rawSpan.put("attributes/newKey", "newValue");
+
+        assertEquals(span.toJsonString(), serviceMapSpan.toJsonString());
+        assertNull(serviceMapSpan.getTraceGroup());
+        assertEquals("value", serviceMapSpan.getAttributes().get("key"));
+        assertFalse(serviceMapSpan.containsKey("attributes/newKey"));
+        assertEquals("value", span.getAttributes().get("key"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveWriteTimeoutIsRejected() {
+        new PipelineConnector<Record<String>>(SINK_PIPELINE_NAME, 0, pluginMetrics);
+    }
+
+    private PipelineConnector<Record<String>> createConnectorWithMetrics(final int writeTimeoutInMillis) {
+        when(pluginMetrics.timerWithTags(PipelineConnector.BLOCKED_TIME_ELAPSED, PipelineConnector.DOWNSTREAM_PIPELINE, SINK_PIPELINE_NAME))
+                .thenReturn(blockedTimer);
+        when(pluginMetrics.counterWithTags(MetricNames.WRITE_TIMEOUTS, PipelineConnector.DOWNSTREAM_PIPELINE, SINK_PIPELINE_NAME))
+                .thenReturn(writeTimeoutsCounter);
+        return new PipelineConnector<>(SINK_PIPELINE_NAME, writeTimeoutInMillis, pluginMetrics);
+    }
+
+    private static List<Record<String>> createRecords(final int numberOfRecords) {
+        final Record<String>[] records = new Record[numberOfRecords];
+        for (int i = 0; i < numberOfRecords; i++) {
+            records[i] = new Record<>(RECORD_DATA + i);
+        }
+        return Arrays.asList(records);
+    }
 }
@@ -10,8 +10,11 @@ import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.sink.Sink;
 import com.amazon.dataprepper.model.source.Source;
+import com.amazon.dataprepper.parser.model.PipelineSettings;
+import com.amazon.dataprepper.parser.model.SinkQueueConfiguration;
 import com.amazon.dataprepper.pipeline.common.TestPrepper;
 import com.amazon.dataprepper.pipeline.common.TestProcessor;
+import com.amazon.dataprepper.pipeline.common.VirtualThreads;
 import com.amazon.dataprepper.plugins.TestSink;
 import com.amazon.dataprepper.plugins.TestSource;
 import com.amazon.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
@@ -23,6 +26,7 @@ import java.util.Collections;
 import java.util.HashMap;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
@@ -98,6 +102,73 @@ public class PipelineTests {
         assertThat("Processor shutdown should be called", testProcessor.isShutdown, is(true));
     }
 
+    @Test
+    public void testPipelineStateWithProcessorChunkSize() {
+        final Source<Record<String>> testSource = new TestSource();
+        final TestSink testSink = new TestSink();
+        final TestProcessor testProcessor = new TestProcessor(new PluginSetting("test_processor", new HashMap<>()));
+        final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
+                Collections.singletonList(Collections.singletonList(testProcessor)),
+                Collections.singletonList(testSink),
+                TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                PipelineSettings.builder().withProcessorChunkSize(10).build());
+        assertThat("Pipeline processor chunk size should be configured", testPipeline.getProcessorChunkSize(), is(10));
+        assertThat("Pipeline is expected to have a processor chunk pool", testPipeline.getProcessorChunkPool(), notNullValue());
+        testPipeline.execute();
+        testPipeline.shutdown();
+        assertThat("Pipeline isStopRequested is expected to be true", testPipeline.isStopRequested(), is(true));
+        assertThat("Processor chunk pool should be shutdown", testPipeline.getProcessorChunkPool().isShutdown(), is(true));
+        assertThat("Processor shutdown should be called", testProcessor.isShutdown, is(true));
+    }
+
+    @Test
+    public void testPipelineStateWithSinkQueue() {
+        final Source<Record<String>> testSource = new TestSource();
+        final TestSink testSink = new TestSink();
+        final BlockingBuffer<Record<String>> testBuffer = new BlockingBuffer<>(TEST_PIPELINE_NAME);
+        final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, testBuffer,
+                Collections.emptyList(), Collections.singletonList(testSink), TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                PipelineSettings.builder().withSinkQueueConfiguration(new SinkQueueConfiguration(null, null, null)).build());
+        assertThat("Pipeline is expected to queue records for sinks", testPipeline.isSinkQueueEnabled(), is(true));
+        testPipeline.execute();
+        testPipeline.shutdown();
+        assertThat("Pipeline isStopRequested is expected to be true", testPipeline.isStopRequested(), is(true));
+        assertThat("Sink should output the records before shutdown", testSink.getCollectedRecords(), is(TestSource.TEST_DATA));
+        assertThat("Buffer records should be checkpointed", testBuffer.isEmpty(), is(true));
+        assertThat("Sink shutdown should be called", testSink.isShutdown, is(true));
+    }
+
+    @Test
+    public void testPipelineStateWithVirtualThreads() {
+        final Source<Record<String>> testSource = new TestSource();
+        final TestSink testSink = new TestSink();
+        final BlockingBuffer<Record<String>> testBuffer = new BlockingBuffer<>(TEST_PIPELINE_NAME);
+        final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, testBuffer,
+                Collections.emptyList(), Collections.singletonList(testSink), TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                PipelineSettings.builder()
+                        .withSinkQueueConfiguration(new SinkQueueConfiguration(null, null, null))
+                        .withVirtualThreads(true)
+                        .build());
+        assertThat("Pipeline should use virtual threads only if the JVM supports them",
+                testPipeline.isVirtualThreadsEnabled(), is(VirtualThreads.isSupported()));
+        testPipeline.execute();
+        testPipeline.shutdown();
+        assertThat("Pipeline isStopRequested is expected to be true", testPipeline.isStopRequested(), is(true));
+        assertThat("Sink should output the records before shutdown", testSink.getCollectedRecords(), is(TestSource.TEST_DATA));
+        assertThat("Buffer records should be checkpointed", testBuffer.isEmpty(), is(true));
+        assertThat("Sink shutdown should be called", testSink.isShutdown, is(true));
+    }
+
+    @Test
+    public void testPipelineWithoutProcessorChunkSizeHasNoProcessorChunkPool() {
+        final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, new TestSource(), new BlockingBuffer(TEST_PIPELINE_NAME),
+                Collections.emptyList(), Collections.singletonList(new TestSink()), TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT);
+        assertThat("Pipeline processor chunk size should be 0", testPipeline.getProcessorChunkSize(), is(0));
+        assertThat("Pipeline is expected to have no processor chunk pool", testPipeline.getProcessorChunkPool(), nullValue());
+        assertThat("Pipeline is expected to wait for sinks", testPipeline.isSinkQueueEnabled(), is(false));
+        assertThat("Pipeline is expected to use platform threads", testPipeline.isVirtualThreadsEnabled(), is(false));
+    }
+
     @Test
     public void testExecuteFailingSource() {
         final Source<Record<String>> testSource = new TestSource(true);
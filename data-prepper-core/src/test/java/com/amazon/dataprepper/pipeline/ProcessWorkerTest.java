@@ -0,0 +1,368 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.annotations.SingleThread;
+import com.amazon.dataprepper.model.annotations.Stateless;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.processor.Processor;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.sink.Sink;
+import com.amazon.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessWorkerTest {
+    private static final int BATCH_SIZE = 10;
+
+    @Mock
+    private Buffer buffer;
+
+    @Mock
+    private Sink sink;
+
+    @Mock
+    private Pipeline pipeline;
+
+    @Mock
+    private CheckpointState checkpointState;
+
+    private ForkJoinPool processorChunkPool;
+    private List<Record<String>> records;
+
+    @BeforeEach
+    void setUp() {
+        processorChunkPool = new ForkJoinPool(2);
+        records = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> new Record<>(Integer.toString(i)))
+                .collect(Collectors.toList());
+
+        when(buffer.read(anyInt())).thenReturn(new AbstractMap.SimpleEntry<>(records, checkpointState));
+        lenient().when(buffer.isEmpty()).thenReturn(true);
+        when(pipeline.isStopRequested()).thenReturn(true);
+        lenient().when(pipeline.getProcessorChunkPool()).thenReturn(processorChunkPool);
+        lenient().when(pipeline.publishToSinks(any())).thenReturn(Collections.emptyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        processorChunkPool.shutdownNow();
+    }
+
+    private ProcessWorker createObjectUnderTest(final List<Processor> processors, final int processorChunkSize) {
+        when(pipeline.getProcessorChunkSize()).thenReturn(processorChunkSize);
+        return new ProcessWorker(buffer, processors, Collections.singletonList(sink), pipeline);
+    }
+
+    private List<String> publishedData() {
+        final ArgumentCaptor<Collection<Record>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(pipeline).publishToSinks(recordsCaptor.capture());
+        return recordsCaptor.getValue().stream()
+                .map(record -> (String) record.getData())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> expectedData(final String... suffixes) {
+        return IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> Integer.toString(i) + String.join("", suffixes))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void run_without_processor_chunk_size_executes_whole_batch_on_worker_thread() {
+        final StatelessProcessor statelessProcessor = new StatelessProcessor("-a");
+
+        createObjectUnderTest(Collections.singletonList(statelessProcessor), 0).run();
+
+        assertThat(statelessProcessor.batchSizes, contains(BATCH_SIZE));
+        assertThat(statelessProcessor.threads, contains(Thread.currentThread()));
+        assertThat(publishedData(), equalTo(expectedData("-a")));
+        verify(buffer).checkpoint(checkpointState);
+    }
+
+    @Test
+    void run_with_processor_chunk_size_executes_stateless_processors_in_chunks_and_in_order() {
+        final StatelessProcessor firstStatelessProcessor = new StatelessProcessor("-a");
+        final StatelessProcessor secondStatelessProcessor = new StatelessProcessor("-b");
+        final BatchProcessor batchProcessor = new BatchProcessor("-c");
+        final StatelessProcessor thirdStatelessProcessor = new StatelessProcessor("-d");
+
+        createObjectUnderTest(
+                Arrays.asList(firstStatelessProcessor, secondStatelessProcessor, batchProcessor, thirdStatelessProcessor), 3).run();
+
+        assertThat(firstStatelessProcessor.batchSizes.stream().sorted().collect(Collectors.toList()), contains(1, 3, 3, 3));
+        assertThat(secondStatelessProcessor.batchSizes.stream().sorted().collect(Collectors.toList()), contains(1, 3, 3, 3));
+        assertThat(batchProcessor.batchSizes, contains(BATCH_SIZE));
+        assertThat(thirdStatelessProcessor.batchSizes.stream().sorted().collect(Collectors.toList()), contains(1, 3, 3, 3));
+        assertThat(firstStatelessProcessor.threads, hasItem(Thread.currentThread()));
+        assertThat(publishedData(), equalTo(expectedData("-a", "-b", "-c", "-d")));
+    }
+
+    @Test
+    void run_with_processor_chunk_size_executes_batch_no_larger_than_chunk_on_worker_thread() {
+        final StatelessProcessor statelessProcessor = new StatelessProcessor("-a");
+
+        createObjectUnderTest(Collections.singletonList(statelessProcessor), BATCH_SIZE).run();
+
+        assertThat(statelessProcessor.batchSizes, contains(BATCH_SIZE));
+        assertThat(statelessProcessor.threads, contains(Thread.currentThread()));
+        assertThat(publishedData(), equalTo(expectedData("-a")));
+    }
+
+    @Test
+    void run_with_processor_chunk_size_executes_whole_batch_for_single_thread_stateless_processors() {
+        final SingleThreadStatelessProcessor singleThreadProcessor = new SingleThreadStatelessProcessor("-a");
+
+        createObjectUnderTest(Collections.singletonList(singleThreadProcessor), 3).run();
+
+        assertThat(singleThreadProcessor.batchSizes, contains(BATCH_SIZE));
+        assertThat(singleThreadProcessor.threads, contains(Thread.currentThread()));
+        assertThat(publishedData(), equalTo(expectedData("-a")));
+    }
+
+    @Test
+    void run_with_sink_queue_checkpoints_once_queued_records_are_acknowledged() throws InterruptedException {
+        when(pipeline.isSinkQueueEnabled()).thenReturn(true);
+        final StatelessProcessor statelessProcessor = new StatelessProcessor("-a");
+
+        createObjectUnderTest(Collections.singletonList(statelessProcessor), 0).run();
+
+        final ArgumentCaptor<Collection<Record>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+        final ArgumentCaptor<Runnable> acknowledgementCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(pipeline).queueToSinks(recordsCaptor.capture(), acknowledgementCaptor.capture());
+        verify(pipeline, never()).publishToSinks(any());
+        assertThat(recordsCaptor.getValue().stream().map(record -> (String) record.getData()).collect(Collectors.toList()),
+                equalTo(expectedData("-a")));
+        verify(buffer, never()).checkpoint(checkpointState);
+
+        acknowledgementCaptor.getValue().run();
+
+        verify(buffer).checkpoint(checkpointState);
+    }
+
+    @Test
+    void run_records_buffer_processor_and_sink_metrics() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        try {
+            final String pipelineName = UUID.randomUUID().toString();
+            when(pipeline.getName()).thenReturn(pipelineName);
+            final StatelessProcessor statelessProcessor = new StatelessProcessor("-a");
+            final FilterProcessor filterProcessor = new FilterProcessor();
+
+            createObjectUnderTest(Arrays.asList(statelessProcessor, filterProcessor), 0).run();
+
+            final String prefix = pipelineName + "." + ProcessWorker.PROCESS_WORKER + ".";
+            assertThat(meterRegistry.get(prefix + ProcessWorker.BUFFER_READ_TIME).timer().count(), equalTo(1L));
+            assertThat(meterRegistry.get(prefix + ProcessWorker.BATCH_SIZE).summary().totalAmount(), equalTo((double) BATCH_SIZE));
+            assertThat(meterRegistry.get(prefix + ProcessWorker.SINK_AWAIT_TIME).timer().count(), equalTo(1L));
+            assertThat(meterRegistry.get(prefix + ProcessWorker.PROCESSOR_TIME)
+                    .tags(ProcessWorker.PROCESSOR, "StatelessProcessor", ProcessWorker.PROCESSOR_INDEX, "0")
+                    .timer().count(), equalTo(1L));
+            assertThat(meterRegistry.get(prefix + ProcessWorker.PROCESSOR_TIME)
+                    .tags(ProcessWorker.PROCESSOR, "FilterProcessor", ProcessWorker.PROCESSOR_INDEX, "1")
+                    .timer().totalTime(TimeUnit.NANOSECONDS), greaterThan(0.0));
+            assertThat(meterRegistry.get(prefix + ProcessWorker.RECORDS_OUT_RATIO)
+                    .tags(ProcessWorker.PROCESSOR, "StatelessProcessor").summary().mean(), equalTo(1.0));
+            assertThat(meterRegistry.get(prefix + ProcessWorker.RECORDS_OUT_RATIO)
+                    .tags(ProcessWorker.PROCESSOR, "FilterProcessor").summary().mean(), equalTo(0.5));
+        } finally {
+            Metrics.removeRegistry(meterRegistry);
+        }
+    }
+
+    @Test
+    void run_with_latency_tracker_records_latency_of_sampled_records() throws Exception {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        try {
+            final String pipelineName = UUID.randomUUID().toString();
+            final LatencyTracker latencyTracker = new LatencyTracker(pipelineName,
+                    Collections.singletonList("StatelessProcessor"), 1);
+            when(pipeline.getLatencyTracker()).thenReturn(latencyTracker);
+            latencyTracker.trackWrites(buffer).writeAll((Collection) records, 0);
+            final StatelessProcessor statelessProcessor = new StatelessProcessor("-a");
+
+            createObjectUnderTest(Collections.singletonList(statelessProcessor), 0).run();
+
+            final String prefix = pipelineName + "." + LatencyTracker.LATENCY + ".";
+            assertThat(meterRegistry.get(prefix + LatencyTracker.BUFFER).timer().count(), equalTo((long) BATCH_SIZE));
+            assertThat(meterRegistry.get(prefix + LatencyTracker.PROCESSOR).timer().count(), equalTo((long) BATCH_SIZE));
+            assertThat(meterRegistry.get(prefix + LatencyTracker.SINK).timer().count(), equalTo((long) BATCH_SIZE));
+            assertThat(meterRegistry.get(prefix + LatencyTracker.END_TO_END).timer().count(), equalTo((long) BATCH_SIZE));
+            assertThat(latencyTracker.getPendingSamples(), equalTo(0));
+        } finally {
+            Metrics.removeRegistry(meterRegistry);
+        }
+    }
+
+    @Test
+    void run_publishes_again_to_sink_which_timed_out_on_full_connected_buffer_before_checkpointing() throws Exception {
+        final BlockingBuffer<Record<String>> connectedBuffer = createFullConnectedBuffer();
+        final PipelineConnector<Record<String>> pipelineConnector = createPipelineConnector(connectedBuffer);
+        when(pipeline.isStopRequested()).thenReturn(false, true);
+        when(pipeline.publishToSinks(any())).thenAnswer(invocation -> outputToConnector(pipelineConnector, invocation.getArgument(0)));
+        when(pipeline.publishToSinks(any(), any())).thenAnswer(invocation -> {
+            connectedBuffer.checkpoint(connectedBuffer.read(100).getValue());
+            return outputToConnector(pipelineConnector, invocation.getArgument(0));
+        });
+
+        createObjectUnderTest(Collections.emptyList(), 0).run();
+
+        verify(pipeline).publishToSinks((Collection) records, Collections.singletonList(0));
+        verify(buffer).checkpoint(checkpointState);
+        assertThat(connectedBuffer.read(100).getKey(), equalTo(records));
+    }
+
+    @Test
+    void run_does_not_checkpoint_batch_when_sink_times_out_on_full_connected_buffer_after_stop_requested() throws Exception {
+        final BlockingBuffer<Record<String>> connectedBuffer = createFullConnectedBuffer();
+        final PipelineConnector<Record<String>> pipelineConnector = createPipelineConnector(connectedBuffer);
+        when(pipeline.publishToSinks(any())).thenAnswer(invocation -> outputToConnector(pipelineConnector, invocation.getArgument(0)));
+
+        createObjectUnderTest(Collections.emptyList(), 0).run();
+
+        verify(pipeline).publishToSinks((Collection) records);
+        verify(pipeline, never()).publishToSinks(any(), any());
+        verify(buffer, never()).checkpoint(any());
+    }
+
+    private BlockingBuffer<Record<String>> createFullConnectedBuffer() throws Exception {
+        final BlockingBuffer<Record<String>> connectedBuffer = new BlockingBuffer<>(BATCH_SIZE, BATCH_SIZE, "connected");
+        connectedBuffer.writeAll(IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> new Record<>("queued-" + i))
+                .collect(Collectors.toList()), 0);
+        return connectedBuffer;
+    }
+
+    private static PipelineConnector<Record<String>> createPipelineConnector(final BlockingBuffer<Record<String>> connectedBuffer) {
+        final PipelineConnector<Record<String>> pipelineConnector = new PipelineConnector<>("connected", 10,
+                PluginMetrics.fromNames(PipelineConnector.PIPELINE_CONNECTOR_NAME, "connected"));
+        pipelineConnector.start(connectedBuffer);
+        return pipelineConnector;
+    }
+
+    private static List<Future<Void>> outputToConnector(final PipelineConnector<Record<String>> pipelineConnector,
+                                                        final Collection<Record<String>> outputRecords) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            pipelineConnector.output(outputRecords);
+            future.complete(null);
+        } catch (final RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return Collections.singletonList(future);
+    }
+
+    /**
+     * Keeps every other record.
+     */
+    private static class FilterProcessor extends BatchProcessor {
+        FilterProcessor() {
+            super("");
+        }
+
+        @Override
+        public Collection<Record<String>> execute(final Collection<Record<String>> records) {
+            final List<Record<String>> processedRecords = new ArrayList<>();
+            int i = 0;
+            for (final Record<String> record : records) {
+                if (i++ % 2 == 0) {
+                    processedRecords.add(record);
+                }
+            }
+            return processedRecords;
+        }
+    }
+
+    private static class BatchProcessor implements Processor<Record<String>, Record<String>> {
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        private final String suffix;
+
+        BatchProcessor(final String suffix) {
+            this.suffix = suffix;
+        }
+
+        @Override
+        public Collection<Record<String>> execute(final Collection<Record<String>> records) {
+            batchSizes.add(records.size());
+            threads.add(Thread.currentThread());
+            final List<Record<String>> processedRecords = new ArrayList<>(records.size());
+            for (final Record<String> record : records) {
+                processedRecords.add(new Record<>(record.getData() + suffix));
+            }
+            return processedRecords;
+        }
+
+        @Override
+        public void prepareForShutdown() {
+        }
+
+        @Override
+        public boolean isReadyForShutdown() {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+
+    @Stateless
+    private static class StatelessProcessor extends BatchProcessor {
+        StatelessProcessor(final String suffix) {
+            super(suffix);
+        }
+    }
+
+    @Stateless
+    @SingleThread
+    private static class SingleThreadStatelessProcessor extends BatchProcessor {
+        SingleThreadStatelessProcessor(final String suffix) {
+            super(suffix);
+        }
+    }
+}
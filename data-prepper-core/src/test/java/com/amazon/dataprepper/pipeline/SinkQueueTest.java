@@ -0,0 +1,166 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.sink.Sink;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SinkQueueTest {
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+
+    @Mock
+    private Sink sink;
+
+    private static Collection<Record> createBatch(final int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> new Record<>(Integer.toString(i)))
+                .collect(Collectors.toList());
+    }
+
+    private SinkQueue createObjectUnderTest(final int maxRecords, final long lingerInMillis) {
+        return new SinkQueue(TEST_PIPELINE_NAME, sink, 10, maxRecords, lingerInMillis);
+    }
+
+    @Test
+    void run_outputs_queued_batches_up_to_max_records_and_acknowledges_each_batch() throws InterruptedException {
+        final SinkQueue objectUnderTest = createObjectUnderTest(5, 0);
+        final Collection<Record> firstBatch = createBatch(2);
+        final Collection<Record> secondBatch = createBatch(3);
+        final Collection<Record> thirdBatch = createBatch(1);
+        final CountDownLatch acknowledgements = new CountDownLatch(3);
+        objectUnderTest.put(firstBatch, acknowledgements::countDown);
+        objectUnderTest.put(secondBatch, acknowledgements::countDown);
+        objectUnderTest.put(thirdBatch, acknowledgements::countDown);
+        objectUnderTest.stop();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), objectUnderTest::run);
+
+        assertThat(acknowledgements.getCount(), is(0L));
+        final ArgumentCaptor<Collection<Record>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(sink, times(2)).output(recordsCaptor.capture());
+        final List<Collection<Record>> outputs = recordsCaptor.getAllValues();
+        assertThat(outputs.get(0).size(), equalTo(5));
+        assertThat(outputs.get(1), equalTo(thirdBatch));
+    }
+
+    @Test
+    void run_outputs_batch_larger_than_max_records_on_its_own() throws InterruptedException {
+        final SinkQueue objectUnderTest = createObjectUnderTest(2, 0);
+        final Collection<Record> firstBatch = createBatch(3);
+        final Collection<Record> secondBatch = createBatch(3);
+        objectUnderTest.put(firstBatch, () -> { });
+        objectUnderTest.put(secondBatch, () -> { });
+        objectUnderTest.stop();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), objectUnderTest::run);
+
+        verify(sink).output(firstBatch);
+        verify(sink).output(secondBatch);
+    }
+
+    @Test
+    void run_waits_for_linger_to_merge_batches() throws InterruptedException {
+        final SinkQueue objectUnderTest = createObjectUnderTest(10, TimeUnit.SECONDS.toMillis(1));
+        final Collection<Record> firstBatch = createBatch(2);
+        final Collection<Record> secondBatch = createBatch(2);
+        final CountDownLatch acknowledgements = new CountDownLatch(2);
+        objectUnderTest.put(firstBatch, acknowledgements::countDown);
+
+        final Thread drainThread = new Thread(objectUnderTest);
+        drainThread.start();
+        Thread.sleep(100);
+        verifyNoInteractions(sink);
+
+        objectUnderTest.put(secondBatch, acknowledgements::countDown);
+        objectUnderTest.stop();
+        drainThread.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(acknowledgements.getCount(), is(0L));
+        final ArgumentCaptor<Collection<Record>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(sink).output(recordsCaptor.capture());
+        assertThat(recordsCaptor.getValue().size(), equalTo(4));
+    }
+
+    @Test
+    void run_acknowledges_batches_when_sink_fails() throws InterruptedException {
+        doThrow(new RuntimeException("Sink is expected to fail")).when(sink).output(any());
+        final SinkQueue objectUnderTest = createObjectUnderTest(10, 0);
+        final CountDownLatch acknowledgements = new CountDownLatch(1);
+        objectUnderTest.put(createBatch(2), acknowledgements::countDown);
+        objectUnderTest.stop();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), objectUnderTest::run);
+
+        assertThat(acknowledgements.getCount(), is(0L));
+    }
+
+    @Test
+    void run_retries_output_which_timed_out_before_acknowledging_batches() throws InterruptedException {
+        final SinkQueue objectUnderTest = createObjectUnderTest(10, 0);
+        doThrow(new RuntimeException(new TimeoutException())).doAnswer(invocation -> {
+            objectUnderTest.stop();
+            return null;
+        }).when(sink).output(any());
+        final Collection<Record> batch = createBatch(2);
+        final CountDownLatch acknowledgements = new CountDownLatch(1);
+        objectUnderTest.put(batch, acknowledgements::countDown);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), objectUnderTest::run);
+
+        assertThat(acknowledgements.getCount(), is(0L));
+        verify(sink, times(2)).output(batch);
+    }
+
+    @Test
+    void run_does_not_acknowledge_batches_when_output_times_out_after_stop_requested() throws InterruptedException {
+        doThrow(new RuntimeException(new TimeoutException())).when(sink).output(any());
+        final SinkQueue objectUnderTest = createObjectUnderTest(10, 0);
+        final CountDownLatch acknowledgements = new CountDownLatch(1);
+        objectUnderTest.put(createBatch(2), acknowledgements::countDown);
+        objectUnderTest.stop();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), objectUnderTest::run);
+
+        assertThat(acknowledgements.getCount(), is(1L));
+        verify(sink).output(any());
+    }
+
+    @Test
+    void run_stops_when_interrupted() {
+        final SinkQueue objectUnderTest = createObjectUnderTest(10, 0);
+
+        Thread.currentThread().interrupt();
+        objectUnderTest.run();
+
+        assertThat(Thread.interrupted(), is(true));
+        verifyNoInteractions(sink);
+    }
+}
@@ -13,8 +13,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -96,4 +102,29 @@ public class PipelineThreadPoolExecutorTest {
         verify(runnableFuture).get();
         verify(pipeline).shutdown();
     }
+
+    @Test
+    public void testNewThreadPerTaskExecutorRunsEachTaskOnNewThread() throws Exception {
+        final PipelineThreadPoolExecutor executor = PipelineThreadPoolExecutor.newThreadPerTaskExecutor(
+                Executors.defaultThreadFactory(), pipeline);
+        final CountDownLatch tasksStarted = new CountDownLatch(3);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 3; i++) {
+                executor.submit(() -> {
+                    tasksStarted.countDown();
+                    release.await();
+                    return null;
+                });
+            }
+
+            assertThat(tasksStarted.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(executor.getPoolSize(), is(3));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS), is(true));
+        verify(pipeline, never()).shutdown();
+    }
 }
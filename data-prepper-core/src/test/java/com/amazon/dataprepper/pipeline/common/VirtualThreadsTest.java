@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsTest {
+
+    @Test
+    void newThreadFactory_creates_named_virtual_threads_if_supported() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        final ThreadFactory threadFactory = VirtualThreads.newThreadFactory("test-pipeline-sink-worker");
+        final Thread thread = threadFactory.newThread(() -> { });
+
+        assertThat(thread.getName(), startsWith("test-pipeline-sink-worker-virtual-thread-"));
+        assertThat(Thread.class.getMethod("isVirtual").invoke(thread), is(true));
+    }
+
+    @Test
+    void newThreadFactory_throws_if_not_supported() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        assertThrows(UnsupportedOperationException.class, () -> VirtualThreads.newThreadFactory("test-pipeline-sink-worker"));
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+/**
+ * Applies an {@link Operator} with a left and a right operand.
+ */
+class BinaryOperatorExpression implements CompiledExpression {
+    private final Operator<?> operator;
+    private final CompiledExpression leftOperand;
+    private final CompiledExpression rightOperand;
+    private final String statement;
+
+    BinaryOperatorExpression(final Operator<?> operator,
+                             final CompiledExpression leftOperand,
+                             final CompiledExpression rightOperand,
+                             final String statement) {
+        this.operator = operator;
+        this.leftOperand = leftOperand;
+        this.rightOperand = rightOperand;
+        this.statement = statement;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Object leftValue = leftOperand.evaluate(event);
+        final Object rightValue = rightOperand.evaluate(event);
+        try {
+            return operator.evaluate(leftValue, rightValue);
+        } catch (final Exception e) {
+            throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: " + statement, e);
+        }
+    }
+}
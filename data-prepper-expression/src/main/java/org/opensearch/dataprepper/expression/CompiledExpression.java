@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+/**
+ * @since 1.4
+ * An expression compiled into a tree of evaluator nodes. Implementations are immutable, so a single instance can
+ * evaluate events from multiple threads.
+ */
+interface CompiledExpression {
+    /**
+     * @since 1.4
+     * Evaluates the expression, resolving Json Pointers against the event.
+     * @param event event used to resolve Json Pointers
+     * @return result of the expression
+     */
+    Object evaluate(final Event event);
+}
@@ -12,21 +12,26 @@ import org.springframework.context.annotation.Scope;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Public class that {@link com.amazon.dataprepper.model.processor.Processor},
  * {@link com.amazon.dataprepper.model.sink.Sink} and data-prepper-core objects can use to evaluate statements.
+ * Each statement is parsed and compiled once, then the {@link CompiledExpression} is reused for every event. Instances
+ * are thread-safe.
  */
 @Named
 @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 class ConditionalExpressionEvaluator implements ExpressionEvaluator<Boolean> {
     private final Parser<ParseTree> parser;
-    private final Evaluator<ParseTree, Event> evaluator;
+    private final ExpressionCompiler<ParseTree> compiler;
+    private final Map<String, CompiledExpression> compiledExpressions = new ConcurrentHashMap<>();
 
     @Inject
-    public ConditionalExpressionEvaluator(final Parser<ParseTree> parser, final Evaluator<ParseTree, Event> evaluator) {
+    public ConditionalExpressionEvaluator(final Parser<ParseTree> parser, final ExpressionCompiler<ParseTree> compiler) {
         this.parser = parser;
-        this.evaluator = evaluator;
+        this.compiler = compiler;
     }
 
     /**
@@ -37,8 +42,8 @@ class ConditionalExpressionEvaluator implements ExpressionEvaluator<Boolean> {
     @Override
     public Boolean evaluate(final String statement, final Event context) {
         try {
-            final ParseTree parseTree = parser.parse(statement);
-            final Object result = evaluator.evaluate(parseTree, context);
+            final CompiledExpression compiledExpression = compiledExpressions.computeIfAbsent(statement, this::compile);
+            final Object result = compiledExpression.evaluate(context);
 
             if (result instanceof Boolean) {
                 return (Boolean) result;
@@ -51,4 +56,13 @@ class ConditionalExpressionEvaluator implements ExpressionEvaluator<Boolean> {
             throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
         }
     }
+
+    private CompiledExpression compile(final String statement) {
+        final ParseTree parseTree;
+        // The parser reuses its lexer and token stream, so statements are parsed one at a time.
+        synchronized (parser) {
+            parseTree = parser.parse(statement);
+        }
+        return compiler.compile(parseTree);
+    }
 }
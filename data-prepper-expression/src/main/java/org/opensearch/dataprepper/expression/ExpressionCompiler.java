@@ -0,0 +1,16 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+/**
+ * @since 1.4
+ * Compiles parsed data into a {@link CompiledExpression} which can be evaluated repeatedly by an
+ * {@link ExpressionEvaluator} implementation
+ * @param <ParsedData> parsed data type
+ */
+interface ExpressionCompiler<ParsedData> {
+    CompiledExpression compile(final ParsedData parsedData);
+}
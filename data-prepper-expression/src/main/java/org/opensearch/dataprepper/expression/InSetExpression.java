@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+import java.util.Set;
+
+/**
+ * Checks the left operand against a literal set which was hashed once at compile time.
+ */
+class InSetExpression implements CompiledExpression {
+    private final CompiledExpression leftOperand;
+    private final Set<?> set;
+    private final boolean isNegated;
+
+    InSetExpression(final CompiledExpression leftOperand, final Set<?> set, final boolean isNegated) {
+        this.leftOperand = leftOperand;
+        this.set = set;
+        this.isNegated = isNegated;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        return set.contains(leftOperand.evaluate(event)) != isNegated;
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+/**
+ * Resolves a Json Pointer, with any quotes already stripped at compile time, against the event.
+ */
+class JsonPointerExpression implements CompiledExpression {
+    private final String jsonPointer;
+    private final ParseTreeCoercionService coercionService;
+
+    JsonPointerExpression(final String jsonPointer, final ParseTreeCoercionService coercionService) {
+        this.jsonPointer = jsonPointer;
+        this.coercionService = coercionService;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        return coercionService.resolveJsonPointerValue(jsonPointer, event);
+    }
+}
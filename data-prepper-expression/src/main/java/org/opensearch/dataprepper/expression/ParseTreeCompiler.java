@@ -0,0 +1,206 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * @since 1.4
+ * Compiles a {@link ParseTree} into a tree of {@link CompiledExpression} nodes once, so evaluating an event does not
+ * walk the parse tree. While compiling:
+ * <ul>
+ *     <li>and/or are compiled into {@link ShortCircuitExpression} nodes which skip the right operand when possible</li>
+ *     <li>operators with only constant operands are evaluated once and replaced by a {@link ConstantExpression}</li>
+ *     <li>literals are coerced and Json Pointers have their quotes stripped</li>
+ *     <li>literal regex patterns are compiled and literal sets are hashed, once</li>
+ * </ul>
+ */
+@Named
+class ParseTreeCompiler implements ExpressionCompiler<ParseTree> {
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeCoercionService coercionService;
+
+    @Inject
+    public ParseTreeCompiler(final OperatorProvider operatorProvider, final ParseTreeCoercionService coercionService) {
+        this.operatorProvider = operatorProvider;
+        this.coercionService = coercionService;
+    }
+
+    @Override
+    public CompiledExpression compile(final ParseTree parseTree) {
+        if (parseTree instanceof TerminalNode) {
+            return compileTerminal((TerminalNode) parseTree);
+        }
+
+        final ParserRuleContext ctx = (ParserRuleContext) parseTree;
+        switch (ctx.getRuleIndex()) {
+            case DataPrepperExpressionParser.RULE_parenthesesExpression:
+                return compile(ctx.getChild(1));
+            case DataPrepperExpressionParser.RULE_setInitializer:
+                return compileSetInitializer(ctx);
+            case DataPrepperExpressionParser.RULE_expression:
+                return compile(ctx.getChild(0));
+            default:
+                switch (ctx.getChildCount()) {
+                    case 1:
+                        return compile(ctx.getChild(0));
+                    case 2:
+                        return compileUnaryOperation(ctx);
+                    case 3:
+                        return compileBinaryOperation(ctx);
+                    default:
+                        throw new IllegalArgumentException("Unsupported expression: " + getPartialStatementFromContext(ctx));
+                }
+        }
+    }
+
+    private CompiledExpression compileTerminal(final TerminalNode node) {
+        if (node instanceof ErrorNode) {
+            throw new IllegalArgumentException("Hit error node in the parse tree: " + node.getText());
+        }
+
+        final String nodeStringValue = node.getText();
+        switch (node.getSymbol().getType()) {
+            case DataPrepperExpressionParser.JsonPointer:
+                return new JsonPointerExpression(nodeStringValue, coercionService);
+            case DataPrepperExpressionParser.EscapedJsonPointer:
+                return new JsonPointerExpression(nodeStringValue.substring(1, nodeStringValue.length() - 1), coercionService);
+            default:
+                return new ConstantExpression(coercionService.coercePrimaryTerminalNode(node, null));
+        }
+    }
+
+    private CompiledExpression compileSetInitializer(final ParserRuleContext ctx) {
+        final List<CompiledExpression> elements = new ArrayList<>();
+        final Set<Object> constantElements = new HashSet<>();
+        boolean isConstant = true;
+        // children are LBRACE primary (SET_DELIMITER primary)* RBRACE
+        for (int i = 1; i < ctx.getChildCount(); i += 2) {
+            final CompiledExpression element = compile(ctx.getChild(i));
+            elements.add(element);
+            if (element instanceof ConstantExpression) {
+                constantElements.add(element.evaluate(null));
+            } else {
+                isConstant = false;
+            }
+        }
+
+        if (isConstant) {
+            return new ConstantExpression(Collections.unmodifiableSet(constantElements));
+        }
+        return new SetInitializerExpression(Collections.unmodifiableList(elements));
+    }
+
+    private CompiledExpression compileUnaryOperation(final ParserRuleContext ctx) {
+        final Operator<?> operator = operatorProvider.getOperator(getOperatorSymbol(ctx.getChild(0)));
+        final CompiledExpression operand = compile(ctx.getChild(1));
+        final CompiledExpression expression = new UnaryOperatorExpression(operator, operand, getPartialStatementFromContext(ctx));
+        return foldConstants(expression, operand);
+    }
+
+    private CompiledExpression compileBinaryOperation(final ParserRuleContext ctx) {
+        final int operatorSymbol = getOperatorSymbol(ctx.getChild(1));
+        final CompiledExpression leftOperand = compile(ctx.getChild(0));
+        final CompiledExpression rightOperand = compile(ctx.getChild(2));
+        final String statement = getPartialStatementFromContext(ctx);
+
+        if (operatorSymbol == DataPrepperExpressionParser.AND || operatorSymbol == DataPrepperExpressionParser.OR) {
+            final boolean shortCircuitResult = operatorSymbol == DataPrepperExpressionParser.OR;
+            if (leftOperand instanceof ConstantExpression &&
+                    Boolean.valueOf(shortCircuitResult).equals(leftOperand.evaluate(null))) {
+                return leftOperand;
+            }
+            final String displayName = DataPrepperExpressionParser.VOCABULARY.getDisplayName(operatorSymbol);
+            final CompiledExpression expression =
+                    new ShortCircuitExpression(shortCircuitResult, leftOperand, rightOperand, displayName, statement);
+            return foldConstants(expression, leftOperand, rightOperand);
+        }
+
+        final Operator<?> operator = operatorProvider.getOperator(operatorSymbol);
+        final CompiledExpression expression = new BinaryOperatorExpression(operator, leftOperand, rightOperand, statement);
+        if (rightOperand instanceof ConstantExpression && !(leftOperand instanceof ConstantExpression)) {
+            final Object rightValue = rightOperand.evaluate(null);
+            if (operatorSymbol == DataPrepperExpressionParser.MATCH_REGEX_PATTERN ||
+                    operatorSymbol == DataPrepperExpressionParser.NOT_MATCH_REGEX_PATTERN) {
+                return compileRegexMatch(expression, operatorSymbol, leftOperand, rightValue, statement);
+            }
+            if ((operatorSymbol == DataPrepperExpressionParser.IN_SET ||
+                    operatorSymbol == DataPrepperExpressionParser.NOT_IN_SET) && rightValue instanceof Set) {
+                return new InSetExpression(leftOperand, (Set<?>) rightValue,
+                        operatorSymbol == DataPrepperExpressionParser.NOT_IN_SET);
+            }
+        }
+        return foldConstants(expression, leftOperand, rightOperand);
+    }
+
+    /**
+     * Compiles a literal pattern once. A pattern which is not a String or is not valid keeps the generic expression,
+     * so the error is reported when an event is evaluated.
+     */
+    private CompiledExpression compileRegexMatch(final CompiledExpression expression,
+                                                 final int operatorSymbol,
+                                                 final CompiledExpression leftOperand,
+                                                 final Object pattern,
+                                                 final String statement) {
+        if (!(pattern instanceof String)) {
+            return expression;
+        }
+        try {
+            final String displayName = DataPrepperExpressionParser.VOCABULARY.getDisplayName(operatorSymbol);
+            return new RegexMatchExpression(leftOperand, Pattern.compile((String) pattern),
+                    operatorSymbol == DataPrepperExpressionParser.NOT_MATCH_REGEX_PATTERN, displayName, statement);
+        } catch (final PatternSyntaxException e) {
+            return expression;
+        }
+    }
+
+    /**
+     * Evaluates an expression with only constant operands once. If that fails the expression is kept, so the error is
+     * reported when an event is evaluated, as it would be without folding.
+     */
+    private CompiledExpression foldConstants(final CompiledExpression expression, final CompiledExpression... operands) {
+        for (final CompiledExpression operand : operands) {
+            if (!(operand instanceof ConstantExpression)) {
+                return expression;
+            }
+        }
+        try {
+            return new ConstantExpression(expression.evaluate(null));
+        } catch (final RuntimeException e) {
+            return expression;
+        }
+    }
+
+    private int getOperatorSymbol(final ParseTree operatorContext) {
+        ParseTree node = operatorContext;
+        while (!(node instanceof TerminalNode)) {
+            node = node.getChild(0);
+        }
+        return ((TerminalNode) node).getSymbol().getType();
+    }
+
+    private String getPartialStatementFromContext(final ParserRuleContext ctx) {
+        final Token startToken = ctx.getStart();
+        final Token stopToken = ctx.getStop();
+        final String fullStatement = startToken.getInputStream().toString();
+        return fullStatement.substring(startToken.getStartIndex(), stopToken.getStopIndex() + 1);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+import java.util.regex.Pattern;
+
+/**
+ * Matches the left operand against a literal regex pattern which was compiled once at compile time.
+ */
+class RegexMatchExpression implements CompiledExpression {
+    private final CompiledExpression leftOperand;
+    private final Pattern pattern;
+    private final boolean isNegated;
+    private final String displayName;
+    private final String statement;
+
+    RegexMatchExpression(final CompiledExpression leftOperand,
+                         final Pattern pattern,
+                         final boolean isNegated,
+                         final String displayName,
+                         final String statement) {
+        this.leftOperand = leftOperand;
+        this.pattern = pattern;
+        this.isNegated = isNegated;
+        this.displayName = displayName;
+        this.statement = statement;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Object leftValue = leftOperand.evaluate(event);
+        if (!(leftValue instanceof String)) {
+            throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: " + statement,
+                    new IllegalArgumentException(displayName + " requires left operand to be String."));
+        }
+        return pattern.matcher((String) leftValue).matches() != isNegated;
+    }
+}
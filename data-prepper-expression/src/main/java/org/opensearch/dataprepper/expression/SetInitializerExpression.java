@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds a set from elements which are not all constant. Sets of constants are built once by the compiler instead.
+ */
+class SetInitializerExpression implements CompiledExpression {
+    private final List<CompiledExpression> elements;
+
+    SetInitializerExpression(final List<CompiledExpression> elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Set<Object> set = new HashSet<>(elements.size() * 2);
+        for (final CompiledExpression element : elements) {
+            set.add(element.evaluate(event));
+        }
+        return set;
+    }
+}
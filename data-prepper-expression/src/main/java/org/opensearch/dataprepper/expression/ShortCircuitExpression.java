@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+/**
+ * Evaluates a conditional and/or expression. The right operand is only evaluated when the left operand does not
+ * already decide the result, which is false for and, true for or.
+ */
+class ShortCircuitExpression implements CompiledExpression {
+    private final boolean shortCircuitResult;
+    private final CompiledExpression leftOperand;
+    private final CompiledExpression rightOperand;
+    private final String displayName;
+    private final String statement;
+
+    ShortCircuitExpression(final boolean shortCircuitResult,
+                           final CompiledExpression leftOperand,
+                           final CompiledExpression rightOperand,
+                           final String displayName,
+                           final String statement) {
+        this.shortCircuitResult = shortCircuitResult;
+        this.leftOperand = leftOperand;
+        this.rightOperand = rightOperand;
+        this.displayName = displayName;
+        this.statement = statement;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Object leftValue = leftOperand.evaluate(event);
+        checkBoolean(leftValue, "left");
+        if ((Boolean) leftValue == shortCircuitResult) {
+            return leftValue;
+        }
+        final Object rightValue = rightOperand.evaluate(event);
+        checkBoolean(rightValue, "right");
+        return rightValue;
+    }
+
+    private void checkBoolean(final Object value, final String side) {
+        if (!(value instanceof Boolean)) {
+            throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: " + statement,
+                    new IllegalArgumentException(displayName + " requires " + side + " operand to be Boolean."));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.amazon.dataprepper.model.event.Event;
+
+/**
+ * Applies an {@link Operator} with a single operand.
+ */
+class UnaryOperatorExpression implements CompiledExpression {
+    private final Operator<?> operator;
+    private final CompiledExpression operand;
+    private final String statement;
+
+    UnaryOperatorExpression(final Operator<?> operator, final CompiledExpression operand, final String statement) {
+        this.operator = operator;
+        this.operand = operand;
+        this.statement = statement;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Object value = operand.evaluate(event);
+        try {
+            return operator.evaluate(value);
+        } catch (final Exception e) {
+            throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: " + statement, e);
+        }
+    }
+}
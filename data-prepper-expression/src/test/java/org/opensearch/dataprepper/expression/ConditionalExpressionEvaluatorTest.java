@@ -32,7 +32,7 @@ class ConditionalExpressionEvaluatorTest {
     @Mock
     private Parser<ParseTree> parser;
     @Mock
-    private Evaluator<ParseTree, Event> evaluator;
+    private ExpressionCompiler<ParseTree> compiler;
     @InjectMocks
     private ConditionalExpressionEvaluator statementEvaluator;
 
@@ -40,33 +40,58 @@ class ConditionalExpressionEvaluatorTest {
     void testGivenValidParametersThenEvaluatorResultReturned() {
         final String statement = UUID.randomUUID().toString();
         final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
         final Event event = mock(Event.class);
         final Boolean expected = true;
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expected).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(expected).when(compiledExpression).evaluate(eq(event));
 
         final Boolean actual = statementEvaluator.evaluate(statement, event);
 
         assertThat(actual, is(expected));
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiler).compile(eq(parseTree));
+        verify(compiledExpression).evaluate(eq(event));
+    }
+
+    @Test
+    void testGivenSameStatementThenCompiledExpressionReused() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+        final Event event = mock(Event.class);
+        final Event otherEvent = mock(Event.class);
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(true).when(compiledExpression).evaluate(eq(event));
+        doReturn(false).when(compiledExpression).evaluate(eq(otherEvent));
+
+        assertThat(statementEvaluator.evaluate(statement, event), is(true));
+        assertThat(statementEvaluator.evaluate(statement, otherEvent), is(false));
+
+        verify(parser, times(1)).parse(eq(statement));
+        verify(compiler, times(1)).compile(eq(parseTree));
     }
 
     @Test
     void testGivenUnexpectedEvaluatorResultTypeThenExceptionThrown() {
         final String statement = UUID.randomUUID().toString();
         final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
         final Event event = mock(Event.class);
         final Object result = mock(Object.class);
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(result).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(result).when(compiledExpression).evaluate(eq(event));
 
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, event));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression).evaluate(eq(event));
     }
 
     @Test
@@ -78,21 +103,23 @@ class ConditionalExpressionEvaluatorTest {
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, null));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator, times(0)).evaluate(any(), any());
+        verify(compiler, times(0)).compile(any());
     }
 
     @Test
     void testGivenEvaluatorThrowsExceptionThenExceptionThrown() {
         final String statement = UUID.randomUUID().toString();
         final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
         final Event event = mock(Event.class);
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doThrow(new RuntimeException()).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doThrow(new RuntimeException()).when(compiledExpression).evaluate(eq(event));
 
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, event));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression).evaluate(eq(event));
     }
 }
@@ -7,9 +7,10 @@ package org.opensearch.dataprepper.expression;
 
 import com.amazon.dataprepper.model.event.Event;
 import com.amazon.dataprepper.model.event.JacksonEvent;
-import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNodeImpl;
 import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
@@ -18,16 +19,20 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
-class ParseTreeEvaluatorListenerTest {
+class ParseTreeCompilerTest {
     private final Random random = new Random();
-    private final ParseTreeWalker walker = new ParseTreeWalker();
     private final ParseTreeParser parseTreeParser = constructParseTreeParser();
     private final OperatorConfiguration operatorConfiguration = new OperatorConfiguration();
     private final LiteralTypeConversionsConfiguration literalTypeConversionsConfiguration = new LiteralTypeConversionsConfiguration();
@@ -40,48 +45,151 @@ class ParseTreeEvaluatorListenerTest {
             operatorConfiguration.greaterThanOperator(), operatorConfiguration.greaterThanOrEqualOperator(),
             operatorConfiguration.lessThanOperator(), operatorConfiguration.lessThanOrEqualOperator(),
             operatorConfiguration.regexEqualOperator(), operatorConfiguration.regexNotEqualOperator(),
-            new NotOperator()
+            new NotOperator(), new UnaryNumericOperatorConfiguration().subtractUnaryNumericOperator()
     );
     private final OperatorProvider operatorProvider = new OperatorProvider(operators);
-    private ParseTreeEvaluatorListener objectUnderTest;
+    private final ParseTreeCompiler objectUnderTest = new ParseTreeCompiler(operatorProvider, coercionService);
 
     private ParseTreeParser constructParseTreeParser() {
         final DataPrepperExpressionParser expressionParser = new ParseTreeParserConfiguration().dataPrepperExpressionParser();
         return new ParseTreeParser(expressionParser);
     }
 
-    private ParseTreeEvaluatorListener createObjectUnderTest(final Event event) {
-        return new ParseTreeEvaluatorListener(operatorProvider, coercionService, event);
-    }
-
     private Event createTestEvent(final Object data) {
         return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
 
-    private Object evaluateStatementOnEvent(final String statement, final Event event) {
+    private CompiledExpression compile(final String statement) {
         final ParseTree parseTree = parseTreeParser.parse(statement);
-        objectUnderTest = createObjectUnderTest(event);
-        walker.walk(objectUnderTest, parseTree);
-        return objectUnderTest.getResult();
+        return objectUnderTest.compile(parseTree);
+    }
+
+    private Object evaluateStatementOnEvent(final String statement, final Event event) {
+        return compile(statement).evaluate(event);
     }
 
     @Test
-    void testVisitErrorNode() {
-        final ErrorNode errorNode = mock(ErrorNode.class);
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
+    void testCompileErrorNode() {
+        final ErrorNodeImpl errorNode = new ErrorNodeImpl(new CommonToken(DataPrepperExpressionParser.OTHER, "?"));
 
-        assertThrows(RuntimeException.class, () -> objectUnderTest.visitErrorNode(errorNode));
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.compile(errorNode));
     }
 
     @Test
-    void testGetResultWithDoubleWalk() {
-        final ParseTree testParseTree = parseTreeParser.parse("true");
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
-        walker.walk(objectUnderTest, testParseTree);
-        walker.walk(objectUnderTest, testParseTree);
-        assertThrows(IllegalStateException.class, objectUnderTest::getResult);
+    void testCompileUnsupportedRuleChildCount() {
+        final ParserRuleContext ctx = (ParserRuleContext) parseTreeParser.parse("true and false").getChild(0);
+        ctx.addChild(new CommonToken(DataPrepperExpressionParser.AND, " and "));
+        ctx.addChild(new CommonToken(DataPrepperExpressionParser.Boolean, "true"));
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.compile(ctx));
+    }
+
+    @Test
+    void testCompiledExpressionIsReusableAcrossEvents() {
+        final CompiledExpression compiledExpression = compile("/status == 200");
+
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("status", 200))), is(true));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("status", 500))), is(false));
+        assertThat(compiledExpression.evaluate(createTestEvent(new HashMap<>())), is(false));
+    }
+
+    @Test
+    void testConstantExpressionsAreFolded() {
+        assertThat(compile("true"), instanceOf(ConstantExpression.class));
+        assertThat(compile("-1 < 2 and not (\"a\" == \"b\")"), instanceOf(ConstantExpression.class));
+        assertThat(compile("-1 < 2 and not (\"a\" == \"b\")").evaluate(null), is(true));
+        assertThat(compile("1 in {1, 2}"), instanceOf(ConstantExpression.class));
+        assertThat(compile("/a == 1"), instanceOf(BinaryOperatorExpression.class));
+        assertThat(compile("-/a"), instanceOf(UnaryOperatorExpression.class));
+        assertThat(compile("/a and true"), instanceOf(ShortCircuitExpression.class));
+    }
+
+    @Test
+    void testInvalidConstantExpressionsFailOnEvaluation() {
+        final CompiledExpression compiledExpression = compile("1 > true");
+
+        assertThat(compiledExpression, instanceOf(BinaryOperatorExpression.class));
+        assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(null));
+        assertThat(compile("not 1"), instanceOf(UnaryOperatorExpression.class));
+        assertThat(compile("1 and true"), instanceOf(ShortCircuitExpression.class));
+    }
+
+    @Test
+    void testConditionalOperatorsShortCircuit() {
+        final String testKey = "testKey";
+        final Event testEvent = createTestEvent(Map.of(testKey, random.nextInt(1000)));
+        final String andStatement = String.format("false and /%s", testKey);
+        final String orStatement = String.format("true or /%s", testKey);
+        final String notShortCircuitedAndStatement = String.format("true and /%s", testKey);
+        final String notShortCircuitedOrStatement = String.format("false or /%s", testKey);
+
+        assertThat(evaluateStatementOnEvent(andStatement, testEvent), is(false));
+        assertThat(evaluateStatementOnEvent(orStatement, testEvent), is(true));
+        assertThrows(ExpressionEvaluationException.class, () -> evaluateStatementOnEvent(notShortCircuitedAndStatement, testEvent));
+        assertThrows(ExpressionEvaluationException.class, () -> evaluateStatementOnEvent(notShortCircuitedOrStatement, testEvent));
+    }
+
+    @Test
+    void testConditionalOperatorsShortCircuitDoNotResolveRightOperand() {
+        final Event testEvent = mock(Event.class);
+        final CompiledExpression compiledExpression = compile("/left and /right");
+
+        when(testEvent.get("/left", Object.class)).thenReturn(false);
+        assertThat(compiledExpression.evaluate(testEvent), is(false));
+        verify(testEvent, never()).get("/right", Object.class);
+    }
+
+    @Test
+    void testLiteralRegexPatternIsPrecompiled() {
+        final Event testEvent = createTestEvent(Map.of("message", "GET /index.html 200", "status", 200));
+        final CompiledExpression matchExpression = compile("/message =~ \"GET .* 2[0-9]{2}\"");
+        final CompiledExpression notMatchExpression = compile("/message !~ \"POST .*\"");
+
+        assertThat(matchExpression, instanceOf(RegexMatchExpression.class));
+        assertThat(notMatchExpression, instanceOf(RegexMatchExpression.class));
+        assertThat(matchExpression.evaluate(testEvent), is(true));
+        assertThat(notMatchExpression.evaluate(testEvent), is(true));
+        assertThat(evaluateStatementOnEvent("/message =~ \"POST .*\"", testEvent), is(false));
+        assertThrows(ExpressionEvaluationException.class, () -> evaluateStatementOnEvent("/status =~ \"2.*\"", testEvent));
+    }
+
+    @Test
+    void testInvalidLiteralRegexPatternFailsOnEvaluation() {
+        final Event testEvent = createTestEvent(Map.of("message", "abc"));
+        final CompiledExpression compiledExpression = compile("/message =~ \"[a-\"");
+
+        assertThat(compiledExpression, instanceOf(BinaryOperatorExpression.class));
+        assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(testEvent));
+    }
+
+    @Test
+    void testJsonPointerRegexPattern() {
+        final Event testEvent = createTestEvent(Map.of("message", "abc", "pattern", "a.c"));
+        final CompiledExpression compiledExpression = compile("/message =~ /pattern");
+
+        assertThat(compiledExpression, instanceOf(BinaryOperatorExpression.class));
+        assertThat(compiledExpression.evaluate(testEvent), is(true));
+    }
+
+    @Test
+    void testLiteralSetIsPrecompiled() {
+        final Event testEvent = createTestEvent(Map.of("status", 200));
+
+        assertThat(compile("/status in {200, 202}"), instanceOf(InSetExpression.class));
+        assertThat(compile("/status not in {200, 202}"), instanceOf(InSetExpression.class));
+        assertThat(compile("/status in {/other, 202}"), instanceOf(BinaryOperatorExpression.class));
+        assertThat(evaluateStatementOnEvent("/status not in {404, 500}", testEvent), is(true));
+    }
+
+    @Test
+    void testSetOperatorExpression() {
+        final Event testEvent = createTestEvent(Map.of("status", 200, "other", 404));
+
+        assertThat(evaluateStatementOnEvent("/status in {200, 202}", testEvent), is(true));
+        assertThat(evaluateStatementOnEvent("/status not in {200, 202}", testEvent), is(false));
+        assertThat(evaluateStatementOnEvent("/status in {/other, 500}", testEvent), is(false));
+        assertThat(evaluateStatementOnEvent("/status in {/other, 200}", testEvent), is(true));
+        assertThat(evaluateStatementOnEvent("{200, 202}", testEvent), equalTo(Set.of(200, 202)));
     }
 
     @Test
@@ -209,7 +317,7 @@ class ParseTreeEvaluatorListenerTest {
     @Test
     void testSimpleConditionalOperatorExpressionWithInValidLiteralType() {
         final String andStatement = "1 and false";
-        final String orStatement = "true or 0";
+        final String orStatement = "false or 0";
         final Event testEvent = createTestEvent(new HashMap<>());
         assertThrows(ExpressionEvaluationException.class, () -> evaluateStatementOnEvent(andStatement, testEvent));
         assertThrows(ExpressionEvaluationException.class, () -> evaluateStatementOnEvent(orStatement, testEvent));
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.blockingbuffer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Adjusts the number of records read from a {@link BlockingBuffer} in each batch. The batch size is doubled while
+ * batches are filled and the buffer still holds at least another full batch, so that a backlog is read in fewer,
+ * larger batches. It is halved, but not below the number of records last read, when a batch is not filled within the
+ * batch latency, so that records are not held back waiting for a batch which traffic cannot fill.
+ */
+class AdaptiveBatchSizer {
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final AtomicInteger batchSize;
+
+    /**
+     * @param batchSize    holder of the current batch size, initialized to the first batch size
+     * @param minBatchSize the smallest batch size
+     * @param maxBatchSize the largest batch size
+     */
+    AdaptiveBatchSizer(final AtomicInteger batchSize, final int minBatchSize, final int maxBatchSize) {
+        checkArgument(minBatchSize > 0, "min_batch_size must be greater than 0");
+        checkArgument(minBatchSize <= batchSize.get() && batchSize.get() <= maxBatchSize,
+                "batch_size must be between min_batch_size and max_batch_size");
+        this.batchSize = batchSize;
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    int getBatchSize() {
+        return batchSize.get();
+    }
+
+    /**
+     * Adjusts the batch size after a batch is read.
+     *
+     * @param readBatchSize    the batch size the batch was read with
+     * @param recordsRead      the number of records read in the batch
+     * @param recordsRemaining the number of records left in the buffer after the batch was read
+     */
+    void onBatchRead(final int readBatchSize, final int recordsRead, final int recordsRemaining) {
+        if (recordsRead >= readBatchSize) {
+            if (recordsRemaining >= readBatchSize) {
+                batchSize.set(Math.min(maxBatchSize, readBatchSize * 2));
+            }
+        } else {
+            batchSize.set(Math.max(minBatchSize, Math.max(recordsRead, readBatchSize / 2)));
+        }
+    }
+}
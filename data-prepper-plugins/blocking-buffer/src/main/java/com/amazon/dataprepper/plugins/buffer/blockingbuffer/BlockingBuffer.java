@@ -27,7 +27,9 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
 
@@ -37,7 +39,10 @@ import static java.lang.String.format;
  * not provided); {@link #write(Record, int)} inserts specified non-null record into this buffer, waiting up to the
  * specified timeout in milliseconds if necessary for space to become available; and throws an exception if the
  * record is null. {@link #read(int)} retrieves and removes the batch of records from the head of the queue. The
- * batch size is defined/determined by the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the timeout parameter
+ * batch size is defined/determined by the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the timeout parameter.
+ * If {@link #ATTRIBUTE_ADAPTIVE_BATCH_SIZE} is enabled, the batch size is instead adjusted by an
+ * {@link AdaptiveBatchSizer} between {@link #ATTRIBUTE_MIN_BATCH_SIZE} and {@link #ATTRIBUTE_MAX_BATCH_SIZE}, and a
+ * read returns once {@link #ATTRIBUTE_BATCH_LATENCY} has elapsed after the first record of the batch was read.
  */
 @DataPrepperPlugin(name = "bounded_blocking", pluginType = Buffer.class)
 public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
@@ -47,9 +52,19 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     private static final String PLUGIN_NAME = "bounded_blocking";
     private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
     private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_ADAPTIVE_BATCH_SIZE = "adaptive_batch_size";
+    private static final String ATTRIBUTE_MIN_BATCH_SIZE = "min_batch_size";
+    private static final String ATTRIBUTE_MAX_BATCH_SIZE = "max_batch_size";
+    private static final String ATTRIBUTE_BATCH_LATENCY = "batch_latency";
+    private static final int DEFAULT_MIN_BATCH_SIZE = 1;
+    private static final int DEFAULT_BATCH_LATENCY = 100;
+    public static final String BATCH_SIZE = "batchSize";
 
     private final int bufferCapacity;
     private final int batchSize;
+    private final AtomicInteger currentBatchSize;
+    private final AdaptiveBatchSizer adaptiveBatchSizer;
+    private final int batchLatencyInMillis;
     private final BlockingQueue<T> blockingQueue;
     private final String pipelineName;
 
@@ -63,9 +78,40 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      * @param pipelineName   the name of the associated Pipeline
      */
     public BlockingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        this(bufferCapacity, batchSize, false, batchSize, batchSize, 0, pipelineName);
+    }
+
+    /**
+     * Creates a BlockingBuffer with the given (fixed) capacity, which adjusts the batch size for {@link #read(int)}
+     * between the given minimum and maximum batch sizes.
+     *
+     * @param bufferCapacity       the capacity of the buffer
+     * @param batchSize            the batch size for the first {@link #read(int)}
+     * @param minBatchSize         the smallest batch size for {@link #read(int)}
+     * @param maxBatchSize         the largest batch size for {@link #read(int)}
+     * @param batchLatencyInMillis the time to wait for a batch to fill after its first record is read
+     * @param pipelineName         the name of the associated Pipeline
+     * @since 1.4
+     */
+    public BlockingBuffer(final int bufferCapacity, final int batchSize, final int minBatchSize, final int maxBatchSize,
+                          final int batchLatencyInMillis, final String pipelineName) {
+        this(bufferCapacity, batchSize, true, minBatchSize, maxBatchSize, batchLatencyInMillis, pipelineName);
+    }
+
+    private BlockingBuffer(final int bufferCapacity, final int batchSize, final boolean isAdaptiveBatchSize,
+                           final int minBatchSize, final int maxBatchSize, final int batchLatencyInMillis,
+                           final String pipelineName) {
         super("BlockingBuffer", pipelineName);
         this.bufferCapacity = bufferCapacity;
         this.batchSize = batchSize;
+        this.currentBatchSize = pluginMetrics.gauge(BATCH_SIZE, new AtomicInteger(batchSize));
+        if (isAdaptiveBatchSize) {
+            checkArgument(batchLatencyInMillis >= 0, "batch_latency cannot be negative");
+            this.adaptiveBatchSizer = new AdaptiveBatchSizer(currentBatchSize, minBatchSize, maxBatchSize);
+        } else {
+            this.adaptiveBatchSizer = null;
+        }
+        this.batchLatencyInMillis = batchLatencyInMillis;
         this.blockingQueue = new LinkedBlockingQueue<>(bufferCapacity);
         this.capacitySemaphore = new Semaphore(bufferCapacity);
         this.pipelineName = pipelineName;
@@ -76,7 +122,9 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      * instance of {@link BlockingBuffer} using an instance of {@link PluginSetting} which has access to
      * pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `buffer-size`, `batch-size`,
      * `batch-timeout` are optional and can be passed via {@link PluginSetting}, if not present default values will
-     * be used to create the buffer.
+     * be used to create the buffer. If `adaptive_batch_size` is enabled, `batch_size` is the initial batch size,
+     * `min_batch_size` defaults to 1, `max_batch_size` defaults to the buffer capacity divided by the number of process
+     * workers, but not less than `batch_size`, and `batch_latency` defaults to 100 milliseconds.
      *
      * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
      */
@@ -84,9 +132,22 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
         this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
                         .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
                 pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                pluginSetting.getBooleanOrDefault(ATTRIBUTE_ADAPTIVE_BATCH_SIZE, false),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_MIN_BATCH_SIZE, DEFAULT_MIN_BATCH_SIZE),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_MAX_BATCH_SIZE, getDefaultMaxBatchSize(pluginSetting)),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_LATENCY, DEFAULT_BATCH_LATENCY),
                 pluginSetting.getPipelineName());
     }
 
+    /**
+     * @return the buffer capacity divided by the number of process workers, but at least the initial batch size
+     */
+    private static int getDefaultMaxBatchSize(final PluginSetting pluginSetting) {
+        final int bufferCapacity = pluginSetting.getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY);
+        final int batchSize = pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        return Math.max(batchSize, bufferCapacity / Math.max(1, pluginSetting.getNumberOfProcessWorkers()));
+    }
+
     public BlockingBuffer(final String pipelineName) {
         this(DEFAULT_BUFFER_CAPACITY, DEFAULT_BATCH_SIZE, pipelineName);
     }
@@ -142,6 +203,9 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      */
     @Override
     public Map.Entry<Collection<T>, CheckpointState> doRead(int timeoutInMillis) {
+        if (adaptiveBatchSizer != null) {
+            return doAdaptiveRead(timeoutInMillis);
+        }
         final List<T> records = new ArrayList<>();
         final Stopwatch stopwatch = Stopwatch.createStarted();
         try {
@@ -162,6 +226,40 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
         return new AbstractMap.SimpleEntry<>(records, checkpointState);
     }
 
+    /**
+     * Retrieves and removes a batch of up to the batch size of the {@link AdaptiveBatchSizer}. Waits up to
+     * timeoutInMillis for the first record, then up to the batch latency for the rest of the batch while the buffer has
+     * capacity for more records to be written.
+     */
+    private Map.Entry<Collection<T>, CheckpointState> doAdaptiveRead(final int timeoutInMillis) {
+        final int readBatchSize = adaptiveBatchSizer.getBatchSize();
+        final List<T> records = new ArrayList<>(readBatchSize);
+        try {
+            final T firstRecord = blockingQueue.poll(timeoutInMillis, TimeUnit.MILLISECONDS);
+            if (firstRecord != null) {
+                records.add(firstRecord);
+                blockingQueue.drainTo(records, readBatchSize - records.size());
+                final long deadline = System.nanoTime() +
+                        TimeUnit.MILLISECONDS.toNanos(Math.min(batchLatencyInMillis, timeoutInMillis));
+                // no more records can be written until records in flight are checkpointed once the buffer is full
+                while (records.size() < readBatchSize && capacitySemaphore.availablePermits() > 0) {
+                    final T record = blockingQueue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (record == null) {
+                        break;
+                    }
+                    records.add(record);
+                    blockingQueue.drainTo(records, readBatchSize - records.size());
+                }
+            }
+        } catch (InterruptedException ex) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            throw new RuntimeException(ex);
+        }
+        adaptiveBatchSizer.onBatchRead(readBatchSize, records.size(), blockingQueue.size());
+        final CheckpointState checkpointState = new CheckpointState(records.size());
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
     /**
      * Returns the default PluginSetting object with default values.
      * @return PluginSetting
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveBatchSizerTest {
+    private static final int MIN_BATCH_SIZE = 2;
+    private static final int MAX_BATCH_SIZE = 64;
+
+    private AtomicInteger batchSize;
+
+    private AdaptiveBatchSizer createObjectUnderTest(final int initialBatchSize) {
+        batchSize = new AtomicInteger(initialBatchSize);
+        return new AdaptiveBatchSizer(batchSize, MIN_BATCH_SIZE, MAX_BATCH_SIZE);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "8, 8, 8, 16",
+            "8, 8, 100, 16",
+            "48, 48, 48, 64",
+            "64, 64, 64, 64",
+            "8, 8, 7, 8",
+            "8, 5, 0, 5",
+            "8, 1, 0, 4",
+            "8, 0, 0, 4",
+            "2, 0, 0, 2"
+    })
+    void onBatchRead_adjusts_batch_size(final int readBatchSize, final int recordsRead, final int recordsRemaining,
+                                        final int expectedBatchSize) {
+        final AdaptiveBatchSizer objectUnderTest = createObjectUnderTest(readBatchSize);
+
+        objectUnderTest.onBatchRead(readBatchSize, recordsRead, recordsRemaining);
+
+        assertThat(objectUnderTest.getBatchSize(), equalTo(expectedBatchSize));
+        assertThat(batchSize.get(), equalTo(expectedBatchSize));
+    }
+
+    @Test
+    void constructor_with_invalid_min_batch_size_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchSizer(new AtomicInteger(1), 0, MAX_BATCH_SIZE));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1", "65"})
+    void constructor_with_batch_size_out_of_range_throws(final int initialBatchSize) {
+        assertThrows(IllegalArgumentException.class, () -> createObjectUnderTest(initialBatchSize));
+    }
+}
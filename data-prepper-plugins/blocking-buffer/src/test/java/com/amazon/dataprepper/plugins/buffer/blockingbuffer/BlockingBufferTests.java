@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -31,6 +32,8 @@ import static org.junit.Assert.assertTrue;
 public class BlockingBufferTests {
     private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
     private static final String ATTRIBUTE_BUFFER_SIZE = "buffer_size";
+    private static final String ATTRIBUTE_ADAPTIVE_BATCH_SIZE = "adaptive_batch_size";
+    private static final String ATTRIBUTE_BATCH_LATENCY = "batch_latency";
     private static final String TEST_PIPELINE_NAME = "test-pipeline";
     private static final int TEST_BATCH_SIZE = 3;
     private static final int TEST_BUFFER_SIZE = 13;
@@ -198,6 +201,69 @@ public class BlockingBufferTests {
         }
     }
 
+    @Test
+    public void testAdaptiveBatchReadAdjustsBatchSize() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, 1, 1,
+                TEST_BUFFER_SIZE, 0, TEST_PIPELINE_NAME);
+        blockingBuffer.writeAll(generateBatchRecords(10), TEST_WRITE_TIMEOUT);
+
+        assertThat(readAndCheckpoint(blockingBuffer), is(1));
+        assertThat(readAndCheckpoint(blockingBuffer), is(2));
+        assertThat(readAndCheckpoint(blockingBuffer), is(4));
+        assertThat(readAndCheckpoint(blockingBuffer), is(3));
+        blockingBuffer.writeAll(generateBatchRecords(5), TEST_WRITE_TIMEOUT);
+        assertThat(readAndCheckpoint(blockingBuffer), is(3));
+    }
+
+    private int readAndCheckpoint(final BlockingBuffer<Record<String>> blockingBuffer) {
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        blockingBuffer.checkpoint(readResult.getValue());
+        return readResult.getKey().size();
+    }
+
+    @Test
+    public void testAdaptiveBatchReadReturnsAfterBatchLatency() throws Exception {
+        final PluginSetting pluginSetting = completePluginSettingForBlockingBuffer();
+        pluginSetting.getSettings().put(ATTRIBUTE_ADAPTIVE_BATCH_SIZE, true);
+        pluginSetting.getSettings().put(ATTRIBUTE_BATCH_LATENCY, 10);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+        blockingBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+
+        final long startTime = System.nanoTime();
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        assertThat(readResult.getKey().size(), is(1));
+        assertEquals(1, readResult.getValue().getNumRecordsToBeChecked());
+        assertTrue(System.nanoTime() - startTime < TimeUnit.MILLISECONDS.toNanos(TEST_BATCH_READ_TIMEOUT));
+    }
+
+    @Test
+    public void testAdaptiveBatchSizeDefaultMaxBatchSizeIsAtLeastBatchSize() throws Exception {
+        final PluginSetting pluginSetting = completePluginSettingForBlockingBuffer();
+        pluginSetting.getSettings().put(ATTRIBUTE_ADAPTIVE_BATCH_SIZE, true);
+        pluginSetting.getSettings().put(ATTRIBUTE_BATCH_LATENCY, 0);
+        pluginSetting.setProcessWorkers(TEST_BUFFER_SIZE);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+        blockingBuffer.writeAll(generateBatchRecords(TEST_BUFFER_SIZE), TEST_WRITE_TIMEOUT);
+
+        assertThat(readAndCheckpoint(blockingBuffer), is(TEST_BATCH_SIZE));
+        assertThat(readAndCheckpoint(blockingBuffer), is(TEST_BATCH_SIZE));
+    }
+
+    @Test
+    public void testAdaptiveBatchReadEmptyBuffer() {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, 1,
+                TEST_BUFFER_SIZE, 0, TEST_PIPELINE_NAME);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(10);
+        assertThat(readResult.getKey().size(), is(0));
+    }
+
+    @Test
+    public void testCreationWithNegativeBatchLatency() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockingBuffer<Record<String>>(TEST_BUFFER_SIZE,
+                TEST_BATCH_SIZE, 1, TEST_BUFFER_SIZE, -1, TEST_PIPELINE_NAME));
+    }
+
     @Test
     public void testBufferIsEmpty() {
         final PluginSetting completePluginSetting = completePluginSettingForBlockingBuffer();
@@ -6,6 +6,7 @@
 package com.amazon.dataprepper.plugins.prepper;
 
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
+import com.amazon.dataprepper.model.annotations.Stateless;
 import com.amazon.dataprepper.model.event.Event;
 import com.amazon.dataprepper.model.prepper.Prepper;
 import com.amazon.dataprepper.model.processor.Processor;
@@ -13,6 +14,7 @@ import com.amazon.dataprepper.model.record.Record;
 
 import java.util.Collection;
 
+@Stateless
 @DataPrepperPlugin(name = "no-op", pluginType = Prepper.class)
 public class NoOpPrepper implements Processor<Record<Event>, Record<Event>> {
 
@@ -8,17 +8,19 @@ package com.amazon.dataprepper.plugins.processor.date;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import com.amazon.dataprepper.model.annotations.Stateless;
 import com.amazon.dataprepper.model.event.Event;
 import com.amazon.dataprepper.model.processor.AbstractProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.micrometer.core.instrument.Counter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
@@ -26,17 +28,21 @@ import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@Stateless
 @DataPrepperPlugin(name = "date", pluginType = Processor.class, pluginConfigurationType = DateProcessorConfig.class)
 public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(DateProcessor.class);
     private static final String OUTPUT_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+    private static final int TIMESTAMP_CACHE_SIZE = 1000;
 
     static final String DATE_PROCESSING_MATCH_SUCCESS = "dateProcessingMatchSuccess";
     static final String DATE_PROCESSING_MATCH_FAILURE = "dateProcessingMatchFailure";
 
     private String keyToParse;
-    private List<DateTimeFormatter> dateTimeFormatters;
+    private List<TimestampParser> timestampParsers;
     private final DateProcessorConfig dateProcessorConfig;
+    private final DateTimeFormatter outputFormatter;
+    private final Cache<String, String> formattedTimestampCache;
 
     private final Counter dateProcessingMatchSuccessCounter;
     private final Counter dateProcessingMatchFailureCounter;
@@ -49,6 +55,11 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
         dateProcessingMatchSuccessCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_SUCCESS);
         dateProcessingMatchFailureCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_FAILURE);
 
+        outputFormatter = DateTimeFormatter.ofPattern(OUTPUT_FORMAT).withZone(dateProcessorConfig.getDestinationZoneId());
+        formattedTimestampCache = CacheBuilder.newBuilder()
+                .maximumSize(TIMESTAMP_CACHE_SIZE)
+                .build();
+
         if (dateProcessorConfig.getMatch() != null)
             extractKeyAndFormatters();
     }
@@ -82,7 +93,10 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private void extractKeyAndFormatters() {
         for (DateProcessorConfig.DateMatch entry: dateProcessorConfig.getMatch()) {
             keyToParse = entry.getKey();
-            dateTimeFormatters = entry.getPatterns().stream().map(this::getSourceFormatter).collect(Collectors.toList());
+            timestampParsers = entry.getPatterns().stream()
+                    .map(pattern -> TimestampParser.forPattern(pattern, this::getSourceFormatter,
+                            dateProcessorConfig.getSourceZoneId(), dateProcessorConfig.getSourceLocale()))
+                    .collect(Collectors.toList());
         }
     }
 
@@ -107,7 +121,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private String getDateTimeFromTimeReceived(final Record<Event> record) {
         final Instant timeReceived = record.getData().getMetadata().getTimeReceived();
-        return timeReceived.atZone(dateProcessorConfig.getDestinationZoneId()).format(getOutputFormatter());
+        return outputFormatter.format(timeReceived);
     }
 
     private String getDateTimeFromMatch(final Record<Event> record) {
@@ -115,7 +129,14 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
         if (sourceTimestamp == null)
             return null;
 
-        return getFormattedDateTimeString(sourceTimestamp);
+        final String cachedDateTimeString = formattedTimestampCache.getIfPresent(sourceTimestamp);
+        if (cachedDateTimeString != null)
+            return cachedDateTimeString;
+
+        final String formattedDateTimeString = getFormattedDateTimeString(sourceTimestamp);
+        if (formattedDateTimeString != null)
+            formattedTimestampCache.put(sourceTimestamp, formattedDateTimeString);
+        return formattedDateTimeString;
     }
 
     private String getSourceTimestamp(final Record<Event> record) {
@@ -128,22 +149,16 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     }
 
     private String getFormattedDateTimeString(final String sourceTimestamp) {
-        for (DateTimeFormatter formatter : dateTimeFormatters) {
-            try {
-                return ZonedDateTime.parse(sourceTimestamp, formatter).format(getOutputFormatter().withZone(dateProcessorConfig.getDestinationZoneId()));
-            } catch (Exception ignored) {
-
-            }
+        for (TimestampParser timestampParser : timestampParsers) {
+            final Instant instant = timestampParser.parse(sourceTimestamp);
+            if (instant != null)
+                return outputFormatter.format(instant);
         }
 
         LOG.debug("Unable to parse {} with any of the provided patterns", sourceTimestamp);
         return null;
     }
 
-    private DateTimeFormatter getOutputFormatter() {
-        return DateTimeFormatter.ofPattern(OUTPUT_FORMAT);
-    }
-
     @Override
     public void prepareForShutdown() {
 
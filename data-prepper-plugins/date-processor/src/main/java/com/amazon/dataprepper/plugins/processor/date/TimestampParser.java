@@ -0,0 +1,323 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.date;
+
+import java.text.ParsePosition;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Parses timestamps matching one of the patterns of the date processor, without throwing exceptions for timestamps
+ * which do not match.
+ * <p>
+ * Timestamps are parsed with the {@link DateTimeFormatter} of the pattern, which is checked with
+ * {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)} first. The common ISO-8601 and Apache common
+ * log patterns are parsed by hand, falling back to the formatter for any timestamp which is not in the usual form for
+ * the pattern, so they give the same results. The epoch patterns have no formatter.
+ */
+abstract class TimestampParser {
+    static final String EPOCH_SECOND = "epoch_second";
+    static final String EPOCH_MILLI = "epoch_milli";
+    static final String EPOCH_NANO = "epoch_nano";
+
+    private static final String ISO_8601_MILLIS_OFFSET = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+    private static final String ISO_8601_OFFSET = "yyyy-MM-dd'T'HH:mm:ssXXX";
+    private static final String ISO_8601_MILLIS = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+    private static final String ISO_8601 = "yyyy-MM-dd'T'HH:mm:ss";
+    private static final String COMMON_LOG_OFFSET = "dd/MMM/yyyy:HH:mm:ss Z";
+    private static final String COMMON_LOG = "dd/MMM/yyyy:HH:mm:ss";
+    private static final String[] MONTH_ABBREVIATIONS = {
+            "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
+    };
+
+    /**
+     * @param timestamp the timestamp to parse
+     * @return the instant of the timestamp, or null if the timestamp does not match the pattern
+     */
+    abstract Instant parse(String timestamp);
+
+    /**
+     * @param pattern         the pattern of the timestamps
+     * @param formatterSupplier creates the formatter of the pattern, which is not called for the epoch patterns
+     * @param sourceZoneId    the zone of timestamps without an offset
+     * @param sourceLocale    the locale of the timestamps
+     * @return a parser of timestamps matching the pattern
+     */
+    static TimestampParser forPattern(final String pattern, final Function<String, DateTimeFormatter> formatterSupplier,
+                                      final ZoneId sourceZoneId, final Locale sourceLocale) {
+        switch (pattern) {
+            case EPOCH_SECOND:
+                return new EpochTimestampParser(0);
+            case EPOCH_MILLI:
+                return new EpochTimestampParser(3);
+            case EPOCH_NANO:
+                return new EpochTimestampParser(9);
+            default:
+                break;
+        }
+
+        final FormatterTimestampParser formatterParser = new FormatterTimestampParser(formatterSupplier.apply(pattern));
+        switch (pattern) {
+            case ISO_8601_MILLIS_OFFSET:
+                return new Iso8601TimestampParser(true, true, sourceZoneId, formatterParser);
+            case ISO_8601_OFFSET:
+                return new Iso8601TimestampParser(false, true, sourceZoneId, formatterParser);
+            case ISO_8601_MILLIS:
+                return new Iso8601TimestampParser(true, false, sourceZoneId, formatterParser);
+            case ISO_8601:
+                return new Iso8601TimestampParser(false, false, sourceZoneId, formatterParser);
+            case COMMON_LOG_OFFSET:
+                return hasEnglishMonthAbbreviations(sourceLocale) ?
+                        new CommonLogTimestampParser(true, sourceZoneId, formatterParser) : formatterParser;
+            case COMMON_LOG:
+                return hasEnglishMonthAbbreviations(sourceLocale) ?
+                        new CommonLogTimestampParser(false, sourceZoneId, formatterParser) : formatterParser;
+            default:
+                return formatterParser;
+        }
+    }
+
+    private static boolean hasEnglishMonthAbbreviations(final Locale locale) {
+        final DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMM", locale);
+        for (final Month month : Month.values()) {
+            if (!MONTH_ABBREVIATIONS[month.ordinal()].equals(monthFormatter.format(LocalDate.of(2000, month, 1)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the value of the digits from start to end, or -1 if any of them is not a digit
+     */
+    static int parseDigits(final String value, final int start, final int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    /**
+     * @return the local date time, or null if any field is out of range, since the formatter may adjust such values
+     */
+    static LocalDateTime toLocalDateTime(final int year, final int month, final int day, final int hour,
+                                         final int minute, final int second, final int millis) {
+        if (year < 1 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59 ||
+                second < 0 || second > 59 || millis < 0 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, millis * 1_000_000);
+    }
+
+    static class FormatterTimestampParser extends TimestampParser {
+        private final DateTimeFormatter formatter;
+
+        FormatterTimestampParser(final DateTimeFormatter formatter) {
+            this.formatter = formatter;
+        }
+
+        @Override
+        Instant parse(final String timestamp) {
+            final ParsePosition parsePosition = new ParsePosition(0);
+            if (formatter.parseUnresolved(timestamp, parsePosition) == null || parsePosition.getIndex() != timestamp.length()) {
+                return null;
+            }
+            try {
+                return ZonedDateTime.parse(timestamp, formatter).toInstant();
+            } catch (final DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Parses digits since the epoch, such as 1609459200000 for epoch_milli.
+     */
+    static class EpochTimestampParser extends TimestampParser {
+        private final int fractionDigits;
+
+        EpochTimestampParser(final int fractionDigits) {
+            this.fractionDigits = fractionDigits;
+        }
+
+        @Override
+        Instant parse(final String timestamp) {
+            final boolean negative = timestamp.startsWith("-");
+            final int start = negative ? 1 : 0;
+            if (timestamp.length() == start) {
+                return null;
+            }
+            long value = 0;
+            for (int i = start; i < timestamp.length(); i++) {
+                final int digit = timestamp.charAt(i) - '0';
+                if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10) {
+                    return null;
+                }
+                value = value * 10 + digit;
+            }
+            if (negative) {
+                value = -value;
+            }
+
+            switch (fractionDigits) {
+                case 0:
+                    return value > Instant.MAX.getEpochSecond() || value < Instant.MIN.getEpochSecond() ?
+                            null : Instant.ofEpochSecond(value);
+                case 3:
+                    return Instant.ofEpochMilli(value);
+                default:
+                    return Instant.ofEpochSecond(0, value);
+            }
+        }
+    }
+
+    /**
+     * Parses yyyy-MM-dd'T'HH:mm:ss, optionally followed by .SSS milliseconds and by a Z or ±HH:MM offset.
+     */
+    static class Iso8601TimestampParser extends TimestampParser {
+        private static final int DATE_TIME_LENGTH = 19;
+        private final boolean hasMillis;
+        private final boolean hasOffset;
+        private final ZoneId sourceZoneId;
+        private final TimestampParser fallbackParser;
+
+        Iso8601TimestampParser(final boolean hasMillis, final boolean hasOffset, final ZoneId sourceZoneId,
+                               final TimestampParser fallbackParser) {
+            this.hasMillis = hasMillis;
+            this.hasOffset = hasOffset;
+            this.sourceZoneId = sourceZoneId;
+            this.fallbackParser = fallbackParser;
+        }
+
+        @Override
+        Instant parse(final String timestamp) {
+            final Instant instant = parseUsualForm(timestamp);
+            return instant != null ? instant : fallbackParser.parse(timestamp);
+        }
+
+        private Instant parseUsualForm(final String timestamp) {
+            if (timestamp.length() < DATE_TIME_LENGTH || timestamp.charAt(4) != '-' || timestamp.charAt(7) != '-' ||
+                    timestamp.charAt(10) != 'T' || timestamp.charAt(13) != ':' || timestamp.charAt(16) != ':') {
+                return null;
+            }
+            int position = DATE_TIME_LENGTH;
+            int millis = 0;
+            if (hasMillis) {
+                if (timestamp.length() < position + 4 || timestamp.charAt(position) != '.') {
+                    return null;
+                }
+                millis = parseDigits(timestamp, position + 1, position + 4);
+                position += 4;
+            }
+            final LocalDateTime localDateTime = toLocalDateTime(
+                    parseDigits(timestamp, 0, 4), parseDigits(timestamp, 5, 7), parseDigits(timestamp, 8, 10),
+                    parseDigits(timestamp, 11, 13), parseDigits(timestamp, 14, 16), parseDigits(timestamp, 17, 19),
+                    millis);
+            if (localDateTime == null) {
+                return null;
+            }
+
+            if (!hasOffset) {
+                return position == timestamp.length() ? localDateTime.atZone(sourceZoneId).toInstant() : null;
+            }
+            if (timestamp.length() == position + 1 && timestamp.charAt(position) == 'Z') {
+                return localDateTime.toInstant(ZoneOffset.UTC);
+            }
+            if (timestamp.length() != position + 6 || timestamp.charAt(position + 3) != ':') {
+                return null;
+            }
+            final ZoneOffset offset = toOffset(timestamp.charAt(position),
+                    parseDigits(timestamp, position + 1, position + 3), parseDigits(timestamp, position + 4, position + 6));
+            return offset == null ? null : localDateTime.toInstant(offset);
+        }
+    }
+
+    /**
+     * Parses dd/MMM/yyyy:HH:mm:ss, optionally followed by a space and a ±HHMM offset, as in Apache common logs.
+     */
+    static class CommonLogTimestampParser extends TimestampParser {
+        private static final int DATE_TIME_LENGTH = 20;
+        private final boolean hasOffset;
+        private final ZoneId sourceZoneId;
+        private final TimestampParser fallbackParser;
+
+        CommonLogTimestampParser(final boolean hasOffset, final ZoneId sourceZoneId, final TimestampParser fallbackParser) {
+            this.hasOffset = hasOffset;
+            this.sourceZoneId = sourceZoneId;
+            this.fallbackParser = fallbackParser;
+        }
+
+        @Override
+        Instant parse(final String timestamp) {
+            final Instant instant = parseUsualForm(timestamp);
+            return instant != null ? instant : fallbackParser.parse(timestamp);
+        }
+
+        private Instant parseUsualForm(final String timestamp) {
+            if (timestamp.length() != (hasOffset ? DATE_TIME_LENGTH + 6 : DATE_TIME_LENGTH) ||
+                    timestamp.charAt(2) != '/' || timestamp.charAt(6) != '/' || timestamp.charAt(11) != ':' ||
+                    timestamp.charAt(14) != ':' || timestamp.charAt(17) != ':') {
+                return null;
+            }
+            final int month = parseMonth(timestamp);
+            if (month == -1) {
+                return null;
+            }
+            final LocalDateTime localDateTime = toLocalDateTime(
+                    parseDigits(timestamp, 7, 11), month, parseDigits(timestamp, 0, 2),
+                    parseDigits(timestamp, 12, 14), parseDigits(timestamp, 15, 17), parseDigits(timestamp, 18, 20),
+                    0);
+            if (localDateTime == null) {
+                return null;
+            }
+
+            if (!hasOffset) {
+                return localDateTime.atZone(sourceZoneId).toInstant();
+            }
+            if (timestamp.charAt(DATE_TIME_LENGTH) != ' ') {
+                return null;
+            }
+            final ZoneOffset offset = toOffset(timestamp.charAt(DATE_TIME_LENGTH + 1),
+                    parseDigits(timestamp, DATE_TIME_LENGTH + 2, DATE_TIME_LENGTH + 4),
+                    parseDigits(timestamp, DATE_TIME_LENGTH + 4, DATE_TIME_LENGTH + 6));
+            return offset == null ? null : localDateTime.toInstant(offset);
+        }
+
+        private static int parseMonth(final String timestamp) {
+            for (int i = 0; i < MONTH_ABBREVIATIONS.length; i++) {
+                if (timestamp.startsWith(MONTH_ABBREVIATIONS[i], 3)) {
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * @return the offset, or null if it is not in the usual range
+     */
+    private static ZoneOffset toOffset(final char sign, final int hours, final int minutes) {
+        if ((sign != '+' && sign != '-') || hours < 0 || hours > 17 || minutes < 0 || minutes > 59) {
+            return null;
+        }
+        return sign == '+' ? ZoneOffset.ofHoursMinutes(hours, minutes) : ZoneOffset.ofHoursMinutes(-hours, -minutes);
+    }
+}
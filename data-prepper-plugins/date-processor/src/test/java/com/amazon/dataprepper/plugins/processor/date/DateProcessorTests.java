@@ -28,6 +28,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -361,6 +362,115 @@ class DateProcessorTests {
         verify(dateProcessingMatchSuccessCounter, times(1)).increment();
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { TimestampParser.EPOCH_SECOND, TimestampParser.EPOCH_MILLI, TimestampParser.EPOCH_NANO })
+    void match_with_epoch_patterns_test(String pattern) {
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(Collections.singletonList(pattern));
+
+        List<DateProcessorConfig.DateMatch> dateMatches = Collections.singletonList(mockDateMatch);
+        when(mockDateProcessorConfig.getMatch()).thenReturn(dateMatches);
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.systemDefault());
+        when(mockDateProcessorConfig.getSourceLocale()).thenReturn(Locale.ROOT);
+
+        dateProcessor = createObjectUnderTest();
+
+        final Instant instant = expectedDateTime.atZone(ZoneId.systemDefault()).toInstant();
+        final String epochTimestamp;
+        if (TimestampParser.EPOCH_SECOND.equals(pattern))
+            epochTimestamp = String.valueOf(instant.getEpochSecond());
+        else if (TimestampParser.EPOCH_MILLI.equals(pattern))
+            epochTimestamp = String.valueOf(instant.toEpochMilli());
+        else
+            epochTimestamp = String.valueOf(instant.getEpochSecond() * 1_000_000_000L + instant.getNano());
+
+        testData = getTestData();
+        testData.put("logDate", epochTimestamp);
+
+        final Record<Event> record = buildRecordWithEvent(testData);
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(Collections.singletonList(record));
+
+        ZonedDateTime actualZonedDateTime = processedRecords.get(0).getData().get(TIMESTAMP_KEY, ZonedDateTime.class);
+        ChronoUnit precision = TimestampParser.EPOCH_SECOND.equals(pattern) ? ChronoUnit.SECONDS : ChronoUnit.MILLIS;
+        Assertions.assertTrue(actualZonedDateTime.isEqual(instant.truncatedTo(precision).atZone(ZoneId.systemDefault())));
+        verify(dateProcessingMatchSuccessCounter, times(1)).increment();
+    }
+
+    @Test
+    void match_with_epoch_pattern_and_non_numeric_timestamp_test() {
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(Collections.singletonList(TimestampParser.EPOCH_MILLI));
+
+        List<DateProcessorConfig.DateMatch> dateMatches = Collections.singletonList(mockDateMatch);
+        when(mockDateProcessorConfig.getMatch()).thenReturn(dateMatches);
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getSourceLocale()).thenReturn(Locale.ROOT);
+
+        dateProcessor = createObjectUnderTest();
+
+        testData = getTestData();
+        testData.put("logDate", expectedDateTime.format(DateTimeFormatter.ofPattern(pattern1)));
+
+        final Record<Event> record = buildRecordWithEvent(testData);
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(Collections.singletonList(record));
+
+        Assertions.assertFalse(processedRecords.get(0).getData().containsKey(TIMESTAMP_KEY));
+        verify(dateProcessingMatchFailureCounter, times(1)).increment();
+    }
+
+    @Test
+    void match_with_offset_pattern_uses_offset_of_timestamp_test() {
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(Collections.singletonList("yyyy-MM-dd'T'HH:mm:ss.SSSXXX"));
+
+        List<DateProcessorConfig.DateMatch> dateMatches = Collections.singletonList(mockDateMatch);
+        when(mockDateProcessorConfig.getMatch()).thenReturn(dateMatches);
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getSourceLocale()).thenReturn(Locale.ROOT);
+
+        dateProcessor = createObjectUnderTest();
+
+        testData = getTestData();
+        testData.put("logDate", "2021-12-31T19:30:15.250-05:00");
+
+        final Record<Event> record = buildRecordWithEvent(testData);
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(Collections.singletonList(record));
+
+        Assertions.assertEquals("2022-01-01T00:30:15.250Z", processedRecords.get(0).getData().get(TIMESTAMP_KEY, String.class));
+        verify(dateProcessingMatchSuccessCounter, times(1)).increment();
+    }
+
+    @Test
+    void match_with_repeated_timestamps_returns_same_result_test() {
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(Collections.singletonList(pattern2));
+
+        List<DateProcessorConfig.DateMatch> dateMatches = Collections.singletonList(mockDateMatch);
+        when(mockDateProcessorConfig.getMatch()).thenReturn(dateMatches);
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.systemDefault());
+        when(mockDateProcessorConfig.getSourceLocale()).thenReturn(Locale.ROOT);
+
+        dateProcessor = createObjectUnderTest();
+
+        final String sourceTimestamp = expectedDateTime.format(DateTimeFormatter.ofPattern(pattern2));
+        final Map<String, Object> firstData = getTestData();
+        firstData.put("logDate", sourceTimestamp);
+        final Map<String, Object> secondData = getTestData();
+        secondData.put("logDate", sourceTimestamp);
+        final List<Record<Event>> records = Arrays.asList(buildRecordWithEvent(firstData), buildRecordWithEvent(secondData));
+
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(records);
+
+        for (final Record<Event> processedRecord : processedRecords)
+            assertTimestampsAreEqual(processedRecord, mockDateProcessorConfig.getSourceZoneId(), TIMESTAMP_KEY);
+        Assertions.assertEquals(processedRecords.get(0).getData().get(TIMESTAMP_KEY, String.class),
+                processedRecords.get(1).getData().get(TIMESTAMP_KEY, String.class));
+        verify(dateProcessingMatchSuccessCounter, times(2)).increment();
+    }
+
     static Record<Event> buildRecordWithEvent(final Map<String, Object> data) {
         return new Record<>(JacksonEvent.builder()
                 .withData(data)
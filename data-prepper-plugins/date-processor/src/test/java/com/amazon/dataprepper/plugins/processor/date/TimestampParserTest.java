@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.date;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+
+class TimestampParserTest {
+    private static final ZoneId SOURCE_ZONE_ID = ZoneId.of("America/New_York");
+
+    private static TimestampParser createObjectUnderTest(final String pattern, final Locale locale) {
+        return TimestampParser.forPattern(pattern, formatterPattern -> createFormatter(formatterPattern, locale), SOURCE_ZONE_ID, locale);
+    }
+
+    private static TimestampParser createFormatterParser(final String pattern, final Locale locale) {
+        return new TimestampParser.FormatterTimestampParser(createFormatter(pattern, locale));
+    }
+
+    private static DateTimeFormatter createFormatter(final String pattern, final Locale locale) {
+        return DateTimeFormatter.ofPattern(pattern, locale).withZone(SOURCE_ZONE_ID);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "yyyy-MM-dd'T'HH:mm:ss.SSSXXX|2022-03-04T05:06:07.089Z",
+            "yyyy-MM-dd'T'HH:mm:ss.SSSXXX|2022-03-04T05:06:07.089+05:30",
+            "yyyy-MM-dd'T'HH:mm:ss.SSSXXX|2022-03-04T05:06:07.089-08:00",
+            "yyyy-MM-dd'T'HH:mm:ss.SSSXXX|2022-03-04T05:06:07.089+18:00",
+            "yyyy-MM-dd'T'HH:mm:ss.SSSXXX|2022-03-04T05:06:07.089+0530",
+            "yyyy-MM-dd'T'HH:mm:ss.SSSXXX|2022-03-04T05:06:07Z",
+            "yyyy-MM-dd'T'HH:mm:ssXXX|2022-03-04T05:06:07Z",
+            "yyyy-MM-dd'T'HH:mm:ssXXX|2022-03-04T05:06:07+01:00",
+            "yyyy-MM-dd'T'HH:mm:ssXXX|2022-03-04T05:06:07.089Z",
+            "yyyy-MM-dd'T'HH:mm:ss.SSS|2022-03-13T02:30:00.000",
+            "yyyy-MM-dd'T'HH:mm:ss.SSS|2022-11-06T01:30:00.000",
+            "yyyy-MM-dd'T'HH:mm:ss.SSS|2022-03-04T05:06:07.089Z",
+            "yyyy-MM-dd'T'HH:mm:ss|2024-02-29T23:59:59",
+            "yyyy-MM-dd'T'HH:mm:ss|2023-02-29T23:59:59",
+            "yyyy-MM-dd'T'HH:mm:ss|2022-02-30T05:06:07",
+            "yyyy-MM-dd'T'HH:mm:ss|2022-04-31T05:06:07",
+            "yyyy-MM-dd'T'HH:mm:ss|2022-13-04T05:06:07",
+            "yyyy-MM-dd'T'HH:mm:ss|2022-03-04T24:00:00",
+            "yyyy-MM-dd'T'HH:mm:ss|2022-03-04T05:60:07",
+            "yyyy-MM-dd'T'HH:mm:ss|2022-03-04T0x:06:07",
+            "yyyy-MM-dd'T'HH:mm:ss|2022-03-04 05:06:07",
+            "yyyy-MM-dd'T'HH:mm:ss|0000-03-04T05:06:07",
+            "yyyy-MM-dd'T'HH:mm:ss|2022-3-04T05:06:07",
+            "yyyy-MM-dd'T'HH:mm:ss|not-a-timestamp",
+            "dd/MMM/yyyy:HH:mm:ss Z|04/Mar/2022:05:06:07 +0000",
+            "dd/MMM/yyyy:HH:mm:ss Z|04/Mar/2022:05:06:07 -0700",
+            "dd/MMM/yyyy:HH:mm:ss Z|04/Mar/2022:05:06:07 +07:00",
+            "dd/MMM/yyyy:HH:mm:ss Z|04/Mar/2022:05:06:07",
+            "dd/MMM/yyyy:HH:mm:ss Z|31/Jun/2022:05:06:07 +0000",
+            "dd/MMM/yyyy:HH:mm:ss Z|04/MAR/2022:05:06:07 +0000",
+            "dd/MMM/yyyy:HH:mm:ss Z|04/Mar/2022:05:-6:07 +0000",
+            "dd/MMM/yyyy:HH:mm:ss|04/Dec/2022:05:06:07",
+            "dd/MMM/yyyy:HH:mm:ss|04/Sept/2022:05:06:07",
+            "dd/MMM/yyyy:HH:mm:ss|04/Foo/2022:05:06:07",
+            "dd/MMM/yyyy:HH:mm:ss|4/Mar/2022:05:06:07",
+    })
+    void parse_gives_same_result_as_formatter(final String pattern, final String timestamp) {
+        final Instant expectedInstant = createFormatterParser(pattern, Locale.ROOT).parse(timestamp);
+
+        assertThat(createObjectUnderTest(pattern, Locale.ROOT).parse(timestamp), equalTo(expectedInstant));
+    }
+
+    @Test
+    void forPattern_with_iso_8601_pattern_returns_iso_8601_parser() {
+        assertThat(createObjectUnderTest("yyyy-MM-dd'T'HH:mm:ss", Locale.ROOT), instanceOf(TimestampParser.Iso8601TimestampParser.class));
+    }
+
+    @Test
+    void forPattern_with_common_log_pattern_returns_common_log_parser() {
+        assertThat(createObjectUnderTest("dd/MMM/yyyy:HH:mm:ss Z", Locale.ROOT), instanceOf(TimestampParser.CommonLogTimestampParser.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"dd/MMM/yyyy:HH:mm:ss", "dd/MMM/yyyy:HH:mm:ss Z"})
+    void forPattern_with_locale_without_english_month_abbreviations_returns_formatter_parser(final String pattern) {
+        final TimestampParser objectUnderTest = createObjectUnderTest(pattern, Locale.FRANCE);
+
+        assertThat(objectUnderTest, instanceOf(TimestampParser.FormatterTimestampParser.class));
+        final String timestamp = "04/" + DateTimeFormatter.ofPattern("MMM", Locale.FRANCE).format(Month.FEBRUARY)
+                + "/2022:05:06:07" + (pattern.endsWith("Z") ? " +0000" : "");
+        assertThat(objectUnderTest.parse(timestamp), equalTo(createFormatterParser(pattern, Locale.FRANCE).parse(timestamp)));
+    }
+
+    @Test
+    void forPattern_with_other_pattern_returns_formatter_parser() {
+        assertThat(createObjectUnderTest("MM/dd/yyyy", Locale.ROOT), instanceOf(TimestampParser.FormatterTimestampParser.class));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "epoch_second,1646370367,1646370367000000000",
+            "epoch_second,-1,-1000000000",
+            "epoch_milli,1646370367089,1646370367089000000",
+            "epoch_milli,0,0",
+            "epoch_nano,1646370367089123456,1646370367089123456",
+    })
+    void parse_with_epoch_pattern_returns_instant(final String pattern, final String timestamp, final long expectedEpochNanos) {
+        final Instant expectedInstant = Instant.ofEpochSecond(0, expectedEpochNanos);
+
+        assertThat(createObjectUnderTest(pattern, Locale.ROOT).parse(timestamp), equalTo(expectedInstant));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "12a4", "1.5", "+12", "2022-03-04", "99999999999999999999"})
+    void parse_with_epoch_pattern_and_invalid_timestamp_returns_null(final String timestamp) {
+        assertThat(createObjectUnderTest(TimestampParser.EPOCH_MILLI, Locale.ROOT).parse(timestamp), nullValue());
+    }
+
+    @Test
+    void parse_with_epoch_second_out_of_range_returns_null() {
+        assertThat(createObjectUnderTest(TimestampParser.EPOCH_SECOND, Locale.ROOT).parse("999999999999999999"), nullValue());
+    }
+}
@@ -0,0 +1,516 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
+import com.amazon.dataprepper.model.buffer.AbstractBuffer;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A DiskBuffer is a persistent implementation of {@link Buffer} backed by a segmented, memory-mapped write-ahead log
+ * in the directory {@link #ATTRIBUTE_PATH}. Records are appended to pre-sized segment files of
+ * {@link #ATTRIBUTE_SEGMENT_SIZE_MB} and read back in batches of {@link #ATTRIBUTE_BATCH_SIZE}.
+ * <p>
+ * {@link #checkpoint(CheckpointState)} acknowledges the exact range of records a read returned. The highest sequence
+ * below which every record has been acknowledged is persisted in a checkpoint file and segments entirely below it are
+ * deleted, except for one which is kept as a spare and reused for the next segment. On startup every record after the
+ * persisted checkpoint is replayed, including records which were read but not yet acknowledged when the process
+ * stopped. The buffer is bounded by {@link #ATTRIBUTE_MAX_SEGMENTS}, including the active segment and the spare;
+ * writes wait for acknowledged segments to be released when it is full, and records which do not fit in that many
+ * empty segments are rejected with a {@link SizeOverflowException}.
+ */
+@DataPrepperPlugin(name = "persistent_disk", pluginType = Buffer.class)
+public class DiskBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(DiskBuffer.class);
+    private static final String DEFAULT_PATH = "data/buffer";
+    private static final int DEFAULT_SEGMENT_SIZE_MB = 64;
+    private static final int DEFAULT_MAX_SEGMENTS = 32;
+    private static final int DEFAULT_BATCH_SIZE = 8;
+    private static final String PLUGIN_NAME = "persistent_disk";
+    private static final String ATTRIBUTE_PATH = "path";
+    private static final String ATTRIBUTE_SEGMENT_SIZE_MB = "segment_size_mb";
+    private static final String ATTRIBUTE_MAX_SEGMENTS = "max_segments";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String CHECKPOINT_FILE_NAME = "checkpoint";
+    private static final int BYTES_IN_MEGABYTE = 1024 * 1024;
+
+    private final Path directory;
+    private final int segmentSizeInBytes;
+    private final int maxSegments;
+    private final int batchSize;
+    private final String pipelineName;
+    private final RecordCodec recordCodec = new RecordCodec();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final List<Segment> segments = new ArrayList<>();
+    /**
+     * Acknowledged ranges which are not yet contiguous with {@link #checkpointSequence}, keyed by start sequence.
+     */
+    private final TreeMap<Long, Long> acknowledgedRanges = new TreeMap<>();
+    private final MappedByteBuffer checkpointFile;
+    private long writeSequence;
+    private long readSequence;
+    private long checkpointSequence;
+    private Segment readSegment;
+    private int readPosition;
+    private Segment spareSegment;
+
+    /**
+     * Creates a DiskBuffer in the given directory, replaying any records which were not checkpointed.
+     *
+     * @param directory          the directory holding the segment and checkpoint files
+     * @param segmentSizeInBytes the size of each segment file
+     * @param maxSegments        the maximum number of segment files
+     * @param batchSize          the batch size for {@link #read(int)}
+     * @param pipelineName       the name of the associated Pipeline
+     */
+    public DiskBuffer(final Path directory, final int segmentSizeInBytes, final int maxSegments, final int batchSize,
+                      final String pipelineName) {
+        super("DiskBuffer", pipelineName);
+        checkArgument(segmentSizeInBytes > Segment.ENTRY_HEADER_BYTES, "segment size must be greater than %s bytes",
+                Segment.ENTRY_HEADER_BYTES);
+        checkArgument(maxSegments > 0, "max_segments must be greater than 0");
+        checkArgument(batchSize > 0, "batch_size must be greater than 0");
+        this.directory = directory;
+        this.segmentSizeInBytes = segmentSizeInBytes;
+        this.maxSegments = maxSegments;
+        this.batchSize = batchSize;
+        this.pipelineName = pipelineName;
+
+        try {
+            Files.createDirectories(directory);
+            checkpointFile = mapCheckpointFile(directory.resolve(CHECKPOINT_FILE_NAME));
+            recover();
+        } catch (final IOException e) {
+            throw new RuntimeException(format("Pipeline [%s] - Unable to open the disk buffer in %s", pipelineName, directory), e);
+        }
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to construct an
+     * instance of {@link DiskBuffer} using an instance of {@link PluginSetting} which has access to
+     * pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `path`, `segment_size_mb`,
+     * `max_segments` and `batch_size` are optional and can be passed via {@link PluginSetting}, if not present default
+     * values will be used to create the buffer. The segment files of each pipeline are kept in a sub-directory of
+     * `path` named after the pipeline.
+     *
+     * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
+     */
+    public DiskBuffer(final PluginSetting pluginSetting) {
+        this(bufferDirectory(checkNotNull(pluginSetting, "PluginSetting cannot be null")),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_SEGMENT_SIZE_MB, DEFAULT_SEGMENT_SIZE_MB) * BYTES_IN_MEGABYTE,
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_MAX_SEGMENTS, DEFAULT_MAX_SEGMENTS),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                pluginSetting.getPipelineName());
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        try {
+            append(Collections.singletonList(encode(record)), timeoutInMillis);
+        } catch (final SizeOverflowException e) {
+            // Buffer#write cannot declare the checked SizeOverflowException, so it is the cause of an unchecked exception.
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final List<byte[]> payloads = new ArrayList<>(records.size());
+        for (final T record : records) {
+            checkNotNull(record, "record cannot be null");
+            payloads.add(encode(record));
+        }
+        if (!payloads.isEmpty()) {
+            append(payloads, timeoutInMillis);
+        }
+    }
+
+    /**
+     * Retrieves the batch of records following the last read from the log. The batch size is defined/determined by
+     * the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis. The records remain on
+     * disk until they are checkpointed.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<byte[]> payloads = new ArrayList<>(batchSize);
+        final long startSequence;
+        final long endSequence;
+        lock.lock();
+        try {
+            startSequence = readSequence;
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+            while (payloads.size() < batchSize) {
+                if (readSequence < writeSequence) {
+                    payloads.add(readNext());
+                } else if (remainingNanos > 0) {
+                    remainingNanos = notEmpty.awaitNanos(remainingNanos);
+                } else {
+                    break;
+                }
+            }
+            endSequence = readSequence;
+        } catch (final InterruptedException ex) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            throw new RuntimeException(ex);
+        } finally {
+            lock.unlock();
+        }
+
+        final List<T> records = new ArrayList<>(payloads.size());
+        for (final byte[] payload : payloads) {
+            try {
+                records.add(recordCodec.decode(payload));
+            } catch (final IOException | RuntimeException e) {
+                LOG.error("Pipeline [{}] - Unable to decode a record from the disk buffer, skipping it", pipelineName, e);
+            }
+        }
+        final CheckpointState checkpointState = new DiskCheckpointState(records.size(), startSequence, endSequence);
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    /**
+     * Returns the default PluginSetting object with default values.
+     * @return PluginSetting
+     */
+    public static PluginSetting getDefaultPluginSettings() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_PATH, DEFAULT_PATH);
+        settings.put(ATTRIBUTE_SEGMENT_SIZE_MB, DEFAULT_SEGMENT_SIZE_MB);
+        settings.put(ATTRIBUTE_MAX_SEGMENTS, DEFAULT_MAX_SEGMENTS);
+        settings.put(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        return new PluginSetting(PLUGIN_NAME, settings);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        if (!(checkpointState instanceof DiskCheckpointState)) {
+            throw new IllegalArgumentException("DiskBuffer can only checkpoint the CheckpointState returned by its read");
+        }
+        final DiskCheckpointState diskCheckpointState = (DiskCheckpointState) checkpointState;
+        if (diskCheckpointState.getStartSequence() == diskCheckpointState.getEndSequence()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            acknowledgedRanges.put(diskCheckpointState.getStartSequence(), diskCheckpointState.getEndSequence());
+            final long previousCheckpointSequence = checkpointSequence;
+            Long rangeEnd;
+            while ((rangeEnd = acknowledgedRanges.remove(checkpointSequence)) != null) {
+                checkpointSequence = rangeEnd;
+            }
+            if (checkpointSequence != previousCheckpointSequence) {
+                checkpointFile.putLong(0, checkpointSequence);
+                deleteAcknowledgedSegments();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return readSequence >= writeSequence && getRecordsInFlight() == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        final List<Path> segmentPaths = new ArrayList<>();
+        try (final DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, Segment::isSegmentFile)) {
+            directoryStream.forEach(segmentPaths::add);
+        }
+        segmentPaths.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        for (final Path segmentPath : segmentPaths) {
+            segments.add(Segment.open(segmentPath));
+        }
+        spareSegment = Segment.openSpare(directory);
+
+        checkpointSequence = checkpointFile.getLong(0);
+        if (segments.isEmpty()) {
+            segments.add(newSegment(checkpointSequence));
+        } else if (checkpointSequence < segments.get(0).getBaseSequence()) {
+            LOG.warn("Pipeline [{}] - Disk buffer checkpoint {} is older than the first segment, resuming from {}",
+                    pipelineName, checkpointSequence, segments.get(0).getBaseSequence());
+            checkpointSequence = segments.get(0).getBaseSequence();
+        }
+        deleteAcknowledgedSegments();
+
+        final Segment activeSegment = segments.get(segments.size() - 1);
+        writeSequence = activeSegment.getEndSequence();
+        checkpointSequence = Math.min(checkpointSequence, writeSequence);
+        readSequence = segments.get(0).getBaseSequence();
+        readSegment = segments.get(0);
+        readPosition = 0;
+        while (readSequence < checkpointSequence) {
+            readNext();
+        }
+        if (writeSequence > readSequence) {
+            LOG.info("Pipeline [{}] - Replaying {} records from the disk buffer in {}", pipelineName,
+                    writeSequence - readSequence, directory);
+        }
+    }
+
+    private void append(final List<byte[]> payloads, final int timeoutInMillis)
+            throws TimeoutException, SizeOverflowException {
+        checkCapacity(payloads);
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+            while (segmentFilesAfterAppending(payloads) > maxSegments) {
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException(payloads.size() == 1
+                            ? format("Pipeline [%s] - Buffer is full, timed out waiting for a slot", pipelineName)
+                            : format("Pipeline [%s] - Buffer does not have enough capacity left for the size of records: %d, " +
+                            "timed out waiting for slots.", pipelineName, payloads.size()));
+                }
+                remainingNanos = notFull.awaitNanos(remainingNanos);
+            }
+
+            Segment activeSegment = startsNewSegment(payloads) ? rollOver() : segments.get(segments.size() - 1);
+            for (final byte[] payload : payloads) {
+                if (!activeSegment.append(payload)) {
+                    activeSegment = rollOver();
+                    activeSegment.append(payload);
+                }
+                writeSequence++;
+            }
+            notEmpty.signalAll();
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write {} records", pipelineName,
+                    payloads.size(), ex);
+            throw new TimeoutException("Buffer is full, timed out waiting for a slot");
+        } catch (final IOException e) {
+            throw new RuntimeException(format("Pipeline [%s] - Unable to create a disk buffer segment in %s",
+                    pipelineName, directory), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rejects payloads which the buffer can never hold: a record larger than a segment, or records which do not fit in
+     * {@link #maxSegments} empty segments.
+     */
+    private void checkCapacity(final List<byte[]> payloads) throws SizeOverflowException {
+        for (final byte[] payload : payloads) {
+            if (!fitsInSegment(payload)) {
+                throw new SizeOverflowException(format("Record of %d bytes does not fit in a segment of %d bytes",
+                        payload.length, segmentSizeInBytes));
+            }
+        }
+        if (1 + segmentsNeededFor(payloads, segmentSizeInBytes) > maxSegments) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", payloads.size()));
+        }
+    }
+
+    /**
+     * @return the highest number of segment files, including the active and the spare segments, the buffer holds
+     * while appending the payloads. The spare segment is reused for the first new segment, and an active segment
+     * released by {@link #startsNewSegment(List)} is reused or deleted before the first new segment is created.
+     */
+    private int segmentFilesAfterAppending(final List<byte[]> payloads) {
+        final int spareSegments = spareSegment == null ? 0 : 1;
+        final int newSegments;
+        final int releasedSegments;
+        if (startsNewSegment(payloads)) {
+            newSegments = 1 + segmentsNeededFor(payloads, segmentSizeInBytes);
+            releasedSegments = 1;
+        } else {
+            newSegments = segmentsNeededFor(payloads, segments.get(segments.size() - 1).getRemainingBytes());
+            releasedSegments = 0;
+        }
+        return segments.size() + Math.max(spareSegments, newSegments - releasedSegments);
+    }
+
+    /**
+     * @return true if the payloads do not fit in the rest of an active segment which only holds acknowledged records.
+     * They then start a new segment, so that the active segment can be released instead of being kept for its tail.
+     */
+    private boolean startsNewSegment(final List<byte[]> payloads) {
+        final Segment activeSegment = segments.get(segments.size() - 1);
+        return activeSegment.getRecordCount() > 0 && activeSegment.getEndSequence() <= checkpointSequence &&
+                segmentsNeededFor(payloads, activeSegment.getRemainingBytes()) > 0;
+    }
+
+    /**
+     * Flushes the active segment and starts a new one. The former active segment is released first if it only holds
+     * acknowledged records, so that its file can be reused for the new segment.
+     */
+    private Segment rollOver() throws IOException {
+        final Segment previousSegment = segments.get(segments.size() - 1);
+        previousSegment.force();
+        if (previousSegment.getEndSequence() <= checkpointSequence) {
+            segments.remove(segments.size() - 1);
+            releaseSegment(previousSegment);
+        }
+        final Segment activeSegment = newSegment(writeSequence);
+        segments.add(activeSegment);
+        return activeSegment;
+    }
+
+    /**
+     * @return the number of new segments the payloads would need if appended to a segment with the remaining bytes
+     */
+    private int segmentsNeededFor(final List<byte[]> payloads, final long initialRemainingBytes) {
+        int newSegments = 0;
+        long remainingBytes = initialRemainingBytes;
+        for (final byte[] payload : payloads) {
+            final int entryBytes = Segment.ENTRY_HEADER_BYTES + payload.length;
+            if (remainingBytes < entryBytes) {
+                newSegments++;
+                remainingBytes = segmentSizeInBytes;
+            }
+            remainingBytes -= entryBytes;
+        }
+        return newSegments;
+    }
+
+    private byte[] readNext() {
+        if (readSequence == readSegment.getEndSequence()) {
+            readSegment = segmentStartingAt(readSequence);
+            readPosition = 0;
+        }
+        final byte[] payload = readSegment.read(readPosition);
+        readPosition = readSegment.nextPosition(readPosition);
+        readSequence++;
+        return payload;
+    }
+
+    private Segment segmentStartingAt(final long sequence) {
+        for (final Segment segment : segments) {
+            if (segment.getBaseSequence() == sequence && segment.getRecordCount() > 0) {
+                return segment;
+            }
+        }
+        throw new IllegalStateException(format("Pipeline [%s] - No disk buffer segment starts at sequence %d",
+                pipelineName, sequence));
+    }
+
+    /**
+     * Creates a segment starting at the given sequence, reusing the spare segment if there is one.
+     */
+    private Segment newSegment(final long baseSequence) throws IOException {
+        if (spareSegment != null) {
+            final Segment segment = spareSegment;
+            spareSegment = null;
+            if (segment.getCapacity() == segmentSizeInBytes) {
+                try {
+                    return segment.reuse(baseSequence);
+                } catch (final IOException e) {
+                    LOG.warn("Pipeline [{}] - Unable to reuse the spare disk buffer segment", pipelineName, e);
+                }
+            }
+            deleteSegment(segment);
+        }
+        return Segment.create(directory, baseSequence, segmentSizeInBytes);
+    }
+
+    /**
+     * Deletes the segments which only hold acknowledged records, keeping the first one as the spare segment if there
+     * is none. The active segment is always kept.
+     */
+    private void deleteAcknowledgedSegments() {
+        boolean deleted = false;
+        while (segments.size() > 1 && segments.get(0).getEndSequence() <= checkpointSequence) {
+            releaseSegment(segments.remove(0));
+            deleted = true;
+        }
+        if (deleted) {
+            notFull.signalAll();
+        }
+    }
+
+    /**
+     * Keeps an acknowledged segment as the spare segment if there is none, or deletes it.
+     */
+    private void releaseSegment(final Segment segment) {
+        if (spareSegment == null && segment.getCapacity() == segmentSizeInBytes) {
+            try {
+                spareSegment = segment.recycle();
+            } catch (final IOException e) {
+                LOG.warn("Pipeline [{}] - Unable to recycle acknowledged disk buffer segment", pipelineName, e);
+                deleteSegment(segment);
+            }
+        } else {
+            deleteSegment(segment);
+        }
+    }
+
+    private void deleteSegment(final Segment segment) {
+        try {
+            segment.delete();
+        } catch (final IOException e) {
+            LOG.warn("Pipeline [{}] - Unable to delete acknowledged disk buffer segment", pipelineName, e);
+        }
+    }
+
+    private boolean fitsInSegment(final byte[] payload) {
+        return (long) Segment.ENTRY_HEADER_BYTES + payload.length <= segmentSizeInBytes;
+    }
+
+    private byte[] encode(final T record) {
+        try {
+            return recordCodec.encode(record);
+        } catch (final IOException e) {
+            throw new RuntimeException(format("Pipeline [%s] - Unable to encode a record for the disk buffer", pipelineName), e);
+        }
+    }
+
+    private static Path bufferDirectory(final PluginSetting pluginSetting) {
+        final Path path = Paths.get(pluginSetting.getStringOrDefault(ATTRIBUTE_PATH, DEFAULT_PATH));
+        return pluginSetting.getPipelineName() == null ? path : path.resolve(pluginSetting.getPipelineName());
+    }
+
+    private static MappedByteBuffer mapCheckpointFile(final Path path) throws IOException {
+        try (final FileChannel fileChannel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+        }
+    }
+}
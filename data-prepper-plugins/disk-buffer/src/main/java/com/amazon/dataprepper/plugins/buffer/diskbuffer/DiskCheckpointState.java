@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+
+/**
+ * A {@link CheckpointState} which also carries the range of log sequences a read covered, so that
+ * {@link DiskBuffer#checkpoint(CheckpointState)} can acknowledge exactly those records even when workers checkpoint
+ * out of order.
+ */
+class DiskCheckpointState extends CheckpointState {
+    private final long startSequence;
+    private final long endSequence;
+
+    /**
+     * @param numRecordsToBeChecked the number of records returned by the read
+     * @param startSequence         the first sequence covered by the read
+     * @param endSequence           the sequence following the last sequence covered by the read
+     */
+    DiskCheckpointState(final int numRecordsToBeChecked, final long startSequence, final long endSequence) {
+        super(numRecordsToBeChecked);
+        this.startSequence = startSequence;
+        this.endSequence = endSequence;
+    }
+
+    long getStartSequence() {
+        return startSequence;
+    }
+
+    long getEndSequence() {
+        return endSequence;
+    }
+}
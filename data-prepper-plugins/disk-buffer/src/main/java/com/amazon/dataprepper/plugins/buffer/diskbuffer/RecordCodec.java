@@ -0,0 +1,287 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.event.CopyOnWriteEvent;
+import com.amazon.dataprepper.model.event.DefaultEventMetadata;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventMetadata;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.log.JacksonLog;
+import com.amazon.dataprepper.model.log.Log;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.record.RecordMetadata;
+import com.amazon.dataprepper.model.trace.DefaultSpan;
+import com.amazon.dataprepper.model.trace.DefaultTraceGroupFields;
+import com.amazon.dataprepper.model.trace.JacksonSpan;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converts records to and from the bytes stored in the write-ahead log. String data and {@link JacksonEvent},
+ * {@link JacksonLog}, {@link CopyOnWriteEvent}, {@link JacksonSpan} and {@link DefaultSpan} events are stored as JSON,
+ * with copy-on-write events decoded as {@link JacksonEvent} or {@link JacksonLog} and spans decoded as
+ * {@link JacksonSpan}; any other {@link Serializable} data, such as protobuf requests, falls back to Java serialization.
+ * <p>
+ * Java serialization is restricted to the classes of the JDK packages in {@link #SERIALIZABLE_PACKAGES} and of the
+ * packages starting with one of {@link #SERIALIZABLE_PACKAGE_PREFIXES}. Records with data of any other class fail to
+ * encode, and entries referring to any other class fail to decode, so that the log cannot be used to instantiate
+ * arbitrary classes.
+ */
+class RecordCodec {
+    private static final byte JSON_FORMAT = 1;
+    private static final byte JAVA_SERIALIZATION_FORMAT = 2;
+
+    private static final String TYPE_KEY = "type";
+    private static final String DATA_KEY = "data";
+    private static final String RECORD_METADATA_KEY = "recordMetadata";
+    private static final String EVENT_TYPE_KEY = "eventType";
+    private static final String TIME_RECEIVED_KEY = "timeReceived";
+    private static final String EVENT_ATTRIBUTES_KEY = "eventAttributes";
+
+    private static final String STRING_TYPE = "string";
+    private static final String EVENT_TYPE = "event";
+    private static final String LOG_TYPE = "log";
+    private static final String SPAN_TYPE = "span";
+
+    private static final Set<String> SERIALIZABLE_PACKAGES = new HashSet<>(Arrays.asList(
+            "java.lang", "java.math", "java.time", "java.util"));
+    private static final List<String> SERIALIZABLE_PACKAGE_PREFIXES = Arrays.asList(
+            "com.google.protobuf.", "io.opentelemetry.proto.");
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule());
+
+    byte[] encode(final Record<?> record) throws IOException {
+        final Object data = record.getData();
+        final String type = jsonType(data);
+        if (type == null) {
+            return encodeSerializable(record);
+        }
+
+        final ObjectNode envelope = objectMapper.createObjectNode();
+        envelope.put(TYPE_KEY, type);
+        envelope.set(RECORD_METADATA_KEY, objectMapper.valueToTree(record.getMetadata().getMetadataObject()));
+        if (data instanceof String) {
+            envelope.put(DATA_KEY, (String) data);
+        } else {
+            final Event event = (Event) data;
+            final EventMetadata eventMetadata = event.getMetadata();
+            envelope.put(EVENT_TYPE_KEY, eventMetadata.getEventType());
+            envelope.put(TIME_RECEIVED_KEY, eventMetadata.getTimeReceived().toString());
+            envelope.set(EVENT_ATTRIBUTES_KEY, objectMapper.valueToTree(eventMetadata.getAttributes()));
+            envelope.putRawValue(DATA_KEY, new RawValue(event.toJsonString()));
+        }
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(JSON_FORMAT);
+        objectMapper.writeValue(outputStream, envelope);
+        return outputStream.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends Record<?>> T decode(final byte[] payload) throws IOException {
+        if (payload.length == 0) {
+            throw new IOException("Cannot decode an empty payload");
+        }
+        if (payload[0] == JAVA_SERIALIZATION_FORMAT) {
+            return (T) decodeSerializable(payload);
+        }
+        if (payload[0] != JSON_FORMAT) {
+            throw new IOException("Unknown record format " + payload[0]);
+        }
+
+        final JsonNode envelope = objectMapper.readTree(new ByteArrayInputStream(payload, 1, payload.length - 1));
+        final RecordMetadata recordMetadata = RecordMetadata.of(
+                objectMapper.convertValue(envelope.get(RECORD_METADATA_KEY), MAP_TYPE_REFERENCE));
+        final String type = envelope.get(TYPE_KEY).asText();
+        if (STRING_TYPE.equals(type)) {
+            return (T) new Record<>(envelope.get(DATA_KEY).asText(), recordMetadata);
+        }
+
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(envelope.get(EVENT_TYPE_KEY).asText())
+                .withTimeReceived(Instant.parse(envelope.get(TIME_RECEIVED_KEY).asText()))
+                .withAttributes(objectMapper.convertValue(envelope.get(EVENT_ATTRIBUTES_KEY), MAP_TYPE_REFERENCE))
+                .build();
+        final JsonNode data = envelope.get(DATA_KEY);
+        final Event event;
+        switch (type) {
+            case SPAN_TYPE:
+                event = decodeSpan(data, eventMetadata);
+                break;
+            case LOG_TYPE:
+                event = JacksonLog.builder()
+                        .withData(data)
+                        .withEventMetadata(eventMetadata)
+                        .build();
+                break;
+            case EVENT_TYPE:
+                event = JacksonEvent.builder()
+                        .withData(data)
+                        .withEventMetadata(eventMetadata)
+                        .build();
+                break;
+            default:
+                throw new IOException("Unknown record type " + type);
+        }
+        return (T) new Record<>(event, recordMetadata);
+    }
+
+    /**
+     * The span builder requires its mandatory fields to be set individually, so those are set first and the stored
+     * tree is copied over the result.
+     */
+    private JacksonSpan decodeSpan(final JsonNode data, final EventMetadata eventMetadata) {
+        final JacksonSpan.Builder builder = JacksonSpan.builder()
+                .withTraceId(data.path("traceId").asText())
+                .withSpanId(data.path("spanId").asText())
+                .withName(data.path("name").asText())
+                .withKind(data.path("kind").asText())
+                .withStartTime(data.path("startTime").asText())
+                .withEndTime(data.path("endTime").asText())
+                .withTraceGroup(null)
+                .withDurationInNanos(0L)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build());
+        builder.withEventMetadata(eventMetadata);
+        final JacksonSpan span = builder.build();
+        for (final Iterator<Map.Entry<String, JsonNode>> fields = data.fields(); fields.hasNext(); ) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            span.put(field.getKey(), field.getValue());
+        }
+        return span;
+    }
+
+    private static String jsonType(final Object data) {
+        if (data instanceof String) {
+            return STRING_TYPE;
+        }
+        if (data == null) {
+            return null;
+        }
+        final Class<?> dataClass = data.getClass();
+        if (dataClass == JacksonSpan.class || dataClass == DefaultSpan.class) {
+            return SPAN_TYPE;
+        } else if (dataClass == JacksonLog.class) {
+            return LOG_TYPE;
+        } else if (dataClass == JacksonEvent.class) {
+            return EVENT_TYPE;
+        } else if (data instanceof CopyOnWriteEvent) {
+            return data instanceof Log ? LOG_TYPE : EVENT_TYPE;
+        }
+        return null;
+    }
+
+    private byte[] encodeSerializable(final Record<?> record) throws IOException {
+        if (!(record.getData() instanceof Serializable)) {
+            throw new IllegalArgumentException("Record data of type " +
+                    (record.getData() == null ? "null" : record.getData().getClass().getName()) +
+                    " cannot be stored in the disk buffer");
+        }
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(JAVA_SERIALIZATION_FORMAT);
+        try (final ObjectOutputStream objectOutputStream = new RestrictedObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(new HashMap<>(record.getMetadata().getMetadataObject()));
+            objectOutputStream.writeObject(record.getData());
+        }
+        return outputStream.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Record<?> decodeSerializable(final byte[] payload) throws IOException {
+        try (final ObjectInputStream objectInputStream =
+                     new RestrictedObjectInputStream(new ByteArrayInputStream(payload, 1, payload.length - 1))) {
+            final Map<String, Object> recordMetadata = (Map<String, Object>) objectInputStream.readObject();
+            return new Record<>(objectInputStream.readObject(), RecordMetadata.of(recordMetadata));
+        } catch (final ClassNotFoundException e) {
+            throw new IOException("Unable to deserialize record", e);
+        }
+    }
+
+    private static boolean isSerializable(final String className) {
+        String elementClassName = className;
+        if (elementClassName.startsWith("[")) {
+            elementClassName = elementClassName.substring(elementClassName.lastIndexOf('[') + 1);
+            if (!elementClassName.startsWith("L")) {
+                // An array of a primitive type
+                return elementClassName.length() == 1;
+            }
+            elementClassName = elementClassName.substring(1, elementClassName.length() - 1);
+        }
+        final int packageEnd = elementClassName.lastIndexOf('.');
+        if (packageEnd < 0) {
+            return false;
+        }
+        if (SERIALIZABLE_PACKAGES.contains(elementClassName.substring(0, packageEnd))) {
+            return true;
+        }
+        return SERIALIZABLE_PACKAGE_PREFIXES.stream().anyMatch(elementClassName::startsWith);
+    }
+
+    private static class RestrictedObjectOutputStream extends ObjectOutputStream {
+        private RestrictedObjectOutputStream(final OutputStream outputStream) throws IOException {
+            super(outputStream);
+        }
+
+        @Override
+        protected void annotateClass(final Class<?> cl) throws IOException {
+            if (!isSerializable(cl.getName())) {
+                throw new IllegalArgumentException("Record data of type " + cl.getName() +
+                        " cannot be stored in the disk buffer");
+            }
+        }
+
+        @Override
+        protected void annotateProxyClass(final Class<?> cl) {
+            throw new IllegalArgumentException("Record data of proxy type " + cl.getName() +
+                    " cannot be stored in the disk buffer");
+        }
+    }
+
+    private static class RestrictedObjectInputStream extends ObjectInputStream {
+        private RestrictedObjectInputStream(final InputStream inputStream) throws IOException {
+            super(inputStream);
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (!isSerializable(desc.getName())) {
+                throw new InvalidClassException(desc.getName(), "Class is not allowed in the disk buffer");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(final String[] interfaces) throws InvalidClassException {
+            throw new InvalidClassException(Arrays.toString(interfaces), "Proxy classes are not allowed in the disk buffer");
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.diskbuffer;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import static java.lang.String.format;
+
+/**
+ * A Segment is a pre-sized, memory-mapped file holding a contiguous range of records of the write-ahead log. Each
+ * entry is stored as {@code [int length][int crc32][payload]}. A zero length marks the end of the written entries;
+ * a length or checksum which does not match marks a torn write and is treated as the end of the segment on recovery.
+ * <p>
+ * A segment which is no longer needed is either deleted, which releases its mapping, or recycled as the spare segment
+ * file, whose file and mapping are reused for the next segment.
+ * <p>
+ * Segments are not thread-safe, the {@link DiskBuffer} serializes access to them.
+ */
+class Segment {
+    static final int ENTRY_HEADER_BYTES = Integer.BYTES * 2;
+    private static final String FILE_PREFIX = "segment-";
+    private static final String FILE_SUFFIX = ".log";
+    static final String SPARE_FILE_NAME = "segment.spare";
+
+    private final Path path;
+    private final long baseSequence;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+    private int recordCount;
+
+    private Segment(final Path path, final long baseSequence, final MappedByteBuffer buffer) {
+        this.path = path;
+        this.baseSequence = baseSequence;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Creates and maps a new segment file of the given size, starting at the given sequence.
+     */
+    static Segment create(final Path directory, final long baseSequence, final int sizeInBytes) throws IOException {
+        final Path path = directory.resolve(fileName(baseSequence));
+        return new Segment(path, baseSequence, map(path, sizeInBytes, StandardOpenOption.CREATE_NEW));
+    }
+
+    /**
+     * Maps an existing segment file and scans it to recover the entries which were completely written.
+     */
+    static Segment open(final Path path) throws IOException {
+        final Segment segment = new Segment(path, parseBaseSequence(path), map(path, (int) Files.size(path)));
+        segment.recover();
+        return segment;
+    }
+
+    /**
+     * Maps the spare segment file of the directory.
+     *
+     * @return the spare segment, or null if the directory has no spare segment file
+     */
+    static Segment openSpare(final Path directory) throws IOException {
+        final Path path = directory.resolve(SPARE_FILE_NAME);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        return new Segment(path, -1, map(path, (int) Files.size(path)));
+    }
+
+    static boolean isSegmentFile(final Path path) {
+        final String fileName = path.getFileName().toString();
+        return fileName.startsWith(FILE_PREFIX) && fileName.endsWith(FILE_SUFFIX);
+    }
+
+    private static String fileName(final long baseSequence) {
+        return format("%s%020d%s", FILE_PREFIX, baseSequence, FILE_SUFFIX);
+    }
+
+    private static long parseBaseSequence(final Path path) {
+        final String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+    }
+
+    private static MappedByteBuffer map(final Path path, final int sizeInBytes, final StandardOpenOption... options) throws IOException {
+        final StandardOpenOption[] openOptions = new StandardOpenOption[options.length + 2];
+        openOptions[0] = StandardOpenOption.READ;
+        openOptions[1] = StandardOpenOption.WRITE;
+        System.arraycopy(options, 0, openOptions, 2, options.length);
+        // The mapping stays valid after the channel is closed.
+        try (final FileChannel fileChannel = FileChannel.open(path, openOptions)) {
+            return fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, sizeInBytes);
+        }
+    }
+
+    private void recover() {
+        int position = 0;
+        while (position + ENTRY_HEADER_BYTES <= buffer.capacity()) {
+            final int length = buffer.getInt(position);
+            if (length <= 0 || length > buffer.capacity() - position - ENTRY_HEADER_BYTES) {
+                break;
+            }
+            final int checksum = buffer.getInt(position + Integer.BYTES);
+            if (checksum != checksum(position + ENTRY_HEADER_BYTES, length)) {
+                break;
+            }
+            position += ENTRY_HEADER_BYTES + length;
+            recordCount++;
+        }
+        writePosition = position;
+    }
+
+    /**
+     * Appends the payload to the end of the segment.
+     *
+     * @return false if the segment does not have enough space left for the payload
+     */
+    boolean append(final byte[] payload) {
+        if (!hasRoomFor(payload.length)) {
+            return false;
+        }
+        final ByteBuffer entry = buffer.duplicate();
+        entry.position(writePosition + ENTRY_HEADER_BYTES);
+        entry.put(payload);
+        final CRC32 crc32 = new CRC32();
+        crc32.update(payload, 0, payload.length);
+        final int nextPosition = writePosition + ENTRY_HEADER_BYTES + payload.length;
+        // A recycled segment still holds the entries of its previous use, so the end of the entries is marked first.
+        if (nextPosition + Integer.BYTES <= buffer.capacity()) {
+            buffer.putInt(nextPosition, 0);
+        }
+        buffer.putInt(writePosition + Integer.BYTES, (int) crc32.getValue());
+        buffer.putInt(writePosition, payload.length);
+        writePosition = nextPosition;
+        recordCount++;
+        return true;
+    }
+
+    boolean hasRoomFor(final int payloadLength) {
+        return (long) ENTRY_HEADER_BYTES + payloadLength <= getRemainingBytes();
+    }
+
+    int getRemainingBytes() {
+        return buffer.capacity() - writePosition;
+    }
+
+    /**
+     * Reads the payload of the entry at the given position.
+     */
+    byte[] read(final int position) {
+        final int length = buffer.getInt(position);
+        final byte[] payload = new byte[length];
+        final ByteBuffer entry = buffer.duplicate();
+        entry.position(position + ENTRY_HEADER_BYTES);
+        entry.get(payload);
+        return payload;
+    }
+
+    /**
+     * @return the position of the entry following the entry at the given position
+     */
+    int nextPosition(final int position) {
+        return position + ENTRY_HEADER_BYTES + buffer.getInt(position);
+    }
+
+    /**
+     * Flushes the written entries to the storage device.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * Releases the mapping and deletes the file of this segment, which must not be used afterwards.
+     */
+    void delete() throws IOException {
+        Unmapper.unmap(buffer);
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Discards the entries of this segment, which must not be used afterwards, and renames its file to the spare
+     * segment file.
+     *
+     * @return the spare segment reusing the file and mapping of this segment
+     */
+    Segment recycle() throws IOException {
+        buffer.putInt(0, 0);
+        final Path sparePath = path.resolveSibling(SPARE_FILE_NAME);
+        Files.move(path, sparePath, StandardCopyOption.REPLACE_EXISTING);
+        return new Segment(sparePath, -1, buffer);
+    }
+
+    /**
+     * Renames the file of this spare segment, which must not be used afterwards, to a segment starting at the given
+     * sequence.
+     *
+     * @return an empty segment reusing the file and mapping of this spare segment
+     */
+    Segment reuse(final long baseSequence) throws IOException {
+        buffer.putInt(0, 0);
+        final Path segmentPath = path.resolveSibling(fileName(baseSequence));
+        Files.move(path, segmentPath);
+        return new Segment(segmentPath, baseSequence, buffer);
+    }
+
+    int getCapacity() {
+        return buffer.capacity();
+    }
+
+    long getBaseSequence() {
+        return baseSequence;
+    }
+
+    /**
+     * @return the sequence following the last record in this segment
+     */
+    long getEndSequence() {
+        return baseSequence + recordCount;
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    private int checksum(final int position, final int length) {
+        final byte[] payload = new byte[length];
+        final ByteBuffer entry = buffer.duplicate();
+        entry.position(position);
+        entry.get(payload);
+        final CRC32 crc32 = new CRC32();
+        crc32.update(payload, 0, payload.length);
+        return (int) crc32.getValue();
+    }
+
+    /**
+     * Releases a mapping without waiting for the buffer to be garbage collected, which would keep the space of a
+     * deleted file in use. Java 9 and later release it through {@code sun.misc.Unsafe#invokeCleaner} and Java 8
+     * through the cleaner of the buffer. If neither is accessible the mapping is left to the garbage collector.
+     */
+    private static class Unmapper {
+        private static final Object UNSAFE;
+        private static final Method INVOKE_CLEANER;
+
+        static {
+            Object unsafe = null;
+            Method invokeCleaner = null;
+            try {
+                final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+                final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                unsafe = theUnsafe.get(null);
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                invokeCleaner = null;
+            }
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invokeCleaner;
+        }
+
+        static void unmap(final MappedByteBuffer buffer) {
+            try {
+                if (INVOKE_CLEANER != null) {
+                    INVOKE_CLEANER.invoke(UNSAFE, buffer);
+                } else {
+                    final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                    cleanerMethod.setAccessible(true);
+                    final Object cleaner = cleanerMethod.invoke(buffer);
+                    if (cleaner != null) {
+                        cleaner.getClass().getMethod("clean").invoke(cleaner);
+                    }
+                }
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                // The mapping is released when the buffer is garbage collected.
+            }
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.record.Record;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DiskBufferTests {
+    private static final String ATTRIBUTE_PATH = "path";
+    private static final String ATTRIBUTE_SEGMENT_SIZE_MB = "segment_size_mb";
+    private static final String ATTRIBUTE_MAX_SEGMENTS = "max_segments";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final int TEST_SEGMENT_SIZE = 512;
+    private static final int TEST_MAX_SEGMENTS = 3;
+    private static final int TEST_BATCH_SIZE = 3;
+    private static final int TEST_WRITE_TIMEOUT = 1_00;
+    private static final int TEST_BATCH_READ_TIMEOUT = 5_00;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testCreationUsingPluginSetting() throws IOException {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_PATH, directory.toString());
+        settings.put(ATTRIBUTE_SEGMENT_SIZE_MB, 1);
+        settings.put(ATTRIBUTE_MAX_SEGMENTS, TEST_MAX_SEGMENTS);
+        settings.put(ATTRIBUTE_BATCH_SIZE, TEST_BATCH_SIZE);
+        final PluginSetting pluginSetting = new PluginSetting("persistent_disk", settings);
+        pluginSetting.setPipelineName(TEST_PIPELINE_NAME);
+
+        final DiskBuffer<Record<String>> diskBuffer = new DiskBuffer<>(pluginSetting);
+        assertThat(diskBuffer, notNullValue());
+        assertTrue(Files.isDirectory(directory.resolve(TEST_PIPELINE_NAME)));
+        assertThat(segmentFiles(directory.resolve(TEST_PIPELINE_NAME)).size(), is(equalTo(1)));
+    }
+
+    @Test
+    public void testCreationUsingNullPluginSetting() {
+        final NullPointerException ex = assertThrows(NullPointerException.class,
+                () -> new DiskBuffer<Record<String>>((PluginSetting) null));
+        assertThat(ex.getMessage(), is(equalTo("PluginSetting cannot be null")));
+    }
+
+    @Test
+    public void testDefaultPluginSettings() {
+        final PluginSetting pluginSetting = DiskBuffer.getDefaultPluginSettings();
+        assertThat(pluginSetting.getName(), is(equalTo("persistent_disk")));
+        assertThat(pluginSetting.getIntegerOrDefault(ATTRIBUTE_SEGMENT_SIZE_MB, 0), is(equalTo(64)));
+        assertThat(pluginSetting.getIntegerOrDefault(ATTRIBUTE_MAX_SEGMENTS, 0), is(equalTo(32)));
+        assertThat(pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, 0), is(equalTo(8)));
+    }
+
+    @Test
+    public void testCreationUsingInvalidValues() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DiskBuffer<Record<String>>(directory, 0, TEST_MAX_SEGMENTS, TEST_BATCH_SIZE, TEST_PIPELINE_NAME));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DiskBuffer<Record<String>>(directory, TEST_SEGMENT_SIZE, 0, TEST_BATCH_SIZE, TEST_PIPELINE_NAME));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DiskBuffer<Record<String>>(directory, TEST_SEGMENT_SIZE, TEST_MAX_SEGMENTS, 0, TEST_PIPELINE_NAME));
+    }
+
+    @Test
+    public void testInsertNull() {
+        final DiskBuffer<Record<String>> diskBuffer = createDiskBuffer();
+        assertThrows(NullPointerException.class, () -> diskBuffer.write(null, TEST_WRITE_TIMEOUT));
+        assertThrows(NullPointerException.class,
+                () -> diskBuffer.writeAll(Collections.singletonList(null), TEST_WRITE_TIMEOUT));
+        assertTrue(diskBuffer.isEmpty());
+    }
+
+    @Test
+    public void testWriteRecordLargerThanSegment() {
+        final DiskBuffer<Record<String>> diskBuffer = createDiskBuffer();
+        final Record<String> largeRecord = new Record<>(String.join("", Collections.nCopies(TEST_SEGMENT_SIZE, "x")));
+        final RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> diskBuffer.write(largeRecord, TEST_WRITE_TIMEOUT));
+        assertThat(exception.getCause(), instanceOf(SizeOverflowException.class));
+        assertThrows(SizeOverflowException.class,
+                () -> diskBuffer.writeAll(Collections.singletonList(largeRecord), TEST_WRITE_TIMEOUT));
+        assertTrue(diskBuffer.isEmpty());
+    }
+
+    @Test
+    public void testWriteAllBatchExactlyAtCapacity() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createDiskBuffer();
+        final int entriesPerSegment = 4;
+        final List<Record<String>> testRecords = generateRecordsOfEntrySize(entriesPerSegment * TEST_MAX_SEGMENTS,
+                TEST_SEGMENT_SIZE / entriesPerSegment);
+
+        final List<Record<String>> oversizedRecords = new ArrayList<>(testRecords);
+        oversizedRecords.add(new Record<>("x"));
+        assertThrows(SizeOverflowException.class, () -> diskBuffer.writeAll(oversizedRecords, TEST_WRITE_TIMEOUT));
+
+        diskBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        assertThat(segmentFiles(directory).size(), is(equalTo(TEST_MAX_SEGMENTS)));
+        assertThrows(TimeoutException.class, () -> diskBuffer.write(new Record<>("x"), TEST_WRITE_TIMEOUT));
+        assertThat(readAll(diskBuffer), is(equalTo(recordData(testRecords))));
+
+        diskBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        assertThat(segmentFiles(directory).size(), is(equalTo(TEST_MAX_SEGMENTS)));
+        assertFalse(Files.exists(directory.resolve(Segment.SPARE_FILE_NAME)));
+        assertThat(readAll(diskBuffer), is(equalTo(recordData(testRecords))));
+    }
+
+    @Test
+    public void testWriteAllSizeOverflow() {
+        final DiskBuffer<Record<String>> diskBuffer = createDiskBuffer();
+        final Collection<Record<String>> testRecords = generateBatchRecords(100);
+        assertThrows(SizeOverflowException.class, () -> diskBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+        assertTrue(diskBuffer.isEmpty());
+    }
+
+    @Test
+    public void testWriteAndReadBatches() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createDiskBuffer();
+        final List<Record<String>> testRecords = generateBatchRecords(5);
+        diskBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        assertFalse(diskBuffer.isEmpty());
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> firstBatch = diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(recordData(firstBatch.getKey()), is(equalTo(recordData(testRecords.subList(0, TEST_BATCH_SIZE)))));
+        assertThat(firstBatch.getValue().getNumRecordsToBeChecked(), is(equalTo(TEST_BATCH_SIZE)));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> secondBatch = diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(recordData(secondBatch.getKey()), is(equalTo(recordData(testRecords.subList(TEST_BATCH_SIZE, 5)))));
+
+        diskBuffer.checkpoint(firstBatch.getValue());
+        assertFalse(diskBuffer.isEmpty());
+        diskBuffer.checkpoint(secondBatch.getValue());
+        assertTrue(diskBuffer.isEmpty());
+    }
+
+    @Test
+    public void testReadEmptyBufferTimesOut() {
+        final DiskBuffer<Record<String>> diskBuffer = createDiskBuffer();
+        final long start = System.nanoTime();
+        final Map.Entry<Collection<Record<String>>, CheckpointState> batch = diskBuffer.read(TEST_WRITE_TIMEOUT);
+        assertTrue(batch.getKey().isEmpty());
+        assertThat(batch.getValue().getNumRecordsToBeChecked(), is(equalTo(0)));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(TEST_WRITE_TIMEOUT));
+        diskBuffer.checkpoint(batch.getValue());
+        assertTrue(diskBuffer.isEmpty());
+    }
+
+    @Test
+    public void testReadWaitsForWrite() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createDiskBuffer();
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Map.Entry<Collection<Record<String>>, CheckpointState>> readFuture =
+                    executorService.submit(() -> diskBuffer.read(TEST_BATCH_READ_TIMEOUT * 4));
+            diskBuffer.writeAll(generateBatchRecords(TEST_BATCH_SIZE), TEST_WRITE_TIMEOUT);
+            assertThat(readFuture.get().getKey().size(), is(equalTo(TEST_BATCH_SIZE)));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWriteTimesOutWhenFullAndResumesAfterCheckpoint() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createDiskBuffer();
+        int written = 0;
+        try {
+            while (true) {
+                diskBuffer.write(new Record<>("value-" + written), TEST_WRITE_TIMEOUT);
+                written++;
+            }
+        } catch (final TimeoutException e) {
+            assertThat(written > TEST_MAX_SEGMENTS, is(true));
+        }
+        assertThat(segmentFiles(directory).size(), is(equalTo(TEST_MAX_SEGMENTS)));
+
+        int read = 0;
+        while (read < written) {
+            final Map.Entry<Collection<Record<String>>, CheckpointState> batch = diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+            read += batch.getKey().size();
+            diskBuffer.checkpoint(batch.getValue());
+        }
+        assertTrue(diskBuffer.isEmpty());
+        assertThat(segmentFiles(directory).size(), is(equalTo(1)));
+
+        diskBuffer.write(new Record<>("after-checkpoint"), TEST_WRITE_TIMEOUT);
+        assertThat(recordData(diskBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey()),
+                is(equalTo(Collections.singletonList("after-checkpoint"))));
+    }
+
+    @Test
+    public void testAcknowledgedSegmentIsReused() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createDiskBuffer();
+        final List<Record<String>> firstRecords = new ArrayList<>();
+        while (segmentFiles(directory).size() < 2) {
+            final Record<String> record = new Record<>("first-" + firstRecords.size());
+            diskBuffer.write(record, TEST_WRITE_TIMEOUT);
+            firstRecords.add(record);
+        }
+        assertThat(readAll(diskBuffer), is(equalTo(recordData(firstRecords))));
+        final Path spareFile = directory.resolve(Segment.SPARE_FILE_NAME);
+        assertTrue(Files.exists(spareFile));
+        assertThat(segmentFiles(directory).size(), is(equalTo(1)));
+
+        final List<Record<String>> secondRecords = new ArrayList<>();
+        while (Files.exists(spareFile)) {
+            final Record<String> record = new Record<>("second-" + secondRecords.size());
+            diskBuffer.write(record, TEST_WRITE_TIMEOUT);
+            secondRecords.add(record);
+        }
+        assertThat(segmentFiles(directory).size(), is(equalTo(2)));
+
+        final DiskBuffer<Record<String>> recoveredBuffer = createDiskBuffer();
+        assertThat(readAll(recoveredBuffer), is(equalTo(recordData(secondRecords))));
+    }
+
+    @Test
+    public void testRecoveryReplaysUncheckedRecords() throws Exception {
+        final List<Record<String>> testRecords = generateBatchRecords(10);
+        final DiskBuffer<Record<String>> diskBuffer = createDiskBuffer();
+        diskBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> firstBatch = diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> secondBatch = diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        diskBuffer.checkpoint(firstBatch.getValue());
+
+        final DiskBuffer<Record<String>> recoveredBuffer = createDiskBuffer();
+        assertFalse(recoveredBuffer.isEmpty());
+        final List<String> replayed = readAll(recoveredBuffer);
+        assertThat(replayed, is(equalTo(recordData(testRecords.subList(TEST_BATCH_SIZE, testRecords.size())))));
+        assertThat(replayed.subList(0, TEST_BATCH_SIZE), is(equalTo(recordData(secondBatch.getKey()))));
+        assertTrue(recoveredBuffer.isEmpty());
+
+        final DiskBuffer<Record<String>> fullyCheckedBuffer = createDiskBuffer();
+        assertTrue(fullyCheckedBuffer.isEmpty());
+        assertThat(fullyCheckedBuffer.read(TEST_WRITE_TIMEOUT).getKey().size(), is(equalTo(0)));
+    }
+
+    @Test
+    public void testOutOfOrderCheckpointsOnlyAdvanceContiguousRange() throws Exception {
+        final List<Record<String>> testRecords = generateBatchRecords(6);
+        final DiskBuffer<Record<String>> diskBuffer = createDiskBuffer();
+        diskBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> firstBatch = diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> secondBatch = diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        diskBuffer.checkpoint(secondBatch.getValue());
+
+        final DiskBuffer<Record<String>> recoveredBuffer = createDiskBuffer();
+        assertThat(readAll(recoveredBuffer), is(equalTo(recordData(testRecords))));
+
+        diskBuffer.checkpoint(firstBatch.getValue());
+        assertTrue(diskBuffer.isEmpty());
+        assertTrue(createDiskBuffer().isEmpty());
+    }
+
+    @Test
+    public void testRecoveryIgnoresTornWrite() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createDiskBuffer();
+        diskBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        final Path segmentFile = segmentFiles(directory).get(0);
+        final byte[] bytes = Files.readAllBytes(segmentFile);
+        final int secondEntry = Segment.ENTRY_HEADER_BYTES + readInt(bytes, 0);
+        bytes[secondEntry + Segment.ENTRY_HEADER_BYTES] ^= 0x7f;
+        Files.write(segmentFile, bytes);
+
+        final DiskBuffer<Record<String>> recoveredBuffer = createDiskBuffer();
+        assertThat(readAll(recoveredBuffer), is(equalTo(Collections.singletonList("value-0"))));
+    }
+
+    @Test
+    public void testCheckpointStateFromAnotherBufferIsRejected() {
+        final DiskBuffer<Record<String>> diskBuffer = createDiskBuffer();
+        assertThrows(IllegalArgumentException.class, () -> diskBuffer.checkpoint(new CheckpointState(0)));
+    }
+
+    private DiskBuffer<Record<String>> createDiskBuffer() {
+        return new DiskBuffer<>(directory, TEST_SEGMENT_SIZE, TEST_MAX_SEGMENTS, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+    }
+
+    private static List<String> readAll(final DiskBuffer<Record<String>> diskBuffer) {
+        final List<String> data = new ArrayList<>();
+        Map.Entry<Collection<Record<String>>, CheckpointState> batch;
+        do {
+            batch = diskBuffer.read(TEST_WRITE_TIMEOUT);
+            data.addAll(recordData(batch.getKey()));
+            diskBuffer.checkpoint(batch.getValue());
+        } while (!batch.getKey().isEmpty());
+        return data;
+    }
+
+    private static List<String> recordData(final Collection<Record<String>> records) {
+        return records.stream().map(Record::getData).collect(Collectors.toList());
+    }
+
+    private static List<Record<String>> generateBatchRecords(final int numRecords) {
+        final List<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            results.add(new Record<>("value-" + i));
+        }
+        return results;
+    }
+
+    /**
+     * Generates records which are each stored in an entry of exactly entryBytes bytes.
+     */
+    private static List<Record<String>> generateRecordsOfEntrySize(final int numRecords, final int entryBytes)
+            throws IOException {
+        final RecordCodec recordCodec = new RecordCodec();
+        final int overheadBytes = Segment.ENTRY_HEADER_BYTES + recordCodec.encode(new Record<>("")).length;
+        final List<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            final String prefix = "value-" + i + "-";
+            final Record<String> record = new Record<>(
+                    prefix + String.join("", Collections.nCopies(entryBytes - overheadBytes - prefix.length(), "x")));
+            assertThat(Segment.ENTRY_HEADER_BYTES + recordCodec.encode(record).length, is(equalTo(entryBytes)));
+            results.add(record);
+        }
+        return results;
+    }
+
+    private static List<Path> segmentFiles(final Path directory) throws IOException {
+        try (final Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(Segment::isSegmentFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static int readInt(final byte[] bytes, final int offset) {
+        return ((bytes[offset] & 0xff) << 24) | ((bytes[offset + 1] & 0xff) << 16)
+                | ((bytes[offset + 2] & 0xff) << 8) | (bytes[offset + 3] & 0xff);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.event.CopyOnWriteEvent;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.log.JacksonLog;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.record.RecordMetadata;
+import com.amazon.dataprepper.model.trace.DefaultSpan;
+import com.amazon.dataprepper.model.trace.DefaultTraceGroupFields;
+import com.amazon.dataprepper.model.trace.JacksonSpan;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RecordCodecTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private RecordCodec recordCodec;
+
+    @BeforeEach
+    void setUp() {
+        recordCodec = new RecordCodec();
+    }
+
+    @Test
+    void testStringRecordRoundTrip() throws IOException {
+        final Map<String, Object> metadata = new HashMap<>();
+        metadata.put(RecordMetadata.RECORD_TYPE, "LOG");
+        metadata.put("source", "test");
+        final Record<String> record = new Record<>(UUID.randomUUID().toString(), RecordMetadata.of(metadata));
+
+        final Record<String> decoded = recordCodec.decode(recordCodec.encode(record));
+
+        assertThat(decoded.getData(), is(equalTo(record.getData())));
+        assertThat(decoded.getMetadata().getMetadataObject(), is(equalTo(record.getMetadata().getMetadataObject())));
+    }
+
+    @Test
+    void testEventRecordRoundTrip() throws IOException {
+        final Map<String, Object> data = new HashMap<>();
+        data.put("message", "hello");
+        data.put("nested", Collections.singletonMap("count", 3));
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .withEventMetadataAttributes(Collections.singletonMap("attribute", "value"))
+                .build();
+
+        final Record<Event> decoded = recordCodec.decode(recordCodec.encode(new Record<>(event)));
+
+        assertThat(decoded.getData(), instanceOf(JacksonEvent.class));
+        assertThat(decoded.getData().toMap(), is(equalTo(event.toMap())));
+        assertThat(decoded.getData().getMetadata().getEventType(), is(equalTo("event")));
+        assertThat(decoded.getData().getMetadata().getTimeReceived(), is(equalTo(event.getMetadata().getTimeReceived())));
+        assertThat(decoded.getData().getMetadata().getAttributes(), is(equalTo(event.getMetadata().getAttributes())));
+    }
+
+    @Test
+    void testLogRecordRoundTrip() throws IOException {
+        final Event log = JacksonLog.builder()
+                .withData(Collections.singletonMap("message", "hello"))
+                .build();
+
+        final Record<Event> decoded = recordCodec.decode(recordCodec.encode(new Record<>(log)));
+
+        assertThat(decoded.getData(), instanceOf(JacksonLog.class));
+        assertThat(decoded.getData().toMap(), is(equalTo(log.toMap())));
+        assertThat(decoded.getData().getMetadata().getEventType(), is(equalTo("LOG")));
+    }
+
+    @Test
+    void testCopyOnWriteRecordsRoundTrip() throws IOException {
+        final Event event = CopyOnWriteEvent.fromEvent(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap("message", "hello"))
+                .build());
+        event.put("nested/count", 3);
+        final Event log = CopyOnWriteEvent.fromEvent(JacksonLog.builder()
+                .withData(Collections.singletonMap("message", "hello"))
+                .build());
+
+        final Record<Event> decodedEvent = recordCodec.decode(recordCodec.encode(new Record<>(event)));
+        final Record<Event> decodedLog = recordCodec.decode(recordCodec.encode(new Record<>(log)));
+
+        assertThat(decodedEvent.getData(), instanceOf(JacksonEvent.class));
+        assertThat(decodedEvent.getData().toMap(), is(equalTo(event.toMap())));
+        assertThat(decodedEvent.getData().getMetadata().getEventType(), is(equalTo("event")));
+        assertThat(decodedLog.getData(), instanceOf(JacksonLog.class));
+        assertThat(decodedLog.getData().toMap(), is(equalTo(log.toMap())));
+        assertThat(decodedLog.getData().getMetadata().getEventType(), is(equalTo("LOG")));
+    }
+
+    @Test
+    void testSpanRecordRoundTrip() throws IOException {
+        final JacksonSpan span = JacksonSpan.builder()
+                .withTraceId("414243")
+                .withSpanId("313030")
+                .withParentSpanId("")
+                .withName("span-name")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("2020-05-24T14:00:00Z")
+                .withEndTime("2020-05-24T14:00:01Z")
+                .withTraceGroup("trace-group")
+                .withDurationInNanos(1_000_000_000L)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder()
+                        .withStatusCode(1)
+                        .withEndTime("2020-05-24T14:00:01Z")
+                        .withDurationInNanos(1_000_000_000L)
+                        .build())
+                .withAttributes(Collections.singletonMap("key", "value"))
+                .withServiceName("service")
+                .build();
+
+        final Record<JacksonSpan> decoded = recordCodec.decode(recordCodec.encode(new Record<>(span)));
+
+        assertThat(decoded.getData(), instanceOf(JacksonSpan.class));
+        // Compared as parsed JSON since field order and numeric widths are not preserved
+        assertThat(OBJECT_MAPPER.readValue(decoded.getData().toJsonString(), Map.class),
+                is(equalTo(OBJECT_MAPPER.readValue(span.toJsonString(), Map.class))));
+        assertThat(decoded.getData().getTraceGroup(), is(equalTo("trace-group")));
+        assertThat(decoded.getData().getDurationInNanos(), is(equalTo(1_000_000_000L)));
+        assertThat(decoded.getData().getTraceGroupFields(), is(equalTo(span.getTraceGroupFields())));
+    }
+
+    @Test
+    void testDefaultSpanRecordRoundTrip() throws IOException {
+        final DefaultSpan span = DefaultSpan.builder()
+                .withTraceId("414243")
+                .withSpanId("313030")
+                .withName("span-name")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("2020-05-24T14:00:00Z")
+                .withEndTime("2020-05-24T14:00:01Z")
+                .withTraceGroup(null)
+                .withDurationInNanos(1_000_000_000L)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .withAttributes(Collections.singletonMap("key", "value"))
+                .build();
+
+        final Record<JacksonSpan> decoded = recordCodec.decode(recordCodec.encode(new Record<>(span)));
+
+        assertThat(decoded.getData(), instanceOf(JacksonSpan.class));
+        assertThat(OBJECT_MAPPER.readValue(decoded.getData().toJsonString(), Map.class),
+                is(equalTo(OBJECT_MAPPER.readValue(span.toJsonString(), Map.class))));
+        assertThat(decoded.getData().getMetadata().getEventType(), is(equalTo("TRACE")));
+    }
+
+    @Test
+    void testSerializableRecordRoundTrip() throws IOException {
+        final ArrayList<String> data = new ArrayList<>();
+        data.add("a");
+        data.add("b");
+
+        final Record<List<String>> decoded = recordCodec.decode(recordCodec.encode(new Record<>(data)));
+
+        assertThat(decoded.getData(), is(equalTo(data)));
+    }
+
+    @Test
+    void testNonSerializableRecordIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> recordCodec.encode(new Record<>(new Object())));
+    }
+
+    @Test
+    void testSerializableRecordOfDisallowedClassIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> recordCodec.encode(new Record<>(new SerializableData())));
+        final ArrayList<Object> data = new ArrayList<>();
+        data.add(new SerializableData());
+        assertThrows(IllegalArgumentException.class, () -> recordCodec.encode(new Record<>(data)));
+    }
+
+    @Test
+    void testSerializedEntryOfDisallowedClassIsRejected() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(2);
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(new HashMap<String, Object>());
+            objectOutputStream.writeObject(new SerializableData());
+        }
+
+        assertThrows(IOException.class, () -> recordCodec.decode(outputStream.toByteArray()));
+    }
+
+    @Test
+    void testUnknownFormatIsRejected() {
+        assertThrows(IOException.class, () -> recordCodec.decode(new byte[] {9, 1, 2}));
+        assertThrows(IOException.class, () -> recordCodec.decode(new byte[0]));
+    }
+
+    private static class SerializableData implements Serializable {
+        private static final long serialVersionUID = 1L;
+    }
+}
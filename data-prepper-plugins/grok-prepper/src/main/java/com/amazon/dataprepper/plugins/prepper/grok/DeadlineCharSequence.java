@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.grok;
+
+/**
+ * A {@link CharSequence} which throws a {@link DeadlineExceededException} when a character is read after its deadline.
+ * <p>
+ * {@link java.util.regex.Matcher} reads every character of its input through {@link #charAt(int)}, including while
+ * backtracking, so matching a grok pattern against this sequence stops shortly after the deadline passes on the
+ * thread doing the match. The clock is only read every {@link #CHECK_INTERVAL} characters.
+ */
+class DeadlineCharSequence implements CharSequence {
+    static final int CHECK_INTERVAL = 1024;
+
+    private final String value;
+    private final long deadlineNanos;
+    private int reads = 0;
+
+    /**
+     * @param value         the sequence to read
+     * @param deadlineNanos the deadline, as a {@link System#nanoTime()} value
+     */
+    DeadlineCharSequence(final String value, final long deadlineNanos) {
+        this.value = value;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public int length() {
+        return value.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (++reads == CHECK_INTERVAL) {
+            reads = 0;
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new DeadlineExceededException();
+            }
+        }
+        return value.charAt(index);
+    }
+
+    /**
+     * Sub-sequences are only read to extract captures after a match, so they are not bound by the deadline.
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return value.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    /**
+     * Thrown when a {@link DeadlineCharSequence} is read after its deadline.
+     */
+    static class DeadlineExceededException extends RuntimeException {
+        DeadlineExceededException() {
+            super("Deadline exceeded while reading the sequence", null, false, false);
+        }
+    }
+}
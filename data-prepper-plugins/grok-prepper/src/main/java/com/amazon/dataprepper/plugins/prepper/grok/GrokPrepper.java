@@ -41,12 +41,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
@@ -62,6 +57,11 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
     static final String GROK_PROCESSING_ERRORS = "grokProcessingErrors";
     static final String GROK_PROCESSING_TIMEOUTS = "grokProcessingTimeouts";
     static final String GROK_PROCESSING_TIME = "grokProcessingTime";
+    static final String GROK_PATTERN_MATCH_SUCCESS = "grokPatternMatchSuccess";
+    static final String GROK_PATTERN_MATCH_FAILURE = "grokPatternMatchFailure";
+    static final String GROK_PATTERN_SKIPPED = "grokPatternSkipped";
+    static final String KEY_TAG = "key";
+    static final String PATTERN_INDEX_TAG = "patternIndex";
 
     private final Counter grokProcessingMatchFailureCounter;
     private final Counter grokProcessingMatchSuccessCounter;
@@ -71,21 +71,25 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
 
     private final GrokCompiler grokCompiler;
     private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<String, LiteralPrefilter> fieldToPrefilter;
+    private final Map<String, List<PatternCounters>> fieldToPatternCounters;
     private final GrokPrepperConfig grokPrepperConfig;
     private final Set<String> keysToOverwrite;
-    private final ExecutorService executorService;
+    private final long timeoutNanos;
 
     public GrokPrepper(final PluginSetting pluginSetting) {
-        this(pluginSetting, GrokCompiler.newInstance(), Executors.newSingleThreadExecutor());
+        this(pluginSetting, GrokCompiler.newInstance());
     }
 
-    GrokPrepper(final PluginSetting pluginSetting, final GrokCompiler grokCompiler, final ExecutorService executorService) {
+    GrokPrepper(final PluginSetting pluginSetting, final GrokCompiler grokCompiler) {
         super(pluginSetting);
         this.grokPrepperConfig = GrokPrepperConfig.buildConfig(pluginSetting);
         this.keysToOverwrite = new HashSet<>(grokPrepperConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
-        this.executorService = executorService;
+        this.fieldToPrefilter = new HashMap<>();
+        this.fieldToPatternCounters = new HashMap<>();
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(grokPrepperConfig.getTimeoutMillis());
 
         grokProcessingMatchSuccessCounter = pluginMetrics.counter(GROK_PROCESSING_MATCH_SUCCESS);
         grokProcessingMatchFailureCounter = pluginMetrics.counter(GROK_PROCESSING_MATCH_FAILURE);
@@ -112,26 +116,14 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
             try {
                 final Event event = record.getData();
 
-                if (grokPrepperConfig.getTimeoutMillis() == 0) {
-                    grokProcessingTime.record(() -> matchAndMerge(event));
-                } else {
-                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
-                }
+                grokProcessingTime.record(() -> matchAndMerge(event));
 
                 final Record<Event> grokkedRecord = new Record<>(event, record.getMetadata());
                 recordsOut.add(grokkedRecord);
-            } catch (TimeoutException e) {
+            } catch (DeadlineCharSequence.DeadlineExceededException e) {
                 LOG.error("Matching on record [{}] took longer than [{}] and timed out", record.getData(), grokPrepperConfig.getTimeoutMillis());
                 recordsOut.add(record);
                 grokProcessingTimeoutsCounter.increment();
-            } catch (ExecutionException e) {
-                LOG.error("An exception occurred while matching on record [{}]", record.getData(), e);
-                recordsOut.add(record);
-                grokProcessingErrorsCounter.increment();
-            } catch (InterruptedException e) {
-                LOG.error("Matching on record [{}] was interrupted", record.getData(), e);
-                recordsOut.add(record);
-                grokProcessingErrorsCounter.increment();
             } catch (RuntimeException e) {
                 LOG.error("Unknown exception occurred when matching record [{}]", record.getData(), e);
                 recordsOut.add(record);
@@ -143,24 +135,17 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
 
     @Override
     public void prepareForShutdown() {
-        executorService.shutdown();
+
     }
 
     @Override
     public boolean isReadyForShutdown() {
-        try {
-            if (executorService.awaitTermination(300, TimeUnit.MILLISECONDS)) {
-                LOG.info("Successfully waited for running task to terminate");
-            }
-        } catch (InterruptedException e) {
-            LOG.error("Interrupted while waiting for running task to terminate", e);
-        }
         return true;
     }
 
     @Override
     public void shutdown() {
-        executorService.shutdownNow();
+
     }
 
     private void registerPatterns() {
@@ -199,24 +184,58 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
 
     private void compileMatchPatterns() {
         for (final Map.Entry<String, List<String>> entry : grokPrepperConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
+            final List<Grok> groks = entry.getValue()
                             .stream()
                             .map(item -> grokCompiler.compile(item, grokPrepperConfig.isNamedCapturesOnly()))
-                            .collect(Collectors.toList()));
+                            .collect(Collectors.toList());
+            fieldToGrok.put(entry.getKey(), groks);
+            fieldToPrefilter.put(entry.getKey(), new LiteralPrefilter(groks.stream()
+                            .map(Grok::getNamedRegex)
+                            .collect(Collectors.toList())));
+            final List<PatternCounters> patternCounters = new ArrayList<>();
+            for (int i = 0; i < entry.getValue().size(); i++) {
+                LOG.info("Grok pattern {} of key {} is {}", i, entry.getKey(), entry.getValue().get(i));
+                patternCounters.add(new PatternCounters(entry.getKey(), i));
+            }
+            fieldToPatternCounters.put(entry.getKey(), patternCounters);
         }
     }
 
+    /**
+     * Matches and merges the captures into the event. When a timeout is configured, each value is matched through a
+     * {@link DeadlineCharSequence} sharing the deadline for the event, so matching is abandoned on this thread with a
+     * {@link DeadlineCharSequence.DeadlineExceededException} before any capture is merged into the event.
+     * <p>
+     * Patterns are skipped without matching when the value does not contain all the literals they require, as found
+     * by the {@link LiteralPrefilter} for the key.
+     */
     private void matchAndMerge(final Event event) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
+        final long deadlineNanos = System.nanoTime() + timeoutNanos;
 
         for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
-            for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
-                if (value != null && !value.isEmpty()) {
-                    final Match match = grok.match(value);
+            final String value = event.get(entry.getKey(), String.class);
+            if (value != null && !value.isEmpty()) {
+                final List<Grok> groks = entry.getValue();
+                final List<PatternCounters> patternCounters = fieldToPatternCounters.get(entry.getKey());
+                final boolean[] candidates = fieldToPrefilter.get(entry.getKey()).findCandidates(value);
+                final CharSequence input = timeoutNanos == 0 ? value : new DeadlineCharSequence(value, deadlineNanos);
+
+                for (int i = 0; i < groks.size(); i++) {
+                    if (!candidates[i]) {
+                        patternCounters.get(i).skipped.increment();
+                        continue;
+                    }
+
+                    final Match match = groks.get(i).match(input);
                     match.setKeepEmptyCaptures(grokPrepperConfig.isKeepEmptyCaptures());
 
                     final Map<String, Object> captures = match.capture();
+                    if (captures.isEmpty()) {
+                        patternCounters.get(i).matchFailure.increment();
+                    } else {
+                        patternCounters.get(i).matchSuccess.increment();
+                    }
                     mergeCaptures(grokkedCaptures, captures);
 
                     if (shouldBreakOnMatch(grokkedCaptures)) {
@@ -292,8 +311,20 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
         return captures.size() > 0 && grokPrepperConfig.isBreakOnMatch();
     }
 
-    private void runWithTimeout(final Runnable runnable) throws TimeoutException, ExecutionException, InterruptedException {
-        Future<?> task = executorService.submit(runnable);
-        task.get(grokPrepperConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+    /**
+     * The counters of a single pattern from {@code match}, tagged with its key and its index in the patterns of the key.
+     * The patterns themselves are logged with their index on startup, since they are too long to be used as tags.
+     */
+    private class PatternCounters {
+        private final Counter matchSuccess;
+        private final Counter matchFailure;
+        private final Counter skipped;
+
+        PatternCounters(final String key, final int patternIndex) {
+            final String index = Integer.toString(patternIndex);
+            matchSuccess = pluginMetrics.counterWithTags(GROK_PATTERN_MATCH_SUCCESS, KEY_TAG, key, PATTERN_INDEX_TAG, index);
+            matchFailure = pluginMetrics.counterWithTags(GROK_PATTERN_MATCH_FAILURE, KEY_TAG, key, PATTERN_INDEX_TAG, index);
+            skipped = pluginMetrics.counterWithTags(GROK_PATTERN_SKIPPED, KEY_TAG, key, PATTERN_INDEX_TAG, index);
+        }
     }
-}
\ No newline at end of file
+}
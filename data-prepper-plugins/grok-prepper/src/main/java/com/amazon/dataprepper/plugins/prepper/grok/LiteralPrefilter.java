@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.grok;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Selects which of a list of regexes may match a value by looking for the {@link RequiredLiterals} of each regex.
+ * <p>
+ * The literals of all regexes are found with a single Aho-Corasick scan over the value. A regex is a candidate only
+ * if all of its literals are present, so regexes which are not candidates cannot match the value. Regexes without any
+ * required literals are always candidates.
+ */
+class LiteralPrefilter {
+    private final int[][] literalsByRegex;
+    private final int literalCount;
+
+    private final char[][] edgeCharacters;
+    private final int[][] edgeTargets;
+    private final int[] failures;
+    private final int[][] outputs;
+
+    /**
+     * @param regexes the regexes to select from, which may contain null values for regexes without known literals
+     */
+    LiteralPrefilter(final List<String> regexes) {
+        final Map<String, Integer> literalIds = new LinkedHashMap<>();
+        literalsByRegex = new int[regexes.size()][];
+        for (int i = 0; i < regexes.size(); i++) {
+            literalsByRegex[i] = RequiredLiterals.of(regexes.get(i)).stream()
+                    .mapToInt(literal -> literalIds.computeIfAbsent(literal, key -> literalIds.size()))
+                    .toArray();
+        }
+        literalCount = literalIds.size();
+
+        final List<Map<Character, Integer>> trie = new ArrayList<>();
+        final List<List<Integer>> trieOutputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        trieOutputs.add(new ArrayList<>());
+        for (final Map.Entry<String, Integer> literal : literalIds.entrySet()) {
+            int state = 0;
+            for (final char c : literal.getKey().toCharArray()) {
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(c, next);
+                    trie.add(new TreeMap<>());
+                    trieOutputs.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            trieOutputs.get(state).add(literal.getValue());
+        }
+
+        edgeCharacters = new char[trie.size()][];
+        edgeTargets = new int[trie.size()][];
+        for (int state = 0; state < trie.size(); state++) {
+            final Map<Character, Integer> edges = trie.get(state);
+            edgeCharacters[state] = new char[edges.size()];
+            edgeTargets[state] = new int[edges.size()];
+            int i = 0;
+            for (final Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeCharacters[state][i] = edge.getKey();
+                edgeTargets[state][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        failures = new int[trie.size()];
+        outputs = new int[trie.size()][];
+        outputs[0] = toArray(trieOutputs.get(0));
+        // the children of the root fail back to the root, so the search starts from them
+        final Queue<Integer> queue = new ArrayDeque<>(trie.get(0).values());
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            final List<Integer> stateOutputs = new ArrayList<>(trieOutputs.get(state));
+            for (final int output : outputs[failures[state]]) {
+                stateOutputs.add(output);
+            }
+            outputs[state] = toArray(stateOutputs);
+
+            for (final Map.Entry<Character, Integer> edge : trie.get(state).entrySet()) {
+                final int child = edge.getValue();
+                failures[child] = next(failures[state], edge.getKey());
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * @param value the value to scan
+     * @return true at the index of each regex which may match the value
+     */
+    boolean[] findCandidates(final String value) {
+        final boolean[] candidates = new boolean[literalsByRegex.length];
+        if (literalCount == 0) {
+            Arrays.fill(candidates, true);
+            return candidates;
+        }
+
+        final boolean[] found = new boolean[literalCount];
+        int state = 0;
+        for (int i = 0; i < value.length(); i++) {
+            state = next(state, value.charAt(i));
+            for (final int output : outputs[state]) {
+                found[output] = true;
+            }
+        }
+
+        for (int i = 0; i < literalsByRegex.length; i++) {
+            candidates[i] = true;
+            for (final int literal : literalsByRegex[i]) {
+                if (!found[literal]) {
+                    candidates[i] = false;
+                    break;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private int next(int state, final char c) {
+        while (true) {
+            final int edge = Arrays.binarySearch(edgeCharacters[state], c);
+            if (edge >= 0) {
+                return edgeTargets[state][edge];
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = failures[state];
+        }
+    }
+
+    private static int[] toArray(final List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
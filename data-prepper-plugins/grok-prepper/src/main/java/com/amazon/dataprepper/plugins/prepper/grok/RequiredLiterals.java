@@ -0,0 +1,319 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.grok;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Extracts the literal substrings which every match of a {@link java.util.regex.Pattern} must contain.
+ * <p>
+ * Only literals in the required sequence of the regex are extracted: anything under an alternation, an optional
+ * quantifier or a lookaround is ignored. Regexes using syntax which is not understood here, such as inline flags or
+ * quoting, yield no literals, so a value never needs to be matched against them to be ruled out.
+ */
+final class RequiredLiterals {
+    private static final int NO_QUANTIFIER = 0;
+    private static final int OPTIONAL = 1;
+    private static final int REPEATED = 2;
+
+    private final String regex;
+    private final List<String> literals = new ArrayList<>();
+    private final StringBuilder run = new StringBuilder();
+    private int position = 0;
+
+    private RequiredLiterals(final String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * @param regex the regex, or null
+     * @return the distinct literals which must all be present in any value matching the regex
+     */
+    static List<String> of(final String regex) {
+        if (regex == null) {
+            return Collections.emptyList();
+        }
+        try {
+            return new RequiredLiterals(regex).parse();
+        } catch (final UnsupportedSyntaxException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    private List<String> parse() {
+        parseAlternation(true);
+        if (position < regex.length()) {
+            throw new UnsupportedSyntaxException();
+        }
+        return new ArrayList<>(new LinkedHashSet<>(literals));
+    }
+
+    private void parseAlternation(final boolean required) {
+        final int start = literals.size();
+        boolean alternation = false;
+        while (position < regex.length() && regex.charAt(position) != ')') {
+            if (regex.charAt(position) == '|') {
+                alternation = true;
+                endRun();
+                position++;
+            } else {
+                parseAtom(required && !alternation);
+            }
+        }
+        endRun();
+        if (alternation) {
+            truncate(start);
+        }
+    }
+
+    private void parseAtom(final boolean required) {
+        final char c = regex.charAt(position);
+        switch (c) {
+            case '(':
+                parseGroup(required);
+                return;
+            case '[':
+                endRun();
+                skipCharacterClass();
+                parseQuantifier();
+                return;
+            case '.':
+            case '^':
+            case '$':
+                endRun();
+                position++;
+                parseQuantifier();
+                return;
+            case '\\':
+                position++;
+                final int literal = parseEscape();
+                addLiteral(literal, required && literal != -1);
+                return;
+            case '?':
+            case '*':
+            case '+':
+            case '{':
+                throw new UnsupportedSyntaxException();
+            default:
+                if (Character.isSurrogate(c)) {
+                    throw new UnsupportedSyntaxException();
+                }
+                position++;
+                addLiteral(c, required);
+        }
+    }
+
+    private void addLiteral(final int c, final boolean required) {
+        final int quantifier = parseQuantifier();
+        if (!required || quantifier == OPTIONAL) {
+            endRun();
+            return;
+        }
+        run.append((char) c);
+        if (quantifier == REPEATED) {
+            endRun();
+        }
+    }
+
+    private void parseGroup(final boolean required) {
+        endRun();
+        position++;
+        boolean bodyRequired = required;
+        if (regex.startsWith("?:", position) || regex.startsWith("?>", position)) {
+            position += 2;
+        } else if (regex.startsWith("?=", position) || regex.startsWith("?!", position)) {
+            position += 2;
+            bodyRequired = false;
+        } else if (regex.startsWith("?<=", position) || regex.startsWith("?<!", position)) {
+            position += 3;
+            bodyRequired = false;
+        } else if (regex.startsWith("?<", position)) {
+            skipPast('>');
+        } else if (regex.startsWith("?", position)) {
+            throw new UnsupportedSyntaxException();
+        }
+
+        final int start = literals.size();
+        parseAlternation(bodyRequired);
+        if (position >= regex.length()) {
+            throw new UnsupportedSyntaxException();
+        }
+        position++;
+        if (parseQuantifier() == OPTIONAL) {
+            truncate(start);
+        }
+    }
+
+    /**
+     * @return the escaped literal character, or -1 if the escape does not match a single literal character
+     */
+    private int parseEscape() {
+        if (position >= regex.length()) {
+            throw new UnsupportedSyntaxException();
+        }
+        final char c = regex.charAt(position++);
+        if (!Character.isLetterOrDigit(c)) {
+            return c;
+        }
+        switch (c) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case 'a':
+                return '\u0007';
+            case 'e':
+                return '\u001B';
+            case 'd':
+            case 'D':
+            case 's':
+            case 'S':
+            case 'w':
+            case 'W':
+            case 'h':
+            case 'H':
+            case 'v':
+            case 'V':
+            case 'R':
+            case 'X':
+            case 'b':
+            case 'B':
+            case 'A':
+            case 'G':
+            case 'Z':
+            case 'z':
+                return -1;
+            case 'p':
+            case 'P':
+                if (regex.startsWith("{", position)) {
+                    skipPast('}');
+                } else {
+                    position++;
+                }
+                return -1;
+            case 'k':
+                skipPast('>');
+                return -1;
+            default:
+                if (c >= '1' && c <= '9') {
+                    while (position < regex.length() && Character.isDigit(regex.charAt(position))) {
+                        position++;
+                    }
+                    return -1;
+                }
+                throw new UnsupportedSyntaxException();
+        }
+    }
+
+    private void skipCharacterClass() {
+        position++;
+        int depth = 1;
+        skipLeadingClassCharacters();
+        while (depth > 0) {
+            if (position >= regex.length()) {
+                throw new UnsupportedSyntaxException();
+            }
+            final char c = regex.charAt(position++);
+            if (c == '\\') {
+                if (regex.startsWith("Q", position)) {
+                    throw new UnsupportedSyntaxException();
+                }
+                position++;
+            } else if (c == '[') {
+                depth++;
+                skipLeadingClassCharacters();
+            } else if (c == ']') {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * A ']' directly after the opening of a class, or after its negation, is a literal.
+     */
+    private void skipLeadingClassCharacters() {
+        if (regex.startsWith("^", position)) {
+            position++;
+        }
+        if (regex.startsWith("]", position)) {
+            position++;
+        }
+    }
+
+    private int parseQuantifier() {
+        if (position >= regex.length()) {
+            return NO_QUANTIFIER;
+        }
+        final int quantifier;
+        switch (regex.charAt(position)) {
+            case '?':
+            case '*':
+                quantifier = OPTIONAL;
+                position++;
+                break;
+            case '+':
+                quantifier = REPEATED;
+                position++;
+                break;
+            case '{':
+                quantifier = parseBoundedQuantifier();
+                break;
+            default:
+                return NO_QUANTIFIER;
+        }
+        if (regex.startsWith("?", position) || regex.startsWith("+", position)) {
+            position++;
+        }
+        return quantifier;
+    }
+
+    private int parseBoundedQuantifier() {
+        position++;
+        final int start = position;
+        boolean atLeastOne = false;
+        while (position < regex.length() && Character.isDigit(regex.charAt(position))) {
+            atLeastOne |= regex.charAt(position) != '0';
+            position++;
+        }
+        if (position == start) {
+            throw new UnsupportedSyntaxException();
+        }
+        skipPast('}');
+        return atLeastOne ? REPEATED : OPTIONAL;
+    }
+
+    private void skipPast(final char c) {
+        final int index = regex.indexOf(c, position);
+        if (index == -1) {
+            throw new UnsupportedSyntaxException();
+        }
+        position = index + 1;
+    }
+
+    private void endRun() {
+        if (run.length() > 0) {
+            literals.add(run.toString());
+            run.setLength(0);
+        }
+    }
+
+    private void truncate(final int size) {
+        literals.subList(size, literals.size()).clear();
+    }
+
+    private static class UnsupportedSyntaxException extends RuntimeException {
+        UnsupportedSyntaxException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeadlineCharSequenceTest {
+
+    @Test
+    void reads_the_wrapped_value_before_the_deadline() {
+        final String value = UUID.randomUUID().toString();
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(value, System.nanoTime() + TimeUnit.MINUTES.toNanos(1));
+
+        assertThat(objectUnderTest.length(), equalTo(value.length()));
+        assertThat(objectUnderTest.toString(), equalTo(value));
+        assertThat(objectUnderTest.subSequence(1, 5).toString(), equalTo(value.substring(1, 5)));
+        for (int i = 0; i < DeadlineCharSequence.CHECK_INTERVAL * 2; i++) {
+            assertThat(objectUnderTest.charAt(i % value.length()), equalTo(value.charAt(i % value.length())));
+        }
+    }
+
+    @Test
+    void charAt_throws_within_the_check_interval_after_the_deadline() {
+        final String value = UUID.randomUUID().toString();
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(value, System.nanoTime() - 1);
+
+        for (int i = 0; i < DeadlineCharSequence.CHECK_INTERVAL - 1; i++) {
+            objectUnderTest.charAt(0);
+        }
+        assertThrows(DeadlineCharSequence.DeadlineExceededException.class, () -> objectUnderTest.charAt(0));
+    }
+
+    @Test
+    void matching_with_catastrophic_backtracking_stops_after_the_deadline() {
+        final Pattern pattern = Pattern.compile("(.*a){12}b");
+        final char[] chars = new char[40];
+        Arrays.fill(chars, 'a');
+        final String value = new String(chars);
+        final long startTime = System.nanoTime();
+        final Matcher matcher = pattern.matcher(new DeadlineCharSequence(value, startTime + TimeUnit.MILLISECONDS.toNanos(50)));
+
+        assertThrows(DeadlineCharSequence.DeadlineExceededException.class, matcher::find);
+        assertThat(System.nanoTime() - startTime, lessThan(TimeUnit.SECONDS.toNanos(5)));
+    }
+}
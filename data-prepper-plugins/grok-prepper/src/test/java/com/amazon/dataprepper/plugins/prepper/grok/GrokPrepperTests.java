@@ -34,18 +34,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.any;
@@ -61,12 +59,6 @@ public class GrokPrepperTests {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
     private String messageInput;
 
-    @Mock
-    private ExecutorService executorService;
-
-    @Mock
-    private Future task;
-
     @Mock
     private GrokCompiler grokCompiler;
 
@@ -97,13 +89,22 @@ public class GrokPrepperTests {
     @Mock
     private Timer grokProcessingTime;
 
+    @Mock
+    private Counter grokPatternMatchSuccessCounter;
+
+    @Mock
+    private Counter grokPatternMatchFailureCounter;
+
+    @Mock
+    private Counter grokPatternSkippedCounter;
+
     private PluginSetting pluginSetting;
     private final String PLUGIN_NAME = "grok";
     private Map<String, Object> capture;
     private final Map<String, List<String>> matchConfig = new HashMap<>();
 
     @BeforeEach
-    public void setup() throws TimeoutException, ExecutionException, InterruptedException {
+    public void setup() {
         pluginSetting = getDefaultPluginSetting();
         pluginSetting.setPipelineName("grokPipeline");
 
@@ -119,6 +120,12 @@ public class GrokPrepperTests {
         lenient().when(pluginMetrics.counter(GrokPrepper.GROK_PROCESSING_TIMEOUTS)).thenReturn(grokProcessingTimeoutsCounter);
         lenient().when(pluginMetrics.counter(GrokPrepper.GROK_PROCESSING_ERRORS)).thenReturn(grokProcessingErrorsCounter);
         lenient().when(pluginMetrics.timer(GrokPrepper.GROK_PROCESSING_TIME)).thenReturn(grokProcessingTime);
+        lenient().when(pluginMetrics.counterWithTags(eq(GrokPrepper.GROK_PATTERN_MATCH_SUCCESS), eq(GrokPrepper.KEY_TAG), anyString(), eq(GrokPrepper.PATTERN_INDEX_TAG), anyString()))
+                .thenReturn(grokPatternMatchSuccessCounter);
+        lenient().when(pluginMetrics.counterWithTags(eq(GrokPrepper.GROK_PATTERN_MATCH_FAILURE), eq(GrokPrepper.KEY_TAG), anyString(), eq(GrokPrepper.PATTERN_INDEX_TAG), anyString()))
+                .thenReturn(grokPatternMatchFailureCounter);
+        lenient().when(pluginMetrics.counterWithTags(eq(GrokPrepper.GROK_PATTERN_SKIPPED), eq(GrokPrepper.KEY_TAG), anyString(), eq(GrokPrepper.PATTERN_INDEX_TAG), anyString()))
+                .thenReturn(grokPatternSkippedCounter);
 
         lenient().doAnswer(a -> {
             a.<Runnable>getArgument(0).run();
@@ -132,19 +139,18 @@ public class GrokPrepperTests {
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(0)), anyBoolean())).thenReturn(grok);
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(1)), anyBoolean())).thenReturn(grokSecondMatch);
 
-        lenient().when(grok.match(messageInput)).thenReturn(match);
+        lenient().when(grok.match(text(messageInput))).thenReturn(match);
         lenient().when(match.capture()).thenReturn(capture);
-        lenient().when(executorService.submit(any(Runnable.class))).then(a -> {
-            a.<Runnable>getArgument(0).run();
-            return task;
-        });
-        lenient().when(task.get(GrokPrepperConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(null);
+    }
+
+    private static CharSequence text(final String value) {
+        return argThat(text -> text != null && value.contentEquals(text));
     }
 
     private GrokPrepper createObjectUnderTest() {
         try (MockedStatic<PluginMetrics> pluginMetricsMockedStatic = mockStatic(PluginMetrics.class)) {
             pluginMetricsMockedStatic.when(() -> PluginMetrics.fromPluginSetting(pluginSetting)).thenReturn(pluginMetrics);
-            return new GrokPrepper(pluginSetting, grokCompiler, executorService);
+            return new GrokPrepper(pluginSetting, grokCompiler);
         }
     }
 
@@ -374,8 +380,8 @@ public class GrokPrepperTests {
     }
 
     @Test
-    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-        when(task.get(GrokPrepperConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException {
+        when(grok.match(text(messageInput))).thenThrow(new DeadlineCharSequence.DeadlineExceededException());
 
         grokPrepper = createObjectUnderTest();
 
@@ -397,7 +403,7 @@ public class GrokPrepperTests {
     }
 
     @Test
-    public void testThatProcessingWithTimeoutMillisOfZeroDoesNotInteractWithExecutorServiceAndReturnsCorrectResult() throws JsonProcessingException {
+    public void testThatProcessingWithTimeoutMillisOfZeroMatchesValueWithoutDeadlineAndReturnsCorrectResult() throws JsonProcessingException {
         pluginSetting.getSettings().put(GrokPrepperConfig.TIMEOUT_MILLIS, 0);
         grokPrepper = createObjectUnderTest();
 
@@ -419,7 +425,7 @@ public class GrokPrepperTests {
         final Record<Event> resultRecord = buildRecordWithEvent(resultData);
 
         final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokPrepper.doExecute(Collections.singletonList(record));
-        verifyNoInteractions(executorService);
+        verify(grok).match(messageInput);
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -430,17 +436,24 @@ public class GrokPrepperTests {
 
 
     @Test
-    public void testPrepareForShutdown() {
+    public void testThatProcessingWithTimeoutMatchesValueWithDeadline() {
         grokPrepper = createObjectUnderTest();
-        grokPrepper.prepareForShutdown();
-        verify(executorService).shutdown();
+
+        final Map<String, Object> testData = new HashMap();
+        testData.put("message", messageInput);
+        final Record<Event> record = buildRecordWithEvent(testData);
+
+        grokPrepper.doExecute(Collections.singletonList(record));
+
+        verify(grok).match(any(DeadlineCharSequence.class));
     }
 
     @Test
-    public void testShutdown() {
+    public void testIsReadyForShutdown() {
         grokPrepper = createObjectUnderTest();
+        grokPrepper.prepareForShutdown();
+        assertThat(grokPrepper.isReadyForShutdown(), equalTo(true));
         grokPrepper.shutdown();
-        verify(executorService).shutdownNow();
     }
 
     @Nested
@@ -459,7 +472,7 @@ public class GrokPrepperTests {
         public void testNoCaptures() throws JsonProcessingException {
             grokPrepper = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(text(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -472,15 +485,17 @@ public class GrokPrepperTests {
             assertThat(grokkedRecords.get(0), notNullValue());
             assertRecordsAreEqual(grokkedRecords.get(0), record);
             verify(grokProcessingMatchFailureCounter, times(1)).increment();
+            verify(grokPatternMatchFailureCounter, times(2)).increment();
             verify(grokProcessingTime, times(1)).record(any(Runnable.class));
-            verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchSuccessCounter, grokProcessingTimeoutsCounter);
+            verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchSuccessCounter, grokProcessingTimeoutsCounter,
+                    grokPatternMatchSuccessCounter, grokPatternSkippedCounter);
         }
 
         @Test
         public void testBreakOnMatchTrue() throws JsonProcessingException {
             grokPrepper = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(text(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -503,11 +518,14 @@ public class GrokPrepperTests {
 
             final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokPrepper.doExecute(Collections.singletonList(record));
 
-            verifyNoInteractions(grokSecondMatch, secondMatch);
+            verify(grokSecondMatch, never()).match(any());
+            verifyNoInteractions(secondMatch);
             assertThat(grokkedRecords.size(), equalTo(1));
             assertThat(grokkedRecords.get(0), notNullValue());
             assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
             verify(grokProcessingMatchSuccessCounter, times(1)).increment();
+            verify(grokPatternMatchSuccessCounter, times(1)).increment();
+            verifyNoInteractions(grokPatternMatchFailureCounter, grokPatternSkippedCounter);
             verify(grokProcessingTime, times(1)).record(any(Runnable.class));
             verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchFailureCounter, grokProcessingTimeoutsCounter);
         }
@@ -517,7 +535,7 @@ public class GrokPrepperTests {
             pluginSetting.getSettings().put(GrokPrepperConfig.BREAK_ON_MATCH, false);
             grokPrepper = createObjectUnderTest();
 
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(text(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -545,9 +563,74 @@ public class GrokPrepperTests {
             assertThat(grokkedRecords.get(0), notNullValue());
             assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
             verify(grokProcessingMatchSuccessCounter, times(1)).increment();
+            verify(grokPatternMatchSuccessCounter, times(2)).increment();
             verify(grokProcessingTime, times(1)).record(any(Runnable.class));
             verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchFailureCounter, grokProcessingTimeoutsCounter);
         }
+
+        @Test
+        public void testPatternWithRequiredLiteralMissingFromValueIsSkipped() throws JsonProcessingException {
+            when(grok.getNamedRegex()).thenReturn("(?<name0>\\d+) not in the value");
+            grokPrepper = createObjectUnderTest();
+
+            when(grokSecondMatch.match(text(messageInput))).thenReturn(secondMatch);
+            when(secondMatch.capture()).thenReturn(secondCapture);
+
+            secondCapture.put("key_secondCapture", "value_secondCapture");
+
+            final Map<String, Object> testData = new HashMap();
+            testData.put("message", messageInput);
+            final Record<Event> record = buildRecordWithEvent(testData);
+
+            final Map<String, Object> resultData = new HashMap<>();
+            resultData.put("message", messageInput);
+            resultData.put("key_secondCapture", "value_secondCapture");
+
+            final Record<Event> resultRecord = buildRecordWithEvent(resultData);
+
+            final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokPrepper.doExecute(Collections.singletonList(record));
+
+            verify(grok, never()).match(any());
+            assertThat(grokkedRecords.size(), equalTo(1));
+            assertThat(grokkedRecords.get(0), notNullValue());
+            assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
+            verify(grokProcessingMatchSuccessCounter, times(1)).increment();
+            verify(grokPatternSkippedCounter, times(1)).increment();
+            verify(grokPatternMatchSuccessCounter, times(1)).increment();
+            verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchFailureCounter, grokProcessingTimeoutsCounter,
+                    grokPatternMatchFailureCounter);
+            verify(pluginMetrics).counterWithTags(GrokPrepper.GROK_PATTERN_SKIPPED, GrokPrepper.KEY_TAG, "message",
+                    GrokPrepper.PATTERN_INDEX_TAG, "0");
+            verify(pluginMetrics).counterWithTags(GrokPrepper.GROK_PATTERN_SKIPPED, GrokPrepper.KEY_TAG, "message",
+                    GrokPrepper.PATTERN_INDEX_TAG, "1");
+        }
+
+        @Test
+        public void testPatternWithRequiredLiteralInValueIsMatched() throws JsonProcessingException {
+            when(grok.getNamedRegex()).thenReturn("(?<name0>\\w+)-(?<name1>\\w+)");
+            grokPrepper = createObjectUnderTest();
+
+            capture.put("key_capture_1", "value_capture_1");
+
+            final Map<String, Object> testData = new HashMap();
+            testData.put("message", messageInput);
+            final Record<Event> record = buildRecordWithEvent(testData);
+
+            final Map<String, Object> resultData = new HashMap<>();
+            resultData.put("message", messageInput);
+            resultData.put("key_capture_1", "value_capture_1");
+
+            final Record<Event> resultRecord = buildRecordWithEvent(resultData);
+
+            final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokPrepper.doExecute(Collections.singletonList(record));
+
+            assertThat(grokkedRecords.size(), equalTo(1));
+            assertThat(grokkedRecords.get(0), notNullValue());
+            assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
+            verify(grokPatternMatchSuccessCounter, times(1)).increment();
+            verify(grokSecondMatch, never()).match(any());
+            verifyNoInteractions(grokPatternMatchFailureCounter, grokPatternSkippedCounter);
+        }
     }
 
     private PluginSetting getDefaultPluginSetting() {
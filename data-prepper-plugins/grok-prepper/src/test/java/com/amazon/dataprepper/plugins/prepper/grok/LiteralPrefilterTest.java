@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.grok;
+
+import io.krakens.grok.api.GrokCompiler;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class LiteralPrefilterTest {
+
+    @Test
+    void findCandidates_without_literals_returns_every_regex() {
+        final LiteralPrefilter objectUnderTest = new LiteralPrefilter(Arrays.asList(null, "\\d+", "a|b"));
+
+        assertThat(objectUnderTest.findCandidates("value"), equalTo(new boolean[] {true, true, true}));
+        assertThat(objectUnderTest.findCandidates(""), equalTo(new boolean[] {true, true, true}));
+    }
+
+    @Test
+    void findCandidates_returns_regexes_with_all_literals_in_value() {
+        final LiteralPrefilter objectUnderTest = new LiteralPrefilter(Arrays.asList(
+                "he\\w+ world", "\\d+", "she.*hers", "his\\s+he", "(y|z)", "abc.*bcd"));
+
+        assertThat(objectUnderTest.findCandidates("ushers"), equalTo(new boolean[] {false, true, true, false, true, false}));
+        assertThat(objectUnderTest.findCandidates("hello world"), equalTo(new boolean[] {true, true, false, false, true, false}));
+        assertThat(objectUnderTest.findCandidates("this he"), equalTo(new boolean[] {false, true, false, true, true, false}));
+        assertThat(objectUnderTest.findCandidates("abcd"), equalTo(new boolean[] {false, true, false, false, true, true}));
+        assertThat(objectUnderTest.findCandidates("abbcd"), equalTo(new boolean[] {false, true, false, false, true, false}));
+        assertThat(objectUnderTest.findCandidates(""), equalTo(new boolean[] {false, true, false, false, true, false}));
+    }
+
+    @Test
+    void findCandidates_returns_grok_patterns_which_may_match() {
+        final GrokCompiler grokCompiler = GrokCompiler.newInstance();
+        grokCompiler.registerDefaultPatterns();
+        final List<String> regexes = Arrays.asList("%{COMMONAPACHELOG}", "%{SYSLOGBASE}", "%{IP} %{WORD} took %{NUMBER}ms")
+                .stream()
+                .map(pattern -> grokCompiler.compile(pattern).getNamedRegex())
+                .collect(Collectors.toList());
+        final LiteralPrefilter objectUnderTest = new LiteralPrefilter(regexes);
+
+        final boolean[] candidates = objectUnderTest.findCandidates(
+                "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326");
+
+        assertThat(candidates[0], equalTo(true));
+        assertThat(candidates[2], equalTo(false));
+        assertThat(objectUnderTest.findCandidates("10.0.0.1 request took 12ms")[2], equalTo(true));
+        assertThat(new LiteralPrefilter(Collections.emptyList()).findCandidates("value"), equalTo(new boolean[0]));
+    }
+}
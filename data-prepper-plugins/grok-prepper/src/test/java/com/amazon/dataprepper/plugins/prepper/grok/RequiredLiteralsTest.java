@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.grok;
+
+import io.krakens.grok.api.GrokCompiler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class RequiredLiteralsTest {
+
+    @Test
+    void of_null_returns_no_literals() {
+        assertThat(RequiredLiterals.of(null), empty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideRegexesAndLiterals")
+    void of_returns_required_literals(final String regex, final List<String> expectedLiterals) {
+        Pattern.compile(regex);
+
+        assertThat(RequiredLiterals.of(regex), equalTo(expectedLiterals));
+    }
+
+    private static Stream<Arguments> provideRegexesAndLiterals() {
+        return Stream.of(
+                arguments("abc", Collections.singletonList("abc")),
+                arguments("ab?c", Arrays.asList("a", "c")),
+                arguments("ab*c", Arrays.asList("a", "c")),
+                arguments("ab+c", Arrays.asList("ab", "c")),
+                arguments("ab{2,3}c", Arrays.asList("ab", "c")),
+                arguments("ab{0,3}c", Arrays.asList("a", "c")),
+                arguments("ab??c", Arrays.asList("a", "c")),
+                arguments("ab++c", Arrays.asList("ab", "c")),
+                arguments("a|b", Collections.emptyList()),
+                arguments("x(a|b)y", Arrays.asList("x", "y")),
+                arguments("x(?:ab)y", Arrays.asList("x", "ab", "y")),
+                arguments("x(?>ab)+y", Arrays.asList("x", "ab", "y")),
+                arguments("x(?<name0>ab)?y", Arrays.asList("x", "y")),
+                arguments("x(?:a(b|c)d)e", Arrays.asList("x", "a", "d", "e")),
+                arguments("x(?=ab)y(?!cd)z(?<=yz)w(?<!q)", Arrays.asList("x", "y", "z", "w")),
+                arguments("a.b^c$d", Arrays.asList("a", "b", "c", "d")),
+                arguments("a[bc]+d[]e]f[^]g][a-z&&[^x]]h", Arrays.asList("a", "d", "f", "h")),
+                arguments("a[\\]x]b", Arrays.asList("a", "b")),
+                arguments("\\[a\\]\\.b\\t\\n\\r\\f\\a\\e", Collections.singletonList("[a].b\t\n\r\f\u0007\u001B")),
+                arguments("a\\d\\D\\s\\S\\w\\W\\h\\H\\v\\V\\R\\X\\b\\B\\A\\G\\Z\\zb", Arrays.asList("a", "b")),
+                arguments("(?<name0>e)a\\p{Alpha}b\\PLc\\k<name0>d\\1f", Arrays.asList("e", "a", "b", "c", "d", "f")),
+                arguments("(a)(b)(c)(d)(e)(f)(g)(h)(i)(j)\\10k",
+                        Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k")),
+                arguments("a\\.?b", Arrays.asList("a", "b")),
+                arguments("a\\d+b", Arrays.asList("a", "b")),
+                arguments("abab", Collections.singletonList("abab")),
+                arguments("ab(c)ab", Arrays.asList("ab", "c")),
+                arguments("a]b}c", Collections.singletonList("a]b}c"))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "(?i)abc",
+            "a(?i:b)c",
+            "a\\Qb\\Ec",
+            "a[\\Qb]\\E]c",
+            "a\\x41b",
+            "a\\u0041b",
+            "a\\0101b",
+            "a\\cAb",
+            "😀a"
+    })
+    void of_returns_no_literals_for_unsupported_syntax(final String regex) {
+        Pattern.compile(regex);
+
+        assertThat(RequiredLiterals.of(regex), empty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a)", "(a", "a[b", "*a", "a\\", "a{b}", "(?<namea", "a\\k<name", "a{1"})
+    void of_returns_no_literals_for_invalid_regex(final String regex) {
+        assertThat(RequiredLiterals.of(regex), empty());
+    }
+
+    @Test
+    void of_returns_literals_contained_in_values_matching_a_grok_pattern() {
+        final GrokCompiler grokCompiler = GrokCompiler.newInstance();
+        grokCompiler.registerDefaultPatterns();
+        final String regex = grokCompiler.compile("%{COMMONAPACHELOG}").getNamedRegex();
+        final String value = "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326";
+
+        final List<String> literals = RequiredLiterals.of(regex);
+
+        assertThat(literals, not(empty()));
+        for (final String literal : literals) {
+            assertThat(value, containsString(literal));
+        }
+    }
+}
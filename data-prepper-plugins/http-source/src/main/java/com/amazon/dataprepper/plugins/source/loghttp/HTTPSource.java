@@ -94,6 +94,7 @@ public class HTTPSource implements Source<Record<Log>> {
             authenticationProvider.addAuthenticationDecorator(sb);
 
             sb.maxNumConnections(sourceConfig.getMaxConnectionCount());
+            sb.maxRequestLength(sourceConfig.getMaxRequestLength());
             final int requestTimeoutInMillis = sourceConfig.getRequestTimeoutInMillis();
             // Allow 2*requestTimeoutInMillis to accommodate non-blocking operations other than buffer writing.
             sb.requestTimeout(Duration.ofMillis(2*requestTimeoutInMillis));
@@ -106,7 +107,8 @@ public class HTTPSource implements Source<Record<Log>> {
             final LogThrottlingRejectHandler logThrottlingRejectHandler = new LogThrottlingRejectHandler(maxPendingRequests, pluginMetrics);
             // TODO: allow customization on URI path for log ingestion
             sb.decorator(HTTPSourceConfig.DEFAULT_LOG_INGEST_URI, ThrottlingService.newDecorator(logThrottlingStrategy, logThrottlingRejectHandler));
-            final LogHTTPService logHTTPService = new LogHTTPService(requestTimeoutInMillis, buffer, pluginMetrics);
+            final LogHTTPService logHTTPService = new LogHTTPService(requestTimeoutInMillis,
+                    sourceConfig.getMaxRequestLength(), buffer, pluginMetrics);
             sb.annotatedService(HTTPSourceConfig.DEFAULT_LOG_INGEST_URI, logHTTPService);
             // TODO: attach HealthCheckService
 
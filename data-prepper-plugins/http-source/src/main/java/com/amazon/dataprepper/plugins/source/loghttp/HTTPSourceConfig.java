@@ -24,6 +24,7 @@ public class HTTPSourceConfig {
     static final int DEFAULT_THREAD_COUNT = 200;
     static final int DEFAULT_MAX_CONNECTION_COUNT = 500;
     static final int DEFAULT_MAX_PENDING_REQUESTS = 1024;
+    static final int DEFAULT_MAX_REQUEST_LENGTH = 10 * 1024 * 1024;
 
     @JsonProperty("port")
     @Min(0)
@@ -46,6 +47,10 @@ public class HTTPSourceConfig {
     @Min(0)
     private int maxPendingRequests = DEFAULT_MAX_PENDING_REQUESTS;
 
+    @JsonProperty("max_request_length")
+    @Min(1)
+    private int maxRequestLength = DEFAULT_MAX_REQUEST_LENGTH;
+
     @JsonProperty(SSL)
     private boolean ssl;
 
@@ -95,6 +100,10 @@ public class HTTPSourceConfig {
         return maxPendingRequests;
     }
 
+    public int getMaxRequestLength() {
+        return maxRequestLength;
+    }
+
     public boolean isSsl() {
         return ssl;
     }
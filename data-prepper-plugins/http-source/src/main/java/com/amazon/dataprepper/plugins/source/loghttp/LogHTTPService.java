@@ -7,14 +7,20 @@ package com.amazon.dataprepper.plugins.source.loghttp;
 
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
 import com.amazon.dataprepper.model.log.JacksonLog;
 import com.amazon.dataprepper.model.log.Log;
 import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.Codec;
 import com.amazon.dataprepper.plugins.source.loghttp.codec.JsonCodec;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.JsonLinesCodec;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.server.annotation.Blocking;
 import com.linecorp.armeria.server.annotation.Post;
 import io.micrometer.core.instrument.Counter;
@@ -23,9 +29,12 @@ import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 /*
 * A HTTP service for log ingestion to be executed by BlockingTaskExecutor.
@@ -39,21 +48,34 @@ public class LogHTTPService {
 
     private static final Logger LOG = LoggerFactory.getLogger(LogHTTPService.class);
 
-    // TODO: support other data-types as request body, e.g. json_lines, msgpack
+    private static final String GZIP_ENCODING = "gzip";
+    private static final String[] JSON_LINES_SUBTYPES = {"x-ndjson", "ndjson", "jsonlines", "x-jsonlines", "json-lines"};
+
+    // TODO: support other data-types as request body, e.g. msgpack
     private final JsonCodec jsonCodec = new JsonCodec();
+    private final JsonLinesCodec jsonLinesCodec = new JsonLinesCodec();
     private final Buffer<Record<Log>> buffer;
     private final int bufferWriteTimeoutInMillis;
+    private final long maxRequestLength;
     private final RequestExceptionHandler requestExceptionHandler;
     private final Counter requestsReceivedCounter;
     private final Counter successRequestsCounter;
     private final DistributionSummary payloadSizeSummary;
     private final Timer requestProcessDuration;
 
+    /**
+     * @param bufferWriteTimeoutInMillis the timeout for writing the records of a request to the buffer
+     * @param maxRequestLength           the maximum length in bytes of the content of a request after it is decompressed
+     * @param buffer                     the buffer to write the records to
+     * @param pluginMetrics              the metrics of the source
+     */
     public LogHTTPService(final int bufferWriteTimeoutInMillis,
+                          final long maxRequestLength,
                           final Buffer<Record<Log>> buffer,
                           final PluginMetrics pluginMetrics) {
         this.buffer = buffer;
         this.bufferWriteTimeoutInMillis = bufferWriteTimeoutInMillis;
+        this.maxRequestLength = maxRequestLength;
 
         requestExceptionHandler = new RequestExceptionHandler(pluginMetrics);
         requestsReceivedCounter = pluginMetrics.counter(REQUESTS_RECEIVED);
@@ -70,14 +92,22 @@ public class LogHTTPService {
     private HttpResponse processRequest(final AggregatedHttpRequest aggregatedHttpRequest) {
         requestsReceivedCounter.increment();
 
-        List<String> jsonList;
+        List<JsonNode> jsonList;
         final HttpData content = aggregatedHttpRequest.content();
         payloadSizeSummary.record(content.length());
-        try {
-            jsonList = jsonCodec.parse(content);
+        final Codec<List<JsonNode>> codec = selectCodec(aggregatedHttpRequest);
+        final String contentEncoding = aggregatedHttpRequest.headers().get(HttpHeaderNames.CONTENT_ENCODING);
+        try (final InputStream inputStream = contentStream(content, contentEncoding)) {
+            jsonList = codec.parse(inputStream);
+        } catch (final DecompressedLengthExceededException e) {
+            LOG.error("Failed to parse the request content of length {} with encoding {} due to:", content.length(),
+                    contentEncoding, e);
+            return requestExceptionHandler.handleException(new SizeOverflowException(e.getMessage()), e.getMessage());
         } catch (IOException e) {
-            LOG.error("Failed to write the request content [{}] due to:", content.toStringUtf8(), e);
-            return requestExceptionHandler.handleException(e, "Bad request data format. Needs to be json array.");
+            LOG.error("Failed to parse the request content of length {} with encoding {} due to:", content.length(),
+                    contentEncoding, e);
+            return requestExceptionHandler.handleException(e,
+                    "Bad request data format. Needs to be json array or json lines, optionally gzip encoded.");
         }
         final List<Record<Log>> records = jsonList.stream()
                 .map(this::buildRecordLog)
@@ -85,14 +115,35 @@ public class LogHTTPService {
         try {
             buffer.writeAll(records, bufferWriteTimeoutInMillis);
         } catch (Exception e) {
-            LOG.error("Failed to write the request content [{}] due to:", content.toStringUtf8(), e);
+            LOG.error("Failed to write the request content of length {} with encoding {} due to:", content.length(),
+                    contentEncoding, e);
             return requestExceptionHandler.handleException(e);
         }
         successRequestsCounter.increment();
         return HttpResponse.of(HttpStatus.OK);
     }
 
-    private Record<Log> buildRecordLog(String json) {
+    private Codec<List<JsonNode>> selectCodec(final AggregatedHttpRequest aggregatedHttpRequest) {
+        final MediaType contentType = aggregatedHttpRequest.contentType();
+        if (contentType != null) {
+            for (final String subtype : JSON_LINES_SUBTYPES) {
+                if (subtype.equalsIgnoreCase(contentType.subtype())) {
+                    return jsonLinesCodec;
+                }
+            }
+        }
+        return jsonCodec;
+    }
+
+    private InputStream contentStream(final HttpData content, final String contentEncoding) throws IOException {
+        final InputStream inputStream = content.toInputStream();
+        if (GZIP_ENCODING.equalsIgnoreCase(contentEncoding)) {
+            return new DecompressedLengthLimitingInputStream(new GZIPInputStream(inputStream), maxRequestLength);
+        }
+        return inputStream;
+    }
+
+    private Record<Log> buildRecordLog(final JsonNode json) {
 
         final JacksonLog log = JacksonLog.builder()
                 .withData(json)
@@ -101,4 +152,57 @@ public class LogHTTPService {
 
         return new Record<>(log);
     }
+
+    /**
+     * Fails reading a decompressed stream once more than the maximum length was read from it, so that a small
+     * compressed request cannot expand beyond the limit the server applies to uncompressed requests.
+     */
+    private static class DecompressedLengthLimitingInputStream extends FilterInputStream {
+        private final long maxLength;
+        private long length;
+
+        private DecompressedLengthLimitingInputStream(final InputStream inputStream, final long maxLength) {
+            super(inputStream);
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b >= 0) {
+                addLength(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int bytesRead = super.read(b, off, len);
+            if (bytesRead > 0) {
+                addLength(bytesRead);
+            }
+            return bytesRead;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = super.skip(n);
+            addLength(skipped);
+            return skipped;
+        }
+
+        private void addLength(final long bytes) throws DecompressedLengthExceededException {
+            length += bytes;
+            if (length > maxLength) {
+                throw new DecompressedLengthExceededException(
+                        String.format("Decompressed request content exceeds the maximum request length of %d bytes", maxLength));
+            }
+        }
+    }
+
+    private static class DecompressedLengthExceededException extends IOException {
+        private DecompressedLengthExceededException(final String message) {
+            super(message);
+        }
+    }
 }
@@ -8,6 +8,7 @@ package com.amazon.dataprepper.plugins.source.loghttp.codec;
 import com.linecorp.armeria.common.HttpData;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * Codec parses the content of HTTP request into custom Java type.
@@ -20,5 +21,17 @@ public interface Codec<T> {
      * @param httpData The content of the original HTTP request
      * @return The target data type
      */
-    T parse(HttpData httpData) throws IOException;
+    default T parse(HttpData httpData) throws IOException {
+        try (final InputStream inputStream = httpData.toInputStream()) {
+            return parse(inputStream);
+        }
+    }
+
+    /**
+     * parse the request body stream into custom type, e.g. after it has been decompressed
+     *
+     * @param inputStream The content of the HTTP request
+     * @return The target data type
+     */
+    T parse(InputStream inputStream) throws IOException;
 }
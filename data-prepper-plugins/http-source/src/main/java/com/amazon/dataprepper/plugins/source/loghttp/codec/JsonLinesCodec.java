@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JsonLinesCodec parses the json lines format HTTP data, one json object per line, into
+ * List&lt;{@link JsonNode}&gt;. The body is read with a streaming parser and a tree is built once for each line.
+ * <p>
+ */
+public class JsonLinesCodec implements Codec<List<JsonNode>> {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    public List<JsonNode> parse(final InputStream inputStream) throws IOException {
+        final List<JsonNode> jsonList = new ArrayList<>();
+        try (final JsonParser parser = mapper.getFactory().createParser(inputStream)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Expected a json object on each line");
+                }
+                jsonList.add(mapper.readTree(parser));
+            }
+        }
+
+        return jsonList;
+    }
+}
@@ -168,6 +168,7 @@ class HTTPSourceTest {
         lenient().when(sourceConfig.getThreadCount()).thenReturn(200);
         lenient().when(sourceConfig.getMaxConnectionCount()).thenReturn(500);
         lenient().when(sourceConfig.getMaxPendingRequests()).thenReturn(1024);
+        lenient().when(sourceConfig.getMaxRequestLength()).thenReturn(HTTPSourceConfig.DEFAULT_MAX_REQUEST_LENGTH);
 
         MetricsTestUtil.initMetrics();
         pluginMetrics = PluginMetrics.fromNames(PLUGIN_NAME, TEST_PIPELINE_NAME);
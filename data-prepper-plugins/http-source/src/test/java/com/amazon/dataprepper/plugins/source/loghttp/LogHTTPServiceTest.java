@@ -15,6 +15,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
@@ -33,15 +34,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -52,6 +59,7 @@ class LogHTTPServiceTest {
     private static final ObjectMapper mapper = new ObjectMapper();
     private static final int TEST_BUFFER_CAPACITY = 3;
     private static final int TEST_TIMEOUT_IN_MILLIS = 500;
+    private static final int TEST_MAX_REQUEST_LENGTH = 1024;
 
     @Mock
     private PluginMetrics pluginMetrics;
@@ -80,6 +88,8 @@ class LogHTTPServiceTest {
     @Mock
     private Timer requestProcessDuration;
 
+    private Buffer<Record<Log>> blockingBuffer;
+
     private LogHTTPService logHTTPService;
 
     @BeforeEach
@@ -101,8 +111,8 @@ class LogHTTPServiceTest {
                 }
         );
 
-        Buffer<Record<Log>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_CAPACITY, 8, "test-pipeline");
-        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, blockingBuffer, pluginMetrics);
+        blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_CAPACITY, 8, "test-pipeline");
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, TEST_MAX_REQUEST_LENGTH, blockingBuffer, pluginMetrics);
     }
 
     @Test
@@ -126,6 +136,81 @@ class LogHTTPServiceTest {
         verify(requestProcessDuration, times(1)).record(ArgumentMatchers.<Supplier<HttpResponse>>any());
     }
 
+    @Test
+    public void testHTTPRequestJsonLinesSuccess() throws InterruptedException, ExecutionException {
+        // Prepare
+        AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.parse("application/x-ndjson"), null,
+                HttpData.ofUtf8("{\"log\":\"first\"}\n{\"log\":\"second\"}\n"));
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        verify(successRequestsCounter, times(1)).increment();
+        verify(badRequestsCounter, never()).increment();
+        final List<Record<Log>> records = new ArrayList<>(readBuffer());
+        assertEquals(2, records.size());
+        assertEquals("first", records.get(0).getData().get("log", String.class));
+        assertEquals("second", records.get(1).getData().get("log", String.class));
+    }
+
+    @Test
+    public void testHTTPRequestGzipSuccess() throws InterruptedException, ExecutionException, IOException {
+        // Prepare
+        AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.JSON, "gzip",
+                HttpData.wrap(gzip("[{\"log\":\"first\"},{\"log\":\"second\"}]")));
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        verify(successRequestsCounter, times(1)).increment();
+        verify(badRequestsCounter, never()).increment();
+        final List<Record<Log>> records = new ArrayList<>(readBuffer());
+        assertEquals(2, records.size());
+        assertEquals("first", records.get(0).getData().get("log", String.class));
+    }
+
+    @Test
+    public void testHTTPRequestGzipDecompressedTooLarge() throws InterruptedException, ExecutionException, IOException {
+        // Prepare
+        final StringBuilder content = new StringBuilder("[");
+        while (content.length() <= TEST_MAX_REQUEST_LENGTH) {
+            content.append("{\"log\":\"aaaaaaaaaaaaaaaaaaaa\"},");
+        }
+        content.append("{\"log\":\"last\"}]");
+        final byte[] compressed = gzip(content.toString());
+        assertTrue(compressed.length < TEST_MAX_REQUEST_LENGTH);
+        AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.JSON, "gzip", HttpData.wrap(compressed));
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.REQUEST_ENTITY_TOO_LARGE, postResponse.status());
+        verify(successRequestsCounter, never()).increment();
+        verify(badRequestsCounter, never()).increment();
+        verify(requestsTooLargeCounter, times(1)).increment();
+        assertTrue(blockingBuffer.isEmpty());
+    }
+
+    @Test
+    public void testHTTPRequestBadGzipRequest() throws InterruptedException, ExecutionException {
+        // Prepare
+        AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.JSON, "gzip",
+                HttpData.ofUtf8("[{\"log\":\"not compressed\"}]"));
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, postResponse.status());
+        verify(successRequestsCounter, never()).increment();
+        verify(badRequestsCounter, times(1)).increment();
+    }
+
     @Test
     public void testHTTPRequestBadRequest() throws ExecutionException, InterruptedException {
         // Prepare
@@ -217,4 +302,29 @@ class LogHTTPServiceTest {
         HttpData httpData = HttpData.ofUtf8("{");
         return HttpRequest.of(requestHeaders, httpData).aggregate().get();
     }
-}
\ No newline at end of file
+
+    private AggregatedHttpRequest generateHTTPRequest(final MediaType contentType, final String contentEncoding,
+                                                      final HttpData httpData) throws ExecutionException, InterruptedException {
+        RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(contentType)
+                .method(HttpMethod.POST)
+                .path("/log/ingest")
+                .build();
+        if (contentEncoding != null) {
+            requestHeaders = requestHeaders.toBuilder().add(HttpHeaderNames.CONTENT_ENCODING, contentEncoding).build();
+        }
+        return HttpRequest.of(requestHeaders, httpData).aggregate().get();
+    }
+
+    private static byte[] gzip(final String content) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return outputStream.toByteArray();
+    }
+
+    private Collection<Record<Log>> readBuffer() {
+        return blockingBuffer.read(TEST_TIMEOUT_IN_MILLIS).getKey();
+    }
+}
@@ -5,6 +5,7 @@
 
 package com.amazon.dataprepper.plugins.source.loghttp.codec;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linecorp.armeria.common.HttpData;
 import org.junit.jupiter.api.Test;
 
@@ -16,19 +17,39 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class JsonCodecTest {
     private final HttpData goodTestData = HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":\"d\"}]");
+    private final HttpData goodTestDataNested = HttpData.ofUtf8("[{\"a\":{\"b\":[1,{\"c\":\"d\"}]}}]");
+    private final HttpData goodTestDataEmptyArray = HttpData.ofUtf8("[]");
     private final HttpData badTestDataJsonLine = HttpData.ofUtf8("{\"a\":\"b\"}");
     private final HttpData badTestDataMultiJsonLines = HttpData.ofUtf8("{\"a\":\"b\"}{\"c\":\"d\"}");
     private final HttpData badTestDataNonJson = HttpData.ofUtf8("non json content");
+    private final HttpData badTestDataNonObjectElement = HttpData.ofUtf8("[{\"a\":\"b\"}, \"c\"]");
+    private final HttpData badTestDataUnterminatedArray = HttpData.ofUtf8("[{\"a\":\"b\"}");
     private final JsonCodec objectUnderTest = new JsonCodec();
 
     @Test
     public void testParseSuccess() throws IOException {
         // When
-        List<String> res = objectUnderTest.parse(goodTestData);
+        List<JsonNode> res = objectUnderTest.parse(goodTestData);
 
         // Then
         assertEquals(2, res.size());
-        assertEquals("{\"a\":\"b\"}", res.get(0));
+        assertEquals("{\"a\":\"b\"}", res.get(0).toString());
+        assertEquals("{\"c\":\"d\"}", res.get(1).toString());
+    }
+
+    @Test
+    public void testParseNestedSuccess() throws IOException {
+        // When
+        List<JsonNode> res = objectUnderTest.parse(goodTestDataNested);
+
+        // Then
+        assertEquals(1, res.size());
+        assertEquals("{\"a\":{\"b\":[1,{\"c\":\"d\"}]}}", res.get(0).toString());
+    }
+
+    @Test
+    public void testParseEmptyArraySuccess() throws IOException {
+        assertEquals(0, objectUnderTest.parse(goodTestDataEmptyArray).size());
     }
 
     @Test
@@ -45,4 +66,14 @@ class JsonCodecTest {
     public void testParseNonJsonFailure() {
         assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testParseNonObjectElementFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonObjectElement));
+    }
+
+    @Test
+    public void testParseUnterminatedArrayFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataUnterminatedArray));
+    }
+}
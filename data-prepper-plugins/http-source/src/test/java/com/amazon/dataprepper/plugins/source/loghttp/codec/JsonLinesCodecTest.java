@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.linecorp.armeria.common.HttpData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonLinesCodecTest {
+    private final HttpData goodTestData = HttpData.ofUtf8("{\"a\":\"b\"}\n{\"c\":\"d\"}\n");
+    private final HttpData goodTestDataCrLfAndBlankLines = HttpData.ofUtf8("{\"a\":\"b\"}\r\n\r\n{\"c\":\"d\"}");
+    private final HttpData goodTestDataEmpty = HttpData.ofUtf8("");
+    private final HttpData badTestDataJsonArray = HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":\"d\"}]");
+    private final HttpData badTestDataNonJson = HttpData.ofUtf8("non json content");
+    private final HttpData badTestDataTruncatedLine = HttpData.ofUtf8("{\"a\":\"b\"}\n{\"c\":");
+    private final JsonLinesCodec objectUnderTest = new JsonLinesCodec();
+
+    @Test
+    public void testParseSuccess() throws IOException {
+        // When
+        List<JsonNode> res = objectUnderTest.parse(goodTestData);
+
+        // Then
+        assertEquals(2, res.size());
+        assertEquals("{\"a\":\"b\"}", res.get(0).toString());
+        assertEquals("{\"c\":\"d\"}", res.get(1).toString());
+    }
+
+    @Test
+    public void testParseCrLfAndBlankLinesSuccess() throws IOException {
+        assertEquals(2, objectUnderTest.parse(goodTestDataCrLfAndBlankLines).size());
+    }
+
+    @Test
+    public void testParseEmptySuccess() throws IOException {
+        assertEquals(0, objectUnderTest.parse(goodTestDataEmpty).size());
+    }
+
+    @Test
+    public void testParseJsonArrayFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataJsonArray));
+    }
+
+    @Test
+    public void testParseNonJsonFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson));
+    }
+
+    @Test
+    public void testParseTruncatedLineFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataTruncatedLine));
+    }
+}
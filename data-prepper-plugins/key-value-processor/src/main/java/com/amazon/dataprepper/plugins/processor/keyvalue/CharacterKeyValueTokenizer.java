@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.keyvalue;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Splits a string into keys and values at single delimiter characters in one scan of the string. The keys and values
+ * are the same as those from splitting the string with a regex matching any of the field split characters, and then
+ * splitting each field once with a regex matching any of the value split characters.
+ */
+class CharacterKeyValueTokenizer {
+    private static final String REGEX_SPECIAL_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final String fieldSplitCharacters;
+    private final String valueSplitCharacters;
+
+    CharacterKeyValueTokenizer(final String fieldSplitCharacters, final String valueSplitCharacters) {
+        this.fieldSplitCharacters = fieldSplitCharacters;
+        this.valueSplitCharacters = valueSplitCharacters;
+    }
+
+    /**
+     * @param splitCharacters the configured split characters
+     * @return true if the split characters are all matched literally by the regex built from them
+     */
+    static boolean isSupported(final String splitCharacters) {
+        if (splitCharacters.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < splitCharacters.length(); i++) {
+            if (REGEX_SPECIAL_CHARACTERS.indexOf(splitCharacters.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param source       the string to split
+     * @param pairConsumer accepts the key and value of each field in order, with a null value for a field without a value
+     *                     split character
+     */
+    void tokenize(final String source, final BiConsumer<String, String> pairConsumer) {
+        int end = source.length();
+        while (end > 0 && isFieldSplitCharacter(source.charAt(end - 1))) {
+            end--;
+        }
+        if (end == 0 && !source.isEmpty()) {
+            return;
+        }
+
+        int fieldStart = 0;
+        int valueSplitIndex = -1;
+        for (int i = 0; i <= end; i++) {
+            if (i == end || isFieldSplitCharacter(source.charAt(i))) {
+                if (valueSplitIndex == -1) {
+                    pairConsumer.accept(source.substring(fieldStart, i), null);
+                } else {
+                    pairConsumer.accept(source.substring(fieldStart, valueSplitIndex), source.substring(valueSplitIndex + 1, i));
+                }
+                fieldStart = i + 1;
+                valueSplitIndex = -1;
+            } else if (valueSplitIndex == -1 && valueSplitCharacters.indexOf(source.charAt(i)) >= 0) {
+                valueSplitIndex = i;
+            }
+        }
+    }
+
+    private boolean isFieldSplitCharacter(final char c) {
+        return fieldSplitCharacters.indexOf(c) >= 0;
+    }
+}
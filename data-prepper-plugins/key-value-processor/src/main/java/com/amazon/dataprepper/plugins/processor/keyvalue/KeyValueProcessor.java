@@ -8,6 +8,7 @@ package com.amazon.dataprepper.plugins.processor.keyvalue;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import com.amazon.dataprepper.model.annotations.Stateless;
 import com.amazon.dataprepper.model.event.Event;
 import com.amazon.dataprepper.model.processor.AbstractProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
@@ -15,15 +16,16 @@ import com.amazon.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+@Stateless
 @DataPrepperPlugin(name = "key_value", pluginType = Processor.class, pluginConfigurationType = KeyValueProcessorConfig.class)
 public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(KeyValueProcessor.class);
@@ -32,12 +34,18 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
 
     private final Pattern fieldDelimiterPattern;
     private final Pattern keyValueDelimiterPattern;
+    private final CharacterKeyValueTokenizer characterKeyValueTokenizer;
+    private final Pattern deleteKeyPattern;
+    private final Pattern deleteValuePattern;
 
     @DataPrepperPluginConstructor
     public KeyValueProcessor(final PluginMetrics pluginMetrics, final KeyValueProcessorConfig keyValueProcessorConfig) {
         super(pluginMetrics);
         this.keyValueProcessorConfig = keyValueProcessorConfig;
 
+        String fieldSplitCharacters = null;
+        String valueSplitCharacters = null;
+
         if(keyValueProcessorConfig.getFieldDelimiterRegex() != null
                 && !keyValueProcessorConfig.getFieldDelimiterRegex().isEmpty()) {
             if(keyValueProcessorConfig.getFieldSplitCharacters() != null
@@ -52,8 +60,10 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             String regex;
             if(keyValueProcessorConfig.getFieldSplitCharacters().isEmpty()) {
                 regex = KeyValueProcessorConfig.DEFAULT_FIELD_SPLIT_CHARACTERS;
+                fieldSplitCharacters = KeyValueProcessorConfig.DEFAULT_FIELD_SPLIT_CHARACTERS;
             } else {
                 regex = buildRegexFromCharacters(keyValueProcessorConfig.getFieldSplitCharacters());
+                fieldSplitCharacters = keyValueProcessorConfig.getFieldSplitCharacters();
             }
 
             fieldDelimiterPattern = Pattern.compile(regex);
@@ -73,8 +83,10 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             String regex;
             if(keyValueProcessorConfig.getValueSplitCharacters().isEmpty()) {
                 regex = KeyValueProcessorConfig.DEFAULT_VALUE_SPLIT_CHARACTERS;
+                valueSplitCharacters = KeyValueProcessorConfig.DEFAULT_VALUE_SPLIT_CHARACTERS;
             } else {
                 regex = buildRegexFromCharacters(keyValueProcessorConfig.getValueSplitCharacters());
+                valueSplitCharacters = keyValueProcessorConfig.getValueSplitCharacters();
             }
 
             keyValueDelimiterPattern = Pattern.compile(regex);
@@ -87,6 +99,24 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
         if(!validateRegex(keyValueProcessorConfig.getDeleteValueRegex())) {
             throw new PatternSyntaxException("delete_value_regex is not a valid regex string", keyValueProcessorConfig.getDeleteValueRegex(), -1);
         }
+
+        if(fieldSplitCharacters != null && CharacterKeyValueTokenizer.isSupported(fieldSplitCharacters)
+                && valueSplitCharacters != null && CharacterKeyValueTokenizer.isSupported(valueSplitCharacters)) {
+            characterKeyValueTokenizer = new CharacterKeyValueTokenizer(fieldSplitCharacters, valueSplitCharacters);
+        } else {
+            characterKeyValueTokenizer = null;
+        }
+
+        deleteKeyPattern = compileOptionalRegex(keyValueProcessorConfig.getDeleteKeyRegex());
+        deleteValuePattern = compileOptionalRegex(keyValueProcessorConfig.getDeleteValueRegex());
+    }
+
+    private Pattern compileOptionalRegex(final String pattern) {
+        if(pattern != null && !Objects.equals(pattern, "")) {
+            return Pattern.compile(pattern);
+        }
+
+        return null;
     }
 
     private String buildRegexFromCharacters(String s) {
@@ -125,32 +155,14 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             final Event recordEvent = record.getData();
 
             final String groupsRaw = recordEvent.get(keyValueProcessorConfig.getSource(), String.class);
-            final String[] groups = fieldDelimiterPattern.split(groupsRaw, 0);
-            for(final String group : groups) {
-                final String[] terms = keyValueDelimiterPattern.split(group, 2);
-                String key = terms[0];
-                Object value;
-
-                if(keyValueProcessorConfig.getDeleteKeyRegex() != null && !Objects.equals(keyValueProcessorConfig.getDeleteKeyRegex(), "")) {
-                    key = key.replaceAll(keyValueProcessorConfig.getDeleteKeyRegex(), "");
-                }
-                key = keyValueProcessorConfig.getPrefix() + key;
-
-                if (terms.length == 2) {
-                    value = terms[1];
-                } else {
-                    LOG.debug(String.format("Unsuccessful match: '%s'", terms[0]));
-                    value = keyValueProcessorConfig.getNonMatchValue();
-                }
-
-                if(value != null
-                        && value instanceof String
-                        && keyValueProcessorConfig.getDeleteValueRegex() != null
-                        && !Objects.equals(keyValueProcessorConfig.getDeleteValueRegex(), "")) {
-                    value = ((String)value).replaceAll(keyValueProcessorConfig.getDeleteValueRegex(), "");
+            if(characterKeyValueTokenizer != null) {
+                characterKeyValueTokenizer.tokenize(groupsRaw, (key, value) -> addParsedTerms(parsedMap, key, value));
+            } else {
+                final String[] groups = fieldDelimiterPattern.split(groupsRaw, 0);
+                for(final String group : groups) {
+                    final String[] terms = keyValueDelimiterPattern.split(group, 2);
+                    addParsedTerms(parsedMap, terms[0], terms.length == 2 ? terms[1] : null);
                 }
-
-                addKeyValueToMap(parsedMap, key, value);
             }
 
             recordEvent.put(keyValueProcessorConfig.getDestination(), parsedMap);
@@ -159,17 +171,41 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
         return records;
     }
 
+    private void addParsedTerms(final Map<String, Object> parsedMap, final String rawKey, final String rawValue) {
+        String key = rawKey;
+        Object value;
+
+        if(deleteKeyPattern != null) {
+            key = deleteKeyPattern.matcher(key).replaceAll("");
+        }
+        key = keyValueProcessorConfig.getPrefix() + key;
+
+        if (rawValue != null) {
+            value = rawValue;
+        } else {
+            LOG.debug("Unsuccessful match: '{}'", rawKey);
+            value = keyValueProcessorConfig.getNonMatchValue();
+        }
+
+        if(value instanceof String && deleteValuePattern != null) {
+            value = deleteValuePattern.matcher((String) value).replaceAll("");
+        }
+
+        addKeyValueToMap(parsedMap, key, value);
+    }
+
     private void addKeyValueToMap(final Map<String, Object> parsedMap, final String key, final Object value) {
         if(!parsedMap.containsKey(key)) {
             parsedMap.put(key, value);
             return;
         }
 
-        if (parsedMap.get(key) instanceof List) {
-            ((List<Object>) parsedMap.get(key)).add(value);
+        final Object existingValue = parsedMap.get(key);
+        if (existingValue instanceof List) {
+            ((List<Object>) existingValue).add(value);
         } else {
-            final LinkedList<Object> combinedList = new LinkedList<>();
-            combinedList.add(parsedMap.get(key));
+            final List<Object> combinedList = new ArrayList<>();
+            combinedList.add(existingValue);
             combinedList.add(value);
 
             parsedMap.replace(key, combinedList);
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.processor.keyvalue;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class CharacterKeyValueTokenizerTest {
+    private static final String FIELD_SPLIT_CHARACTERS = "&;";
+    private static final String VALUE_SPLIT_CHARACTERS = "=:";
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "key1=value1",
+            "key1=value1&key2=value2;key3:value3",
+            "key1=value1&",
+            "key1=value1&&;",
+            "&key1=value1",
+            "key1=value1&&key2=value2",
+            "&",
+            "&&;",
+            "key1",
+            "key1&key2=value2",
+            "key1==value1",
+            "key1=value1:value2",
+            "=value1",
+            "key1=",
+            "key1=&key2="
+    })
+    void tokenize_gives_same_keys_and_values_as_regex_split(final String source) {
+        final List<String> pairs = new ArrayList<>();
+        new CharacterKeyValueTokenizer(FIELD_SPLIT_CHARACTERS, VALUE_SPLIT_CHARACTERS)
+                .tokenize(source, (key, value) -> pairs.add(key + "|" + value));
+
+        assertThat(pairs, equalTo(splitWithRegex(source)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"&", "&;", " ,", "=", "-_"})
+    void isSupported_with_literal_characters_returns_true(final String splitCharacters) {
+        assertThat(CharacterKeyValueTokenizer.isSupported(splitCharacters), is(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "|", "&.", "\\[", "?", "*&", "(", "{"})
+    void isSupported_with_empty_or_regex_special_characters_returns_false(final String splitCharacters) {
+        assertThat(CharacterKeyValueTokenizer.isSupported(splitCharacters), is(false));
+    }
+
+    private static List<String> splitWithRegex(final String source) {
+        final Pattern fieldDelimiterPattern = Pattern.compile("&|;");
+        final Pattern keyValueDelimiterPattern = Pattern.compile("=|:");
+        final List<String> pairs = new ArrayList<>();
+        Arrays.stream(fieldDelimiterPattern.split(source, 0)).forEach(group -> {
+            final String[] terms = keyValueDelimiterPattern.split(group, 2);
+            pairs.add(terms[0] + "|" + (terms.length == 2 ? terms[1] : null));
+        });
+        return pairs;
+    }
+}
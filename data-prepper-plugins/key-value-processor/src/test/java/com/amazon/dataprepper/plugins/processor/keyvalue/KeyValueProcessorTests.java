@@ -104,6 +104,70 @@ public class KeyValueProcessorTests {
         assertThatKeyEquals(parsed_message, "key2", "value2");
     }
 
+    @Test
+    void testMultipleSplitCharactersKvToObjectKeyValueProcessor() {
+        when(mockConfig.getFieldSplitCharacters()).thenReturn("&;");
+        when(mockConfig.getValueSplitCharacters()).thenReturn("=:");
+
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
+        final Record<Event> record = getMessage("&key1=value1;key2:value2&key3=value=3;");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(4));
+        assertThatKeyEquals(parsed_message, "", null);
+        assertThatKeyEquals(parsed_message, "key1", "value1");
+        assertThatKeyEquals(parsed_message, "key2", "value2");
+        assertThatKeyEquals(parsed_message, "key3", "value=3");
+    }
+
+    @Test
+    void testEmptySplitCharactersUseDefaultsKvToObjectKeyValueProcessor() {
+        when(mockConfig.getFieldSplitCharacters()).thenReturn("");
+        when(mockConfig.getValueSplitCharacters()).thenReturn("");
+
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
+        final Record<Event> record = getMessage("key1=value1&key2=value2");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(2));
+        assertThatKeyEquals(parsed_message, "key1", "value1");
+        assertThatKeyEquals(parsed_message, "key2", "value2");
+    }
+
+    @Test
+    void testEscapedFieldSplitCharacterKvToObjectKeyValueProcessor() {
+        when(mockConfig.getFieldSplitCharacters()).thenReturn("\\|");
+
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
+        final Record<Event> record = getMessage("key1=value1|key2=value2");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(2));
+        assertThatKeyEquals(parsed_message, "key1", "value1");
+        assertThatKeyEquals(parsed_message, "key2", "value2");
+    }
+
+    @Test
+    void testEscapedValueSplitCharacterKvToObjectKeyValueProcessor() {
+        when(mockConfig.getValueSplitCharacters()).thenReturn("\\+");
+
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
+        final Record<Event> record = getMessage("key1+value1&key2+value2");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(2));
+        assertThatKeyEquals(parsed_message, "key1", "value1");
+        assertThatKeyEquals(parsed_message, "key2", "value2");
+    }
+
     @Test
     void testBothKeyValuesDefinedErrorKeyValueProcessor() {
         when(mockConfig.getKeyValueDelimiterRegex()).thenReturn(":\\+*:");
@@ -279,6 +343,8 @@ public class KeyValueProcessorTests {
     void testDeleteKeyRegexKvProcessor() {
         when(mockConfig.getDeleteKeyRegex()).thenReturn("\\s");
 
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
         final Record<Event> record = getMessage("key1  =value1");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
         final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
@@ -291,6 +357,8 @@ public class KeyValueProcessorTests {
     void testDeleteValueRegexKvProcessor() {
         when(mockConfig.getDeleteValueRegex()).thenReturn("\\s");
 
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
         final Record<Event> record = getMessage("key1=value1   &key2=value2");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
         final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
@@ -305,6 +373,8 @@ public class KeyValueProcessorTests {
         when(mockConfig.getDeleteValueRegex()).thenReturn("\\s");
         when(mockConfig.getNonMatchValue()).thenReturn(3);
 
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
         final Record<Event> record = getMessage("key1&key2=value2");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
         final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
@@ -319,6 +389,8 @@ public class KeyValueProcessorTests {
         when(mockConfig.getDeleteKeyRegex()).thenReturn("\\s");
         when(mockConfig.getDeleteValueRegex()).thenReturn("\\s");
 
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
         final Record<Event> record = getMessage("key1  =value1  &  key2 = value2 ");
         final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
         final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
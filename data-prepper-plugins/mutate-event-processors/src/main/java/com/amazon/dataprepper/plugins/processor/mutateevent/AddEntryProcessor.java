@@ -8,6 +8,7 @@ package com.amazon.dataprepper.plugins.processor.mutateevent;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import com.amazon.dataprepper.model.annotations.Stateless;
 import com.amazon.dataprepper.model.event.Event;
 import com.amazon.dataprepper.model.processor.AbstractProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
@@ -16,6 +17,7 @@ import com.amazon.dataprepper.model.record.Record;
 import java.util.Collection;
 import java.util.List;
 
+@Stateless
 @DataPrepperPlugin(name = "add_entries", pluginType = Processor.class, pluginConfigurationType = AddEntryProcessorConfig.class)
 public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private final List<AddEntryProcessorConfig.Entry> entries;
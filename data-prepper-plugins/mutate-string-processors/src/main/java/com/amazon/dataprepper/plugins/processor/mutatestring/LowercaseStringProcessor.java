@@ -8,6 +8,7 @@ package com.amazon.dataprepper.plugins.processor.mutatestring;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import com.amazon.dataprepper.model.annotations.Stateless;
 import com.amazon.dataprepper.model.event.Event;
 import com.amazon.dataprepper.model.processor.Processor;
 import java.util.Locale;
@@ -16,6 +17,7 @@ import java.util.Locale;
  * This processor takes in a key and changes its value to a lowercase string. If the value is not a string,
  * no action is performed.
  */
+@Stateless
 @DataPrepperPlugin(name = "lowercase_string", pluginType = Processor.class, pluginConfigurationType = WithKeysConfig.class)
 public class LowercaseStringProcessor extends AbstractStringProcessor<String> {
     @DataPrepperPluginConstructor
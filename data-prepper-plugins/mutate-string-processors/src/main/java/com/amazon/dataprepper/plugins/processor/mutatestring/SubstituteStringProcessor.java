@@ -8,6 +8,7 @@ package com.amazon.dataprepper.plugins.processor.mutatestring;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import com.amazon.dataprepper.model.annotations.Stateless;
 import com.amazon.dataprepper.model.event.Event;
 import com.amazon.dataprepper.model.processor.Processor;
 
@@ -20,6 +21,7 @@ import java.util.regex.Pattern;
  * This processor takes in a key and changes its value by searching for a pattern and replacing the matches with a string.
  * If the value is not a string, no action is performed.
  */
+@Stateless
 @DataPrepperPlugin(name = "substitute_string", pluginType = Processor.class, pluginConfigurationType = SubstituteStringProcessorConfig.class)
 public class SubstituteStringProcessor extends AbstractStringProcessor<SubstituteStringProcessorConfig.Entry> {
     private final Map<String, Pattern> patternMap = new HashMap<>();
@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.sink.opensearch;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Sends bulk requests asynchronously with at most maxInFlight requests awaiting a response at a time. Further
+ * requests wait in a queue bounded to maxPending. {@link #submit(BulkRequest)} blocks once that queue is full, which
+ * holds back the pipeline worker and in turn the buffer, so a slow cluster applies backpressure instead of
+ * accumulating requests in memory.
+ * <p>
+ * The future returned by {@link #submit(BulkRequest)} completes once the request and its retries complete, so that the
+ * caller can hold back the checkpoint of its records until the cluster acknowledged them. A caller which stops waiting
+ * for the request completes the future exceptionally, which abandons the request: it is not sent if it is still queued,
+ * and it is not retried any more if it is in flight.
+ */
+public final class AsyncBulkWriter {
+    public static final String BULK_REQUESTS_IN_FLIGHT = "bulkRequestsInFlight";
+    public static final String BULK_REQUESTS_PENDING = "bulkRequestsPending";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncBulkWriter.class);
+
+    private final BulkRetryStrategy bulkRetryStrategy;
+    private final AsyncRequestFunction<BulkRequest, BulkResponse> asyncRequestFunction;
+    private final Timer bulkRequestTimer;
+    private final Semaphore inFlightPermits;
+    private final BlockingQueue<PendingRequest> pendingRequests;
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService retryScheduler;
+    private final Object completionMonitor = new Object();
+    private int outstandingRequests = 0;
+    private volatile boolean isStopped = false;
+
+    public AsyncBulkWriter(final BulkRetryStrategy bulkRetryStrategy,
+                           final AsyncRequestFunction<BulkRequest, BulkResponse> asyncRequestFunction,
+                           final PluginMetrics pluginMetrics,
+                           final Timer bulkRequestTimer,
+                           final int maxInFlight,
+                           final int maxPending) {
+        checkArgument(maxInFlight > 0, "maxInFlight must be greater than 0");
+        checkArgument(maxPending > 0, "maxPending must be greater than 0");
+        this.bulkRetryStrategy = bulkRetryStrategy;
+        this.asyncRequestFunction = asyncRequestFunction;
+        this.bulkRequestTimer = bulkRequestTimer;
+        this.inFlightPermits = new Semaphore(maxInFlight);
+        this.pendingRequests = new ArrayBlockingQueue<>(maxPending);
+        this.dispatcher = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("opensearch-bulk-dispatcher-%d").build());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("opensearch-bulk-retry-%d").build());
+
+        pluginMetrics.gauge(BULK_REQUESTS_IN_FLIGHT, inFlightPermits, permits -> maxInFlight - permits.availablePermits());
+        pluginMetrics.gauge(BULK_REQUESTS_PENDING, pendingRequests, BlockingQueue::size);
+
+        dispatcher.execute(this::dispatch);
+    }
+
+    /**
+     * Queues the bulk request to be sent, waiting for space in the queue if it is full.
+     *
+     * @param bulkRequest the request to send
+     * @return a future which completes once the request and its retries complete
+     * @throws InterruptedException if interrupted while waiting for space in the queue
+     */
+    public CompletableFuture<Void> submit(final BulkRequest bulkRequest) throws InterruptedException {
+        checkState(!isStopped, "AsyncBulkWriter is stopped");
+        synchronized (completionMonitor) {
+            outstandingRequests++;
+        }
+        final PendingRequest pendingRequest = new PendingRequest(bulkRequest);
+        try {
+            pendingRequests.put(pendingRequest);
+        } catch (final InterruptedException e) {
+            complete();
+            throw e;
+        }
+        return pendingRequest.completion;
+    }
+
+    /**
+     * Stops accepting requests and waits for the queued and in-flight requests to complete.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the timeout
+     * @return true if all requests completed, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean shutdown(final long timeout, final TimeUnit unit) throws InterruptedException {
+        isStopped = true;
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (completionMonitor) {
+            long remainingNanos = deadline - System.nanoTime();
+            while (outstandingRequests > 0 && remainingNanos > 0) {
+                TimeUnit.NANOSECONDS.timedWait(completionMonitor, remainingNanos);
+                remainingNanos = deadline - System.nanoTime();
+            }
+            if (outstandingRequests > 0) {
+                LOG.warn("{} bulk requests did not complete before shutdown", outstandingRequests);
+            }
+            dispatcher.shutdownNow();
+            retryScheduler.shutdownNow();
+            PendingRequest pendingRequest;
+            while ((pendingRequest = pendingRequests.poll()) != null) {
+                pendingRequest.completion.completeExceptionally(new IllegalStateException("AsyncBulkWriter is stopped"));
+            }
+            return outstandingRequests == 0;
+        }
+    }
+
+    private void dispatch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                inFlightPermits.acquire();
+                final PendingRequest pendingRequest;
+                try {
+                    pendingRequest = pendingRequests.take();
+                } catch (final InterruptedException e) {
+                    inFlightPermits.release();
+                    throw e;
+                }
+                send(pendingRequest);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void send(final PendingRequest pendingRequest) {
+        final CompletableFuture<Void> completion = pendingRequest.completion;
+        if (completion.isDone()) {
+            inFlightPermits.release();
+            complete();
+            return;
+        }
+        final long startTime = System.nanoTime();
+        try {
+            bulkRetryStrategy.executeAsync(pendingRequest.bulkRequest, asyncRequestFunction, retryScheduler, completion::isDone, () -> {
+                bulkRequestTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                inFlightPermits.release();
+                complete();
+                completion.complete(null);
+            });
+        } catch (final RuntimeException e) {
+            LOG.error("Unexpected failure sending bulk request", e);
+            inFlightPermits.release();
+            complete();
+            completion.completeExceptionally(e);
+        }
+    }
+
+    private void complete() {
+        synchronized (completionMonitor) {
+            outstandingRequests--;
+            completionMonitor.notifyAll();
+        }
+    }
+
+    private static class PendingRequest {
+        private final BulkRequest bulkRequest;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private PendingRequest(final BulkRequest bulkRequest) {
+            this.bulkRequest = bulkRequest;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.sink.opensearch;
+
+import org.opensearch.action.ActionListener;
+
+/**
+ * Represents a function that accepts one argument and notifies the listener of its result or failure once the
+ * request completes, without blocking the calling thread.
+ *
+ * @param <T> the type of the input to the function
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface AsyncRequestFunction<T, R> {
+
+    void apply(T t, ActionListener<R> listener);
+}
@@ -8,6 +8,7 @@ package com.amazon.dataprepper.plugins.sink.opensearch;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import io.micrometer.core.instrument.Counter;
 import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BackoffPolicy;
 import org.opensearch.action.bulk.BulkItemResponse;
@@ -19,9 +20,14 @@ import org.opensearch.rest.RestStatus;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 public final class BulkRetryStrategy {
@@ -40,6 +46,7 @@ public final class BulkRetryStrategy {
     private final BiConsumer<DocWriteRequest<?>, Throwable> logFailure;
     private final PluginMetrics pluginMetrics;
     private final Supplier<BulkRequest> bulkRequestSupplier;
+    private final int maxRetries;
 
     private final Counter sentDocumentsCounter;
     private final Counter sentDocumentsOnFirstAttemptCounter;
@@ -49,10 +56,23 @@ public final class BulkRetryStrategy {
                              final BiConsumer<DocWriteRequest<?>, Throwable> logFailure,
                              final PluginMetrics pluginMetrics,
                              final Supplier<BulkRequest> bulkRequestSupplier) {
+        this(requestFunction, logFailure, pluginMetrics, bulkRequestSupplier, RetryConfiguration.DEFAULT_MAX_RETRIES);
+    }
+
+    /**
+     * @param maxRetries the maximum number of retries of the documents which failed with a retryable status, after
+     *                   which they are recorded as failed
+     */
+    public BulkRetryStrategy(final RequestFunction<BulkRequest, BulkResponse> requestFunction,
+                             final BiConsumer<DocWriteRequest<?>, Throwable> logFailure,
+                             final PluginMetrics pluginMetrics,
+                             final Supplier<BulkRequest> bulkRequestSupplier,
+                             final int maxRetries) {
         this.requestFunction = requestFunction;
         this.logFailure = logFailure;
         this.pluginMetrics = pluginMetrics;
         this.bulkRequestSupplier = bulkRequestSupplier;
+        this.maxRetries = maxRetries;
 
         sentDocumentsCounter = pluginMetrics.counter(DOCUMENTS_SUCCESS);
         sentDocumentsOnFirstAttemptCounter = pluginMetrics.counter(DOCUMENTS_SUCCESS_FIRST_ATTEMPT);
@@ -60,11 +80,53 @@ public final class BulkRetryStrategy {
     }
 
     public void execute(final BulkRequest bulkRequest) throws InterruptedException {
-        // Exponential backoff run forever
-        // TODO: replace with custom backoff policy setting including maximum interval between retries
-        final BackOffUtils backOffUtils = new BackOffUtils(
-                BackoffPolicy.exponentialBackoff(TimeValue.timeValueMillis(50), Integer.MAX_VALUE).iterator());
-        handleRetry(bulkRequest, null, backOffUtils, true);
+        execute(bulkRequest, () -> false);
+    }
+
+    /**
+     * Sends the bulk request, retrying the documents which failed with a retryable status until they are sent, the
+     * retries are exhausted or the request is abandoned.
+     *
+     * @param bulkRequest the request to send
+     * @param isAbandoned checked before each retry, the documents which were not sent yet are neither retried nor
+     *                    recorded as failed once it returns true, so that the caller can send them again
+     * @return false if the request was abandoned before all of its documents were either sent or failed
+     */
+    public boolean execute(final BulkRequest bulkRequest, final BooleanSupplier isAbandoned) throws InterruptedException {
+        final BackOffUtils backOffUtils = new BackOffUtils(backoffPolicy().iterator());
+        return handleRetry(bulkRequest, null, backOffUtils, true, isAbandoned);
+    }
+
+    /**
+     * Sends the bulk request with the same retry semantics as {@link #execute(BulkRequest)} without blocking the
+     * calling thread. Retries are scheduled on the retryScheduler after the backoff delay.
+     *
+     * @param bulkRequest the request to send
+     * @param asyncRequestFunction the function sending a request asynchronously
+     * @param retryScheduler the scheduler for the retries
+     * @param onComplete called once all documents of the request were either sent or failed
+     */
+    public void executeAsync(final BulkRequest bulkRequest,
+                             final AsyncRequestFunction<BulkRequest, BulkResponse> asyncRequestFunction,
+                             final ScheduledExecutorService retryScheduler,
+                             final Runnable onComplete) {
+        executeAsync(bulkRequest, asyncRequestFunction, retryScheduler, () -> false, onComplete);
+    }
+
+    /**
+     * Sends the bulk request like {@link #executeAsync(BulkRequest, AsyncRequestFunction, ScheduledExecutorService, Runnable)},
+     * stopping the retries once the request is abandoned.
+     *
+     * @param isAbandoned checked before each retry, the documents which were not sent yet are neither retried nor
+     *                    recorded as failed once it returns true, so that the caller can send them again
+     * @param onComplete called once all documents of the request were either sent or failed, or the request was abandoned
+     */
+    public void executeAsync(final BulkRequest bulkRequest,
+                             final AsyncRequestFunction<BulkRequest, BulkResponse> asyncRequestFunction,
+                             final ScheduledExecutorService retryScheduler,
+                             final BooleanSupplier isAbandoned,
+                             final Runnable onComplete) {
+        new AsyncRetry(asyncRequestFunction, retryScheduler, isAbandoned, onComplete).send(bulkRequest, true);
     }
 
     public boolean canRetry(final BulkResponse response) {
@@ -82,45 +144,76 @@ public final class BulkRetryStrategy {
                         !NON_RETRY_STATUS.contains(((OpenSearchException) e).status().getStatus())));
     }
 
-    private void handleRetry(final BulkRequest request, final BulkResponse response,
-                             final BackOffUtils backOffUtils, final boolean firstAttempt) throws InterruptedException {
+    /**
+     * @return false if the request was abandoned before all of its documents were either sent or failed
+     */
+    private boolean handleRetry(final BulkRequest request, final BulkResponse response, final BackOffUtils backOffUtils,
+                                final boolean firstAttempt, final BooleanSupplier isAbandoned) throws InterruptedException {
         final BulkRequest bulkRequestForRetry = createBulkRequestForRetry(request, response);
-        if (backOffUtils.hasNext()) {
-            // Wait for backOff duration
-            backOffUtils.next();
-            final BulkResponse bulkResponse;
-            try {
-                bulkResponse = requestFunction.apply(bulkRequestForRetry);
-            } catch (final Exception e) {
-                if (canRetry(e)) {
-                    handleRetry(bulkRequestForRetry, null, backOffUtils, false);
-                } else {
-                    handleFailures(bulkRequestForRetry.requests(), e);
-                }
-
-                return;
+        if (!backOffUtils.hasNext()) {
+            handleRetriesExhausted(bulkRequestForRetry);
+            return true;
+        }
+        // Wait for backOff duration
+        backOffUtils.next();
+        if (!firstAttempt && isAbandoned.getAsBoolean()) {
+            return false;
+        }
+        final BulkResponse bulkResponse;
+        try {
+            bulkResponse = requestFunction.apply(bulkRequestForRetry);
+        } catch (final Exception e) {
+            if (handleException(bulkRequestForRetry, e)) {
+                return handleRetry(bulkRequestForRetry, null, backOffUtils, false, isAbandoned);
             }
-            if (bulkResponse.hasFailures()) {
-                if (canRetry(bulkResponse)) {
-                    if (firstAttempt) {
-                        for (final BulkItemResponse bulkItemResponse : bulkResponse.getItems()) {
-                            if (!bulkItemResponse.isFailed()) {
-                                sentDocumentsOnFirstAttemptCounter.increment();
-                            }
+            return true;
+        }
+        if (handleResponse(bulkRequestForRetry, bulkResponse, firstAttempt)) {
+            return handleRetry(bulkRequestForRetry, bulkResponse, backOffUtils, false, isAbandoned);
+        }
+        return true;
+    }
+
+    /**
+     * Records the outcome of a bulk response.
+     *
+     * @return true if some documents failed and can be retried
+     */
+    private boolean handleResponse(final BulkRequest bulkRequest, final BulkResponse bulkResponse, final boolean firstAttempt) {
+        if (bulkResponse.hasFailures()) {
+            if (canRetry(bulkResponse)) {
+                if (firstAttempt) {
+                    for (final BulkItemResponse bulkItemResponse : bulkResponse.getItems()) {
+                        if (!bulkItemResponse.isFailed()) {
+                            sentDocumentsOnFirstAttemptCounter.increment();
                         }
                     }
-                    handleRetry(bulkRequestForRetry, bulkResponse, backOffUtils, false);
-                } else {
-                    handleFailures(bulkRequestForRetry.requests(), bulkResponse.getItems());
                 }
+                return true;
             } else {
-                final int numberOfDocs = bulkRequestForRetry.numberOfActions();
-                if (firstAttempt) {
-                    sentDocumentsOnFirstAttemptCounter.increment(numberOfDocs);
-                }
-                sentDocumentsCounter.increment(bulkRequestForRetry.numberOfActions());
+                handleFailures(bulkRequest.requests(), bulkResponse.getItems());
             }
+        } else {
+            final int numberOfDocs = bulkRequest.numberOfActions();
+            if (firstAttempt) {
+                sentDocumentsOnFirstAttemptCounter.increment(numberOfDocs);
+            }
+            sentDocumentsCounter.increment(numberOfDocs);
         }
+        return false;
+    }
+
+    /**
+     * Records the failure of a bulk request.
+     *
+     * @return true if the whole request can be retried
+     */
+    private boolean handleException(final BulkRequest bulkRequest, final Exception e) {
+        if (canRetry(e)) {
+            return true;
+        }
+        handleFailures(bulkRequest.requests(), e);
+        return false;
     }
 
     private BulkRequest createBulkRequestForRetry(
@@ -149,6 +242,11 @@ public final class BulkRetryStrategy {
         }
     }
 
+    private void handleRetriesExhausted(final BulkRequest bulkRequest) {
+        handleFailures(bulkRequest.requests(),
+                new IllegalStateException(String.format("The document still failed after %d retries", maxRetries)));
+    }
+
     private void handleFailures(final List<DocWriteRequest<?>> docWriteRequests, final BulkItemResponse[] itemResponses) {
         assert docWriteRequests.size() == itemResponses.length;
         for (int i = 0; i < itemResponses.length; i++) {
@@ -170,4 +268,82 @@ public final class BulkRetryStrategy {
             logFailure.accept(docWriteRequest, failure);
         }
     }
+
+    private BackoffPolicy backoffPolicy() {
+        return BackoffPolicy.exponentialBackoff(TimeValue.timeValueMillis(50), maxRetries);
+    }
+
+    /**
+     * The asynchronous counterpart of {@link #handleRetry(BulkRequest, BulkResponse, BackOffUtils, boolean, BooleanSupplier)} for a
+     * single bulk request.
+     */
+    private final class AsyncRetry {
+        private final AsyncRequestFunction<BulkRequest, BulkResponse> asyncRequestFunction;
+        private final ScheduledExecutorService retryScheduler;
+        private final BooleanSupplier isAbandoned;
+        private final Runnable onComplete;
+        private final Iterator<TimeValue> backOffIterator = backoffPolicy().iterator();
+        private long currentBackOffMillis = 0;
+
+        private AsyncRetry(final AsyncRequestFunction<BulkRequest, BulkResponse> asyncRequestFunction,
+                           final ScheduledExecutorService retryScheduler,
+                           final BooleanSupplier isAbandoned,
+                           final Runnable onComplete) {
+            this.asyncRequestFunction = asyncRequestFunction;
+            this.retryScheduler = retryScheduler;
+            this.isAbandoned = isAbandoned;
+            this.onComplete = onComplete;
+        }
+
+        private void retry(final BulkRequest request, final BulkResponse response) {
+            final BulkRequest bulkRequestForRetry = createBulkRequestForRetry(request, response);
+            if (!backOffIterator.hasNext()) {
+                handleRetriesExhausted(bulkRequestForRetry);
+                onComplete.run();
+                return;
+            }
+            final long nextBackOffMillis = backOffIterator.next().getMillis();
+            final long delayMillis = nextBackOffMillis - currentBackOffMillis;
+            currentBackOffMillis = nextBackOffMillis;
+            try {
+                retryScheduler.schedule(() -> {
+                    if (isAbandoned.getAsBoolean()) {
+                        onComplete.run();
+                    } else {
+                        send(bulkRequestForRetry, false);
+                    }
+                }, delayMillis, TimeUnit.MILLISECONDS);
+            } catch (final RejectedExecutionException e) {
+                handleFailures(bulkRequestForRetry.requests(), e);
+                onComplete.run();
+            }
+        }
+
+        private void send(final BulkRequest bulkRequest, final boolean firstAttempt) {
+            final ActionListener<BulkResponse> listener = new ActionListener<BulkResponse>() {
+                @Override
+                public void onResponse(final BulkResponse bulkResponse) {
+                    if (handleResponse(bulkRequest, bulkResponse, firstAttempt)) {
+                        retry(bulkRequest, bulkResponse);
+                    } else {
+                        onComplete.run();
+                    }
+                }
+
+                @Override
+                public void onFailure(final Exception e) {
+                    if (handleException(bulkRequest, e)) {
+                        retry(bulkRequest, null);
+                    } else {
+                        onComplete.run();
+                    }
+                }
+            };
+            try {
+                asyncRequestFunction.apply(bulkRequest, listener);
+            } catch (final Exception e) {
+                listener.onFailure(e);
+            }
+        }
+    }
 }
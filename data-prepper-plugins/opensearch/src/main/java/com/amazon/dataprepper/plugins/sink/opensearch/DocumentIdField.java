@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.sink.opensearch;
+
+import com.amazon.dataprepper.model.event.Event;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentType;
+
+import java.io.IOException;
+
+/**
+ * Reads the document id from the document_id_field of a record. The field is an {@link Event} key, such as
+ * {@code id} or {@code request/id}, which is resolved the same way for String records and for events: a key with
+ * several path segments selects a nested field, and a numeric segment selects an element of an array. A missing field
+ * has no document id, and a field which is not a scalar value is rejected with an {@link IllegalArgumentException}.
+ * <p>
+ * String records are scanned without materializing the document, skipping over the fields which are not on the path.
+ */
+final class DocumentIdField {
+    private static final String SEPARATOR = "/";
+
+    private final String key;
+    private final String[] pathSegments;
+
+    DocumentIdField(final String key) {
+        this.key = key;
+        String path = key.startsWith(SEPARATOR) ? key.substring(1) : key;
+        path = path.endsWith(SEPARATOR) ? path.substring(0, path.length() - 1) : path;
+        this.pathSegments = path.split(SEPARATOR);
+    }
+
+    /**
+     * @return the document id of the event, or null if the event does not have the field
+     */
+    String getDocumentId(final Event event) {
+        final String documentId;
+        try {
+            documentId = event.get(key, String.class);
+        } catch (final RuntimeException e) {
+            throw new IllegalArgumentException(String.format("Document id field %s is not a scalar value", key), e);
+        }
+        return documentId;
+    }
+
+    /**
+     * @return the document id of the JSON document, or null if the document does not have the field
+     */
+    String getDocumentId(final String document) throws IOException {
+        try (final XContentParser parser = XContentFactory.xContent(XContentType.JSON)
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, document)) {
+            XContentParser.Token token = parser.nextToken();
+            for (final String pathSegment : pathSegments) {
+                if (token == XContentParser.Token.START_OBJECT) {
+                    token = moveToField(parser, pathSegment);
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    token = moveToElement(parser, pathSegment);
+                } else {
+                    return null;
+                }
+                if (token == null) {
+                    return null;
+                }
+            }
+            if (token == XContentParser.Token.VALUE_NULL) {
+                return null;
+            }
+            if (!token.isValue()) {
+                throw new IllegalArgumentException(String.format("Document id field %s is not a scalar value", key));
+            }
+            return parser.text();
+        }
+    }
+
+    /**
+     * Moves the parser from the start of an object to the value of the field.
+     *
+     * @return the token of the value, or null if the object does not have the field
+     */
+    private static XContentParser.Token moveToField(final XContentParser parser, final String fieldName)
+            throws IOException {
+        while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+            final boolean isField = fieldName.equals(parser.currentName());
+            final XContentParser.Token valueToken = parser.nextToken();
+            if (isField) {
+                return valueToken;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    /**
+     * Moves the parser from the start of an array to the element at the index.
+     *
+     * @return the token of the element, or null if the index is not numeric or out of bounds
+     */
+    private static XContentParser.Token moveToElement(final XContentParser parser, final String index)
+            throws IOException {
+        final int elementIndex;
+        try {
+            elementIndex = Integer.parseInt(index);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+        XContentParser.Token token;
+        for (int i = 0; (token = parser.nextToken()) != XContentParser.Token.END_ARRAY && token != null; i++) {
+            if (i == elementIndex) {
+                return token;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+}
@@ -22,11 +22,9 @@ import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.unit.ByteSizeUnit;
-import org.opensearch.common.xcontent.LoggingDeprecationHandler;
-import org.opensearch.common.xcontent.NamedXContentRegistry;
-import org.opensearch.common.xcontent.XContentFactory;
-import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,9 +34,14 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
 @DataPrepperPlugin(name = "opensearch", pluginType = Sink.class)
@@ -50,6 +53,7 @@ public class OpenSearchSink extends AbstractSink<Record<Object>> {
   private static final Logger LOG = LoggerFactory.getLogger(OpenSearchSink.class);
   // Pulled from BulkRequest to make estimation of bytes consistent
   private static final int REQUEST_OVERHEAD = 50;
+  private static final long ASYNC_SHUTDOWN_TIMEOUT_SECONDS = 30L;
 
   private BufferedWriter dlqWriter;
   private final OpenSearchSinkConfiguration openSearchSinkConfig;
@@ -58,24 +62,30 @@ public class OpenSearchSink extends AbstractSink<Record<Object>> {
   private IndexManager indexManager;
   private Supplier<BulkRequest> bulkRequestSupplier;
   private BulkRetryStrategy bulkRetryStrategy;
+  private AsyncBulkWriter asyncBulkWriter;
   private final long bulkSize;
+  private final long bulkRequestTimeoutNanos;
   private final IndexType indexType;
-  private final String documentIdField;
+  private final DocumentIdField documentIdField;
 
   private final Timer bulkRequestTimer;
   private final Counter bulkRequestErrorsCounter;
+  private final Counter documentErrorsCounter;
   private final DistributionSummary bulkRequestSizeBytesSummary;
 
   public OpenSearchSink(final PluginSetting pluginSetting) {
     super(pluginSetting);
     bulkRequestTimer = pluginMetrics.timer(BULKREQUEST_LATENCY);
     bulkRequestErrorsCounter = pluginMetrics.counter(BULKREQUEST_ERRORS);
+    documentErrorsCounter = pluginMetrics.counter(BulkRetryStrategy.DOCUMENT_ERRORS);
     bulkRequestSizeBytesSummary = pluginMetrics.summary(BULKREQUEST_SIZE_BYTES);
 
     this.openSearchSinkConfig = OpenSearchSinkConfiguration.readESConfig(pluginSetting);
     this.bulkSize = ByteSizeUnit.MB.toBytes(openSearchSinkConfig.getIndexConfiguration().getBulkSize());
+    this.bulkRequestTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(openSearchSinkConfig.getRetryConfiguration().getBulkRequestTimeout());
     this.indexType = openSearchSinkConfig.getIndexConfiguration().getIndexType();
-    this.documentIdField = openSearchSinkConfig.getIndexConfiguration().getDocumentIdField();
+    final String documentIdFieldKey = openSearchSinkConfig.getIndexConfiguration().getDocumentIdField();
+    this.documentIdField = documentIdFieldKey != null ? new DocumentIdField(documentIdFieldKey) : null;
     this.indexManagerFactory = new IndexManagerFactory();
 
     try {
@@ -106,7 +116,18 @@ public class OpenSearchSink extends AbstractSink<Record<Object>> {
             bulkRequest -> restHighLevelClient.bulk(bulkRequest, RequestOptions.DEFAULT),
             this::logFailure,
             pluginMetrics,
-            bulkRequestSupplier);
+            bulkRequestSupplier,
+            openSearchSinkConfig.getRetryConfiguration().getMaxRetries());
+    final int maxInFlightBulkRequests = openSearchSinkConfig.getIndexConfiguration().getMaxInFlightBulkRequests();
+    if (maxInFlightBulkRequests > 0) {
+      asyncBulkWriter = new AsyncBulkWriter(
+              bulkRetryStrategy,
+              (bulkRequest, listener) -> restHighLevelClient.bulkAsync(bulkRequest, RequestOptions.DEFAULT, listener),
+              pluginMetrics,
+              bulkRequestTimer,
+              maxInFlightBulkRequests,
+              openSearchSinkConfig.getIndexConfiguration().getMaxPendingBulkRequests());
+    }
     LOG.info("Initialized OpenSearch sink");
   }
 
@@ -115,19 +136,20 @@ public class OpenSearchSink extends AbstractSink<Record<Object>> {
     if (records.isEmpty()) {
       return;
     }
+    final long deadlineNanos = System.nanoTime() + bulkRequestTimeoutNanos;
+    // Documents of this batch are serialized back to back into one buffer and indexed as slices of it.
+    final BytesStreamOutput documentsOutput = new BytesStreamOutput();
+    final List<CompletableFuture<Void>> bulkRequestCompletions = new ArrayList<>();
     BulkRequest bulkRequest = bulkRequestSupplier.get();
     for (final Record<Object> record : records) {
-      final String document = getDocument(record.getData());
-      final IndexRequest indexRequest = new IndexRequest().source(document, XContentType.JSON);
       try {
-        final Map<String, Object> source = getMapFromJson(document);
-        final String docId = (String) source.get(documentIdField);
-        if (docId != null) {
-          indexRequest.id(docId);
+        final IndexRequest indexRequest = createIndexRequest(record.getData(), documentsOutput);
+        if (indexRequest == null) {
+          continue;
         }
         final long estimatedBytesBeforeAdd = bulkRequest.estimatedSizeInBytes() + calcEstimatedSizeInBytes(indexRequest);
         if (bulkSize >= 0 && estimatedBytesBeforeAdd >= bulkSize && bulkRequest.numberOfActions() > 0) {
-          flushBatch(bulkRequest);
+          flushBatch(bulkRequest, bulkRequestCompletions, deadlineNanos);
           bulkRequest = bulkRequestSupplier.get();
         }
         bulkRequest.add(indexRequest);
@@ -138,21 +160,45 @@ public class OpenSearchSink extends AbstractSink<Record<Object>> {
 
     // Flush the remaining requests
     if (bulkRequest.numberOfActions() > 0) {
-      flushBatch(bulkRequest);
+      flushBatch(bulkRequest, bulkRequestCompletions, deadlineNanos);
     }
+    // The records are only output, and checkpointed by the pipeline, once the cluster acknowledged every bulk request
+    awaitBulkRequests(bulkRequestCompletions, deadlineNanos);
   }
 
 
   // Temporary function to support both trace and log ingestion pipelines.
   // TODO: This function should be removed with the completion of: https://github.com/opensearch-project/data-prepper/issues/546
-  private String getDocument(final Object object) {
-    if (object instanceof String) {
-      return (String) object;
-    } else if (object instanceof Event) {
-      return ((Event) object).toJsonString();
-    } else {
-      throw new RuntimeException("Invalid record type. OpenSearch sink only supports String and Events");
+  /**
+   * @return the index request of the record, or null if the document id of the record cannot be read, which is
+   * counted as a document error
+   */
+  private IndexRequest createIndexRequest(final Object object, final BytesStreamOutput documentsOutput) throws IOException {
+    final IndexRequest indexRequest = new IndexRequest();
+    final String docId;
+    try {
+      if (object instanceof String) {
+        final String document = (String) object;
+        indexRequest.source(new BytesArray(document), XContentType.JSON);
+        docId = documentIdField != null ? documentIdField.getDocumentId(document) : null;
+      } else if (object instanceof Event) {
+        final Event event = (Event) object;
+        final int start = (int) documentsOutput.position();
+        event.writeJsonTo(documentsOutput);
+        indexRequest.source(documentsOutput.bytes().slice(start, (int) documentsOutput.position() - start), XContentType.JSON);
+        docId = documentIdField != null ? documentIdField.getDocumentId(event) : null;
+      } else {
+        throw new RuntimeException("Invalid record type. OpenSearch sink only supports String and Events");
+      }
+    } catch (final IllegalArgumentException e) {
+      documentErrorsCounter.increment();
+      logFailure(indexRequest, e);
+      return null;
     }
+    if (docId != null) {
+      indexRequest.id(docId);
+    }
+    return indexRequest;
   }
 
   private long calcEstimatedSizeInBytes(final IndexRequest indexRequest) {
@@ -160,11 +206,33 @@ public class OpenSearchSink extends AbstractSink<Record<Object>> {
     return (indexRequest.source() != null ? indexRequest.source().length() : 0) + REQUEST_OVERHEAD;
   }
 
-  private void flushBatch(final BulkRequest bulkRequest) {
+  /**
+   * Sends the bulk request, or submits it to the {@link AsyncBulkWriter}.
+   *
+   * @throws RuntimeException caused by a {@link TimeoutException} if the deadline passed before the documents of a
+   * synchronous bulk request were either sent or failed
+   */
+  private void flushBatch(final BulkRequest bulkRequest, final List<CompletableFuture<Void>> bulkRequestCompletions,
+                          final long deadlineNanos) {
+    if (asyncBulkWriter != null) {
+      try {
+        bulkRequestSizeBytesSummary.record(bulkRequest.estimatedSizeInBytes());
+        bulkRequestCompletions.add(asyncBulkWriter.submit(bulkRequest));
+      } catch (final InterruptedException e) {
+        LOG.error("Unexpected Interrupt:", e);
+        bulkRequestErrorsCounter.increment();
+        Thread.currentThread().interrupt();
+      }
+      return;
+    }
     bulkRequestTimer.record(() -> {
       try {
-        bulkRetryStrategy.execute(bulkRequest);
+        final boolean isCompleted = bulkRetryStrategy.execute(bulkRequest, () -> System.nanoTime() - deadlineNanos >= 0);
         bulkRequestSizeBytesSummary.record(bulkRequest.estimatedSizeInBytes());
+        if (!isCompleted) {
+          bulkRequestErrorsCounter.increment();
+          throw new RuntimeException(bulkRequestTimeoutMessage(), new TimeoutException(bulkRequestTimeoutMessage()));
+        }
       } catch (final InterruptedException e) {
         LOG.error("Unexpected Interrupt:", e);
         bulkRequestErrorsCounter.increment();
@@ -173,10 +241,33 @@ public class OpenSearchSink extends AbstractSink<Record<Object>> {
     });
   }
 
-  private Map<String, Object> getMapFromJson(final String documentJson) throws IOException {
-    final XContentParser parser = XContentFactory.xContent(XContentType.JSON)
-            .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, documentJson);
-    return parser.map();
+  /**
+   * Waits until the deadline for the bulk requests of a batch. If it passes first, the bulk requests are abandoned and
+   * the output fails with a {@link TimeoutException} as the cause, so that the pipeline does not checkpoint the batch.
+   */
+  private void awaitBulkRequests(final List<CompletableFuture<Void>> bulkRequestCompletions, final long deadlineNanos) {
+    for (final CompletableFuture<Void> bulkRequestCompletion : bulkRequestCompletions) {
+      try {
+        bulkRequestCompletion.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+      } catch (final TimeoutException e) {
+        bulkRequestErrorsCounter.increment();
+        bulkRequestCompletions.forEach(completion -> completion.completeExceptionally(e));
+        throw new RuntimeException(bulkRequestTimeoutMessage(), e);
+      } catch (final InterruptedException e) {
+        LOG.error("Interrupted while waiting for bulk requests", e);
+        bulkRequestErrorsCounter.increment();
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while waiting for bulk requests", e);
+      } catch (final ExecutionException e) {
+        bulkRequestErrorsCounter.increment();
+        throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+      }
+    }
+  }
+
+  private String bulkRequestTimeoutMessage() {
+    return String.format("Bulk requests did not complete within the bulk_request_timeout of %d ms",
+            TimeUnit.NANOSECONDS.toMillis(bulkRequestTimeoutNanos));
   }
 
   private void logFailure(final DocWriteRequest<?> docWriteRequest, final Throwable failure) {
@@ -194,6 +285,15 @@ public class OpenSearchSink extends AbstractSink<Record<Object>> {
 
   @Override
   public void shutdown() {
+    // Drain the bulk requests still queued or in flight before closing the client
+    if (asyncBulkWriter != null) {
+      try {
+        asyncBulkWriter.shutdown(ASYNC_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      } catch (final InterruptedException e) {
+        LOG.error("Interrupted while waiting for in-flight bulk requests", e);
+        Thread.currentThread().interrupt();
+      }
+    }
     // Close the client
     if (restHighLevelClient != null) {
       try {
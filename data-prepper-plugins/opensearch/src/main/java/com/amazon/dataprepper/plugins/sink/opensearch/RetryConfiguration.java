@@ -7,19 +7,44 @@ package com.amazon.dataprepper.plugins.sink.opensearch;
 
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 public class RetryConfiguration {
   public static final String DLQ_FILE = "dlq_file";
+  public static final String MAX_RETRIES = "max_retries";
+  public static final String BULK_REQUEST_TIMEOUT = "bulk_request_timeout";
+  public static final int DEFAULT_MAX_RETRIES = Integer.MAX_VALUE;
+  public static final long DEFAULT_BULK_REQUEST_TIMEOUT = 300_000L;
 
   private final String dlqFile;
+  private final int maxRetries;
+  private final long bulkRequestTimeout;
 
   public String getDlqFile() {
     return dlqFile;
   }
 
+  /**
+   * @return the maximum number of times the documents of a bulk request which failed with a retryable status are
+   * retried before they are written to the DLQ
+   */
+  public int getMaxRetries() {
+    return maxRetries;
+  }
+
+  /**
+   * @return the maximum time in milliseconds to wait for the bulk requests of a batch of records, including their
+   * retries, before the output of the batch fails
+   */
+  public long getBulkRequestTimeout() {
+    return bulkRequestTimeout;
+  }
+
   public static class Builder {
     private String dlqFile;
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+    private long bulkRequestTimeout = DEFAULT_BULK_REQUEST_TIMEOUT;
 
     public Builder withDlqFile(final String dlqFile) {
       checkNotNull(dlqFile, "dlqFile cannot be null.");
@@ -27,6 +52,18 @@ public class RetryConfiguration {
       return this;
     }
 
+    public Builder withMaxRetries(final int maxRetries) {
+      checkArgument(maxRetries >= 0, "max_retries cannot be negative.");
+      this.maxRetries = maxRetries;
+      return this;
+    }
+
+    public Builder withBulkRequestTimeout(final long bulkRequestTimeout) {
+      checkArgument(bulkRequestTimeout > 0, "bulk_request_timeout must be positive.");
+      this.bulkRequestTimeout = bulkRequestTimeout;
+      return this;
+    }
+
     public RetryConfiguration build() {
       return new RetryConfiguration(this);
     }
@@ -34,6 +71,8 @@ public class RetryConfiguration {
 
   private RetryConfiguration(final Builder builder) {
     this.dlqFile = builder.dlqFile;
+    this.maxRetries = builder.maxRetries;
+    this.bulkRequestTimeout = builder.bulkRequestTimeout;
   }
 
   public static RetryConfiguration readRetryConfig(final PluginSetting pluginSetting) {
@@ -42,6 +81,8 @@ public class RetryConfiguration {
     if (dlqFile != null) {
       builder = builder.withDlqFile(dlqFile);
     }
+    builder = builder.withMaxRetries(pluginSetting.getIntegerOrDefault(MAX_RETRIES, DEFAULT_MAX_RETRIES));
+    builder = builder.withBulkRequestTimeout(pluginSetting.getLongOrDefault(BULK_REQUEST_TIMEOUT, DEFAULT_BULK_REQUEST_TIMEOUT));
     return builder.build();
   }
 }
@@ -33,13 +33,18 @@ public class IndexConfiguration {
     public static final String BULK_SIZE = "bulk_size";
     public static final String DOCUMENT_ID_FIELD = "document_id_field";
     public static final String ISM_POLICY_FILE = "ism_policy_file";
+    public static final String MAX_IN_FLIGHT_BULK_REQUESTS = "max_in_flight_bulk_requests";
+    public static final String MAX_PENDING_BULK_REQUESTS = "max_pending_bulk_requests";
     public static final long DEFAULT_BULK_SIZE = 5L;
+    public static final int DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS = 0;
 
     private IndexType indexType;
     private final String indexAlias;
     private final Map<String, Object> indexTemplate;
     private final String documentIdField;
     private final long bulkSize;
+    private final int maxInFlightBulkRequests;
+    private final int maxPendingBulkRequests;
     private final Optional<String> ismPolicyFile;
 
     private static final Logger LOG = LoggerFactory.getLogger(IndexManager.class);
@@ -70,6 +75,9 @@ public class IndexConfiguration {
         }
         this.indexAlias = indexAlias;
         this.bulkSize = builder.bulkSize;
+        this.maxInFlightBulkRequests = builder.maxInFlightBulkRequests;
+        this.maxPendingBulkRequests = builder.maxPendingBulkRequests > 0 ?
+                builder.maxPendingBulkRequests : builder.maxInFlightBulkRequests;
 
         String documentIdField = builder.documentIdField;
         if (indexType.equals(IndexType.TRACE_ANALYTICS_RAW)) {
@@ -123,6 +131,9 @@ public class IndexConfiguration {
         builder = builder.withNumReplicas(pluginSetting.getIntegerOrDefault(NUM_REPLICAS, 0));
         final Long batchSize = pluginSetting.getLongOrDefault(BULK_SIZE, DEFAULT_BULK_SIZE);
         builder = builder.withBulkSize(batchSize);
+        builder = builder.withMaxInFlightBulkRequests(
+                pluginSetting.getIntegerOrDefault(MAX_IN_FLIGHT_BULK_REQUESTS, DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS));
+        builder = builder.withMaxPendingBulkRequests(pluginSetting.getIntegerOrDefault(MAX_PENDING_BULK_REQUESTS, 0));
         final String documentId = pluginSetting.getStringOrDefault(DOCUMENT_ID_FIELD, null);
         if (documentId != null) {
             builder = builder.withDocumentIdField(documentId);
@@ -154,6 +165,21 @@ public class IndexConfiguration {
         return bulkSize;
     }
 
+    /**
+     * @return the maximum number of bulk requests awaiting a response at a time, 0 if bulk requests are sent
+     * synchronously
+     */
+    public int getMaxInFlightBulkRequests() {
+        return maxInFlightBulkRequests;
+    }
+
+    /**
+     * @return the maximum number of bulk requests queued behind the in-flight requests
+     */
+    public int getMaxPendingBulkRequests() {
+        return maxPendingBulkRequests;
+    }
+
     public Optional<String> getIsmPolicyFile() {
         return ismPolicyFile;
     }
@@ -200,6 +226,8 @@ public class IndexConfiguration {
         private int numReplicas;
         private String documentIdField;
         private long bulkSize = DEFAULT_BULK_SIZE;
+        private int maxInFlightBulkRequests = DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS;
+        private int maxPendingBulkRequests;
         private Optional<String> ismPolicyFile;
 
         public Builder setIsRaw(final Boolean isRaw) {
@@ -245,6 +273,18 @@ public class IndexConfiguration {
             return this;
         }
 
+        public Builder withMaxInFlightBulkRequests(final int maxInFlightBulkRequests) {
+            checkArgument(maxInFlightBulkRequests >= 0, "max_in_flight_bulk_requests cannot be negative.");
+            this.maxInFlightBulkRequests = maxInFlightBulkRequests;
+            return this;
+        }
+
+        public Builder withMaxPendingBulkRequests(final int maxPendingBulkRequests) {
+            checkArgument(maxPendingBulkRequests >= 0, "max_pending_bulk_requests cannot be negative.");
+            this.maxPendingBulkRequests = maxPendingBulkRequests;
+            return this;
+        }
+
         public Builder withNumShards(final int numShards) {
             this.numShards = numShards;
             return this;
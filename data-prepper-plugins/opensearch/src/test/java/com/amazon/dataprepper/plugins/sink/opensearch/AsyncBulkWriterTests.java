@@ -0,0 +1,218 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.sink.opensearch;
+
+import com.amazon.dataprepper.metrics.MetricNames;
+import com.amazon.dataprepper.metrics.MetricsTestUtil;
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import io.micrometer.core.instrument.Measurement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.index.Index;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncBulkWriterTests {
+    private static final String PLUGIN_NAME = "opensearch";
+    private static final String PIPELINE_NAME = "pipelineName";
+    private static final String TEST_INDEX = "foo";
+
+    private PluginMetrics pluginMetrics;
+    private BlockingQueue<PendingCall> pendingCalls;
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp() {
+        MetricsTestUtil.initMetrics();
+        final PluginSetting pluginSetting = new PluginSetting(PLUGIN_NAME, Collections.emptyMap());
+        pluginSetting.setPipelineName(PIPELINE_NAME);
+        pluginMetrics = PluginMetrics.fromPluginSetting(pluginSetting);
+        pendingCalls = new LinkedBlockingQueue<>();
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> createAsyncBulkWriter(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> createAsyncBulkWriter(1, 0));
+    }
+
+    @Test
+    public void testLimitsInFlightRequestsAndBlocksWhenQueueIsFull() throws Exception {
+        final AsyncBulkWriter asyncBulkWriter = createAsyncBulkWriter(2, 1);
+
+        asyncBulkWriter.submit(bulkRequest("1"));
+        asyncBulkWriter.submit(bulkRequest("2"));
+        final PendingCall firstCall = pendingCalls.poll(5, TimeUnit.SECONDS);
+        final PendingCall secondCall = pendingCalls.poll(5, TimeUnit.SECONDS);
+        assertEquals("1", firstCall.bulkRequest.requests().get(0).id());
+        assertEquals("2", secondCall.bulkRequest.requests().get(0).id());
+
+        asyncBulkWriter.submit(bulkRequest("3"));
+        final Future<?> blockedSubmit = executorService.submit(() -> {
+            asyncBulkWriter.submit(bulkRequest("4"));
+            return null;
+        });
+        assertThrows(TimeoutException.class, () -> blockedSubmit.get(200, TimeUnit.MILLISECONDS));
+        assertEquals(null, pendingCalls.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(2.0, measurementValue(AsyncBulkWriter.BULK_REQUESTS_IN_FLIGHT), 0);
+        assertEquals(1.0, measurementValue(AsyncBulkWriter.BULK_REQUESTS_PENDING), 0);
+
+        firstCall.succeed();
+        final PendingCall thirdCall = pendingCalls.poll(5, TimeUnit.SECONDS);
+        assertEquals("3", thirdCall.bulkRequest.requests().get(0).id());
+        blockedSubmit.get(5, TimeUnit.SECONDS);
+
+        secondCall.succeed();
+        thirdCall.succeed();
+        pendingCalls.poll(5, TimeUnit.SECONDS).succeed();
+        assertTrue(asyncBulkWriter.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(4.0, measurementValue(BulkRetryStrategy.DOCUMENTS_SUCCESS), 0);
+    }
+
+    @Test
+    public void testSubmitCompletesOnceRequestIsAcknowledged() throws Exception {
+        final AsyncBulkWriter asyncBulkWriter = createAsyncBulkWriter(1, 1);
+        final CompletableFuture<Void> completion = asyncBulkWriter.submit(bulkRequest("1"));
+        final PendingCall call = pendingCalls.poll(5, TimeUnit.SECONDS);
+        assertThrows(TimeoutException.class, () -> completion.get(100, TimeUnit.MILLISECONDS));
+
+        call.succeed();
+        completion.get(5, TimeUnit.SECONDS);
+        assertTrue(asyncBulkWriter.shutdown(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdownFailsQueuedRequests() throws Exception {
+        final AsyncBulkWriter asyncBulkWriter = createAsyncBulkWriter(1, 1);
+        asyncBulkWriter.submit(bulkRequest("1"));
+        pendingCalls.poll(5, TimeUnit.SECONDS);
+        final CompletableFuture<Void> queuedCompletion = asyncBulkWriter.submit(bulkRequest("2"));
+
+        assertFalse(asyncBulkWriter.shutdown(100, TimeUnit.MILLISECONDS));
+        assertTrue(queuedCompletion.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testShutdownWaitsForInFlightRequests() throws Exception {
+        final AsyncBulkWriter asyncBulkWriter = createAsyncBulkWriter(1, 1);
+        asyncBulkWriter.submit(bulkRequest("1"));
+        final PendingCall call = pendingCalls.poll(5, TimeUnit.SECONDS);
+
+        assertFalse(asyncBulkWriter.shutdown(100, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalStateException.class, () -> asyncBulkWriter.submit(bulkRequest("2")));
+
+        call.succeed();
+        assertTrue(asyncBulkWriter.shutdown(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAbandonedInFlightRequestIsNotRetried() throws Exception {
+        final AsyncBulkWriter asyncBulkWriter = createAsyncBulkWriter(1, 1);
+        final CompletableFuture<Void> completion = asyncBulkWriter.submit(bulkRequest("1"));
+        final PendingCall call = pendingCalls.poll(5, TimeUnit.SECONDS);
+
+        completion.completeExceptionally(new TimeoutException());
+        call.fail(new IOException());
+
+        assertEquals(null, pendingCalls.poll(200, TimeUnit.MILLISECONDS));
+        assertTrue(asyncBulkWriter.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(0.0, measurementValue(BulkRetryStrategy.DOCUMENT_ERRORS), 0);
+    }
+
+    @Test
+    public void testAbandonedQueuedRequestIsNotSent() throws Exception {
+        final AsyncBulkWriter asyncBulkWriter = createAsyncBulkWriter(1, 1);
+        asyncBulkWriter.submit(bulkRequest("1"));
+        final PendingCall call = pendingCalls.poll(5, TimeUnit.SECONDS);
+        final CompletableFuture<Void> queuedCompletion = asyncBulkWriter.submit(bulkRequest("2"));
+
+        queuedCompletion.completeExceptionally(new TimeoutException());
+        call.succeed();
+
+        assertEquals(null, pendingCalls.poll(200, TimeUnit.MILLISECONDS));
+        assertTrue(asyncBulkWriter.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(0.0, measurementValue(AsyncBulkWriter.BULK_REQUESTS_IN_FLIGHT), 0);
+    }
+
+    private AsyncBulkWriter createAsyncBulkWriter(final int maxInFlight, final int maxPending) {
+        final BulkRetryStrategy bulkRetryStrategy = new BulkRetryStrategy(
+                bulkRequest -> {
+                    throw new UnsupportedOperationException();
+                },
+                (docWriteRequest, throwable) -> {}, pluginMetrics, BulkRequest::new);
+        return new AsyncBulkWriter(bulkRetryStrategy,
+                (bulkRequest, listener) -> pendingCalls.add(new PendingCall(bulkRequest, listener)),
+                pluginMetrics, pluginMetrics.timer(OpenSearchSink.BULKREQUEST_LATENCY), maxInFlight, maxPending);
+    }
+
+    private static BulkRequest bulkRequest(final String id) {
+        final BulkRequest bulkRequest = new BulkRequest();
+        bulkRequest.add(new IndexRequest(TEST_INDEX).id(id));
+        return bulkRequest;
+    }
+
+    private static double measurementValue(final String name) {
+        final List<Measurement> measurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(PLUGIN_NAME).add(name).toString());
+        return measurements.get(0).getValue();
+    }
+
+    private static class PendingCall {
+        final BulkRequest bulkRequest;
+        final ActionListener<BulkResponse> listener;
+
+        PendingCall(final BulkRequest bulkRequest, final ActionListener<BulkResponse> listener) {
+            this.bulkRequest = bulkRequest;
+            this.listener = listener;
+        }
+
+        void succeed() {
+            final BulkItemResponse[] bulkItemResponses = new BulkItemResponse[bulkRequest.numberOfActions()];
+            for (int i = 0; i < bulkItemResponses.length; i++) {
+                bulkItemResponses[i] = new BulkItemResponse(i, DocWriteRequest.OpType.INDEX,
+                        new IndexResponse(new ShardId(new Index(TEST_INDEX, "fakeUUID"), 1),
+                                "_doc", bulkRequest.requests().get(i).id(), 1, 1, 1, true));
+            }
+            listener.onResponse(new BulkResponse(bulkItemResponses, 10));
+        }
+
+        void fail(final Exception e) {
+            listener.onFailure(e);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import io.micrometer.core.instrument.Measurement;
 import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
@@ -28,6 +29,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -144,6 +149,60 @@ public class BulkRetryStrategyTests {
         assertEquals(1.0, documentErrorsMeasurements.get(0).getValue(), 0);
     }
 
+    @Test
+    public void testExecuteRecordsDocumentsAsFailedOnceRetriesAreExhausted() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        final FakeLogger logger = new FakeLogger();
+
+        final BulkRetryStrategy bulkRetryStrategy = new BulkRetryStrategy(
+                client::bulk, logger::logFailure, PLUGIN_METRICS, BulkRequest::new, 1);
+        final BulkRequest testBulkRequest = new BulkRequest();
+        testBulkRequest.add(new IndexRequest(testIndex).id("1"));
+        testBulkRequest.add(new IndexRequest(testIndex).id("2"));
+        testBulkRequest.add(new IndexRequest(testIndex).id("3"));
+        testBulkRequest.add(new IndexRequest(testIndex).id("4"));
+
+        assertTrue(bulkRetryStrategy.execute(testBulkRequest, () -> false));
+
+        assertEquals(2, client.attempt);
+        final String logging = logger.msg.toString();
+        for (int i = 2; i <= 4; i++) {
+            assertTrue(logging.contains(String.format("[bar][_doc][%d]", i)));
+        }
+        final List<Measurement> documentErrorsMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add(BulkRetryStrategy.DOCUMENT_ERRORS).toString());
+        assertEquals(3.0, documentErrorsMeasurements.get(0).getValue(), 0);
+    }
+
+    @Test
+    public void testExecuteAbandonedRequestIsNotRetried() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        final FakeLogger logger = new FakeLogger();
+
+        final BulkRetryStrategy bulkRetryStrategy = new BulkRetryStrategy(
+                client::bulk, logger::logFailure, PLUGIN_METRICS, BulkRequest::new);
+        final BulkRequest testBulkRequest = new BulkRequest();
+        testBulkRequest.add(new IndexRequest(testIndex).id("1"));
+        testBulkRequest.add(new IndexRequest(testIndex).id("2"));
+        testBulkRequest.add(new IndexRequest(testIndex).id("3"));
+        testBulkRequest.add(new IndexRequest(testIndex).id("4"));
+
+        assertFalse(bulkRetryStrategy.execute(testBulkRequest, () -> true));
+
+        assertEquals(1, client.attempt);
+        final String logging = logger.msg.toString();
+        assertTrue(logging.contains("[bar][_doc][2]"));
+        assertFalse(logging.contains("[bar][_doc][3]"));
+        assertFalse(logging.contains("[bar][_doc][4]"));
+        final List<Measurement> documentErrorsMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add(BulkRetryStrategy.DOCUMENT_ERRORS).toString());
+        assertEquals(1.0, documentErrorsMeasurements.get(0).getValue(), 0);
+    }
+
     @Test
     public void testExecuteNonRetryableException() throws Exception {
         final String testIndex = "bar";
@@ -217,6 +276,84 @@ public class BulkRetryStrategyTests {
         assertEquals(3.0, documentErrorsMeasurements.get(0).getValue(), 0);
     }
 
+    @Test
+    public void testExecuteAsyncRetryable() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        final FakeLogger logger = new FakeLogger();
+        final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor();
+
+        final BulkRetryStrategy bulkRetryStrategy = new BulkRetryStrategy(
+                client::bulk, logger::logFailure, PLUGIN_METRICS, BulkRequest::new);
+        final BulkRequest testBulkRequest = new BulkRequest();
+        testBulkRequest.add(new IndexRequest(testIndex).id("1"));
+        testBulkRequest.add(new IndexRequest(testIndex).id("2"));
+        testBulkRequest.add(new IndexRequest(testIndex).id("3"));
+        testBulkRequest.add(new IndexRequest(testIndex).id("4"));
+
+        final CountDownLatch completed = new CountDownLatch(1);
+        try {
+            bulkRetryStrategy.executeAsync(testBulkRequest, client::bulkAsync, retryScheduler, completed::countDown);
+            assertTrue(completed.await(10, TimeUnit.SECONDS));
+        } finally {
+            retryScheduler.shutdownNow();
+        }
+
+        assertEquals(3, client.attempt);
+        assertFalse(client.finalResponse.hasFailures());
+        assertEquals("3", client.finalRequest.requests().get(0).id());
+        assertEquals("4", client.finalRequest.requests().get(1).id());
+
+        // verify metrics
+        final List<Measurement> documentsSuccessFirstAttemptMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add(BulkRetryStrategy.DOCUMENTS_SUCCESS_FIRST_ATTEMPT).toString());
+        assertEquals(1.0, documentsSuccessFirstAttemptMeasurements.get(0).getValue(), 0);
+        final List<Measurement> documentsSuccessMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add(BulkRetryStrategy.DOCUMENTS_SUCCESS).toString());
+        assertEquals(3.0, documentsSuccessMeasurements.get(0).getValue(), 0);
+        final List<Measurement> documentErrorsMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add(BulkRetryStrategy.DOCUMENT_ERRORS).toString());
+        assertEquals(1.0, documentErrorsMeasurements.get(0).getValue(), 0);
+    }
+
+    @Test
+    public void testExecuteAsyncNonRetryableException() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        client.retryable = false;
+        final FakeLogger logger = new FakeLogger();
+        final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor();
+
+        final BulkRetryStrategy bulkRetryStrategy = new BulkRetryStrategy(
+                client::bulk, logger::logFailure, PLUGIN_METRICS, BulkRequest::new);
+        final BulkRequest testBulkRequest = new BulkRequest();
+        testBulkRequest.add(new IndexRequest(testIndex).id("1"));
+        testBulkRequest.add(new IndexRequest(testIndex).id("2"));
+        testBulkRequest.add(new IndexRequest(testIndex).id("3"));
+        testBulkRequest.add(new IndexRequest(testIndex).id("4"));
+
+        final CountDownLatch completed = new CountDownLatch(1);
+        try {
+            bulkRetryStrategy.executeAsync(testBulkRequest, client::bulkAsync, retryScheduler, completed::countDown);
+            assertTrue(completed.await(10, TimeUnit.SECONDS));
+        } finally {
+            retryScheduler.shutdownNow();
+        }
+
+        assertEquals(1, client.attempt);
+        final String logging = logger.msg.toString();
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(logging.contains(String.format("[bar][_doc][%d]", i)));
+        }
+        final List<Measurement> documentErrorsMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add(BulkRetryStrategy.DOCUMENT_ERRORS).toString());
+        assertEquals(4.0, documentErrorsMeasurements.get(0).getValue(), 0);
+    }
+
     private static BulkItemResponse successItemResponse(final String index) {
         final String docId = UUID.randomUUID().toString();
         return new BulkItemResponse(1, DocWriteRequest.OpType.INDEX,
@@ -292,6 +429,17 @@ public class BulkRetryStrategyTests {
             }
         }
 
+        public void bulkAsync(final BulkRequest bulkRequest, final ActionListener<BulkResponse> listener) {
+            final BulkResponse bulkResponse;
+            try {
+                bulkResponse = bulk(bulkRequest);
+            } catch (final Exception e) {
+                listener.onFailure(e);
+                return;
+            }
+            listener.onResponse(bulkResponse);
+        }
+
         private BulkResponse bulkFirstResponse(final BulkRequest bulkRequest) {
             final int requestSize = bulkRequest.requests().size();
             assert requestSize == 4;
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.sink.opensearch;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+public class DocumentIdFieldTests {
+    private static final String DOCUMENT = "{\"skipped\":{\"id\":\"wrong\",\"list\":[1,{\"id\":\"wrong\"}]}," +
+            "\"id\":\"top\",\"number\":42,\"empty\":null,\"object\":{\"inner\":\"x\"}," +
+            "\"request\":{\"list\":[{\"id\":\"first\"},{\"id\":\"second\"}],\"id\":\"nested\"}}";
+
+    @Test
+    public void testStringAndEventResolveTheSameDocumentIds() throws IOException {
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(DOCUMENT)
+                .build();
+
+        for (final String key : new String[] {"id", "/id", "number", "request/id", "request/list/1/id", "missing",
+                "request/missing", "request/list/2/id", "empty"}) {
+            final DocumentIdField documentIdField = new DocumentIdField(key);
+            assertEquals(key, documentIdField.getDocumentId(event), documentIdField.getDocumentId(DOCUMENT));
+        }
+        assertEquals("top", new DocumentIdField("id").getDocumentId(DOCUMENT));
+        assertEquals("42", new DocumentIdField("number").getDocumentId(DOCUMENT));
+        assertEquals("second", new DocumentIdField("request/list/1/id").getDocumentId(DOCUMENT));
+        assertNull(new DocumentIdField("request/missing").getDocumentId(DOCUMENT));
+    }
+
+    @Test
+    public void testNonScalarDocumentIdIsRejected() {
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(DOCUMENT)
+                .build();
+        final DocumentIdField documentIdField = new DocumentIdField("object");
+
+        assertThrows(IllegalArgumentException.class, () -> documentIdField.getDocumentId(DOCUMENT));
+        assertThrows(IllegalArgumentException.class, () -> documentIdField.getDocumentId(event));
+    }
+
+    @Test
+    public void testInvalidKeyIsRejectedForEvents() {
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(DOCUMENT)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> new DocumentIdField("in valid").getDocumentId(event));
+    }
+}
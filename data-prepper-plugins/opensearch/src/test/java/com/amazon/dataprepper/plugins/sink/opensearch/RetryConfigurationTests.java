@@ -13,12 +13,15 @@ import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 
 public class RetryConfigurationTests {
     @Test
     public void testDefaultConfigurationIsNotNull() {
         final RetryConfiguration retryConfiguration = new RetryConfiguration.Builder().build();
         assertNull(retryConfiguration.getDlqFile());
+        assertEquals(RetryConfiguration.DEFAULT_MAX_RETRIES, retryConfiguration.getMaxRetries());
+        assertEquals(RetryConfiguration.DEFAULT_BULK_REQUEST_TIMEOUT, retryConfiguration.getBulkRequestTimeout());
     }
 
     @Test
@@ -34,6 +37,24 @@ public class RetryConfigurationTests {
         assertEquals(fakeDlqFilePath, retryConfiguration.getDlqFile());
     }
 
+    @Test
+    public void testReadRetryConfigWithMaxRetriesAndBulkRequestTimeout() {
+        final PluginSetting pluginSetting = generatePluginSetting(null);
+        pluginSetting.getSettings().put(RetryConfiguration.MAX_RETRIES, 5);
+        pluginSetting.getSettings().put(RetryConfiguration.BULK_REQUEST_TIMEOUT, 10_000L);
+
+        final RetryConfiguration retryConfiguration = RetryConfiguration.readRetryConfig(pluginSetting);
+
+        assertEquals(5, retryConfiguration.getMaxRetries());
+        assertEquals(10_000L, retryConfiguration.getBulkRequestTimeout());
+    }
+
+    @Test
+    public void testInvalidMaxRetriesAndBulkRequestTimeout() {
+        assertThrows(IllegalArgumentException.class, () -> new RetryConfiguration.Builder().withMaxRetries(-1));
+        assertThrows(IllegalArgumentException.class, () -> new RetryConfiguration.Builder().withBulkRequestTimeout(0));
+    }
+
     private PluginSetting generatePluginSetting(final String dlqFilePath) {
         final Map<String, Object> metadata = new HashMap<>();
         if (dlqFilePath != null) {
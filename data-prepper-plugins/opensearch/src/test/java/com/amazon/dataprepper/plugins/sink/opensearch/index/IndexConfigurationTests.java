@@ -226,6 +226,38 @@ public class IndexConfigurationTests {
         assertEquals("hashId", indexConfiguration.getDocumentIdField());
     }
 
+    @Test
+    public void testReadIndexConfig_BulkRequestConcurrencyDefaults() {
+        final PluginSetting pluginSetting = generatePluginSetting(
+                true, null, null, null, null, null);
+        final IndexConfiguration indexConfiguration = IndexConfiguration.readIndexConfig(pluginSetting);
+        assertEquals(0, indexConfiguration.getMaxInFlightBulkRequests());
+        assertEquals(0, indexConfiguration.getMaxPendingBulkRequests());
+    }
+
+    @Test
+    public void testReadIndexConfig_BulkRequestConcurrency() {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                true, null, null, null, null, null);
+        metadata.put(IndexConfiguration.MAX_IN_FLIGHT_BULK_REQUESTS, 4);
+        IndexConfiguration indexConfiguration = IndexConfiguration.readIndexConfig(getPluginSetting(metadata));
+        assertEquals(4, indexConfiguration.getMaxInFlightBulkRequests());
+        assertEquals(4, indexConfiguration.getMaxPendingBulkRequests());
+
+        metadata.put(IndexConfiguration.MAX_PENDING_BULK_REQUESTS, 8);
+        indexConfiguration = IndexConfiguration.readIndexConfig(getPluginSetting(metadata));
+        assertEquals(4, indexConfiguration.getMaxInFlightBulkRequests());
+        assertEquals(8, indexConfiguration.getMaxPendingBulkRequests());
+    }
+
+    @Test
+    public void testReadIndexConfig_NegativeBulkRequestConcurrency() {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                true, null, null, null, null, null);
+        metadata.put(IndexConfiguration.MAX_IN_FLIGHT_BULK_REQUESTS, -1);
+        assertThrows(IllegalArgumentException.class, () -> IndexConfiguration.readIndexConfig(getPluginSetting(metadata)));
+    }
+
     @Test
     public void testReadIndexConfigInvalid() {
         final PluginSetting pluginSetting = generatePluginSetting(
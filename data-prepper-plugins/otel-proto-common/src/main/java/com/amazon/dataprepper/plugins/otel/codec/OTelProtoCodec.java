@@ -6,9 +6,9 @@
 package com.amazon.dataprepper.plugins.otel.codec;
 
 import com.amazon.dataprepper.model.trace.DefaultLink;
+import com.amazon.dataprepper.model.trace.DefaultSpan;
 import com.amazon.dataprepper.model.trace.DefaultSpanEvent;
 import com.amazon.dataprepper.model.trace.DefaultTraceGroupFields;
-import com.amazon.dataprepper.model.trace.JacksonSpan;
 import com.amazon.dataprepper.model.trace.Link;
 import com.amazon.dataprepper.model.trace.Span;
 import com.amazon.dataprepper.model.trace.SpanEvent;
@@ -98,7 +98,7 @@ public class OTelProtoCodec {
 
         protected Span parseSpan(final io.opentelemetry.proto.trace.v1.Span sp, final InstrumentationLibrary instrumentationLibrary,
                                      final String serviceName, final Map<String, Object> resourceAttributes) {
-            return JacksonSpan.builder()
+            return DefaultSpan.builder()
                     .withSpanId(Hex.encodeHexString(sp.getSpanId().toByteArray()))
                     .withTraceId(Hex.encodeHexString(sp.getTraceId().toByteArray()))
                     .withTraceState(sp.getTraceState())
@@ -10,38 +10,62 @@ import com.linecorp.armeria.client.Endpoint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.concurrent.NotThreadSafe;
-import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 /**
  * Consistent hashing implementation used to map trace IDs to Data Prepper hosts.
  * See https://en.wikipedia.org/wiki/Consistent_hashing for more information.
+ * <p>
+ * Trace IDs and hosts are hashed with {@link Murmur3}. In {@link HashingMode#CONSISTENT_HASH_RING} mode the ring is
+ * stored as sorted primitive tokens with a parallel array of hosts and looked up with a binary search. In
+ * {@link HashingMode#RENDEZVOUS} mode the host with the highest score for the trace ID is chosen. Lookups do not
+ * allocate, and the ring is replaced as a whole when the peer list changes, so lookups may run concurrently with
+ * rebuilds.
+ * <p>
+ * Whether a host address refers to this Data Prepper instance is resolved once per peer list change, since it may
+ * require a DNS lookup, and kept with the ring. Listeners added with {@link #addListener(Consumer)} are notified of
+ * the hosts of the ring after each rebuild.
  */
-@NotThreadSafe
 public class HashRing implements Consumer<List<Endpoint>> {
     private static final Logger LOG = LoggerFactory.getLogger(HashRing.class);
-    private static final String MD5 = "MD5";
+    private static final int TRACE_ID_SEED = 0;
 
     /* Number of virtual nodes per Data Prepper host to be present on the hash ring */
     private final int numVirtualNodes;
 
+    private final HashingMode hashingMode;
+
     private final PeerListProvider peerListProvider;
 
-    private TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+    private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Ring ring;
 
     public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes) {
+        this(peerListProvider, numVirtualNodes, HashingMode.CONSISTENT_HASH_RING);
+    }
+
+    public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes, final HashingMode hashingMode) {
         Objects.requireNonNull(peerListProvider);
+        Objects.requireNonNull(hashingMode);
         this.peerListProvider = peerListProvider;
         this.numVirtualNodes = numVirtualNodes;
+        this.hashingMode = hashingMode;
 
         buildHashServerMap();
 
@@ -49,67 +73,160 @@ public class HashRing implements Consumer<List<Endpoint>> {
     }
 
     public Optional<String> getServerIp(final String traceId) {
-        if (hashServerMap.isEmpty()) {
+        final Ring currentRing = ring;
+        if (currentRing.endpoints.length == 0) {
             return Optional.empty();
         }
 
-        final byte[] traceIdInBytes = traceId.getBytes();
-        final MessageDigest md;
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw (AssertionError) new AssertionError("unreachable", e);
+        final long hashcode = Murmur3.hash64(traceId, TRACE_ID_SEED);
+        if (hashingMode == HashingMode.RENDEZVOUS) {
+            return Optional.of(currentRing.endpoints[highestScoreIndex(currentRing.tokens, hashcode)]);
         }
 
-        md.update(traceIdInBytes);
-        final BigInteger hashcode = new BigInteger(md.digest());
+        // obtain the first token greater than the hashcode, or the first token if no token is greater
+        final int index = higherIndex(currentRing.tokens, hashcode);
+        return Optional.of(currentRing.endpoints[index == currentRing.tokens.length ? 0 : index]);
+    }
 
-        // obtain Map.Entry with key greater than the hashcode
-        final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(hashcode);
-        if (entry == null) {
-            // return first node if no key is greater than the hashcode
-            return Optional.of(hashServerMap.firstEntry().getValue());
-        } else {
-            return Optional.of(entry.getValue());
-        }
+    /**
+     * @param serverIp a host address returned by {@link #getServerIp(String)}
+     * @return true if the address was resolved to this host when the ring was last built
+     */
+    public boolean isLocalEndpoint(final String serverIp) {
+        return ring.localEndpoints.contains(serverIp);
+    }
+
+    /**
+     * @param listener called with the host addresses of the ring each time the ring is rebuilt for a new peer list
+     */
+    public void addListener(final Consumer<Set<String>> listener) {
+        listeners.add(listener);
     }
 
     @Override
     public void accept(final List<Endpoint> endpoints) {
-        buildHashServerMap();
+        final Set<String> ringEndpoints = buildHashServerMap();
+        listeners.forEach(listener -> listener.accept(ringEndpoints));
     }
 
-    private void buildHashServerMap() {
-        final TreeMap<BigInteger, String> newHashValueMap = new TreeMap<>();
+    private Set<String> buildHashServerMap() {
         final List<String> endpoints = peerListProvider.getPeerList();
 
         LOG.info("Building hash ring with endpoints: {}", endpoints);
-        for (final String serverIp : endpoints) {
-            addServerIpToHashMap(serverIp, newHashValueMap);
+        // Sorting makes the ring independent of the order in which each host discovered its peers.
+        final TreeSet<String> sortedEndpoints = new TreeSet<>(endpoints);
+        final Set<String> localEndpoints = new HashSet<>();
+        for (final String endpoint : sortedEndpoints) {
+            if (isAddressDefinedLocally(endpoint)) {
+                localEndpoints.add(endpoint);
+            }
         }
+        this.ring = hashingMode == HashingMode.RENDEZVOUS ?
+                buildRendezvousRing(sortedEndpoints, localEndpoints) : buildConsistentHashRing(sortedEndpoints, localEndpoints);
+        return Collections.unmodifiableSet(sortedEndpoints);
+    }
 
-        this.hashServerMap = newHashValueMap;
+    private Ring buildConsistentHashRing(final TreeSet<String> sortedEndpoints, final Set<String> localEndpoints) {
+        final List<Token> tokens = new ArrayList<>(sortedEndpoints.size() * numVirtualNodes);
+        for (final String serverIp : sortedEndpoints) {
+            for (int i = 0; i < numVirtualNodes; i++) {
+                tokens.add(new Token(Murmur3.hash64(serverIp, i), serverIp));
+            }
+        }
+        tokens.sort(Comparator.comparingLong((Token token) -> token.hashcode).thenComparing(token -> token.serverIp));
+
+        final long[] tokenArray = new long[tokens.size()];
+        final String[] endpointArray = new String[tokens.size()];
+        int size = 0;
+        for (final Token token : tokens) {
+            // on a collision the first host in sort order keeps the token
+            if (size == 0 || tokenArray[size - 1] != token.hashcode) {
+                tokenArray[size] = token.hashcode;
+                endpointArray[size] = token.serverIp;
+                size++;
+            }
+        }
+        return new Ring(Arrays.copyOf(tokenArray, size), Arrays.copyOf(endpointArray, size), localEndpoints);
     }
 
-    private void addServerIpToHashMap(final String serverIp, final Map<BigInteger, String> targetMap) {
-        final byte[] serverIpInBytes = serverIp.getBytes();
-        final MessageDigest md;
+    private Ring buildRendezvousRing(final TreeSet<String> sortedEndpoints, final Set<String> localEndpoints) {
+        final long[] seeds = new long[sortedEndpoints.size()];
+        final String[] endpointArray = sortedEndpoints.toArray(new String[0]);
+        for (int i = 0; i < endpointArray.length; i++) {
+            seeds[i] = Murmur3.hash64(endpointArray[i], 0);
+        }
+        return new Ring(seeds, endpointArray, localEndpoints);
+    }
 
+    private static boolean isAddressDefinedLocally(final String address) {
+        final InetAddress inetAddress;
         try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw (AssertionError) new AssertionError("unreachable", e);
+            inetAddress = InetAddress.getByName(address);
+        } catch (UnknownHostException e) {
+            return false;
+        }
+        if (inetAddress.isAnyLocalAddress() || inetAddress.isLoopbackAddress()) {
+            return true;
+        } else {
+            try {
+                return NetworkInterface.getByInetAddress(inetAddress) != null;
+            } catch (SocketException e) {
+                return false;
+            }
+        }
+    }
+
+    private static int higherIndex(final long[] tokens, final long hashcode) {
+        int low = 0;
+        int high = tokens.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (tokens[mid] <= hashcode) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int highestScoreIndex(final long[] seeds, final long hashcode) {
+        int highestIndex = 0;
+        long highestScore = Long.MIN_VALUE;
+        for (int i = 0; i < seeds.length; i++) {
+            final long score = Murmur3.fmix64(hashcode ^ seeds[i]);
+            // ties keep the first host in sort order
+            if (score > highestScore) {
+                highestScore = score;
+                highestIndex = i;
+            }
         }
+        return highestIndex;
+    }
+
+    /**
+     * Sorted tokens and the host owning each token, or in rendezvous mode the seed of each host, along with the hosts
+     * which refer to this instance.
+     */
+    private static final class Ring {
+        private final long[] tokens;
+        private final String[] endpoints;
+        private final Set<String> localEndpoints;
+
+        private Ring(final long[] tokens, final String[] endpoints, final Set<String> localEndpoints) {
+            this.tokens = tokens;
+            this.endpoints = endpoints;
+            this.localEndpoints = Collections.unmodifiableSet(localEndpoints);
+        }
+    }
+
+    private static final class Token {
+        private final long hashcode;
+        private final String serverIp;
 
-        final ByteBuffer intBuffer = ByteBuffer.allocate(4);
-        for (int i = 0; i < numVirtualNodes; i++) {
-            md.update(serverIpInBytes);
-            intBuffer.putInt(i);
-            md.update(intBuffer.array());
-            final BigInteger hashcode = new BigInteger(md.digest());
-            targetMap.putIfAbsent(hashcode, serverIp);
-            md.reset();
-            intBuffer.clear();
+        private Token(final long hashcode, final String serverIp) {
+            this.hashcode = hashcode;
+            this.serverIp = serverIp;
         }
     }
 }
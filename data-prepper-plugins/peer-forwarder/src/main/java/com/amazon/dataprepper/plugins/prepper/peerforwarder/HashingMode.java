@@ -0,0 +1,22 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.peerforwarder;
+
+/**
+ * How {@link HashRing} maps a trace ID to a Data Prepper host.
+ */
+public enum HashingMode {
+    /**
+     * A consistent hash ring with a configurable number of virtual nodes per host. Lookups are a binary search.
+     */
+    CONSISTENT_HASH_RING,
+
+    /**
+     * Rendezvous (highest random weight) hashing. Every host scores every trace ID and the highest score wins, which
+     * balances evenly without virtual nodes. Lookups are linear in the number of hosts.
+     */
+    RENDEZVOUS
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.peerforwarder;
+
+/**
+ * Allocation-free MurmurHash3 (x64, 128-bit variant truncated to its first 64 bits) over the UTF-16LE encoding of a
+ * {@link CharSequence}. Hashing the chars directly avoids encoding the trace ID into a new byte array per lookup.
+ * The result is the same as hashing the UTF-16LE bytes with any other MurmurHash3_x64_128 implementation.
+ * See https://github.com/aappleby/smhasher/wiki/MurmurHash3 for more information.
+ */
+final class Murmur3 {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    private static final int CHARS_PER_LONG = 4;
+    private static final int CHARS_PER_BLOCK = CHARS_PER_LONG * 2;
+
+    private Murmur3() {
+    }
+
+    static long hash64(final CharSequence value, final int seed) {
+        final int length = value.length();
+        long h1 = seed & 0xffffffffL;
+        long h2 = seed & 0xffffffffL;
+
+        int position = 0;
+        for (; position + CHARS_PER_BLOCK <= length; position += CHARS_PER_BLOCK) {
+            h1 ^= mixK1(getLong(value, position, CHARS_PER_LONG));
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(getLong(value, position + CHARS_PER_LONG, CHARS_PER_LONG));
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        final int remaining = length - position;
+        if (remaining > CHARS_PER_LONG) {
+            h2 ^= mixK2(getLong(value, position + CHARS_PER_LONG, remaining - CHARS_PER_LONG));
+        }
+        if (remaining > 0) {
+            h1 ^= mixK1(getLong(value, position, Math.min(remaining, CHARS_PER_LONG)));
+        }
+
+        final long lengthInBytes = length * 2L;
+        h1 ^= lengthInBytes;
+        h2 ^= lengthInBytes;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        return h1 + h2;
+    }
+
+    /**
+     * The MurmurHash3 finalizer, a fast bijective mix of all bits of the input.
+     */
+    static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    private static long getLong(final CharSequence value, final int position, final int numChars) {
+        long result = 0;
+        for (int i = 0; i < numChars; i++) {
+            result |= ((long) value.charAt(position + i)) << (Character.SIZE * i);
+        }
+        return result;
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        return k1;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        return k2;
+    }
+}
@@ -22,6 +22,7 @@ public class PeerClientPool {
     private static final String GRPC_HTTPS = "gproto+https";
     private static final PeerClientPool INSTANCE = new PeerClientPool();
     private final Map<String, TraceServiceGrpc.TraceServiceBlockingStub> peerClients;
+    private final Map<String, TraceServiceGrpc.TraceServiceStub> asyncPeerClients;
 
     private int port;
     private int clientTimeoutSeconds = 3;
@@ -30,6 +31,7 @@ public class PeerClientPool {
 
     private PeerClientPool() {
         peerClients = new ConcurrentHashMap<>();
+        asyncPeerClients = new ConcurrentHashMap<>();
     }
 
     public static PeerClientPool getInstance() {
@@ -55,10 +57,24 @@ public class PeerClientPool {
 
     public TraceServiceGrpc.TraceServiceBlockingStub getClient(final String address) {
         // TODO: Resolve to IP first, or is hostname good enough?
-        return peerClients.computeIfAbsent(address, addr -> createGRPCClient(addr));
+        return peerClients.computeIfAbsent(address,
+                addr -> createGRPCClientBuilder(addr).build(TraceServiceGrpc.TraceServiceBlockingStub.class));
     }
 
-    private TraceServiceGrpc.TraceServiceBlockingStub createGRPCClient(final String ipAddress) {
+    public TraceServiceGrpc.TraceServiceStub getAsyncClient(final String address) {
+        return asyncPeerClients.computeIfAbsent(address,
+                addr -> createGRPCClientBuilder(addr).build(TraceServiceGrpc.TraceServiceStub.class));
+    }
+
+    /**
+     * Removes the clients of a peer which is no longer part of the cluster.
+     */
+    public void removeClients(final String address) {
+        peerClients.remove(address);
+        asyncPeerClients.remove(address);
+    }
+
+    private ClientBuilder createGRPCClientBuilder(final String ipAddress) {
         // TODO: replace hardcoded port with customization
         final ClientBuilder clientBuilder;
         if (ssl) {
@@ -76,6 +92,6 @@ public class PeerClientPool {
                     .writeTimeout(Duration.ofSeconds(clientTimeoutSeconds));
         }
 
-        return clientBuilder.build(TraceServiceGrpc.TraceServiceBlockingStub.class);
+        return clientBuilder;
     }
 }
@@ -13,9 +13,14 @@ import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.trace.Span;
 import com.amazon.dataprepper.plugins.otel.codec.OTelProtoCodec;
 import com.amazon.dataprepper.plugins.prepper.peerforwarder.discovery.StaticPeerListProvider;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.grpc.stub.StreamObserver;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
 import io.opentelemetry.proto.collector.trace.v1.TraceServiceGrpc;
 import io.opentelemetry.proto.trace.v1.ResourceSpans;
 import org.apache.commons.codec.DecoderException;
@@ -23,20 +28,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.UnsupportedEncodingException;
-import java.net.InetAddress;
-import java.net.NetworkInterface;
-import java.net.SocketException;
-import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,6 +53,7 @@ public class PeerForwarder extends AbstractProcessor<Record<Object>, Record<Obje
     public static final String LATENCY = "latency";
     public static final String ERRORS = "errors";
     public static final String DESTINATION = "destination";
+    public static final String ROUTING_LATENCY = "routingLatency";
 
     private static final TraceServiceGrpc.TraceServiceBlockingStub LOCAL_CLIENT = null;
 
@@ -57,28 +65,73 @@ public class PeerForwarder extends AbstractProcessor<Record<Object>, Record<Obje
     private final HashRing hashRing;
     private final PeerClientPool peerClientPool;
     private final int maxNumSpansPerRequest;
+    private final int maxInFlightRequests;
+    private final int maxPendingRequests;
+    private final long lingerMillis;
 
+    /**
+     * Meters of each peer, keyed by peer address
+     */
     private final Map<String, Timer> forwardRequestTimers;
     private final Map<String, Counter> forwardedRequestCounters;
     private final Map<String, Counter> forwardRequestErrorCounters;
+    private final Timer routingTimer;
 
     private final ExecutorService executorService;
 
+    private final Map<String, PeerSendQueue> peerSendQueues;
+    /**
+     * Queues of peers which left the cluster, kept until their requests awaiting a response complete
+     */
+    private final Set<PeerSendQueue> closedPeerSendQueues;
+    private final Queue<Span> spansFailedToForward;
+    private final ScheduledExecutorService lingerScheduler;
+
     public PeerForwarder(final PluginSetting pluginSetting,
                          final OTelProtoCodec.OTelProtoEncoder oTelProtoEncoder,
                          final PeerClientPool peerClientPool,
                          final HashRing hashRing,
                          final int maxNumSpansPerRequest) {
+        this(pluginSetting, oTelProtoEncoder, peerClientPool, hashRing, maxNumSpansPerRequest, 0, 0, 0);
+    }
+
+    /**
+     * @param maxInFlightRequests the maximum number of requests to a single peer awaiting a response when spans are
+     *                            forwarded asynchronously, or 0 to forward them synchronously
+     * @param maxPendingRequests  the maximum number of requests to a single peer queued behind the in-flight requests
+     * @param lingerMillis        the time to wait for a request to fill up before sending it
+     */
+    public PeerForwarder(final PluginSetting pluginSetting,
+                         final OTelProtoCodec.OTelProtoEncoder oTelProtoEncoder,
+                         final PeerClientPool peerClientPool,
+                         final HashRing hashRing,
+                         final int maxNumSpansPerRequest,
+                         final int maxInFlightRequests,
+                         final int maxPendingRequests,
+                         final long lingerMillis) {
         super(pluginSetting);
         this.oTelProtoEncoder = oTelProtoEncoder;
         this.peerClientPool = peerClientPool;
         this.hashRing = hashRing;
         this.maxNumSpansPerRequest = maxNumSpansPerRequest;
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.maxPendingRequests = maxPendingRequests;
+        this.lingerMillis = lingerMillis;
         forwardedRequestCounters = new ConcurrentHashMap<>();
         forwardRequestErrorCounters = new ConcurrentHashMap<>();
         forwardRequestTimers = new ConcurrentHashMap<>();
+        routingTimer = pluginMetrics.timer(ROUTING_LATENCY);
+
+        // Asynchronous forwarding sends requests with non-blocking stubs, which do not need a thread per request.
+        executorService = isForwardingAsynchronously() ? null : Executors.newFixedThreadPool(ASYNC_REQUEST_THREAD_COUNT);
+
+        peerSendQueues = new ConcurrentHashMap<>();
+        closedPeerSendQueues = ConcurrentHashMap.newKeySet();
+        spansFailedToForward = new ConcurrentLinkedQueue<>();
+        lingerScheduler = isForwardingAsynchronously() ? Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("peer-forwarder-linger-%d").build()) : null;
 
-        executorService = Executors.newFixedThreadPool(ASYNC_REQUEST_THREAD_COUNT);
+        hashRing.addListener(this::removeDepartedPeers);
     }
 
     public PeerForwarder(final PluginSetting pluginSetting) {
@@ -91,7 +144,10 @@ public class PeerForwarder extends AbstractProcessor<Record<Object>, Record<Obje
                 new OTelProtoCodec.OTelProtoEncoder(),
                 peerForwarderConfig.getPeerClientPool(),
                 peerForwarderConfig.getHashRing(),
-                peerForwarderConfig.getMaxNumSpansPerRequest()
+                peerForwarderConfig.getMaxNumSpansPerRequest(),
+                peerForwarderConfig.getMaxInFlightRequests(),
+                peerForwarderConfig.getMaxPendingRequests(),
+                peerForwarderConfig.getLingerMillis()
         );
     }
 
@@ -110,12 +166,19 @@ public class PeerForwarder extends AbstractProcessor<Record<Object>, Record<Obje
                 throw new RuntimeException("Unsupported record data type: " + recordData.getClass());
             }
         });
-        final List<ExportTraceServiceRequest> requestsToProcessLocally = executeExportTraceServiceRequests(exportTraceServiceRequests);
-        final List<Span> spansToProcessLocally = executeSpans(spans);
+
+        final long routingStartTime = System.nanoTime();
+        final Map<String, List<ResourceSpans>> resourceSpansByEndpoint = groupResourceSpansByEndpoint(exportTraceServiceRequests);
+        final Map<String, List<Span>> spansByEndpoint = groupSpansByEndpoint(spans);
+        routingTimer.record(System.nanoTime() - routingStartTime, TimeUnit.NANOSECONDS);
+
+        final List<ExportTraceServiceRequest> requestsToProcessLocally = executeExportTraceServiceRequests(resourceSpansByEndpoint);
+        final List<Span> spansToProcessLocally = isForwardingAsynchronously() ?
+                executeSpansAsynchronously(spansByEndpoint) : executeSpans(spansByEndpoint);
         return Stream.concat(requestsToProcessLocally.stream(), spansToProcessLocally.stream()).map(Record::new).collect(Collectors.toList());
     }
 
-    private List<ExportTraceServiceRequest> executeExportTraceServiceRequests(final List<ExportTraceServiceRequest> requests) {
+    private Map<String, List<ResourceSpans>> groupResourceSpansByEndpoint(final List<ExportTraceServiceRequest> requests) {
         final Map<String, List<ResourceSpans>> groupedRS = new HashMap<>();
 
         // Group ResourceSpans by consistent hashing of traceId
@@ -130,12 +193,16 @@ public class PeerForwarder extends AbstractProcessor<Record<Object>, Record<Obje
                 }
             }
         }
+        return groupedRS;
+    }
 
+    private List<ExportTraceServiceRequest> executeExportTraceServiceRequests(final Map<String, List<ResourceSpans>> groupedRS) {
         final List<ExportTraceServiceRequest> requestsToProcessLocally = new ArrayList<>();
         final List<CompletableFuture<ExportTraceServiceRequest>> forwardedRequestFutures = new ArrayList<>();
 
         for (final Map.Entry<String, List<ResourceSpans>> entry : groupedRS.entrySet()) {
-            final TraceServiceGrpc.TraceServiceBlockingStub client = getClient(entry.getKey());
+            final String address = entry.getKey();
+            final boolean isLocalAddress = isAddressDefinedLocally(address);
 
             // Create ExportTraceRequest for storing single batch of spans
             ExportTraceServiceRequest.Builder currRequestBuilder = ExportTraceServiceRequest.newBuilder();
@@ -144,10 +211,10 @@ public class PeerForwarder extends AbstractProcessor<Record<Object>, Record<Obje
                 final int rsSize = PeerForwarderUtils.getResourceSpansSize(rs);
                 if (currSpansCount >= maxNumSpansPerRequest) {
                     final ExportTraceServiceRequest currRequest = currRequestBuilder.build();
-                    if (isLocalClient(client)) {
+                    if (isLocalAddress) {
                         requestsToProcessLocally.add(currRequest);
                     } else {
-                        forwardedRequestFutures.add(processRequest(client, currRequest));
+                        forwardedRequestFutures.add(forwardRequest(address, currRequest));
                     }
                     currRequestBuilder = ExportTraceServiceRequest.newBuilder();
                     currSpansCount = 0;
@@ -158,10 +225,10 @@ public class PeerForwarder extends AbstractProcessor<Record<Object>, Record<Obje
             // Dealing with the last batch request
             if (currSpansCount > 0) {
                 final ExportTraceServiceRequest currRequest = currRequestBuilder.build();
-                if (client == null) {
+                if (isLocalAddress) {
                     requestsToProcessLocally.add(currRequest);
                 } else {
-                    forwardedRequestFutures.add(processRequest(client, currRequest));
+                    forwardedRequestFutures.add(forwardRequest(address, currRequest));
                 }
             }
         }
@@ -180,7 +247,7 @@ public class PeerForwarder extends AbstractProcessor<Record<Object>, Record<Obje
         return requestsToProcessLocally;
     }
 
-    private List<Span> executeSpans(final List<Span> spans) {
+    private Map<String, List<Span>> groupSpansByEndpoint(final List<Span> spans) {
         final Map<String, List<Span>> spansByTraceId = PeerForwarderUtils.splitByTrace(spans);
         // Group ResourceSpans by consistent hashing of traceId
         final Map<String, List<Span>> spansByEndPoint = new HashMap<>();
@@ -189,12 +256,16 @@ public class PeerForwarder extends AbstractProcessor<Record<Object>, Record<Obje
             final String dataPrepperIp = hashRing.getServerIp(traceId).orElse(StaticPeerListProvider.LOCAL_ENDPOINT);
             spansByEndPoint.computeIfAbsent(dataPrepperIp, x -> new ArrayList<>()).addAll(entry.getValue());
         }
+        return spansByEndPoint;
+    }
 
+    private List<Span> executeSpans(final Map<String, List<Span>> spansByEndPoint) {
         final List<Span> spansToProcessLocally = new ArrayList<>();
         final Map<CompletableFuture<ExportTraceServiceRequest>, List<Span>> forwardedRequestFuturesToSpans = new HashMap<>();
 
         for (final Map.Entry<String, List<Span>> entry : spansByEndPoint.entrySet()) {
-            final TraceServiceGrpc.TraceServiceBlockingStub client = getClient(entry.getKey());
+            final String address = entry.getKey();
+            final TraceServiceGrpc.TraceServiceBlockingStub client = getClient(address);
             if (isLocalClient(client)) {
                 spansToProcessLocally.addAll(entry.getValue());
                 continue;
@@ -215,7 +286,7 @@ public class PeerForwarder extends AbstractProcessor<Record<Object>, Record<Obje
                 }
                 if (currBatchSpans.size() >= maxNumSpansPerRequest) {
                     final ExportTraceServiceRequest currRequest = currRequestBuilder.build();
-                    forwardedRequestFuturesToSpans.put(processRequest(client, currRequest), currBatchSpans);
+                    forwardedRequestFuturesToSpans.put(processRequest(client, address, currRequest), currBatchSpans);
                     currRequestBuilder = ExportTraceServiceRequest.newBuilder();
                     currBatchSpans = new ArrayList<>();
                 }
@@ -223,7 +294,7 @@ public class PeerForwarder extends AbstractProcessor<Record<Object>, Record<Obje
             // Dealing with the last batch request
             if (currBatchSpans.size() > 0) {
                 final ExportTraceServiceRequest currRequest = currRequestBuilder.build();
-                forwardedRequestFuturesToSpans.put(processRequest(client, currRequest), currBatchSpans);
+                forwardedRequestFuturesToSpans.put(processRequest(client, address, currRequest), currBatchSpans);
             }
         }
 
@@ -245,20 +316,167 @@ public class PeerForwarder extends AbstractProcessor<Record<Object>, Record<Obje
         return spansToProcessLocally;
     }
 
+    /**
+     * Queues the spans owned by peers to be forwarded in the background and returns the locally owned spans without
+     * waiting for the peers to respond. Spans which failed to be forwarded since the previous batch are returned to be
+     * processed locally as well.
+     */
+    private List<Span> executeSpansAsynchronously(final Map<String, List<Span>> spansByEndPoint) {
+        final List<Span> spansToProcessLocally = new ArrayList<>();
+
+        for (final Map.Entry<String, List<Span>> entry : spansByEndPoint.entrySet()) {
+            final String address = entry.getKey();
+            if (isAddressDefinedLocally(address)) {
+                spansToProcessLocally.addAll(entry.getValue());
+                continue;
+            }
+
+            final PeerSendQueue peerSendQueue = peerSendQueues.computeIfAbsent(address, this::createPeerSendQueue);
+            for (final Span span : entry.getValue()) {
+                try {
+                    peerSendQueue.add(span, oTelProtoEncoder.convertToResourceSpans(span));
+                } catch (UnsupportedEncodingException | DecoderException e) {
+                    LOG.error("failed to encode span with spanId: {} into opentelemetry-protobuf, span will be processed locally.",
+                            span.getSpanId(), e);
+                    spansToProcessLocally.add(span);
+                } catch (InterruptedException e) {
+                    LOG.error("Interrupted while waiting to forward span with spanId: {}, span will be processed locally.",
+                            span.getSpanId(), e);
+                    Thread.currentThread().interrupt();
+                    spansToProcessLocally.add(span);
+                }
+            }
+        }
+
+        Span span;
+        while ((span = spansFailedToForward.poll()) != null) {
+            spansToProcessLocally.add(span);
+        }
+        closedPeerSendQueues.removeIf(PeerSendQueue::isEmpty);
+
+        return spansToProcessLocally;
+    }
+
+    private PeerSendQueue createPeerSendQueue(final String address) {
+        final TraceServiceGrpc.TraceServiceStub client = peerClientPool.getAsyncClient(address);
+        final String peerIp = client.getChannel().authority();
+        return new PeerSendQueue(
+                client,
+                peerIp,
+                maxNumSpansPerRequest,
+                maxInFlightRequests,
+                maxPendingRequests,
+                lingerMillis,
+                lingerScheduler,
+                spansFailedToForward::addAll,
+                forwardRequestTimers.computeIfAbsent(address, addr -> pluginMetrics.timerWithTags(LATENCY, DESTINATION, peerIp)),
+                forwardedRequestCounters.computeIfAbsent(address, addr -> pluginMetrics.counterWithTags(REQUESTS, DESTINATION, peerIp)),
+                forwardRequestErrorCounters.computeIfAbsent(address, addr -> pluginMetrics.counterWithTags(ERRORS, DESTINATION, peerIp)));
+    }
+
+    /**
+     * Releases the queue, clients and meters of each peer which is no longer part of the hash ring. The spans which
+     * were not sent to such a peer yet are processed locally in the next batch.
+     *
+     * @param endpoints the host addresses of the rebuilt hash ring
+     */
+    private void removeDepartedPeers(final Set<String> endpoints) {
+        final Set<String> addresses = new HashSet<>(peerSendQueues.keySet());
+        addresses.addAll(forwardRequestTimers.keySet());
+        for (final String address : addresses) {
+            if (endpoints.contains(address) && !hashRing.isLocalEndpoint(address)) {
+                continue;
+            }
+            LOG.info("Peer {} left the cluster, releasing its resources", address);
+            final PeerSendQueue peerSendQueue = peerSendQueues.remove(address);
+            if (peerSendQueue != null) {
+                closedPeerSendQueues.add(peerSendQueue);
+                spansFailedToForward.addAll(peerSendQueue.close());
+            }
+            peerClientPool.removeClients(address);
+            removeMeter(forwardRequestTimers.remove(address));
+            removeMeter(forwardedRequestCounters.remove(address));
+            removeMeter(forwardRequestErrorCounters.remove(address));
+        }
+    }
+
+    private static void removeMeter(final Meter meter) {
+        if (meter != null) {
+            Metrics.globalRegistry.remove(meter);
+        }
+    }
+
+    private boolean isForwardingAsynchronously() {
+        return maxInFlightRequests > 0;
+    }
+
+    private CompletableFuture<ExportTraceServiceRequest> forwardRequest(final String address,
+                                                                        final ExportTraceServiceRequest request) {
+        return isForwardingAsynchronously() ? processRequestAsynchronously(address, request) :
+                processRequest(peerClientPool.getClient(address), address, request);
+    }
+
+    /**
+     * Forwards a request to the peer address with the non-blocking client. The future completes with null if the
+     * request succeeds, otherwise with the failed ExportTraceServiceRequest to be processed locally.
+     */
+    private CompletableFuture<ExportTraceServiceRequest> processRequestAsynchronously(final String address,
+                                                                                      final ExportTraceServiceRequest request) {
+        final TraceServiceGrpc.TraceServiceStub client = peerClientPool.getAsyncClient(address);
+        final String peerIp = client.getChannel().authority();
+        final Timer forwardRequestTimer = forwardRequestTimers.computeIfAbsent(
+                address, addr -> pluginMetrics.timerWithTags(LATENCY, DESTINATION, peerIp));
+        final Counter forwardedRequestCounter = forwardedRequestCounters.computeIfAbsent(
+                address, addr -> pluginMetrics.counterWithTags(REQUESTS, DESTINATION, peerIp));
+        final Counter forwardRequestErrorCounter = forwardRequestErrorCounters.computeIfAbsent(
+                address, addr -> pluginMetrics.counterWithTags(ERRORS, DESTINATION, peerIp));
+
+        final CompletableFuture<ExportTraceServiceRequest> callFuture = new CompletableFuture<>();
+        forwardedRequestCounter.increment();
+        final long startTime = System.nanoTime();
+        try {
+            client.export(request, new StreamObserver<ExportTraceServiceResponse>() {
+                @Override
+                public void onNext(final ExportTraceServiceResponse response) {
+                }
+
+                @Override
+                public void onError(final Throwable t) {
+                    LOG.error("Failed to forward request to address: {}", peerIp, t);
+                    forwardRequestErrorCounter.increment();
+                    forwardRequestTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                    callFuture.complete(request);
+                }
+
+                @Override
+                public void onCompleted() {
+                    forwardRequestTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                    callFuture.complete(null);
+                }
+            });
+        } catch (final RuntimeException e) {
+            LOG.error("Failed to forward request to address: {}", peerIp, e);
+            forwardRequestErrorCounter.increment();
+            callFuture.complete(request);
+        }
+        return callFuture;
+    }
+
     /**
      * Asynchronously forwards a request to the peer address. Returns a record with an empty payload if
      * the request succeeds, otherwise the payload will contain the failed ExportTraceServiceRequest to
      * be processed locally.
      */
     private CompletableFuture<ExportTraceServiceRequest> processRequest(final TraceServiceGrpc.TraceServiceBlockingStub client,
+                                                     final String address,
                                                      final ExportTraceServiceRequest request) {
         final String peerIp = client.getChannel().authority();
         final Timer forwardRequestTimer = forwardRequestTimers.computeIfAbsent(
-                peerIp, ip -> pluginMetrics.timerWithTags(LATENCY, DESTINATION, ip));
+                address, addr -> pluginMetrics.timerWithTags(LATENCY, DESTINATION, peerIp));
         final Counter forwardedRequestCounter = forwardedRequestCounters.computeIfAbsent(
-                peerIp, ip -> pluginMetrics.counterWithTags(REQUESTS, DESTINATION, ip));
+                address, addr -> pluginMetrics.counterWithTags(REQUESTS, DESTINATION, peerIp));
         final Counter forwardRequestErrorCounter = forwardRequestErrorCounters.computeIfAbsent(
-                peerIp, ip -> pluginMetrics.counterWithTags(ERRORS, DESTINATION, ip));
+                address, addr -> pluginMetrics.counterWithTags(ERRORS, DESTINATION, peerIp));
 
         final CompletableFuture<ExportTraceServiceRequest> callFuture = CompletableFuture.supplyAsync(() ->
         {
@@ -285,36 +503,48 @@ public class PeerForwarder extends AbstractProcessor<Record<Object>, Record<Obje
     }
 
     private boolean isAddressDefinedLocally(final String address) {
-        final InetAddress inetAddress;
-        try {
-            inetAddress = InetAddress.getByName(address);
-        } catch (UnknownHostException e) {
-            return false;
-        }
-        if (inetAddress.isAnyLocalAddress() || inetAddress.isLoopbackAddress()) {
-            return true;
-        } else {
-            try {
-                return NetworkInterface.getByInetAddress(inetAddress) != null;
-            } catch (SocketException e) {
-                return false;
-            }
-        }
+        // the local endpoint is used when the hash ring is empty
+        return StaticPeerListProvider.LOCAL_ENDPOINT.equals(address) || hashRing.isLocalEndpoint(address);
     }
 
 
     @Override
     public void prepareForShutdown() {
-
+        peerSendQueues.values().forEach(PeerSendQueue::flush);
     }
 
     @Override
     public boolean isReadyForShutdown() {
-        return true;
+        return spansFailedToForward.isEmpty() && peerSendQueues.values().stream().allMatch(PeerSendQueue::isEmpty)
+                && closedPeerSendQueues.stream().allMatch(PeerSendQueue::isEmpty);
     }
 
+    /**
+     * Sends the spans left in the queues of the peers, stops the threads of the forwarder and releases the clients of
+     * the peers. Spans which still could not be sent are dropped.
+     */
     @Override
     public void shutdown() {
-        //TODO: cleanup resources
+        final Set<String> addresses = new HashSet<>(peerSendQueues.keySet());
+        addresses.addAll(forwardRequestTimers.keySet());
+        int unsentSpans = spansFailedToForward.size();
+        spansFailedToForward.clear();
+        for (final PeerSendQueue peerSendQueue : peerSendQueues.values()) {
+            peerSendQueue.flush();
+            unsentSpans += peerSendQueue.close().size();
+        }
+        peerSendQueues.clear();
+        closedPeerSendQueues.clear();
+        if (unsentSpans > 0) {
+            LOG.warn("Dropping {} spans which could not be forwarded before shutdown", unsentSpans);
+        }
+
+        if (lingerScheduler != null) {
+            lingerScheduler.shutdownNow();
+        }
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+        addresses.forEach(peerClientPool::removeClients);
     }
 }
@@ -12,23 +12,33 @@ import com.amazon.dataprepper.plugins.prepper.peerforwarder.discovery.PeerListPr
 import com.amazon.dataprepper.plugins.prepper.peerforwarder.discovery.PeerListProviderFactory;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Locale;
+
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 public class PeerForwarderConfig {
     public static final String TIME_OUT = "time_out";
     public static final String MAX_NUM_SPANS_PER_REQUEST = "span_agg_count";
     public static final int NUM_VIRTUAL_NODES = 128;
+    public static final String HASHING_MODE = "hashing_mode";
     public static final String TARGET_PORT = "target_port";
     public static final String DISCOVERY_MODE = "discovery_mode";
     public static final String DOMAIN_NAME = "domain_name";
     public static final String STATIC_ENDPOINTS = "static_endpoints";
     public static final String SSL = "ssl";
     public static final String SSL_KEY_CERT_FILE = "sslKeyCertChainFile";
+    public static final String MAX_IN_FLIGHT_REQUESTS = "max_in_flight_requests";
+    public static final String MAX_PENDING_REQUESTS = "max_pending_requests";
+    public static final String LINGER_MILLIS = "linger_millis";
+    private static final String DEFAULT_HASHING_MODE = HashingMode.CONSISTENT_HASH_RING.toString();
     private static final boolean DEFAULT_SSL = true;
     private static final String USE_ACM_CERT_FOR_SSL = "useAcmCertForSSL";
     private static final boolean DEFAULT_USE_ACM_CERT_FOR_SSL = false;
     private static final int DEFAULT_TARGET_PORT = 21890;
     private static final int DEFAULT_TIMEOUT_SECONDS = 2;
+    private static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 0;
+    private static final long DEFAULT_LINGER_MILLIS = 100;
     private static final String ACM_CERT_ISSUE_TIME_OUT_MILLIS = "acmCertIssueTimeOutMillis";
     private static final int DEFAULT_ACM_CERT_ISSUE_TIME_OUT_MILLIS = 120000;
     private static final String ACM_CERT_ARN = "acmCertificateArn";
@@ -40,23 +50,37 @@ public class PeerForwarderConfig {
     private final PeerClientPool peerClientPool;
     private final int timeOut;
     private final int maxNumSpansPerRequest;
+    private final int maxInFlightRequests;
+    private final int maxPendingRequests;
+    private final long lingerMillis;
 
     private PeerForwarderConfig(final PeerClientPool peerClientPool,
                                 final HashRing hashRing,
                                 final int timeOut,
-                                final int maxNumSpansPerRequest) {
+                                final int maxNumSpansPerRequest,
+                                final int maxInFlightRequests,
+                                final int maxPendingRequests,
+                                final long lingerMillis) {
         checkNotNull(peerClientPool);
         checkNotNull(hashRing);
+        checkArgument(maxInFlightRequests >= 0, "%s must not be negative", MAX_IN_FLIGHT_REQUESTS);
+        checkArgument(maxPendingRequests > 0 || maxInFlightRequests == 0, "%s must be greater than 0", MAX_PENDING_REQUESTS);
+        checkArgument(lingerMillis >= 0, "%s must not be negative", LINGER_MILLIS);
 
         this.peerClientPool = peerClientPool;
         this.hashRing = hashRing;
         this.timeOut = timeOut;
         this.maxNumSpansPerRequest = maxNumSpansPerRequest;
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.maxPendingRequests = maxPendingRequests;
+        this.lingerMillis = lingerMillis;
     }
 
     public static PeerForwarderConfig buildConfig(final PluginSetting pluginSetting) {
         final PeerListProvider peerListProvider = new PeerListProviderFactory().createProvider(pluginSetting);
-        final HashRing hashRing = new HashRing(peerListProvider, NUM_VIRTUAL_NODES);
+        final HashingMode hashingMode = HashingMode.valueOf(
+                pluginSetting.getStringOrDefault(HASHING_MODE, DEFAULT_HASHING_MODE).toUpperCase(Locale.ROOT));
+        final HashRing hashRing = new HashRing(peerListProvider, NUM_VIRTUAL_NODES, hashingMode);
         final PeerClientPool peerClientPool = PeerClientPool.getInstance();
         peerClientPool.setClientTimeoutSeconds(3);
 
@@ -87,11 +111,15 @@ public class PeerForwarderConfig {
 
         }
 
+        final int maxInFlightRequests = pluginSetting.getIntegerOrDefault(MAX_IN_FLIGHT_REQUESTS, DEFAULT_MAX_IN_FLIGHT_REQUESTS);
         return new PeerForwarderConfig(
                 peerClientPool,
                 hashRing,
                 pluginSetting.getIntegerOrDefault(TIME_OUT, DEFAULT_TIMEOUT_SECONDS),
-                pluginSetting.getIntegerOrDefault(MAX_NUM_SPANS_PER_REQUEST, 48));
+                pluginSetting.getIntegerOrDefault(MAX_NUM_SPANS_PER_REQUEST, 48),
+                maxInFlightRequests,
+                pluginSetting.getIntegerOrDefault(MAX_PENDING_REQUESTS, maxInFlightRequests),
+                pluginSetting.getLongOrDefault(LINGER_MILLIS, DEFAULT_LINGER_MILLIS));
     }
 
     public HashRing getHashRing() {
@@ -109,4 +137,16 @@ public class PeerForwarderConfig {
     public int getMaxNumSpansPerRequest() {
         return maxNumSpansPerRequest;
     }
+
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    public int getMaxPendingRequests() {
+        return maxPendingRequests;
+    }
+
+    public long getLingerMillis() {
+        return lingerMillis;
+    }
 }
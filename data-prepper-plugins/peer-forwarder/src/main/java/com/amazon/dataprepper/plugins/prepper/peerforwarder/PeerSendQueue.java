@@ -0,0 +1,241 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.peerforwarder;
+
+import com.amazon.dataprepper.model.trace.Span;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
+import io.opentelemetry.proto.collector.trace.v1.TraceServiceGrpc;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Batches the spans forwarded to a single peer and sends them with a non-blocking gRPC stub. A batch is sent once it
+ * holds maxBatchSize spans or lingerMillis after its first span was added, whichever comes first. At most maxInFlight
+ * requests await a response at a time and further batches wait in a queue bounded to maxPending, after which
+ * {@link #add(Span, ResourceSpans)} blocks until the peer catches up.
+ * <p>
+ * Spans of a request which fails are handed to the failure handler so they can be processed locally.
+ * <p>
+ * A queue is closed with {@link #close()} when its peer leaves the cluster.
+ */
+class PeerSendQueue {
+    private static final Logger LOG = LoggerFactory.getLogger(PeerSendQueue.class);
+
+    private final TraceServiceGrpc.TraceServiceStub client;
+    private final String peerIp;
+    private final int maxBatchSize;
+    private final int maxInFlight;
+    private final int maxPending;
+    private final long lingerMillis;
+    private final ScheduledExecutorService lingerScheduler;
+    private final Consumer<List<Span>> failureHandler;
+    private final Timer forwardRequestTimer;
+    private final Counter forwardedRequestCounter;
+    private final Counter forwardRequestErrorCounter;
+
+    private final Deque<Batch> pendingBatches = new ArrayDeque<>();
+    private ExportTraceServiceRequest.Builder currentRequestBuilder = ExportTraceServiceRequest.newBuilder();
+    private List<Span> currentSpans = new ArrayList<>();
+    private ScheduledFuture<?> lingerFlush;
+    private int inFlight = 0;
+    private boolean closed = false;
+
+    PeerSendQueue(final TraceServiceGrpc.TraceServiceStub client,
+                  final String peerIp,
+                  final int maxBatchSize,
+                  final int maxInFlight,
+                  final int maxPending,
+                  final long lingerMillis,
+                  final ScheduledExecutorService lingerScheduler,
+                  final Consumer<List<Span>> failureHandler,
+                  final Timer forwardRequestTimer,
+                  final Counter forwardedRequestCounter,
+                  final Counter forwardRequestErrorCounter) {
+        checkArgument(maxBatchSize > 0, "maxBatchSize must be greater than 0");
+        checkArgument(maxInFlight > 0, "maxInFlight must be greater than 0");
+        checkArgument(maxPending > 0, "maxPending must be greater than 0");
+        this.client = client;
+        this.peerIp = peerIp;
+        this.maxBatchSize = maxBatchSize;
+        this.maxInFlight = maxInFlight;
+        this.maxPending = maxPending;
+        this.lingerMillis = lingerMillis;
+        this.lingerScheduler = lingerScheduler;
+        this.failureHandler = failureHandler;
+        this.forwardRequestTimer = forwardRequestTimer;
+        this.forwardedRequestCounter = forwardedRequestCounter;
+        this.forwardRequestErrorCounter = forwardRequestErrorCounter;
+    }
+
+    /**
+     * Adds the span to the current batch, waiting for space in the queue if it is full.
+     *
+     * @param span          the span to forward, handed to the failure handler if forwarding fails
+     * @param resourceSpans the span encoded for the request
+     * @throws InterruptedException if interrupted while waiting for space in the queue
+     */
+    void add(final Span span, final ResourceSpans resourceSpans) throws InterruptedException {
+        final List<Batch> batchesToSend;
+        synchronized (this) {
+            while (pendingBatches.size() >= maxPending && !closed) {
+                wait();
+            }
+            if (closed) {
+                failureHandler.accept(Collections.singletonList(span));
+                return;
+            }
+            currentRequestBuilder.addResourceSpans(resourceSpans);
+            currentSpans.add(span);
+            if (currentSpans.size() >= maxBatchSize) {
+                pendingBatches.add(takeCurrentBatch());
+            } else if (currentSpans.size() == 1 && lingerFlush == null) {
+                lingerFlush = lingerScheduler.schedule(this::flush, lingerMillis, TimeUnit.MILLISECONDS);
+            }
+            batchesToSend = takeBatchesToSend();
+        }
+        send(batchesToSend);
+    }
+
+    /**
+     * Sends the current batch without waiting for it to fill up or for its linger time to elapse.
+     */
+    void flush() {
+        final List<Batch> batchesToSend;
+        synchronized (this) {
+            if (!currentSpans.isEmpty()) {
+                pendingBatches.add(takeCurrentBatch());
+            }
+            batchesToSend = takeBatchesToSend();
+        }
+        send(batchesToSend);
+    }
+
+    /**
+     * Stops forwarding spans to the peer. Requests awaiting a response still complete, and spans added afterwards are
+     * handed to the failure handler.
+     *
+     * @return the spans which were not sent yet
+     */
+    synchronized List<Span> close() {
+        closed = true;
+        if (lingerFlush != null) {
+            lingerFlush.cancel(false);
+            lingerFlush = null;
+        }
+        final List<Span> unsentSpans = new ArrayList<>();
+        for (final Batch batch : pendingBatches) {
+            unsentSpans.addAll(batch.spans);
+        }
+        unsentSpans.addAll(currentSpans);
+        pendingBatches.clear();
+        currentRequestBuilder = ExportTraceServiceRequest.newBuilder();
+        currentSpans = new ArrayList<>();
+        notifyAll();
+        return unsentSpans;
+    }
+
+    /**
+     * @return true if there are no spans waiting to be sent or awaiting a response
+     */
+    synchronized boolean isEmpty() {
+        return currentSpans.isEmpty() && pendingBatches.isEmpty() && inFlight == 0;
+    }
+
+    private Batch takeCurrentBatch() {
+        if (lingerFlush != null) {
+            lingerFlush.cancel(false);
+            lingerFlush = null;
+        }
+        final Batch batch = new Batch(currentRequestBuilder.build(), currentSpans);
+        currentRequestBuilder = ExportTraceServiceRequest.newBuilder();
+        currentSpans = new ArrayList<>();
+        return batch;
+    }
+
+    private List<Batch> takeBatchesToSend() {
+        if (inFlight >= maxInFlight || pendingBatches.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<Batch> batchesToSend = new ArrayList<>();
+        while (inFlight < maxInFlight && !pendingBatches.isEmpty()) {
+            batchesToSend.add(pendingBatches.poll());
+            inFlight++;
+        }
+        notifyAll();
+        return batchesToSend;
+    }
+
+    private void send(final List<Batch> batches) {
+        for (final Batch batch : batches) {
+            forwardedRequestCounter.increment();
+            final long startTime = System.nanoTime();
+            try {
+                client.export(batch.request, new StreamObserver<ExportTraceServiceResponse>() {
+                    @Override
+                    public void onNext(final ExportTraceServiceResponse response) {
+                    }
+
+                    @Override
+                    public void onError(final Throwable t) {
+                        fail(batch, t);
+                        complete(startTime);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        complete(startTime);
+                    }
+                });
+            } catch (final RuntimeException e) {
+                fail(batch, e);
+                complete(startTime);
+            }
+        }
+    }
+
+    private void fail(final Batch batch, final Throwable t) {
+        LOG.error("Failed to forward request to address: {}", peerIp, t);
+        forwardRequestErrorCounter.increment();
+        failureHandler.accept(batch.spans);
+    }
+
+    private void complete(final long startTime) {
+        forwardRequestTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        final List<Batch> batchesToSend;
+        synchronized (this) {
+            inFlight--;
+            batchesToSend = takeBatchesToSend();
+        }
+        send(batchesToSend);
+    }
+
+    private static final class Batch {
+        private final ExportTraceServiceRequest request;
+        private final List<Span> spans;
+
+        private Batch(final ExportTraceServiceRequest request, final List<Span> spans) {
+            this.request = request;
+            this.spans = spans;
+        }
+    }
+}
@@ -12,15 +12,20 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,9 +39,10 @@ public class HashRingTest {
             "10.10.0.4",
             "10.10.0.5");
     private static final String TRACE_ID_1 = "TRACE_1";
-    private static final String TRACE_ID_2 = "TRACE_2";
+    private static final String TRACE_ID_2 = "TRACE_11";
     private static final int SINGLE_VIRTUAL_NODE_COUNT = 1;
     private static final int MULTIPLE_VIRTUAL_NODE_COUNT = 100;
+    private static final int NUM_TRACE_IDS = 10000;
 
     @Mock
     private PeerListProvider peerListProvider;
@@ -136,4 +142,117 @@ public class HashRingTest {
         // Second call during rebuild
         verify(peerListProvider, times(2)).getPeerList();
     }
+
+    @Test
+    public void testGetServerIpIndependentOfPeerListOrder() {
+        final List<String> traceIds = randomTraceIds();
+        for (final HashingMode hashingMode : HashingMode.values()) {
+            sut = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, hashingMode);
+            final List<String> reversedServerIps = new ArrayList<>(SERVER_IPS);
+            Collections.reverse(reversedServerIps);
+            final PeerListProvider reversedPeerListProvider = mock(PeerListProvider.class);
+            when(reversedPeerListProvider.getPeerList()).thenReturn(reversedServerIps);
+            final HashRing reversedHashRing = new HashRing(reversedPeerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, hashingMode);
+
+            for (final String traceId : traceIds) {
+                assertEquals(sut.getServerIp(traceId), reversedHashRing.getServerIp(traceId));
+            }
+        }
+    }
+
+    @Test
+    public void testRemovingServerOnlyMovesItsTraceIds() {
+        final List<String> traceIds = randomTraceIds();
+        for (final HashingMode hashingMode : HashingMode.values()) {
+            when(peerListProvider.getPeerList()).thenReturn(SERVER_IPS);
+            sut = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, hashingMode);
+            final Map<String, String> before = new HashMap<>();
+            for (final String traceId : traceIds) {
+                before.put(traceId, sut.getServerIp(traceId).get());
+            }
+
+            final String removedServerIp = SERVER_IPS.get(2);
+            final List<String> remainingServerIps = new ArrayList<>(SERVER_IPS);
+            remainingServerIps.remove(removedServerIp);
+            when(peerListProvider.getPeerList()).thenReturn(remainingServerIps);
+            sut.accept(Collections.emptyList());
+
+            for (final String traceId : traceIds) {
+                final String serverIp = sut.getServerIp(traceId).get();
+                if (!before.get(traceId).equals(removedServerIp)) {
+                    assertEquals(before.get(traceId), serverIp);
+                } else {
+                    assertNotEquals(removedServerIp, serverIp);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testTraceIdsAreBalancedAcrossServers() {
+        final List<String> traceIds = randomTraceIds();
+        for (final HashingMode hashingMode : HashingMode.values()) {
+            sut = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, hashingMode);
+            final Map<String, Integer> counts = new HashMap<>();
+            for (final String traceId : traceIds) {
+                counts.merge(sut.getServerIp(traceId).get(), 1, Integer::sum);
+            }
+
+            assertEquals(SERVER_IPS.size(), counts.size());
+            final int expectedCount = NUM_TRACE_IDS / SERVER_IPS.size();
+            for (final int count : counts.values()) {
+                assertTrue("Unbalanced " + hashingMode + " distribution: " + counts,
+                        count > expectedCount * 0.75 && count < expectedCount * 1.25);
+            }
+        }
+    }
+
+    @Test
+    public void testIsLocalEndpoint() {
+        when(peerListProvider.getPeerList()).thenReturn(Arrays.asList("127.0.0.1", "10.10.0.1"));
+        sut = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+
+        assertTrue(sut.isLocalEndpoint("127.0.0.1"));
+        assertFalse(sut.isLocalEndpoint("10.10.0.1"));
+        assertFalse(sut.isLocalEndpoint("10.10.0.2"));
+    }
+
+    @Test
+    public void testIsLocalEndpointUpdatedWithPeerList() {
+        sut = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        assertFalse(sut.isLocalEndpoint("127.0.0.1"));
+
+        when(peerListProvider.getPeerList()).thenReturn(Collections.singletonList("127.0.0.1"));
+        sut.accept(Collections.emptyList());
+
+        assertTrue(sut.isLocalEndpoint("127.0.0.1"));
+    }
+
+    @Test
+    public void testRendezvousGetServerIpEmptyMap() {
+        when(peerListProvider.getPeerList()).thenReturn(Collections.emptyList());
+        sut = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashingMode.RENDEZVOUS);
+
+        assertFalse(sut.getServerIp(TRACE_ID_1).isPresent());
+    }
+
+    @Test
+    public void testRendezvousGetServerIpSameTraceIds() {
+        sut = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashingMode.RENDEZVOUS);
+
+        Optional<String> result1 = sut.getServerIp(TRACE_ID_1);
+        Optional<String> result2 = sut.getServerIp(TRACE_ID_1);
+
+        assertTrue(result1.isPresent());
+        assertTrue(SERVER_IPS.contains(result1.get()));
+        assertEquals(result1, result2);
+    }
+
+    private static List<String> randomTraceIds() {
+        final List<String> traceIds = new ArrayList<>(NUM_TRACE_IDS);
+        for (int i = 0; i < NUM_TRACE_IDS; i++) {
+            traceIds.add(UUID.randomUUID().toString().replace("-", ""));
+        }
+        return traceIds;
+    }
 }
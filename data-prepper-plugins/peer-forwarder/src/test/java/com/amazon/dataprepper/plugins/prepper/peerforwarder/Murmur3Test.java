@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.peerforwarder;
+
+import com.google.common.hash.Hashing;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class Murmur3Test {
+
+    @Test
+    public void testHash64MatchesReferenceImplementationForAllTailLengths() {
+        final String value = UUID.randomUUID().toString() + UUID.randomUUID();
+        for (int length = 0; length <= value.length(); length++) {
+            for (final int seed : new int[] {0, 1, 127}) {
+                final String input = value.substring(0, length);
+                final long expected = Hashing.murmur3_128(seed).hashBytes(input.getBytes(StandardCharsets.UTF_16LE)).asLong();
+
+                assertEquals("length " + length + ", seed " + seed, expected, Murmur3.hash64(input, seed));
+            }
+        }
+    }
+
+    @Test
+    public void testHash64DependsOnSeed() {
+        assertNotEquals(Murmur3.hash64("10.10.0.1", 0), Murmur3.hash64("10.10.0.1", 1));
+    }
+}
@@ -21,6 +21,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 public class PeerClientPoolTest {
     private static final String VALID_ADDRESS = "10.10.10.5";
@@ -41,6 +42,17 @@ public class PeerClientPoolTest {
         assertNotNull(client);
     }
 
+    @Test
+    public void testGetAsyncClientValidAddress() {
+        PeerClientPool pool = PeerClientPool.getInstance();
+        pool.setPort(PORT);
+
+        TraceServiceGrpc.TraceServiceStub client = pool.getAsyncClient(VALID_ADDRESS);
+
+        assertNotNull(client);
+        assertSame(client, pool.getAsyncClient(VALID_ADDRESS));
+    }
+
     @Test
     public void testGetClientWithSSL() throws IOException {
         // Set up test server with SSL
@@ -105,6 +105,77 @@ public class PeerForwarderConfigTest {
         });
     }
 
+    @Test
+    public void testBuildConfigRendezvousHashingMode() {
+        final HashMap<String, Object> settings = new HashMap<>();
+        settings.put(PeerForwarderConfig.DISCOVERY_MODE, DiscoveryMode.STATIC.toString());
+        settings.put(PeerForwarderConfig.STATIC_ENDPOINTS, TEST_ENDPOINTS);
+        settings.put(PeerForwarderConfig.SSL, false);
+        settings.put(PeerForwarderConfig.HASHING_MODE, "rendezvous");
+
+        final PluginSetting pluginSetting = new PluginSetting("peer_forwarder", settings);
+        pluginSetting.setPipelineName(PIPELINE_NAME);
+        final PeerForwarderConfig peerForwarderConfig = PeerForwarderConfig.buildConfig(pluginSetting);
+
+        Assert.assertTrue(peerForwarderConfig.getHashRing().getServerIp("b1").isPresent());
+    }
+
+    @Test
+    public void testBuildConfigInvalidHashingMode() {
+        final HashMap<String, Object> settings = new HashMap<>();
+        settings.put(PeerForwarderConfig.DISCOVERY_MODE, DiscoveryMode.STATIC.toString());
+        settings.put(PeerForwarderConfig.STATIC_ENDPOINTS, TEST_ENDPOINTS);
+        settings.put(PeerForwarderConfig.SSL, false);
+        settings.put(PeerForwarderConfig.HASHING_MODE, "jump");
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            final PluginSetting pluginSetting = new PluginSetting("peer_forwarder", settings);
+            pluginSetting.setPipelineName(PIPELINE_NAME);
+            PeerForwarderConfig.buildConfig(pluginSetting);
+        });
+    }
+
+    @Test
+    public void testBuildConfigAsyncForwarding() {
+        final HashMap<String, Object> settings = new HashMap<>();
+        settings.put(PeerForwarderConfig.DISCOVERY_MODE, DiscoveryMode.STATIC.toString());
+        settings.put(PeerForwarderConfig.STATIC_ENDPOINTS, TEST_ENDPOINTS);
+        settings.put(PeerForwarderConfig.SSL, false);
+        settings.put(PeerForwarderConfig.MAX_IN_FLIGHT_REQUESTS, 4);
+        settings.put(PeerForwarderConfig.LINGER_MILLIS, 20);
+
+        final PluginSetting pluginSetting = new PluginSetting("peer_forwarder", settings);
+        pluginSetting.setPipelineName(PIPELINE_NAME);
+        final PeerForwarderConfig peerForwarderConfig = PeerForwarderConfig.buildConfig(pluginSetting);
+
+        Assert.assertEquals(4, peerForwarderConfig.getMaxInFlightRequests());
+        Assert.assertEquals(4, peerForwarderConfig.getMaxPendingRequests());
+        Assert.assertEquals(20, peerForwarderConfig.getLingerMillis());
+    }
+
+    @Test
+    public void testBuildConfigInvalidAsyncForwarding() {
+        final HashMap<String, Object> settings = new HashMap<>();
+        settings.put(PeerForwarderConfig.DISCOVERY_MODE, DiscoveryMode.STATIC.toString());
+        settings.put(PeerForwarderConfig.STATIC_ENDPOINTS, TEST_ENDPOINTS);
+        settings.put(PeerForwarderConfig.SSL, false);
+        settings.put(PeerForwarderConfig.MAX_IN_FLIGHT_REQUESTS, -1);
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            final PluginSetting pluginSetting = new PluginSetting("peer_forwarder", settings);
+            pluginSetting.setPipelineName(PIPELINE_NAME);
+            PeerForwarderConfig.buildConfig(pluginSetting);
+        });
+
+        settings.put(PeerForwarderConfig.MAX_IN_FLIGHT_REQUESTS, 2);
+        settings.put(PeerForwarderConfig.MAX_PENDING_REQUESTS, 0);
+        Assert.assertThrows(IllegalArgumentException.class, () -> {
+            final PluginSetting pluginSetting = new PluginSetting("peer_forwarder", settings);
+            pluginSetting.setPipelineName(PIPELINE_NAME);
+            PeerForwarderConfig.buildConfig(pluginSetting);
+        });
+    }
+
     @Test
     public void testBuildConfigValidSSL() throws IOException {
         final HashMap<String, Object> settings = new HashMap<>();
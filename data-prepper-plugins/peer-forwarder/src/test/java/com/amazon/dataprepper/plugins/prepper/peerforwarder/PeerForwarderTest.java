@@ -13,10 +13,14 @@ import com.amazon.dataprepper.model.trace.DefaultTraceGroupFields;
 import com.amazon.dataprepper.model.trace.JacksonSpan;
 import com.amazon.dataprepper.model.trace.Span;
 import com.amazon.dataprepper.plugins.otel.codec.OTelProtoCodec;
+import com.amazon.dataprepper.plugins.prepper.peerforwarder.discovery.PeerListProvider;
 import com.google.protobuf.ByteString;
 import io.grpc.Channel;
+import io.grpc.stub.StreamObserver;
 import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Metrics;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
 import io.opentelemetry.proto.collector.trace.v1.TraceServiceGrpc;
 import io.opentelemetry.proto.common.v1.InstrumentationLibrary;
 import io.opentelemetry.proto.resource.v1.Resource;
@@ -52,11 +56,13 @@ import java.util.stream.Collectors;
 
 import static com.amazon.dataprepper.plugins.otel.codec.OTelProtoCodec.convertUnixNanosToISO8601;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -73,11 +79,11 @@ public class PeerForwarderTest {
     private static final io.opentelemetry.proto.trace.v1.Span OTLP_SPAN_3 = io.opentelemetry.proto.trace.v1.Span.newBuilder()
             .setTraceId(ByteString.copyFromUtf8("traceIdA")).setSpanId(ByteString.copyFromUtf8("spanId3")).build();
     private static final io.opentelemetry.proto.trace.v1.Span OTLP_SPAN_4 = io.opentelemetry.proto.trace.v1.Span.newBuilder()
-            .setTraceId(ByteString.copyFromUtf8("traceIdB")).setSpanId(ByteString.copyFromUtf8("spanId4")).build();
+            .setTraceId(ByteString.copyFromUtf8("traceIdD")).setSpanId(ByteString.copyFromUtf8("spanId4")).build();
     private static final io.opentelemetry.proto.trace.v1.Span OTLP_SPAN_5 = io.opentelemetry.proto.trace.v1.Span.newBuilder()
-            .setTraceId(ByteString.copyFromUtf8("traceIdB")).setSpanId(ByteString.copyFromUtf8("spanId5")).build();
+            .setTraceId(ByteString.copyFromUtf8("traceIdD")).setSpanId(ByteString.copyFromUtf8("spanId5")).build();
     private static final io.opentelemetry.proto.trace.v1.Span OTLP_SPAN_6 = io.opentelemetry.proto.trace.v1.Span.newBuilder()
-            .setTraceId(ByteString.copyFromUtf8("traceIdB")).setSpanId(ByteString.copyFromUtf8("spanId6")).build();
+            .setTraceId(ByteString.copyFromUtf8("traceIdD")).setSpanId(ByteString.copyFromUtf8("spanId6")).build();
 
     private static final ExportTraceServiceRequest REQUEST_1 = generateRequest(OTLP_SPAN_1, OTLP_SPAN_2, OTLP_SPAN_4);
     private static final ExportTraceServiceRequest REQUEST_2 = generateRequest(OTLP_SPAN_3, OTLP_SPAN_5, OTLP_SPAN_6);
@@ -85,7 +91,7 @@ public class PeerForwarderTest {
     private static final ExportTraceServiceRequest REQUEST_4 = generateRequest(OTLP_SPAN_4, OTLP_SPAN_5, OTLP_SPAN_6);
 
     private static final String TEST_TRACE_ID_1 = "b1";
-    private static final String TEST_TRACE_ID_2 = "b2";
+    private static final String TEST_TRACE_ID_2 = "e2";
     private static final String TEST_SERVICE_A = "serviceA";
     private static final String TEST_SERVICE_B = "serviceB";
     private static final String TEST_SPAN_ID_1 = "d1";
@@ -122,6 +128,9 @@ public class PeerForwarderTest {
     @Mock
     private TraceServiceGrpc.TraceServiceBlockingStub client;
 
+    @Mock
+    private TraceServiceGrpc.TraceServiceStub asyncClient;
+
     @Mock
     private CompletableFuture<ExportTraceServiceRequest> completableFuture;
 
@@ -226,6 +235,23 @@ public class PeerForwarderTest {
         assertTrue(expectedResourceSpans.containsAll(exportedResourceSpans));
     }
 
+    @Test
+    public void testRoutingLatencyRecordedPerBatch() {
+        MetricsTestUtil.initMetrics();
+        final PeerForwarder testPeerForwarder = generatePeerForwarder(Collections.singletonList(LOCAL_IP), 2);
+
+        testPeerForwarder.doExecute(TEST_SPANS_ALL.stream().map(span -> new Record<Object>(span)).collect(Collectors.toList()));
+
+        final List<Measurement> routingLatencyMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(TEST_PIPELINE_NAME).add("peer_forwarder")
+                        .add(PeerForwarder.ROUTING_LATENCY).toString());
+        assertEquals(3, routingLatencyMeasurements.size());
+        // COUNT
+        assertEquals(1.0, routingLatencyMeasurements.get(0).getValue(), 0);
+        // TOTAL_TIME
+        assertTrue(routingLatencyMeasurements.get(1).getValue() > 0.0);
+    }
+
     @Test
     public void testLocalIpOnlyWithEventRecordData() {
         final PeerForwarder testPeerForwarder = generatePeerForwarder(Collections.singletonList(LOCAL_IP), 2);
@@ -615,6 +641,159 @@ public class PeerForwarderTest {
         assertTrue(TEST_SPANS_B.containsAll(exportedSpans));
     }
 
+    @Test
+    public void testAsyncForwardingReturnsLocalSpansWithoutWaitingForPeer() {
+        final List<String> testIps = generateTestIps(2);
+        final String peerIp = testIps.get(1);
+        final List<StreamObserver<ExportTraceServiceResponse>> responseObservers = new ArrayList<>();
+        final List<ExportTraceServiceRequest> forwardedRequests = new ArrayList<>();
+        mockAsyncClient(peerIp, forwardedRequests, responseObservers);
+
+        MetricsTestUtil.initMetrics();
+        final PeerForwarder testPeerForwarder = generateAsyncPeerForwarder(testIps);
+
+        final List<Record<Object>> exportedRecords = testPeerForwarder
+                .doExecute(TEST_SPANS_ALL.stream().map(span -> new Record<Object>(span)).collect(Collectors.toList()));
+
+        final List<Span> localSpans = exportedRecords.stream().map(record -> (Span) record.getData()).collect(Collectors.toList());
+        assertEquals(TEST_SPANS_A.size(), localSpans.size());
+        assertTrue(localSpans.containsAll(TEST_SPANS_A));
+        assertEquals(1, forwardedRequests.size());
+        assertEquals(3, forwardedRequests.get(0).getResourceSpansCount());
+        Assert.assertFalse(testPeerForwarder.isReadyForShutdown());
+
+        responseObservers.get(0).onCompleted();
+
+        assertTrue(testPeerForwarder.isReadyForShutdown());
+        assertTrue(testPeerForwarder.doExecute(Collections.emptyList()).isEmpty());
+        final List<Measurement> forwardRequestSuccessMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(TEST_PIPELINE_NAME).add("peer_forwarder")
+                        .add(PeerForwarder.REQUESTS).toString());
+        assertEquals(1.0, forwardRequestSuccessMeasurements.get(0).getValue(), 0);
+    }
+
+    @Test
+    public void testAsyncForwardingFailedSpansProcessedLocallyInNextBatch() {
+        final List<String> testIps = generateTestIps(2);
+        final String peerIp = testIps.get(1);
+        final List<StreamObserver<ExportTraceServiceResponse>> responseObservers = new ArrayList<>();
+        mockAsyncClient(peerIp, new ArrayList<>(), responseObservers);
+
+        MetricsTestUtil.initMetrics();
+        final PeerForwarder testPeerForwarder = generateAsyncPeerForwarder(testIps);
+
+        final List<Record<Object>> exportedRecords = testPeerForwarder
+                .doExecute(TEST_SPANS_B.stream().map(span -> new Record<Object>(span)).collect(Collectors.toList()));
+        assertTrue(exportedRecords.isEmpty());
+
+        responseObservers.get(0).onError(new RuntimeException());
+        Assert.assertFalse(testPeerForwarder.isReadyForShutdown());
+
+        final List<Span> spansProcessedLocally = testPeerForwarder.doExecute(Collections.emptyList()).stream()
+                .map(record -> (Span) record.getData()).collect(Collectors.toList());
+        assertEquals(TEST_SPANS_B.size(), spansProcessedLocally.size());
+        assertTrue(spansProcessedLocally.containsAll(TEST_SPANS_B));
+        assertTrue(testPeerForwarder.isReadyForShutdown());
+        final List<Measurement> forwardRequestErrorMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(TEST_PIPELINE_NAME).add("peer_forwarder")
+                        .add(PeerForwarder.ERRORS).toString());
+        assertEquals(1.0, forwardRequestErrorMeasurements.get(0).getValue(), 0);
+    }
+
+    @Test
+    public void testAsyncForwardingPrepareForShutdownFlushesPartialBatch() {
+        final List<String> testIps = generateTestIps(2);
+        final String peerIp = testIps.get(1);
+        final List<ExportTraceServiceRequest> forwardedRequests = new ArrayList<>();
+        final List<StreamObserver<ExportTraceServiceResponse>> responseObservers = new ArrayList<>();
+        mockAsyncClient(peerIp, forwardedRequests, responseObservers);
+
+        final PeerForwarder testPeerForwarder = generateAsyncPeerForwarder(testIps);
+        testPeerForwarder.doExecute(Collections.singletonList(new Record<>(SPAN_4)));
+        assertTrue(forwardedRequests.isEmpty());
+
+        testPeerForwarder.prepareForShutdown();
+
+        assertEquals(1, forwardedRequests.size());
+        responseObservers.get(0).onCompleted();
+        assertTrue(testPeerForwarder.isReadyForShutdown());
+        testPeerForwarder.shutdown();
+    }
+
+    @Test
+    public void testAsyncForwardingShutdownSendsQueuedSpansAndReleasesClients() {
+        final List<String> testIps = generateTestIps(2);
+        final String peerIp = testIps.get(1);
+        final List<ExportTraceServiceRequest> forwardedRequests = new ArrayList<>();
+        mockAsyncClient(peerIp, forwardedRequests, new ArrayList<>());
+
+        final PeerForwarder testPeerForwarder = generateAsyncPeerForwarder(testIps);
+        testPeerForwarder.doExecute(Collections.singletonList(new Record<>(SPAN_4)));
+        assertTrue(forwardedRequests.isEmpty());
+
+        testPeerForwarder.shutdown();
+
+        assertEquals(1, forwardedRequests.size());
+        verify(peerClientPool).removeClients(peerIp);
+        assertTrue(testPeerForwarder.isReadyForShutdown());
+    }
+
+    @Test
+    public void testAsyncForwardingExportTraceServiceRequestUsesAsyncClient() {
+        final List<String> testIps = generateTestIps(2);
+        final String peerIp = testIps.get(1);
+        final List<ExportTraceServiceRequest> forwardedRequests = new ArrayList<>();
+        final Channel channel = mock(Channel.class);
+        when(channel.authority()).thenReturn(String.format("%s:21890", peerIp));
+        when(asyncClient.getChannel()).thenReturn(channel);
+        when(peerClientPool.getAsyncClient(peerIp)).thenReturn(asyncClient);
+        doAnswer(invocation -> {
+            forwardedRequests.add(invocation.getArgument(0));
+            final StreamObserver<ExportTraceServiceResponse> responseObserver = invocation.getArgument(1);
+            responseObserver.onCompleted();
+            return null;
+        }).when(asyncClient).export(any(ExportTraceServiceRequest.class), any());
+
+        final PeerForwarder testPeerForwarder = generateAsyncPeerForwarder(testIps);
+        final List<Record<Object>> exportedRecords = testPeerForwarder
+                .doExecute(Collections.singletonList(new Record<>(REQUEST_4)));
+
+        assertTrue(exportedRecords.isEmpty());
+        assertEquals(1, forwardedRequests.size());
+        verify(peerClientPool, never()).getClient(peerIp);
+        testPeerForwarder.shutdown();
+    }
+
+    @Test
+    public void testAsyncForwardingReleasesDepartedPeer() {
+        final List<String> testIps = generateTestIps(2);
+        final String peerIp = testIps.get(1);
+        final List<ExportTraceServiceRequest> forwardedRequests = new ArrayList<>();
+        mockAsyncClient(peerIp, forwardedRequests, new ArrayList<>());
+        final PeerListProvider peerListProvider = mock(PeerListProvider.class);
+        when(peerListProvider.getPeerList()).thenReturn(testIps, Collections.singletonList(LOCAL_IP));
+        final HashRing hashRing = new HashRing(peerListProvider, PeerForwarderConfig.NUM_VIRTUAL_NODES);
+        final PluginSetting pluginSetting = new PluginSetting("peer_forwarder", new HashMap<>());
+        pluginSetting.setPipelineName(TEST_PIPELINE_NAME);
+
+        MetricsTestUtil.initMetrics();
+        final PeerForwarder testPeerForwarder = new PeerForwarder(pluginSetting, new OTelProtoCodec.OTelProtoEncoder(),
+                peerClientPool, hashRing, 3, 1, 1, 60000);
+        assertTrue(testPeerForwarder.doExecute(Collections.singletonList(new Record<>(SPAN_4))).isEmpty());
+        Assert.assertFalse(testPeerForwarder.isReadyForShutdown());
+
+        hashRing.accept(Collections.emptyList());
+
+        verify(peerClientPool).removeClients(peerIp);
+        final List<Record<Object>> exportedRecords = testPeerForwarder.doExecute(Collections.emptyList());
+        assertEquals(1, exportedRecords.size());
+        assertEquals(SPAN_4, exportedRecords.get(0).getData());
+        assertTrue(testPeerForwarder.isReadyForShutdown());
+        assertTrue(forwardedRequests.isEmpty());
+        assertNull(Metrics.globalRegistry.find(new StringJoiner(MetricNames.DELIMITER).add(TEST_PIPELINE_NAME)
+                .add("peer_forwarder").add(PeerForwarder.REQUESTS).toString()).meter());
+    }
+
     @Test
     public void testPrepareForShutdown() {
         final PeerForwarder peerForwarder = generatePeerForwarder(Collections.singletonList(LOCAL_IP), 2);
@@ -624,6 +803,27 @@ public class PeerForwarderTest {
         assertTrue(peerForwarder.isReadyForShutdown());
     }
 
+    private void mockAsyncClient(final String peerIp,
+                                 final List<ExportTraceServiceRequest> forwardedRequests,
+                                 final List<StreamObserver<ExportTraceServiceResponse>> responseObservers) {
+        final Channel channel = mock(Channel.class);
+        when(channel.authority()).thenReturn(String.format("%s:21890", peerIp));
+        when(asyncClient.getChannel()).thenReturn(channel);
+        when(peerClientPool.getAsyncClient(peerIp)).thenReturn(asyncClient);
+        doAnswer(invocation -> {
+            forwardedRequests.add(invocation.getArgument(0));
+            responseObservers.add(invocation.getArgument(1));
+            return null;
+        }).when(asyncClient).export(any(ExportTraceServiceRequest.class), any());
+    }
+
+    private PeerForwarder generateAsyncPeerForwarder(final List<String> staticEndpoints) {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(PeerForwarderConfig.MAX_IN_FLIGHT_REQUESTS, 1);
+        settings.put(PeerForwarderConfig.LINGER_MILLIS, 60000);
+        return generatePeerForwarder(staticEndpoints, 3, settings);
+    }
+
     /**
      * Generate specified number of test Ip addresses following the pattern 127.0.0.1, 128.0.0.1, ...
      */
@@ -639,7 +839,11 @@ public class PeerForwarderTest {
     }
 
     private PeerForwarder generatePeerForwarder(final List<String> staticEndpoints, final int spansPerRequest) {
-        final HashMap<String, Object> settings = new HashMap<>();
+        return generatePeerForwarder(staticEndpoints, spansPerRequest, new HashMap<>());
+    }
+
+    private PeerForwarder generatePeerForwarder(final List<String> staticEndpoints, final int spansPerRequest,
+                                                final Map<String, Object> settings) {
         settings.put(PeerForwarderConfig.DISCOVERY_MODE, "STATIC");
         settings.put(PeerForwarderConfig.STATIC_ENDPOINTS, staticEndpoints);
         settings.put(PeerForwarderConfig.MAX_NUM_SPANS_PER_REQUEST, spansPerRequest);
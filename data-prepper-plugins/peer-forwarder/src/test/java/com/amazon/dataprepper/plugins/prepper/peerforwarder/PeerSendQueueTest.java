@@ -0,0 +1,252 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.prepper.peerforwarder;
+
+import com.amazon.dataprepper.model.trace.Span;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
+import io.opentelemetry.proto.collector.trace.v1.TraceServiceGrpc;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PeerSendQueueTest {
+    private static final String PEER_IP = "10.10.0.1:21890";
+    private static final long LINGER_MILLIS = 100;
+
+    @Mock
+    private TraceServiceGrpc.TraceServiceStub client;
+
+    @Mock
+    private ScheduledExecutorService lingerScheduler;
+
+    @Mock
+    private ScheduledFuture<?> lingerFlush;
+
+    @Mock
+    private Timer forwardRequestTimer;
+
+    @Mock
+    private Counter forwardedRequestCounter;
+
+    @Mock
+    private Counter forwardRequestErrorCounter;
+
+    private List<ExportTraceServiceRequest> sentRequests;
+    private List<StreamObserver<ExportTraceServiceResponse>> responseObservers;
+    private List<Span> failedSpans;
+
+    @Before
+    public void setUp() {
+        sentRequests = new ArrayList<>();
+        responseObservers = new ArrayList<>();
+        failedSpans = Collections.synchronizedList(new ArrayList<>());
+        lenient().doAnswer(invocation -> {
+            sentRequests.add(invocation.getArgument(0));
+            responseObservers.add(invocation.getArgument(1));
+            return null;
+        }).when(client).export(any(ExportTraceServiceRequest.class), any());
+    }
+
+    private PeerSendQueue createObjectUnderTest(final int maxBatchSize, final int maxInFlight, final int maxPending) {
+        return new PeerSendQueue(client, PEER_IP, maxBatchSize, maxInFlight, maxPending, LINGER_MILLIS, lingerScheduler,
+                failedSpans::addAll, forwardRequestTimer, forwardedRequestCounter, forwardRequestErrorCounter);
+    }
+
+    private static ResourceSpans resourceSpans() {
+        return ResourceSpans.newBuilder().build();
+    }
+
+    @Test
+    public void testSendsBatchWhenFull() throws InterruptedException {
+        doReturn(lingerFlush).when(lingerScheduler).schedule(any(Runnable.class), eq(LINGER_MILLIS), eq(TimeUnit.MILLISECONDS));
+        final PeerSendQueue objectUnderTest = createObjectUnderTest(2, 1, 1);
+
+        objectUnderTest.add(mock(Span.class), resourceSpans());
+        assertTrue(sentRequests.isEmpty());
+        objectUnderTest.add(mock(Span.class), resourceSpans());
+
+        assertEquals(1, sentRequests.size());
+        assertEquals(2, sentRequests.get(0).getResourceSpansCount());
+        verify(lingerScheduler, times(1)).schedule(any(Runnable.class), eq(LINGER_MILLIS), eq(TimeUnit.MILLISECONDS));
+        verify(lingerFlush).cancel(false);
+        verify(forwardedRequestCounter).increment();
+        assertFalse(objectUnderTest.isEmpty());
+
+        responseObservers.get(0).onNext(ExportTraceServiceResponse.newBuilder().build());
+        responseObservers.get(0).onCompleted();
+
+        assertTrue(objectUnderTest.isEmpty());
+        verify(forwardRequestTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verifyNoInteractions(forwardRequestErrorCounter);
+        assertTrue(failedSpans.isEmpty());
+    }
+
+    @Test
+    public void testSendsPartialBatchAfterLingerTime() throws InterruptedException {
+        final ArgumentCaptor<Runnable> lingerFlushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(lingerFlush).when(lingerScheduler).schedule(lingerFlushCaptor.capture(), eq(LINGER_MILLIS), eq(TimeUnit.MILLISECONDS));
+        final PeerSendQueue objectUnderTest = createObjectUnderTest(10, 1, 1);
+
+        objectUnderTest.add(mock(Span.class), resourceSpans());
+        objectUnderTest.add(mock(Span.class), resourceSpans());
+        assertTrue(sentRequests.isEmpty());
+
+        lingerFlushCaptor.getValue().run();
+
+        assertEquals(1, sentRequests.size());
+        assertEquals(2, sentRequests.get(0).getResourceSpansCount());
+    }
+
+    @Test
+    public void testFlushSendsPartialBatch() throws InterruptedException {
+        doReturn(lingerFlush).when(lingerScheduler).schedule(any(Runnable.class), eq(LINGER_MILLIS), eq(TimeUnit.MILLISECONDS));
+        final PeerSendQueue objectUnderTest = createObjectUnderTest(10, 1, 1);
+        objectUnderTest.flush();
+        assertTrue(sentRequests.isEmpty());
+
+        objectUnderTest.add(mock(Span.class), resourceSpans());
+        objectUnderTest.flush();
+
+        assertEquals(1, sentRequests.size());
+    }
+
+    @Test
+    public void testLimitsRequestsInFlight() throws InterruptedException {
+        final PeerSendQueue objectUnderTest = createObjectUnderTest(1, 2, 3);
+
+        for (int i = 0; i < 4; i++) {
+            objectUnderTest.add(mock(Span.class), resourceSpans());
+        }
+        assertEquals(2, sentRequests.size());
+
+        responseObservers.get(0).onCompleted();
+        assertEquals(3, sentRequests.size());
+        responseObservers.get(1).onCompleted();
+        responseObservers.get(2).onCompleted();
+        assertEquals(4, sentRequests.size());
+        responseObservers.get(3).onCompleted();
+
+        assertTrue(objectUnderTest.isEmpty());
+        verify(lingerScheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void testAddWaitsWhenQueueIsFull() throws InterruptedException {
+        final PeerSendQueue objectUnderTest = createObjectUnderTest(1, 1, 1);
+        objectUnderTest.add(mock(Span.class), resourceSpans());
+        objectUnderTest.add(mock(Span.class), resourceSpans());
+        assertEquals(1, sentRequests.size());
+
+        final CountDownLatch added = new CountDownLatch(1);
+        final Thread producer = new Thread(() -> {
+            try {
+                objectUnderTest.add(mock(Span.class), resourceSpans());
+                added.countDown();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        assertFalse(added.await(100, TimeUnit.MILLISECONDS));
+
+        responseObservers.get(0).onCompleted();
+
+        assertTrue(added.await(5, TimeUnit.SECONDS));
+        producer.join();
+        assertEquals(2, sentRequests.size());
+    }
+
+    @Test
+    public void testFailedRequestHandsSpansToFailureHandler() throws InterruptedException {
+        final PeerSendQueue objectUnderTest = createObjectUnderTest(2, 1, 1);
+        final Span span1 = mock(Span.class);
+        final Span span2 = mock(Span.class);
+        doReturn(lingerFlush).when(lingerScheduler).schedule(any(Runnable.class), eq(LINGER_MILLIS), eq(TimeUnit.MILLISECONDS));
+
+        objectUnderTest.add(span1, resourceSpans());
+        objectUnderTest.add(span2, resourceSpans());
+        responseObservers.get(0).onError(new RuntimeException());
+
+        assertEquals(Arrays.asList(span1, span2), failedSpans);
+        verify(forwardRequestErrorCounter).increment();
+        verify(forwardRequestTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    public void testExportThrowingHandsSpansToFailureHandler() throws InterruptedException {
+        doThrow(new IllegalStateException()).when(client).export(any(ExportTraceServiceRequest.class), any());
+        final PeerSendQueue objectUnderTest = createObjectUnderTest(1, 1, 1);
+        final Span span = mock(Span.class);
+
+        objectUnderTest.add(span, resourceSpans());
+
+        assertEquals(Collections.singletonList(span), failedSpans);
+        verify(forwardRequestErrorCounter).increment();
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    public void testCloseReturnsUnsentSpansAndFailsLaterSpans() throws InterruptedException {
+        doReturn(lingerFlush).when(lingerScheduler).schedule(any(Runnable.class), eq(LINGER_MILLIS), eq(TimeUnit.MILLISECONDS));
+        final PeerSendQueue objectUnderTest = createObjectUnderTest(1, 1, 1);
+        final Span inFlightSpan = mock(Span.class);
+        final Span pendingSpan = mock(Span.class);
+        final Span currentSpan = mock(Span.class);
+        final PeerSendQueue lingeringQueue = createObjectUnderTest(2, 1, 1);
+        objectUnderTest.add(inFlightSpan, resourceSpans());
+        objectUnderTest.add(pendingSpan, resourceSpans());
+        lingeringQueue.add(currentSpan, resourceSpans());
+
+        assertEquals(Collections.singletonList(pendingSpan), objectUnderTest.close());
+        assertEquals(Collections.singletonList(currentSpan), lingeringQueue.close());
+        verify(lingerFlush, atLeastOnce()).cancel(false);
+        assertFalse(objectUnderTest.isEmpty());
+
+        final Span lateSpan = mock(Span.class);
+        objectUnderTest.add(lateSpan, resourceSpans());
+        assertEquals(Collections.singletonList(lateSpan), failedSpans);
+
+        responseObservers.get(0).onCompleted();
+        assertEquals(1, sentRequests.size());
+        assertTrue(objectUnderTest.isEmpty());
+        assertTrue(lingeringQueue.isEmpty());
+    }
+}
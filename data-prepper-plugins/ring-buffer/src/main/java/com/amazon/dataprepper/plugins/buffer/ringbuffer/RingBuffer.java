@@ -0,0 +1,274 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.ringbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
+import com.amazon.dataprepper.model.buffer.AbstractBuffer;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A bounded RingBuffer is a lock-free implementation of {@link Buffer} backed by a preallocated array of slots which
+ * is shared by multiple writers and multiple readers. It is bounded to the provided capacity
+ * {@link #ATTRIBUTE_BUFFER_CAPACITY} or {@link #DEFAULT_BUFFER_CAPACITY} (if attribute is not provided) with the same
+ * checkpoint semantics as the bounded_blocking buffer: capacity is only returned to writers once records are
+ * checkpointed.
+ * <p>
+ * Writers claim a contiguous range of sequences with a single compare-and-set and publish each slot once the record is
+ * stored. Readers claim as many published sequences as are available, up to {@link #ATTRIBUTE_BATCH_SIZE}, with a
+ * single compare-and-set as well, so a whole batch is read without per-record locking. Threads which cannot make
+ * progress back off by spinning, yielding and finally parking until the operation times out.
+ */
+@DataPrepperPlugin(name = "bounded_ring", pluginType = Buffer.class)
+public class RingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(RingBuffer.class);
+    private static final int DEFAULT_BUFFER_CAPACITY = 512;
+    private static final int DEFAULT_BATCH_SIZE = 8;
+    private static final String PLUGIN_NAME = "bounded_ring";
+    private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final String pipelineName;
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    /**
+     * The sequence each slot is waiting for. A slot at index i is free for the writer of sequence s when it holds s,
+     * and holds s + 1 once the record for s is published and may be taken by a reader.
+     */
+    private final AtomicLongArray slotSequences;
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final AtomicLong readSequence = new AtomicLong();
+    private final AtomicLong checkpointedRecords = new AtomicLong();
+
+    /**
+     * Creates a RingBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public RingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        super("RingBuffer", pipelineName);
+        checkArgument(bufferCapacity > 0, "buffer_size must be greater than 0");
+        checkArgument(batchSize > 0, "batch_size must be greater than 0");
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.pipelineName = pipelineName;
+
+        final int ringSize = ringSizeFor(bufferCapacity);
+        this.mask = ringSize - 1;
+        this.slots = new AtomicReferenceArray<>(ringSize);
+        this.slotSequences = new AtomicLongArray(ringSize);
+        for (int i = 0; i < ringSize; i++) {
+            slotSequences.set(i, i);
+        }
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to construct an
+     * instance of {@link RingBuffer} using an instance of {@link PluginSetting} which has access to
+     * pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `buffer-size` and `batch-size`
+     * are optional and can be passed via {@link PluginSetting}, if not present default values will be used to create
+     * the buffer.
+     *
+     * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
+     */
+    public RingBuffer(final PluginSetting pluginSetting) {
+        this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
+                        .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                pluginSetting.getPipelineName());
+    }
+
+    public RingBuffer(final String pipelineName) {
+        this(DEFAULT_BUFFER_CAPACITY, DEFAULT_BATCH_SIZE, pipelineName);
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        final long sequence = claimWriteSequences(1, timeoutInMillis);
+        publish(sequence, record);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", size));
+        }
+        for (final T record : records) {
+            checkNotNull(record, "record cannot be null");
+        }
+        if (size == 0) {
+            return;
+        }
+
+        long sequence = claimWriteSequences(size, timeoutInMillis);
+        for (final T record : records) {
+            publish(sequence++, record);
+        }
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the head of the ring. The batch size is defined/determined by
+     * the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<T> records = new ArrayList<>(batchSize);
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        int idleCount = 0;
+        while (records.size() < batchSize) {
+            final long readStart = readSequence.get();
+            final long available = writeSequence.get() - readStart;
+            if (available > 0) {
+                final int claimed = (int) Math.min(available, batchSize - records.size());
+                if (readSequence.compareAndSet(readStart, readStart + claimed)) {
+                    for (long sequence = readStart; sequence < readStart + claimed; sequence++) {
+                        records.add(take(sequence));
+                    }
+                    idleCount = 0;
+                }
+                continue;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                break;
+            }
+            idleCount = backOff(idleCount, deadline - System.nanoTime());
+            if (Thread.interrupted()) {
+                LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+                throw new RuntimeException(new InterruptedException());
+            }
+        }
+        final CheckpointState checkpointState = new CheckpointState(records.size());
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    /**
+     * Returns the default PluginSetting object with default values.
+     * @return PluginSetting
+     */
+    public static PluginSetting getDefaultPluginSettings() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY);
+        settings.put(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        return new PluginSetting(PLUGIN_NAME, settings);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        checkpointedRecords.addAndGet(checkpointState.getNumRecordsToBeChecked());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return readSequence.get() >= writeSequence.get() && getRecordsInFlight() == 0;
+    }
+
+    /**
+     * Claims a contiguous range of sequences for writing. Unchecked records, those written or read but not yet
+     * checkpointed, count against the capacity.
+     *
+     * @return the first claimed sequence
+     */
+    private long claimWriteSequences(final int count, final int timeoutInMillis) throws TimeoutException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        int idleCount = 0;
+        while (true) {
+            final long writeStart = writeSequence.get();
+            if (writeStart + count - checkpointedRecords.get() <= bufferCapacity) {
+                if (writeSequence.compareAndSet(writeStart, writeStart + count)) {
+                    return writeStart;
+                }
+                continue;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw new TimeoutException(count == 1
+                        ? format("Pipeline [%s] - Buffer is full, timed out waiting for a slot", pipelineName)
+                        : format("Pipeline [%s] - Buffer does not have enough capacity left for the size of records: %d, " +
+                                "timed out waiting for slots.", pipelineName, count));
+            }
+            idleCount = backOff(idleCount, deadline - System.nanoTime());
+            if (Thread.interrupted()) {
+                LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write {} record(s)",
+                        pipelineName, count);
+                throw new TimeoutException("Buffer is full, timed out waiting for a slot");
+            }
+        }
+    }
+
+    private void publish(final long sequence, final T record) {
+        final int index = (int) (sequence & mask);
+        int idleCount = 0;
+        // The slot may still be draining from the previous lap if its reader has not finished copying it out yet.
+        while (slotSequences.get(index) != sequence) {
+            idleCount = backOff(idleCount, MAX_PARK_NANOS);
+        }
+        slots.lazySet(index, record);
+        slotSequences.set(index, sequence + 1);
+    }
+
+    private T take(final long sequence) {
+        final int index = (int) (sequence & mask);
+        int idleCount = 0;
+        // The writer has claimed this sequence but may not have published the record yet.
+        while (slotSequences.get(index) != sequence + 1) {
+            idleCount = backOff(idleCount, MAX_PARK_NANOS);
+        }
+        final T record = slots.get(index);
+        slots.lazySet(index, null);
+        slotSequences.set(index, sequence + mask + 1);
+        return record;
+    }
+
+    private static int backOff(final int idleCount, final long remainingNanos) {
+        if (idleCount < SPIN_TRIES) {
+            return idleCount + 1;
+        }
+        if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+            return idleCount + 1;
+        }
+        LockSupport.parkNanos(Math.max(1L, Math.min(MAX_PARK_NANOS, remainingNanos)));
+        return idleCount;
+    }
+
+    private static int ringSizeFor(final int bufferCapacity) {
+        checkArgument(bufferCapacity <= 1 << 30, "buffer_size must not be greater than %s", 1 << 30);
+        return bufferCapacity == 1 ? 1 : Integer.highestOneBit(bufferCapacity - 1) << 1;
+    }
+}
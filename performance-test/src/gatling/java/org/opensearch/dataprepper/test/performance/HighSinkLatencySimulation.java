@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.test.performance;
+
+import io.gatling.javaapi.core.CoreDsl;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import org.opensearch.dataprepper.test.performance.tools.Chain;
+import org.opensearch.dataprepper.test.performance.tools.Protocol;
+
+import java.time.Duration;
+
+/**
+ * Sends a constant rate of log batches to a pipeline whose sink is slow to respond. Run it once against
+ * pipelines/high-sink-latency-platform-threads.yaml and once against pipelines/high-sink-latency-virtual-threads.yaml
+ * to compare the throughput and the sinkWorkers metrics of platform and virtual sink threads.
+ */
+public class HighSinkLatencySimulation extends Simulation {
+    private static final Integer batchSize = Integer.getInteger("batchSize", 50);
+    private static final Integer targetRps = Integer.getInteger("targetRps", 200);
+    private static final Duration rampUpTime = Duration.ofSeconds(30);
+    private static final Duration peakLoadTime = Duration.ofMinutes(Integer.getInteger("durationMinutes", 5));
+
+    ScenarioBuilder highSinkLatencyScenario = CoreDsl.scenario("High Sink Latency")
+            .exec(Chain.sendApacheCommonLogPostRequest("Post logs to slow sink", batchSize));
+
+    {
+        setUp(highSinkLatencyScenario.injectOpen(
+                CoreDsl.rampUsersPerSec(1).to(targetRps).during(rampUpTime),
+                CoreDsl.constantUsersPerSec(targetRps).during(peakLoadTime)
+        ))
+                .protocols(Protocol.httpProtocol())
+                .assertions(
+                        CoreDsl.global().successfulRequests().percent().gt(99.0),
+                        CoreDsl.global().responseTime().percentile3().lt(1000)
+                );
+    }
+}